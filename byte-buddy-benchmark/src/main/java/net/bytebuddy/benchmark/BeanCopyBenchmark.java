@@ -0,0 +1,375 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.BeanCopier;
+import net.bytebuddy.instrumentation.Copier;
+import org.openjdk.jmh.annotations.*;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+
+/**
+ * A benchmark of copying the bean properties of a data transfer object to an entity by a
+ * {@link net.bytebuddy.instrumentation.Copier} that is implemented by a
+ * {@link net.bytebuddy.instrumentation.BeanCopier} compared to copying them by hand-written code and by reflection.
+ * The reflective copier resolves its getters and setters once by the {@link java.beans.Introspector} and only
+ * measures their invocation. Some properties require the widening or boxing of a value.
+ */
+@State(Scope.Thread)
+public class BeanCopyBenchmark {
+
+    /**
+     * The data transfer object of which properties are read.
+     */
+    private Dto dto;
+
+    /**
+     * The entity of which properties are written.
+     */
+    private Entity entity;
+
+    /**
+     * The getters of the data transfer object.
+     */
+    private Method[] getters;
+
+    /**
+     * The setters of the entity where each setter writes the property of the getter of the same index.
+     */
+    private Method[] setters;
+
+    /**
+     * A generated copier from the data transfer object to the entity.
+     */
+    private Copier<Dto, Entity> copier;
+
+    /**
+     * Sets up the different means of copying.
+     *
+     * @throws Exception If the set up fails.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        dto = new Dto();
+        dto.setId(42);
+        dto.setName("foo");
+        dto.setPrice(4.2d);
+        dto.setQuantity(7);
+        dto.setActive(true);
+        entity = new Entity();
+        List<Method> getters = new ArrayList<Method>(), setters = new ArrayList<Method>();
+        for (PropertyDescriptor source : Introspector.getBeanInfo(Dto.class, Object.class).getPropertyDescriptors()) {
+            for (PropertyDescriptor target : Introspector.getBeanInfo(Entity.class, Object.class).getPropertyDescriptors()) {
+                if (source.getName().equals(target.getName()) && source.getReadMethod() != null && target.getWriteMethod() != null) {
+                    getters.add(source.getReadMethod());
+                    setters.add(target.getWriteMethod());
+                }
+            }
+        }
+        this.getters = getters.toArray(new Method[getters.size()]);
+        this.setters = setters.toArray(new Method[setters.size()]);
+        copier = (Copier<Dto, Entity>) new ByteBuddy()
+                .subclass(Copier.class)
+                .method(named("copy")).intercept(BeanCopier.from(Dto.class).to(Entity.class))
+                .make()
+                .load(BeanCopyBenchmark.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+    }
+
+    /**
+     * Copies all properties by hand-written code.
+     *
+     * @return The entity, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkDirect() {
+        entity.setId(dto.getId());
+        entity.setName(dto.getName());
+        entity.setPrice(dto.getPrice());
+        entity.setQuantity(dto.getQuantity());
+        entity.setActive(dto.isActive());
+        return entity;
+    }
+
+    /**
+     * Copies all properties by reflection.
+     *
+     * @return The entity, in order to avoid JIT removal.
+     * @throws Exception If a property cannot be copied.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkReflection() throws Exception {
+        for (int index = 0; index < getters.length; index++) {
+            setters[index].invoke(entity, getters[index].invoke(dto));
+        }
+        return entity;
+    }
+
+    /**
+     * Copies all properties by a generated copier.
+     *
+     * @return The entity, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkBeanCopier() {
+        copier.copy(dto, entity);
+        return entity;
+    }
+
+    /**
+     * A data transfer object.
+     */
+    public static class Dto {
+
+        /**
+         * The identifier.
+         */
+        private int id;
+
+        /**
+         * The name.
+         */
+        private String name;
+
+        /**
+         * The price.
+         */
+        private double price;
+
+        /**
+         * The quantity.
+         */
+        private int quantity;
+
+        /**
+         * {@code true} if this object is active.
+         */
+        private boolean active;
+
+        /**
+         * Returns the identifier.
+         *
+         * @return The identifier.
+         */
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * Sets the identifier.
+         *
+         * @param id The identifier.
+         */
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the name.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name The name.
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the price.
+         *
+         * @return The price.
+         */
+        public double getPrice() {
+            return price;
+        }
+
+        /**
+         * Sets the price.
+         *
+         * @param price The price.
+         */
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        /**
+         * Returns the quantity.
+         *
+         * @return The quantity.
+         */
+        public int getQuantity() {
+            return quantity;
+        }
+
+        /**
+         * Sets the quantity.
+         *
+         * @param quantity The quantity.
+         */
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        /**
+         * Returns {@code true} if this object is active.
+         *
+         * @return {@code true} if this object is active.
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Sets if this object is active.
+         *
+         * @param active {@code true} if this object is active.
+         */
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    /**
+     * An entity that stores the identifier widened and the quantity boxed.
+     */
+    public static class Entity {
+
+        /**
+         * The identifier.
+         */
+        private long id;
+
+        /**
+         * The name.
+         */
+        private String name;
+
+        /**
+         * The price.
+         */
+        private double price;
+
+        /**
+         * The quantity.
+         */
+        private Integer quantity;
+
+        /**
+         * {@code true} if this entity is active.
+         */
+        private boolean active;
+
+        /**
+         * Returns the identifier.
+         *
+         * @return The identifier.
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Sets the identifier.
+         *
+         * @param id The identifier.
+         */
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the name.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Sets the name.
+         *
+         * @param name The name.
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the price.
+         *
+         * @return The price.
+         */
+        public double getPrice() {
+            return price;
+        }
+
+        /**
+         * Sets the price.
+         *
+         * @param price The price.
+         */
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        /**
+         * Returns the quantity.
+         *
+         * @return The quantity.
+         */
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        /**
+         * Sets the quantity.
+         *
+         * @param quantity The quantity.
+         */
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        /**
+         * Returns {@code true} if this entity is active.
+         *
+         * @return {@code true} if this entity is active.
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Sets if this entity is active.
+         *
+         * @param active {@code true} if this entity is active.
+         */
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.StubMethod;
+import net.bytebuddy.instrumentation.method.matcher.MethodMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+
+/**
+ * A benchmark that quantifies the configuration of a type builder with a given number of method interceptions.
+ * Only the builder is configured but no type is created such that this benchmark measures the cost of deriving
+ * the immutable configuration of every step of the builder's fluent API. This cost should grow linearly with the
+ * number of interceptions.
+ */
+@State(Scope.Benchmark)
+public class BuilderConfigurationBenchmark {
+
+    /**
+     * The number of method interceptions that are registered with the builder.
+     */
+    @Param({"10", "100", "1000"})
+    public int interceptions;
+
+    /**
+     * The matchers for the intercepted methods which are created once in order to not measure their creation.
+     */
+    private MethodMatcher[] methodMatchers;
+
+    /**
+     * The Byte Buddy instance that creates the builder.
+     */
+    private ByteBuddy byteBuddy;
+
+    /**
+     * Creates the method matchers and the Byte Buddy instance.
+     */
+    @Setup
+    public void setUp() {
+        methodMatchers = new MethodMatcher[interceptions];
+        for (int index = 0; index < interceptions; index++) {
+            methodMatchers[index] = named("method" + index);
+        }
+        byteBuddy = new ByteBuddy();
+    }
+
+    /**
+     * Configures a builder with the given number of method interceptions.
+     *
+     * @return The configured builder, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DynamicType.Builder<?> benchmarkByteBuddy() {
+        DynamicType.Builder<?> builder = byteBuddy.subclass(Object.class);
+        for (MethodMatcher methodMatcher : methodMatchers) {
+            builder = builder.method(methodMatcher).intercept(StubMethod.INSTANCE);
+        }
+        return builder;
+    }
+}
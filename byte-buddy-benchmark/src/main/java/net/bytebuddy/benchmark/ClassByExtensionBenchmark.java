@@ -70,6 +70,28 @@ public class ClassByExtensionBenchmark {
                 .newInstance();
     }
 
+    /**
+     * Performs a benchmark of a class extension using Byte Buddy. This benchmark uses an annotation-based approach
+     * where super method calls are bound by {@code invokedynamic} call sites instead of auxiliary classes.
+     *
+     * @return The created instance, in order to avoid JIT removal.
+     * @throws java.lang.Exception If the reflective invocation causes an exception.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ExampleClass benchmarkByteBuddyWithInvokeDynamic() throws Exception {
+        return new ByteBuddy()
+                .withIgnoredMethods(none())
+                .subclass(BASE_CLASS)
+                .method(isDeclaredBy(ExampleClass.class)).intercept(MethodDelegation.to(ByteBuddyInterceptor.class)
+                        .defineParameterBinder(SuperCall.Binder.INVOKE_DYNAMIC))
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded()
+                .newInstance();
+    }
+
     /**
      * Performs a benchmark of a class extension using Byte Buddy. This benchmark uses a specialized interception
      * strategy which is easier to inline by the compiler.
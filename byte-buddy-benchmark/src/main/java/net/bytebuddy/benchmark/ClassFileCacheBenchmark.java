@@ -0,0 +1,129 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.ClassFileCache;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.isDeclaredBy;
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.none;
+
+/**
+ * A benchmark that compares the creation of a dynamic type by a cold start where the type is generated to a
+ * warm start where the type is read from a {@link net.bytebuddy.dynamic.ClassFileCache}.
+ */
+@State(Scope.Benchmark)
+public class ClassFileCacheBenchmark {
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    public static final Class<? extends ExampleClass> BASE_CLASS = ExampleClass.class;
+
+    /**
+     * A description of the builder's configuration that is used as a cache key.
+     */
+    private static final String CONFIGURATION = "ClassFileCacheBenchmark:delegation";
+
+    /**
+     * The folder in which the class file cache stores its entries.
+     */
+    private File folder;
+
+    /**
+     * The class file cache that is used for the warm start.
+     */
+    private ClassFileCache classFileCache;
+
+    /**
+     * The cache key of the created type.
+     */
+    private ClassFileCache.Key key;
+
+    /**
+     * Creates a new class loader. By using a fresh class loader for each creation, we avoid name space issues.
+     *
+     * @return A new class loader.
+     */
+    private static ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[0], BASE_CLASS.getClassLoader());
+    }
+
+    /**
+     * Creates the builder of the benchmarked dynamic type.
+     *
+     * @return A builder for the benchmarked dynamic type.
+     */
+    private static DynamicType.Builder<? extends ExampleClass> builder() {
+        return new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .withIgnoredMethods(none())
+                .subclass(BASE_CLASS)
+                .method(isDeclaredBy(ExampleClass.class))
+                .intercept(MethodDelegation.to(ClassByExtensionBenchmark.ByteBuddyInterceptor.class));
+    }
+
+    /**
+     * Sets up the cache folder and populates the cache with the benchmarked type.
+     *
+     * @throws IOException If the cache cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = File.createTempFile("bytebuddy", "cache");
+        if (!folder.delete() || !folder.mkdir()) {
+            throw new IOException("Cannot create cache folder " + folder);
+        }
+        classFileCache = new ClassFileCache(folder);
+        key = new ClassFileCache.Key(CONFIGURATION, ClassFileVersion.JAVA_V6, BASE_CLASS);
+        classFileCache.make(key, builder());
+    }
+
+    /**
+     * Removes the cache folder.
+     */
+    @TearDown
+    public void tearDown() {
+        classFileCache.clear();
+        folder.delete();
+    }
+
+    /**
+     * Performs a benchmark for creating and loading a dynamic type without a cache.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkCold() {
+        return builder()
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+    }
+
+    /**
+     * Performs a benchmark for loading a dynamic type that is read from a class file cache.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     * @throws IOException If the cache cannot be accessed.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkWarm() throws IOException {
+        return classFileCache.make(key, builder())
+                .load(newClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+    }
+}
@@ -0,0 +1,92 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark that compares the lookup of all class files of a JAR file by querying a class loader for resources
+ * to the lookup by a {@link net.bytebuddy.dynamic.ClassFileLocator.ForJarFile} that maps the JAR file into memory.
+ */
+@State(Scope.Thread)
+public class ClassFileLocatorBenchmark {
+
+    /**
+     * The names of all types of which the class files are located.
+     */
+    private List<String> typeNames;
+
+    /**
+     * A class file locator that queries a class loader for class files.
+     */
+    private ClassFileLocator classLoaderLocator;
+
+    /**
+     * A class file locator that reads class files from a memory-mapped JAR file.
+     */
+    private ClassFileLocator jarFileLocator;
+
+    /**
+     * Sets up the class file locators for the JAR file that contains the JMH annotations.
+     *
+     * @throws IOException        If the JAR file cannot be read.
+     * @throws URISyntaxException If the location of the JAR file cannot be resolved.
+     */
+    @Setup
+    public void setUp() throws IOException, URISyntaxException {
+        URL location = State.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassFileLocator.ForJarFile jarFileLocator = new ClassFileLocator.ForJarFile(new File(location.toURI()));
+        typeNames = new ArrayList<String>(jarFileLocator.getTypeNames());
+        classLoaderLocator = new ClassFileLocator.ForClassLoader(new URLClassLoader(new URL[]{location}, null));
+        this.jarFileLocator = jarFileLocator;
+    }
+
+    /**
+     * Locates all class files by querying a class loader.
+     *
+     * @return The sum of the size of all located class files, in order to avoid JIT removal.
+     * @throws IOException If a class file cannot be read.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int benchmarkClassLoader() throws IOException {
+        return locateAll(classLoaderLocator);
+    }
+
+    /**
+     * Locates all class files by reading them from a memory-mapped JAR file.
+     *
+     * @return The sum of the size of all located class files, in order to avoid JIT removal.
+     * @throws IOException If a class file cannot be read.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int benchmarkJarFile() throws IOException {
+        return locateAll(jarFileLocator);
+    }
+
+    /**
+     * Locates the class files of all types.
+     *
+     * @param classFileLocator The class file locator to use.
+     * @return The sum of the size of all located class files.
+     * @throws IOException If a class file cannot be read.
+     */
+    private int locateAll(ClassFileLocator classFileLocator) throws IOException {
+        int size = 0;
+        for (String typeName : typeNames) {
+            size += classFileLocator.locate(typeName).length;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,74 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.loading.ClassLoaderByteArrayInjector;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark that compares the injection of a batch of types into a class loader by injecting each type
+ * separately to the injection of all types while acquiring the class loader's monitor only once. The batch
+ * resembles a dynamic type with many auxiliary types.
+ */
+@State(Scope.Benchmark)
+public class ClassInjectionBenchmark {
+
+    /**
+     * The number of types that are injected.
+     */
+    private static final int BATCH_SIZE = 32;
+
+    /**
+     * The binary representations of the injected types mapped by their names.
+     */
+    private Map<String, byte[]> types;
+
+    /**
+     * Creates the types to inject.
+     */
+    @Setup
+    public void setUp() {
+        types = new LinkedHashMap<String, byte[]>(BATCH_SIZE);
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            String name = ClassInjectionBenchmark.class.getName() + "$Injected" + index;
+            types.put(name, new ByteBuddy().subclass(ExampleClass.class).name(name).make().getBytes());
+        }
+    }
+
+    /**
+     * Injects all types separately into a new class loader.
+     *
+     * @return The class loader into which the types were injected, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ClassLoader benchmarkSeparateInjection() {
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        ClassLoaderByteArrayInjector classLoaderByteArrayInjector = new ClassLoaderByteArrayInjector(classLoader);
+        for (Map.Entry<String, byte[]> entry : types.entrySet()) {
+            classLoaderByteArrayInjector.inject(entry.getKey(), entry.getValue());
+        }
+        return classLoader;
+    }
+
+    /**
+     * Injects all types into a new class loader as a single batch.
+     *
+     * @return The class loader into which the types were injected, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ClassLoader benchmarkBatchInjection() {
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        new ClassLoaderByteArrayInjector(classLoader).injectAll(types);
+        return classLoader;
+    }
+}
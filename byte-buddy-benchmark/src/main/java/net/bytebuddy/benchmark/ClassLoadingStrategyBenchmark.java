@@ -0,0 +1,79 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.isDeclaredBy;
+
+/**
+ * A benchmark that compares the loading of a short-lived dynamic type by each of the
+ * {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default} strategies. The
+ * {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default#INJECTION} strategy injects the type into a new class
+ * loader for every invocation as an injected type could otherwise never be unloaded. The footprint of the loaded
+ * types can be compared by running this benchmark with JMH's class loading ({@code -prof cl}) and garbage
+ * collection ({@code -prof gc}) profilers.
+ */
+@State(Scope.Thread)
+public class ClassLoadingStrategyBenchmark {
+
+    /**
+     * The dynamic type that is loaded.
+     */
+    private DynamicType.Unloaded<? extends ExampleClass> dynamicType;
+
+    /**
+     * Creates the dynamic type that is loaded.
+     */
+    @Setup
+    public void setUp() {
+        dynamicType = new ByteBuddy()
+                .subclass(ExampleClass.class)
+                .method(isDeclaredBy(ExampleClass.class)).intercept(StubMethod.INSTANCE)
+                .make();
+    }
+
+    /**
+     * Loads the dynamic type by a new {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader}.
+     *
+     * @return The loaded type, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkWrapper() {
+        return dynamicType.load(ExampleClass.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+    }
+
+    /**
+     * Loads the dynamic type by injecting it into a new class loader.
+     *
+     * @return The loaded type, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkInjection() {
+        return dynamicType.load(new URLClassLoader(new URL[0], ExampleClass.class.getClassLoader()),
+                ClassLoadingStrategy.Default.INJECTION).getLoaded();
+    }
+
+    /**
+     * Loads the dynamic type as an anonymous class of its super class.
+     *
+     * @return The loaded type, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkAnonymous() {
+        return dynamicType.load(ExampleClass.class.getClassLoader(), ClassLoadingStrategy.Default.ANONYMOUS).getLoaded();
+    }
+}
@@ -0,0 +1,113 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.instrumentation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.isDeclaredBy;
+
+/**
+ * A benchmark that measures the throughput of concurrently loading and instantiating proxy types for the first
+ * time. Every class loader that is used by this benchmark hosts a fixed number of unrelated proxy types where each
+ * type is only loaded once by every class loader such that every benchmark invocation measures the first-time loading
+ * of a type while other threads load other types of the same class loader. The benchmark is run for a
+ * {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader} that delegates parent-first and for a
+ * {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader.ChildFirst} class loader.
+ */
+@State(Scope.Benchmark)
+public class ConcurrentClassLoadingBenchmark {
+
+    /**
+     * The number of proxy types that are hosted by every class loader.
+     */
+    private static final int TYPES = 64;
+
+    /**
+     * The number of class loader generations that are retained.
+     */
+    private static final int RETAINED_GENERATIONS = 2;
+
+    /**
+     * {@code true} if a child-first class loader should be used.
+     */
+    @Param({"false", "true"})
+    public boolean childFirst;
+
+    /**
+     * The binary representations of the proxy types mapped by their names.
+     */
+    private Map<String, byte[]> binaryRepresentations;
+
+    /**
+     * The names of the proxy types.
+     */
+    private String[] names;
+
+    /**
+     * The counter for assigning a class loader generation and a type to every invocation.
+     */
+    private AtomicInteger counter;
+
+    /**
+     * The class loaders of the currently used generations mapped by their generation.
+     */
+    private ConcurrentMap<Integer, ClassLoader> classLoaders;
+
+    /**
+     * Creates the proxy types that are loaded.
+     */
+    @Setup
+    public void setUp() {
+        binaryRepresentations = new HashMap<String, byte[]>(TYPES);
+        names = new String[TYPES];
+        for (int index = 0; index < TYPES; index++) {
+            names[index] = ExampleClass.class.getName() + "$Proxy" + index;
+            binaryRepresentations.put(names[index], new ByteBuddy()
+                    .subclass(ExampleClass.class)
+                    .name(names[index])
+                    .method(isDeclaredBy(ExampleClass.class)).intercept(StubMethod.INSTANCE)
+                    .make()
+                    .getBytes());
+        }
+        counter = new AtomicInteger();
+        classLoaders = new ConcurrentHashMap<Integer, ClassLoader>();
+    }
+
+    /**
+     * Loads and instantiates a proxy type that was not yet loaded by its class loader while other threads load
+     * other proxy types of the same class loader.
+     *
+     * @return The created instance, in order to avoid JIT removal.
+     * @throws java.lang.Exception If the proxy type cannot be loaded or instantiated.
+     */
+    @GenerateMicroBenchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ExampleClass benchmarkFirstTimeInstantiation() throws Exception {
+        int index = counter.getAndIncrement() & Integer.MAX_VALUE;
+        int generation = index / TYPES;
+        ClassLoader classLoader = classLoaders.get(generation);
+        if (classLoader == null) {
+            classLoader = childFirst
+                    ? new ByteArrayClassLoader.ChildFirst(ExampleClass.class.getClassLoader(), binaryRepresentations)
+                    : new ByteArrayClassLoader(ExampleClass.class.getClassLoader(), binaryRepresentations);
+            ClassLoader previous = classLoaders.putIfAbsent(generation, classLoader);
+            if (previous == null) {
+                classLoaders.remove(generation - RETAINED_GENERATIONS);
+            } else {
+                classLoader = previous;
+            }
+        }
+        return (ExampleClass) classLoader.loadClass(names[index % TYPES]).newInstance();
+    }
+}
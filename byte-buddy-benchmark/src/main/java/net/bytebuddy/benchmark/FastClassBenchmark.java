@@ -0,0 +1,158 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.instrumentation.type.auxiliary.FastClass;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of invoking a method by a {@link net.bytebuddy.instrumentation.type.auxiliary.FastClass} compared to
+ * invoking it directly, by reflection and by a {@link java.lang.invoke.MethodHandle}. All indirect invocations
+ * receive their arguments as a pre-allocated array of boxed values. As this module is compiled for Java 6, a method
+ * handle call cannot be compiled with an exact signature. The method handle is therefore adapted to spread an
+ * argument array such that it can be invoked exactly with a single array argument.
+ */
+@State(Scope.Thread)
+public class FastClassBenchmark {
+
+    /**
+     * The name of the invoked method.
+     */
+    private static final String METHOD_NAME = "add";
+
+    /**
+     * The first argument of the invoked method.
+     */
+    private int first = 20;
+
+    /**
+     * The second argument of the invoked method.
+     */
+    private int second = 22;
+
+    /**
+     * The instance on which the method is invoked.
+     */
+    private Adder adder;
+
+    /**
+     * The invoked method.
+     */
+    private Method method;
+
+    /**
+     * A method handle of the invoked method which takes the target and all arguments as an array.
+     */
+    private MethodHandle methodHandle;
+
+    /**
+     * A fast class of the type that declares the invoked method.
+     */
+    private FastClass fastClass;
+
+    /**
+     * The index of the invoked method in the fast class.
+     */
+    private int index;
+
+    /**
+     * The boxed arguments of the invoked method.
+     */
+    private Object[] arguments;
+
+    /**
+     * The target and the boxed arguments of the invoked method.
+     */
+    private Object[] methodHandleArguments;
+
+    /**
+     * Sets up the different means of invocation.
+     *
+     * @throws Exception If the set up fails.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        adder = new Adder();
+        method = Adder.class.getMethod(METHOD_NAME, int.class, int.class);
+        methodHandle = MethodHandles.publicLookup()
+                .unreflect(method)
+                .asType(MethodType.genericMethodType(3))
+                .asSpreader(Object[].class, 3);
+        fastClass = FastClass.of(Adder.class);
+        index = fastClass.getIndex(METHOD_NAME, int.class, int.class);
+        arguments = new Object[]{first, second};
+        methodHandleArguments = new Object[]{adder, first, second};
+    }
+
+    /**
+     * Invokes the method directly.
+     *
+     * @return The return value of the method, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkDirect() {
+        return adder.add(first, second);
+    }
+
+    /**
+     * Invokes the method by reflection.
+     *
+     * @return The return value of the method, in order to avoid JIT removal.
+     * @throws Exception If the invocation fails.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkReflection() throws Exception {
+        return method.invoke(adder, arguments);
+    }
+
+    /**
+     * Invokes the method by a method handle.
+     *
+     * @return The return value of the method, in order to avoid JIT removal.
+     * @throws Throwable If the invocation fails.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkMethodHandle() throws Throwable {
+        return methodHandle.invokeExact(methodHandleArguments);
+    }
+
+    /**
+     * Invokes the method by a fast class.
+     *
+     * @return The return value of the method, in order to avoid JIT removal.
+     * @throws Throwable If the invocation fails.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkFastClass() throws Throwable {
+        return fastClass.invoke(index, adder, arguments);
+    }
+
+    /**
+     * A type that declares the invoked method.
+     */
+    public static class Adder {
+
+        /**
+         * Adds two values.
+         *
+         * @param first  The first value.
+         * @param second The second value.
+         * @return The sum of both values.
+         */
+        public int add(int first, int second) {
+            return first + second;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.instrumentation.type.auxiliary.FastFieldAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark of reading and writing fields by a {@link net.bytebuddy.instrumentation.type.auxiliary.FastFieldAccessor}
+ * compared to accessing them directly, by reflection and by {@code sun.misc.Unsafe}. Each access is measured for
+ * reading a single {@code int} field, for writing a single {@code long} field and for copying all fields of a bean.
+ * As referencing the {@code sun} packages at compile time triggers proprietary API warnings, the unsafe instance is
+ * resolved reflectively and its methods are invoked by reflection what adds the cost of a reflective invocation to
+ * the unsafe benchmarks.
+ */
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    /**
+     * The name of the read field.
+     */
+    private static final String READ_FIELD_NAME = "intValue";
+
+    /**
+     * The name of the written field.
+     */
+    private static final String WRITE_FIELD_NAME = "longValue";
+
+    /**
+     * The value that is written to a field.
+     */
+    private long value = 42L;
+
+    /**
+     * The instance of which fields are read.
+     */
+    private Bean bean;
+
+    /**
+     * The instance of which fields are written.
+     */
+    private Bean target;
+
+    /**
+     * All fields of the bean.
+     */
+    private Field[] fields;
+
+    /**
+     * The read field.
+     */
+    private Field readField;
+
+    /**
+     * The written field.
+     */
+    private Field writeField;
+
+    /**
+     * The {@code sun.misc.Unsafe} instance of the current VM.
+     */
+    private Object unsafe;
+
+    /**
+     * The {@code sun.misc.Unsafe#getInt(Object, long)} method.
+     */
+    private Method getInt;
+
+    /**
+     * The {@code sun.misc.Unsafe#putInt(Object, long, int)} method.
+     */
+    private Method putInt;
+
+    /**
+     * The {@code sun.misc.Unsafe#getLong(Object, long)} method.
+     */
+    private Method getLong;
+
+    /**
+     * The {@code sun.misc.Unsafe#putLong(Object, long, long)} method.
+     */
+    private Method putLong;
+
+    /**
+     * The {@code sun.misc.Unsafe#getObject(Object, long)} method.
+     */
+    private Method getObject;
+
+    /**
+     * The {@code sun.misc.Unsafe#putObject(Object, long, Object)} method.
+     */
+    private Method putObject;
+
+    /**
+     * The {@code sun.misc.Unsafe#getDouble(Object, long)} method.
+     */
+    private Method getDouble;
+
+    /**
+     * The {@code sun.misc.Unsafe#putDouble(Object, long, double)} method.
+     */
+    private Method putDouble;
+
+    /**
+     * The offset of the read field.
+     */
+    private long readOffset;
+
+    /**
+     * The offset of the written field.
+     */
+    private long writeOffset;
+
+    /**
+     * The offsets of all fields of the bean.
+     */
+    private long intOffset, longOffset, stringOffset, doubleOffset;
+
+    /**
+     * A fast field accessor of the bean.
+     */
+    private FastFieldAccessor fastFieldAccessor;
+
+    /**
+     * The index of the read field in the fast field accessor.
+     */
+    private int readIndex;
+
+    /**
+     * The index of the written field in the fast field accessor.
+     */
+    private int writeIndex;
+
+    /**
+     * Sets up the different means of field access.
+     *
+     * @throws Exception If the set up fails.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        bean = new Bean();
+        bean.intValue = 42;
+        bean.longValue = 42L;
+        bean.stringValue = READ_FIELD_NAME;
+        bean.doubleValue = 42d;
+        target = new Bean();
+        fields = Bean.class.getFields();
+        readField = Bean.class.getField(READ_FIELD_NAME);
+        writeField = Bean.class.getField(WRITE_FIELD_NAME);
+        Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+        Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        unsafe = theUnsafe.get(null);
+        getInt = unsafeType.getMethod("getInt", Object.class, long.class);
+        putInt = unsafeType.getMethod("putInt", Object.class, long.class, int.class);
+        getLong = unsafeType.getMethod("getLong", Object.class, long.class);
+        putLong = unsafeType.getMethod("putLong", Object.class, long.class, long.class);
+        getObject = unsafeType.getMethod("getObject", Object.class, long.class);
+        putObject = unsafeType.getMethod("putObject", Object.class, long.class, Object.class);
+        getDouble = unsafeType.getMethod("getDouble", Object.class, long.class);
+        putDouble = unsafeType.getMethod("putDouble", Object.class, long.class, double.class);
+        Method objectFieldOffset = unsafeType.getMethod("objectFieldOffset", Field.class);
+        readOffset = (Long) objectFieldOffset.invoke(unsafe, readField);
+        writeOffset = (Long) objectFieldOffset.invoke(unsafe, writeField);
+        intOffset = readOffset;
+        longOffset = writeOffset;
+        stringOffset = (Long) objectFieldOffset.invoke(unsafe, Bean.class.getField("stringValue"));
+        doubleOffset = (Long) objectFieldOffset.invoke(unsafe, Bean.class.getField("doubleValue"));
+        fastFieldAccessor = FastFieldAccessor.of(Bean.class);
+        readIndex = fastFieldAccessor.getIndex(READ_FIELD_NAME);
+        writeIndex = fastFieldAccessor.getIndex(WRITE_FIELD_NAME);
+    }
+
+    /**
+     * Reads a field directly.
+     *
+     * @return The value of the field, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkReadDirect() {
+        return bean.intValue;
+    }
+
+    /**
+     * Reads a field by reflection.
+     *
+     * @return The value of the field, in order to avoid JIT removal.
+     * @throws Exception If the field cannot be read.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkReadReflection() throws Exception {
+        return readField.getInt(bean);
+    }
+
+    /**
+     * Reads a field by unsafe.
+     *
+     * @return The value of the field, in order to avoid JIT removal.
+     * @throws Exception If the field cannot be read.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkReadUnsafe() throws Exception {
+        return (Integer) getInt.invoke(unsafe, bean, readOffset);
+    }
+
+    /**
+     * Reads a field by a fast field accessor.
+     *
+     * @return The value of the field, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkReadFastFieldAccessor() {
+        return fastFieldAccessor.getInt(bean, readIndex);
+    }
+
+    /**
+     * Writes a field directly.
+     *
+     * @return The instance of which the field was written, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkWriteDirect() {
+        target.longValue = value;
+        return target;
+    }
+
+    /**
+     * Writes a field by reflection.
+     *
+     * @return The instance of which the field was written, in order to avoid JIT removal.
+     * @throws Exception If the field cannot be written.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkWriteReflection() throws Exception {
+        writeField.setLong(target, value);
+        return target;
+    }
+
+    /**
+     * Writes a field by unsafe.
+     *
+     * @return The instance of which the field was written, in order to avoid JIT removal.
+     * @throws Exception If the field cannot be written.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkWriteUnsafe() throws Exception {
+        putLong.invoke(unsafe, target, writeOffset, value);
+        return target;
+    }
+
+    /**
+     * Writes a field by a fast field accessor.
+     *
+     * @return The instance of which the field was written, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkWriteFastFieldAccessor() {
+        fastFieldAccessor.setLong(target, writeIndex, value);
+        return target;
+    }
+
+    /**
+     * Copies all fields directly.
+     *
+     * @return The instance to which the fields were copied, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkCopyDirect() {
+        target.intValue = bean.intValue;
+        target.longValue = bean.longValue;
+        target.stringValue = bean.stringValue;
+        target.doubleValue = bean.doubleValue;
+        return target;
+    }
+
+    /**
+     * Copies all fields by reflection.
+     *
+     * @return The instance to which the fields were copied, in order to avoid JIT removal.
+     * @throws Exception If a field cannot be copied.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkCopyReflection() throws Exception {
+        for (Field field : fields) {
+            field.set(target, field.get(bean));
+        }
+        return target;
+    }
+
+    /**
+     * Copies all fields by unsafe.
+     *
+     * @return The instance to which the fields were copied, in order to avoid JIT removal.
+     * @throws Exception If a field cannot be copied.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkCopyUnsafe() throws Exception {
+        putInt.invoke(unsafe, target, intOffset, getInt.invoke(unsafe, bean, intOffset));
+        putLong.invoke(unsafe, target, longOffset, getLong.invoke(unsafe, bean, longOffset));
+        putObject.invoke(unsafe, target, stringOffset, getObject.invoke(unsafe, bean, stringOffset));
+        putDouble.invoke(unsafe, target, doubleOffset, getDouble.invoke(unsafe, bean, doubleOffset));
+        return target;
+    }
+
+    /**
+     * Copies all fields by a fast field accessor.
+     *
+     * @return The instance to which the fields were copied, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkCopyFastFieldAccessor() {
+        fastFieldAccessor.copy(bean, target);
+        return target;
+    }
+
+    /**
+     * A bean of which fields are accessed.
+     */
+    public static class Bean {
+
+        /**
+         * An {@code int} field.
+         */
+        public int intValue;
+
+        /**
+         * A {@code long} field.
+         */
+        public long longValue;
+
+        /**
+         * A {@link java.lang.String} field.
+         */
+        public String stringValue;
+
+        /**
+         * A {@code double} field.
+         */
+        public double doubleValue;
+    }
+}
@@ -0,0 +1,109 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.instrumentation.method.matcher.MethodMatcher;
+import net.bytebuddy.instrumentation.method.matcher.MethodMatcherIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
+
+/**
+ * A benchmark that compares the resolution of the first matching method matcher for a large number of methods
+ * by applying method matchers in their interpreted form to the resolution by a
+ * {@link net.bytebuddy.instrumentation.method.matcher.MethodMatcherIndex}.
+ */
+@State(Scope.Benchmark)
+public class MethodMatcherBenchmark {
+
+    /**
+     * The types of which the declared methods are matched.
+     */
+    private static final Class<?>[] TYPES = {Object.class, String.class, StringBuilder.class, Math.class,
+            Character.class, Integer.class, Arrays.class, Collections.class, ArrayList.class, HashMap.class,
+            TreeMap.class, ConcurrentHashMap.class, Thread.class, Class.class};
+
+    /**
+     * The method names that are matched by the benchmarked method matchers.
+     */
+    private static final String[] NAMES = {"toString", "hashCode", "equals", "append", "charAt", "get", "put", "size",
+            "add", "remove", "contains", "indexOf", "valueOf", "substring", "length", "isEmpty"};
+
+    /**
+     * The methods to match.
+     */
+    private List<MethodDescription> methodDescriptions;
+
+    /**
+     * The method matchers in their interpreted form.
+     */
+    private List<MethodMatcher> methodMatchers;
+
+    /**
+     * An index over all method matchers.
+     */
+    private MethodMatcherIndex methodMatcherIndex;
+
+    /**
+     * Sets up the benchmarked methods and method matchers.
+     */
+    @Setup
+    public void setUp() {
+        methodDescriptions = new ArrayList<MethodDescription>();
+        for (Class<?> type : TYPES) {
+            methodDescriptions.addAll(new MethodList.ForLoadedType(type));
+        }
+        methodMatchers = new ArrayList<MethodMatcher>();
+        for (String name : NAMES) {
+            methodMatchers.add(named(name).and(takesArguments(1)).and(isPublic()));
+            methodMatchers.add(named(name).and(isStatic()));
+        }
+        methodMatchers.add(isSynchronized().and(isStatic()));
+        methodMatchers.add(named("wait").or(named("notify")).or(named("notifyAll")));
+        methodMatcherIndex = new MethodMatcherIndex(methodMatchers);
+    }
+
+    /**
+     * Performs a benchmark of resolving the first matching method matcher by applying all method matchers in
+     * their interpreted form.
+     *
+     * @return The sum of the positions of all resolved method matchers, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int benchmarkInterpreted() {
+        int result = 0;
+        for (MethodDescription methodDescription : methodDescriptions) {
+            int index = MethodMatcherIndex.NO_MATCH;
+            for (int position = 0; position < methodMatchers.size(); position++) {
+                if (methodMatchers.get(position).matches(methodDescription)) {
+                    index = position;
+                    break;
+                }
+            }
+            result += index;
+        }
+        return result;
+    }
+
+    /**
+     * Performs a benchmark of resolving the first matching method matcher by a method matcher index.
+     *
+     * @return The sum of the positions of all resolved method matchers, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int benchmarkIndexed() {
+        int result = 0;
+        for (MethodDescription methodDescription : methodDescriptions) {
+            result += methodMatcherIndex.indexOf(methodDescription);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,246 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Origin;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.modifier.Visibility;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+
+/**
+ * A benchmark of the different modes of binding an {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Origin}
+ * annotated {@link java.lang.reflect.Method} parameter. For each mode, a type with a given number of intercepted
+ * methods is created. This benchmark measures the loading and initialization of such a type in a new class loader
+ * as well as the steady-state invocation of a single intercepted method.
+ */
+@State(Scope.Benchmark)
+public class OriginMethodCacheBenchmark {
+
+    /**
+     * The number of intercepted methods of each created type in addition to {@link java.util.concurrent.Callable#call()}.
+     */
+    private static final int METHODS = 100;
+
+    /**
+     * The prefix of the names of the intercepted methods.
+     */
+    private static final String METHOD_NAME_PREFIX = "method";
+
+    /**
+     * The name of the intercepted {@link java.util.concurrent.Callable#call()} method.
+     */
+    private static final String CALL = "call";
+
+    /**
+     * A type that looks up the intercepted method on every invocation.
+     */
+    private DynamicType.Unloaded<?> uncachedType;
+
+    /**
+     * A type that caches all intercepted methods in its type initializer.
+     */
+    private DynamicType.Unloaded<?> cachedType;
+
+    /**
+     * A type that caches intercepted methods when they are invoked for the first time.
+     */
+    private DynamicType.Unloaded<?> lazilyCachedType;
+
+    /**
+     * An instance of the type that looks up the intercepted method on every invocation.
+     */
+    private Callable<?> uncachedInstance;
+
+    /**
+     * An instance of the type that caches all intercepted methods in its type initializer.
+     */
+    private Callable<?> cachedInstance;
+
+    /**
+     * An instance of the type that caches intercepted methods when they are invoked for the first time.
+     */
+    private Callable<?> lazilyCachedInstance;
+
+    /**
+     * Creates a type with {@link OriginMethodCacheBenchmark#METHODS} intercepted methods that implements
+     * {@link java.util.concurrent.Callable}.
+     *
+     * @param interceptor The interceptor to which all methods are delegated.
+     * @return The unloaded type.
+     */
+    private static DynamicType.Unloaded<?> make(Class<?> interceptor) {
+        DynamicType.Builder<?> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .implement(Callable.class)
+                .method(named(CALL)).intercept(MethodDelegation.to(interceptor));
+        for (int index = 0; index < METHODS; index++) {
+            builder = builder.defineMethod(METHOD_NAME_PREFIX + index,
+                    new TypeDescription.ForLoadedType(Object.class),
+                    Collections.<TypeDescription>emptyList(),
+                    Visibility.PUBLIC).intercept(MethodDelegation.to(interceptor));
+        }
+        return builder.make();
+    }
+
+    /**
+     * Loads and initializes a type in a new class loader.
+     *
+     * @param unloaded The type to load.
+     * @return The loaded and initialized type.
+     * @throws ClassNotFoundException If the type cannot be initialized.
+     */
+    private static Class<?> initialize(DynamicType.Unloaded<?> unloaded) throws ClassNotFoundException {
+        Class<?> type = unloaded.load(OriginMethodCacheBenchmark.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        return Class.forName(type.getName(), true, type.getClassLoader());
+    }
+
+    /**
+     * Creates the types of all modes and an instance of each type.
+     *
+     * @throws Exception If an instance cannot be created.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        uncachedType = make(UncachedInterceptor.class);
+        cachedType = make(CachedInterceptor.class);
+        lazilyCachedType = make(LazilyCachedInterceptor.class);
+        uncachedInstance = (Callable<?>) initialize(uncachedType).newInstance();
+        cachedInstance = (Callable<?>) initialize(cachedType).newInstance();
+        lazilyCachedInstance = (Callable<?>) initialize(lazilyCachedType).newInstance();
+    }
+
+    /**
+     * Loads and initializes the type that looks up the intercepted method on every invocation.
+     *
+     * @return The initialized type, in order to avoid JIT removal.
+     * @throws Exception If the type cannot be initialized.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkInitializationUncached() throws Exception {
+        return initialize(uncachedType);
+    }
+
+    /**
+     * Loads and initializes the type that caches all intercepted methods in its type initializer.
+     *
+     * @return The initialized type, in order to avoid JIT removal.
+     * @throws Exception If the type cannot be initialized.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkInitializationCached() throws Exception {
+        return initialize(cachedType);
+    }
+
+    /**
+     * Loads and initializes the type that caches intercepted methods when they are invoked for the first time.
+     *
+     * @return The initialized type, in order to avoid JIT removal.
+     * @throws Exception If the type cannot be initialized.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkInitializationLazilyCached() throws Exception {
+        return initialize(lazilyCachedType);
+    }
+
+    /**
+     * Invokes an intercepted method that looks up its method on every invocation.
+     *
+     * @return The bound method, in order to avoid JIT removal.
+     * @throws Exception If the invocation fails.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkInvocationUncached() throws Exception {
+        return uncachedInstance.call();
+    }
+
+    /**
+     * Invokes an intercepted method whose method was cached in the type initializer.
+     *
+     * @return The bound method, in order to avoid JIT removal.
+     * @throws Exception If the invocation fails.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkInvocationCached() throws Exception {
+        return cachedInstance.call();
+    }
+
+    /**
+     * Invokes an intercepted method whose method was cached on its first invocation.
+     *
+     * @return The bound method, in order to avoid JIT removal.
+     * @throws Exception If the invocation fails.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object benchmarkInvocationLazilyCached() throws Exception {
+        return lazilyCachedInstance.call();
+    }
+
+    /**
+     * An interceptor that is bound a method that is looked up on every invocation.
+     */
+    public static class UncachedInterceptor {
+
+        /**
+         * Intercepts a method.
+         *
+         * @param method The intercepted method.
+         * @return The intercepted method.
+         */
+        public static Object intercept(@Origin Method method) {
+            return method;
+        }
+    }
+
+    /**
+     * An interceptor that is bound a method that is cached in the instrumented type's type initializer.
+     */
+    public static class CachedInterceptor {
+
+        /**
+         * Intercepts a method.
+         *
+         * @param method The intercepted method.
+         * @return The intercepted method.
+         */
+        public static Object intercept(@Origin(cacheMethod = true) Method method) {
+            return method;
+        }
+    }
+
+    /**
+     * An interceptor that is bound a method that is cached on its first invocation.
+     */
+    public static class LazilyCachedInterceptor {
+
+        /**
+         * Intercepts a method.
+         *
+         * @param method The intercepted method.
+         * @return The intercepted method.
+         */
+        public static Object intercept(@Origin(cacheMethodLazily = true) Method method) {
+            return method;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.isDeclaredBy;
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.none;
+
+/**
+ * A benchmark that measures the creation of a batch of types by
+ * {@link net.bytebuddy.ByteBuddy#makeAll(java.util.Collection, java.util.concurrent.ExecutorService)} for a varying
+ * number of threads. All types are loaded by a single application of a class loading strategy. The benchmark with
+ * a single thread serves as a baseline for the scalability of the type creation.
+ */
+@State(Scope.Benchmark)
+public class ParallelTypeCreationBenchmark {
+
+    /**
+     * The number of types that are created for each batch.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * The number of threads that create the types.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    /**
+     * The Byte Buddy configuration that creates and loads the types.
+     */
+    private ByteBuddy byteBuddy;
+
+    /**
+     * The builders of all types of a batch.
+     */
+    private List<DynamicType.Builder<?>> builders;
+
+    /**
+     * The executor service that creates the types.
+     */
+    private ExecutorService executorService;
+
+    /**
+     * Sets up the builders and the executor service for the configured number of threads.
+     */
+    @Setup
+    public void setUp() {
+        byteBuddy = new ByteBuddy().withIgnoredMethods(none());
+        builders = new ArrayList<DynamicType.Builder<?>>(BATCH_SIZE);
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            builders.add(byteBuddy.subclass(ExampleClass.class)
+                    .method(isDeclaredBy(ExampleClass.class))
+                    .intercept(MethodDelegation.to(ClassByExtensionBenchmark.ByteBuddyInterceptor.class)));
+        }
+        executorService = Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * Shuts down the executor service.
+     */
+    @TearDown
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Creates and loads a batch of types.
+     *
+     * @return The loaded types, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DynamicType.Loaded<?>> benchmarkMakeAll() {
+        return byteBuddy.loadAll(byteBuddy.makeAll(builders, executorService),
+                ParallelTypeCreationBenchmark.class.getClassLoader(),
+                ClassLoadingStrategy.Default.WRAPPER);
+    }
+}
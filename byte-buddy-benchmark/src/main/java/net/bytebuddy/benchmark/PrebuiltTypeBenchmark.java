@@ -0,0 +1,140 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.PrebuiltTypeIndex;
+import net.bytebuddy.instrumentation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.isDeclaredBy;
+
+/**
+ * A benchmark that quantifies the startup cost of locating a dynamic type in a fresh class loader. A prebuilt type
+ * that was created ahead of time is compared to a type that is created at runtime. The benchmark should be run in
+ * single shot mode with many forks as only the first location of a type within a JVM resembles an application's
+ * startup.
+ */
+@State(Scope.Benchmark)
+public class PrebuiltTypeBenchmark {
+
+    /**
+     * The prefix and suffix of the temporary folder in which the prebuilt type is stored.
+     */
+    private static final String TEMP = "prebuilt";
+
+    /**
+     * The definition of the located type.
+     */
+    private PrebuiltTypeIndex.Definition definition;
+
+    /**
+     * The folder in which the prebuilt type is stored.
+     */
+    private File folder;
+
+    /**
+     * The URLs of the class loader that provides the prebuilt type.
+     */
+    private URL[] urls;
+
+    /**
+     * Deletes a file or a folder including its content.
+     *
+     * @param file The file or folder to delete.
+     */
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        if (!file.delete()) {
+            throw new IllegalStateException("Cannot delete " + file);
+        }
+    }
+
+    /**
+     * Creates the prebuilt type in a temporary folder.
+     *
+     * @throws IOException If the prebuilt type cannot be stored.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        definition = new Definition();
+        folder = File.createTempFile(TEMP, TEMP);
+        if (!folder.delete() || !folder.mkdir()) {
+            throw new IOException("Cannot create folder " + folder);
+        }
+        PrebuiltTypeIndex.Writer writer = new PrebuiltTypeIndex.Writer(folder);
+        writer.write(definition);
+        writer.finish();
+        urls = new URL[]{folder.toURI().toURL()};
+    }
+
+    /**
+     * Deletes the prebuilt type.
+     */
+    @TearDown
+    public void tearDown() {
+        delete(folder);
+    }
+
+    /**
+     * Locates the prebuilt type in a fresh class loader.
+     *
+     * @return The located type, in order to avoid JIT removal.
+     * @throws IOException If the index cannot be read.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkPrebuilt() throws IOException {
+        return PrebuiltTypeIndex.of(new URLClassLoader(urls, getClass().getClassLoader())).locate(definition, ClassLoadingStrategy.Default.INJECTION);
+    }
+
+    /**
+     * Creates the type at runtime and loads it into a fresh class loader.
+     *
+     * @return The located type, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Class<?> benchmarkRuntimeGeneration() {
+        return new PrebuiltTypeIndex(new URLClassLoader(new URL[0], getClass().getClassLoader()), Collections.<String, String>emptyMap())
+                .locate(definition, ClassLoadingStrategy.Default.INJECTION);
+    }
+
+    /**
+     * A definition of a type that stubs all methods of the example class.
+     */
+    public static class Definition implements PrebuiltTypeIndex.Definition {
+
+        /**
+         * The key of this definition.
+         */
+        private static final String KEY = "example";
+
+        @Override
+        public String getKey() {
+            return KEY;
+        }
+
+        @Override
+        public DynamicType.Builder<?> builder() {
+            return new ByteBuddy()
+                    .subclass(ExampleClass.class)
+                    .method(isDeclaredBy(ExampleClass.class)).intercept(StubMethod.INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.Instrumentation;
+import net.bytebuddy.instrumentation.InvocationHandlerAdapter;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.PrimitiveInvocationHandler;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.AllArguments;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Argument;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+
+/**
+ * A benchmark of intercepting a method with a primitive signature. The intercepted method is either delegated to
+ * an {@link java.lang.reflect.InvocationHandler} or to a
+ * {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler}, or it is delegated by a
+ * {@link net.bytebuddy.instrumentation.MethodDelegation} to an interceptor that either binds all arguments as an
+ * array or binds the primitive argument directly. This benchmark should be run with the {@code gc} profiler in
+ * order to measure the allocation rate of each interception.
+ */
+@State(Scope.Benchmark)
+public class PrimitiveInterceptionBenchmark {
+
+    /**
+     * The name of the intercepted method.
+     */
+    private static final String METHOD_NAME = "add";
+
+    /**
+     * The argument that is handed to the intercepted method. The value is not cached by {@link java.lang.Integer}
+     * such that boxing this value requires an allocation.
+     */
+    private int argument = 1000;
+
+    /**
+     * An instance that delegates to an invocation handler.
+     */
+    private Adder boxingHandlerInstance;
+
+    /**
+     * An instance that delegates to a primitive invocation handler.
+     */
+    private Adder primitiveHandlerInstance;
+
+    /**
+     * An instance that delegates to an interceptor that binds all arguments as an array.
+     */
+    private Adder allArgumentsDelegationInstance;
+
+    /**
+     * An instance that delegates to an interceptor that binds the primitive argument directly.
+     */
+    private Adder argumentDelegationInstance;
+
+    /**
+     * Creates an instance of a subclass of {@link PrimitiveInterceptionBenchmark.Adder} where the intercepted method
+     * is implemented by the given instrumentation.
+     *
+     * @param instrumentation The instrumentation of the intercepted method.
+     * @return An instance of the created type.
+     * @throws Exception If the instance cannot be created.
+     */
+    private static Adder make(Instrumentation instrumentation) throws Exception {
+        return new ByteBuddy()
+                .subclass(Adder.class)
+                .method(named(METHOD_NAME)).intercept(instrumentation)
+                .make()
+                .load(PrimitiveInterceptionBenchmark.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+    }
+
+    /**
+     * Creates an instance for each kind of interception.
+     *
+     * @throws Exception If an instance cannot be created.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        boxingHandlerInstance = make(InvocationHandlerAdapter.of(new BoxingHandler()).withMethodCache());
+        primitiveHandlerInstance = make(InvocationHandlerAdapter.ofPrimitive(new PrimitiveHandler()).withMethodCache());
+        allArgumentsDelegationInstance = make(MethodDelegation.to(AllArgumentsInterceptor.class));
+        argumentDelegationInstance = make(MethodDelegation.to(ArgumentInterceptor.class));
+    }
+
+    /**
+     * Invokes a method that is intercepted by an invocation handler.
+     *
+     * @return The return value of the intercepted method, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkBoxingInvocationHandler() {
+        return boxingHandlerInstance.add(argument);
+    }
+
+    /**
+     * Invokes a method that is intercepted by a primitive invocation handler.
+     *
+     * @return The return value of the intercepted method, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkPrimitiveInvocationHandler() {
+        return primitiveHandlerInstance.add(argument);
+    }
+
+    /**
+     * Invokes a method that is delegated to an interceptor that binds all arguments as an array.
+     *
+     * @return The return value of the intercepted method, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkAllArgumentsDelegation() {
+        return allArgumentsDelegationInstance.add(argument);
+    }
+
+    /**
+     * Invokes a method that is delegated to an interceptor that binds the primitive argument directly.
+     *
+     * @return The return value of the intercepted method, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int benchmarkArgumentDelegation() {
+        return argumentDelegationInstance.add(argument);
+    }
+
+    /**
+     * A type with a method of a primitive signature that is intercepted.
+     */
+    public static class Adder {
+
+        /**
+         * A method that is intercepted. Any interception adds one to the given value.
+         *
+         * @param value The value to which one is added.
+         * @return The value plus one.
+         */
+        public int add(int value) {
+            return value;
+        }
+    }
+
+    /**
+     * An invocation handler that adds one to an intercepted method's only argument.
+     */
+    private static class BoxingHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            return (Integer) arguments[0] + 1;
+        }
+    }
+
+    /**
+     * A primitive invocation handler that adds one to an intercepted method's only argument.
+     */
+    private static class PrimitiveHandler implements PrimitiveInvocationHandler {
+
+        @Override
+        public long invoke(Object proxy, Method method) throws Throwable {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument) throws Throwable {
+            return argument + 1;
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument, long secondArgument) throws Throwable {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument, long secondArgument, long thirdArgument) throws Throwable {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * An interceptor that adds one to an intercepted method's only argument which is bound as an array.
+     */
+    public static class AllArgumentsInterceptor {
+
+        /**
+         * Intercepts a method.
+         *
+         * @param arguments All arguments of the intercepted method.
+         * @return The intercepted method's only argument plus one.
+         */
+        public static int intercept(@AllArguments Object[] arguments) {
+            return (Integer) arguments[0] + 1;
+        }
+    }
+
+    /**
+     * An interceptor that adds one to an intercepted method's only argument which is bound directly.
+     */
+    public static class ArgumentInterceptor {
+
+        /**
+         * Intercepts a method.
+         *
+         * @param argument The intercepted method's only argument.
+         * @return The intercepted method's only argument plus one.
+         */
+        public static int intercept(@Argument(0) int argument) {
+            return argument + 1;
+        }
+    }
+}
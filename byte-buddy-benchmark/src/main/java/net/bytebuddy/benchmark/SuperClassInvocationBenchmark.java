@@ -71,6 +71,12 @@ public class SuperClassInvocationBenchmark {
      */
     private ExampleClass byteBuddySpecializedInstance;
 
+    /**
+     * An instance created by Byte Buddy for performing benchmarks on. This instance is created by binding
+     * super method calls of a delegation target by {@code invokedynamic} call sites.
+     */
+    private ExampleClass byteBuddyWithInvokeDynamicInstance;
+
     /**
      * An instance created by cglib for performing benchmarks on.
      */
@@ -92,6 +98,7 @@ public class SuperClassInvocationBenchmark {
         ClassByExtensionBenchmark classByExtensionBenchmark = new ClassByExtensionBenchmark();
         byteBuddyWithAnnotationsInstance = classByExtensionBenchmark.benchmarkByteBuddyWithAnnotations();
         byteBuddySpecializedInstance = classByExtensionBenchmark.benchmarkByteBuddySpecialized();
+        byteBuddyWithInvokeDynamicInstance = classByExtensionBenchmark.benchmarkByteBuddyWithInvokeDynamic();
         cglibInstance = classByExtensionBenchmark.benchmarkCglib();
         javassistInstance = classByExtensionBenchmark.benchmarkJavassist();
     }
@@ -129,6 +136,39 @@ public class SuperClassInvocationBenchmark {
         blackHole.consume(byteBuddyWithAnnotationsInstance.method(STRING_VALUE, STRING_VALUE, STRING_VALUE));
     }
 
+    /**
+     * Performs a benchmark of a super method invocation using Byte Buddy. This benchmark uses an annotation-based
+     * approach where the super method calls are bound by {@code invokedynamic} call sites.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(20)
+    public void benchmarkByteBuddyWithInvokeDynamic(Blackhole blackHole) {
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(BOOLEAN_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(BYTE_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(SHORT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(INT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(CHAR_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(INT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(LONG_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(FLOAT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(DOUBLE_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(STRING_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(BOOLEAN_VALUE, BOOLEAN_VALUE, BOOLEAN_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(BYTE_VALUE, BYTE_VALUE, BYTE_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(SHORT_VALUE, SHORT_VALUE, SHORT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(INT_VALUE, INT_VALUE, INT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(CHAR_VALUE, CHAR_VALUE, CHAR_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(INT_VALUE, INT_VALUE, INT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(LONG_VALUE, LONG_VALUE, LONG_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(FLOAT_VALUE, FLOAT_VALUE, FLOAT_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(DOUBLE_VALUE, DOUBLE_VALUE, DOUBLE_VALUE));
+        blackHole.consume(byteBuddyWithInvokeDynamicInstance.method(STRING_VALUE, STRING_VALUE, STRING_VALUE));
+    }
+
     /**
      * Performs a benchmark of a super method invocation using Byte Buddy. This benchmark uses a specialized
      * interception strategy which is easier to inline by the compiler.
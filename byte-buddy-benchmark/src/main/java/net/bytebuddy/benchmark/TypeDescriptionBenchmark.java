@@ -0,0 +1,94 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark that compares the description of method signatures by canonical type descriptions with lazily
+ * cached parameter and exception type lists to the description by type descriptions that are created on every
+ * lookup. This benchmark is best run with JMH's {@code -prof gc} profiler in order to compare the allocation
+ * rate of both approaches.
+ */
+@State(Scope.Benchmark)
+public class TypeDescriptionBenchmark {
+
+    /**
+     * The types of which the declared methods are described.
+     */
+    private static final Class<?>[] TYPES = {Object.class, String.class, StringBuilder.class, Math.class,
+            Character.class, Integer.class, Arrays.class, Collections.class, ArrayList.class, HashMap.class,
+            TreeMap.class, ConcurrentHashMap.class, Thread.class, Class.class};
+
+    /**
+     * The loaded methods to describe.
+     */
+    private List<Method> methods;
+
+    /**
+     * The descriptions of all loaded methods.
+     */
+    private List<MethodDescription> methodDescriptions;
+
+    /**
+     * Sets up the benchmarked methods.
+     */
+    @Setup
+    public void setUp() {
+        methods = new ArrayList<Method>();
+        methodDescriptions = new ArrayList<MethodDescription>();
+        for (Class<?> type : TYPES) {
+            methods.addAll(Arrays.asList(type.getDeclaredMethods()));
+            for (MethodDescription methodDescription : new MethodList.ForLoadedType(type)) {
+                if (methodDescription.isMethod()) {
+                    methodDescriptions.add(methodDescription);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs a benchmark of describing the signatures of all methods by canonical type descriptions.
+     *
+     * @return The sum of the stack sizes of all return and parameter types, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int benchmarkCanonical() {
+        int result = 0;
+        for (MethodDescription methodDescription : methodDescriptions) {
+            result += methodDescription.getReturnType().getStackSize().getSize();
+            for (TypeDescription parameterType : methodDescription.getParameterTypes()) {
+                result += parameterType.getStackSize().getSize();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs a benchmark of describing the signatures of all methods by type descriptions that are created on
+     * every lookup.
+     *
+     * @return The sum of the stack sizes of all return and parameter types, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int benchmarkUncached() {
+        int result = 0;
+        for (Method method : methods) {
+            result += new TypeDescription.ForLoadedType(method.getReturnType()).getStackSize().getSize();
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                result += new TypeDescription.ForLoadedType(parameterType).getStackSize().getSize();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.StubMethod;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.isDeclaredBy;
+
+/**
+ * A benchmark that quantifies the allocation of creating the class file of a small proxy type. The allocated bytes
+ * per created class file are reported when running this benchmark with JMH's garbage collection profiler
+ * ({@code -prof gc}). The creation of a class file by Byte Buddy is compared to only writing the same class file
+ * by ASM's {@link org.objectweb.asm.ClassWriter} which is allocated for every created type.
+ */
+@State(Scope.Benchmark)
+public class TypeWriterAllocationBenchmark {
+
+    /**
+     * The builder for the proxy type.
+     */
+    private DynamicType.Builder<? extends ExampleClass> builder;
+
+    /**
+     * A class reader for the class file of the proxy type.
+     */
+    private ClassReader classReader;
+
+    /**
+     * Creates the builder for the proxy type and reads its class file.
+     */
+    @Setup
+    public void setUp() {
+        builder = new ByteBuddy()
+                .subclass(ExampleClass.class)
+                .method(isDeclaredBy(ExampleClass.class)).intercept(StubMethod.INSTANCE);
+        classReader = new ClassReader(builder.make().getBytes());
+    }
+
+    /**
+     * Creates the class file of the proxy type by Byte Buddy.
+     *
+     * @return The created class file, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] benchmarkByteBuddy() {
+        return builder.make().getBytes();
+    }
+
+    /**
+     * Writes the class file of the proxy type by a new ASM class writer.
+     *
+     * @return The written class file, in order to avoid JIT removal.
+     */
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] benchmarkClassWriter() {
+        ClassWriter classWriter = new ClassWriter(0);
+        classReader.accept(classWriter, 0);
+        return classWriter.toByteArray();
+    }
+}
@@ -37,6 +37,22 @@ public class QuickRunner {
                 .include(WILDCARD + ClassByImplementationBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + ClassByExtensionBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + TrivialClassCreationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassFileCacheBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + MethodMatcherBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypeDescriptionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassFileLocatorBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ParallelTypeCreationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassInjectionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassLoadingStrategyBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ConcurrentClassLoadingBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypeWriterAllocationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + BuilderConfigurationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + PrebuiltTypeBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + OriginMethodCacheBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + PrimitiveInterceptionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + FastClassBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + FieldAccessBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + BeanCopyBenchmark.class.getSimpleName() + WILDCARD)
                 .forks(1)
                 .build()).run();
     }
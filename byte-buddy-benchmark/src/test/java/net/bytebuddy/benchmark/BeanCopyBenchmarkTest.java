@@ -0,0 +1,40 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BeanCopyBenchmarkTest {
+
+    private BeanCopyBenchmark beanCopyBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        beanCopyBenchmark = new BeanCopyBenchmark();
+        beanCopyBenchmark.setUp();
+    }
+
+    @Test
+    public void testDirect() throws Exception {
+        assertCopied((BeanCopyBenchmark.Entity) beanCopyBenchmark.benchmarkDirect());
+    }
+
+    @Test
+    public void testReflection() throws Exception {
+        assertCopied((BeanCopyBenchmark.Entity) beanCopyBenchmark.benchmarkReflection());
+    }
+
+    @Test
+    public void testBeanCopier() throws Exception {
+        assertCopied((BeanCopyBenchmark.Entity) beanCopyBenchmark.benchmarkBeanCopier());
+    }
+
+    private static void assertCopied(BeanCopyBenchmark.Entity entity) {
+        assertEquals(42L, entity.getId());
+        assertEquals("foo", entity.getName());
+        assertEquals(4.2d, entity.getPrice(), 0d);
+        assertEquals(Integer.valueOf(7), entity.getQuantity());
+        assertEquals(true, entity.isActive());
+    }
+}
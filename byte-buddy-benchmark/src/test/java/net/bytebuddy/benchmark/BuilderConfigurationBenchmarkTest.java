@@ -0,0 +1,27 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BuilderConfigurationBenchmarkTest {
+
+    private static final int INTERCEPTIONS = 10;
+
+    private BuilderConfigurationBenchmark builderConfigurationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        builderConfigurationBenchmark = new BuilderConfigurationBenchmark();
+        builderConfigurationBenchmark.interceptions = INTERCEPTIONS;
+        builderConfigurationBenchmark.setUp();
+    }
+
+    @Test
+    public void testByteBuddy() throws Exception {
+        assertEquals(new TypeDescription.ForLoadedType(Object.class),
+                builderConfigurationBenchmark.benchmarkByteBuddy().make().getDescription().getSupertype());
+    }
+}
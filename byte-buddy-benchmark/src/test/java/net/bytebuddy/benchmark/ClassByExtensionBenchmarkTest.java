@@ -67,6 +67,15 @@ public class ClassByExtensionBenchmarkTest {
         assertReturnValues(instance);
     }
 
+    @Test
+    public void testByteBuddyWithInvokeDynamicClassCreation() throws Exception {
+        ExampleClass instance = classByExtensionBenchmark.benchmarkByteBuddyWithInvokeDynamic();
+        assertNotEquals(ClassByExtensionBenchmark.BASE_CLASS, instance.getClass());
+        assertEquals(ClassByExtensionBenchmark.BASE_CLASS, instance.getClass().getSuperclass());
+        assertNotEquals(instance.getClass(), classByExtensionBenchmark.benchmarkByteBuddyWithInvokeDynamic());
+        assertReturnValues(instance);
+    }
+
     @Test
     public void testByteBuddySpecializedClassCreation() throws Exception {
         ExampleClass instance = classByExtensionBenchmark.benchmarkByteBuddySpecialized();
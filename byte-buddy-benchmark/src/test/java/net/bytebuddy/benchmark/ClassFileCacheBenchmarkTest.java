@@ -0,0 +1,44 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ClassFileCacheBenchmarkTest {
+
+    private ClassFileCacheBenchmark classFileCacheBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classFileCacheBenchmark = new ClassFileCacheBenchmark();
+        classFileCacheBenchmark.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        classFileCacheBenchmark.tearDown();
+    }
+
+    @Test
+    public void testColdClassCreation() throws Exception {
+        Class<?> type = classFileCacheBenchmark.benchmarkCold();
+        assertNotEquals(ClassFileCacheBenchmark.BASE_CLASS, type);
+        assertEquals(ClassFileCacheBenchmark.BASE_CLASS, type.getSuperclass());
+        assertNotEquals(type, classFileCacheBenchmark.benchmarkCold());
+    }
+
+    @Test
+    public void testWarmClassCreation() throws Exception {
+        Class<?> type = classFileCacheBenchmark.benchmarkWarm();
+        assertNotEquals(ClassFileCacheBenchmark.BASE_CLASS, type);
+        assertEquals(ClassFileCacheBenchmark.BASE_CLASS, type.getSuperclass());
+        Class<?> other = classFileCacheBenchmark.benchmarkWarm();
+        assertNotEquals(type, other);
+        assertEquals(type.getName(), other.getName());
+        assertEquals(42, ((ExampleClass) type.newInstance()).method(42));
+    }
+}
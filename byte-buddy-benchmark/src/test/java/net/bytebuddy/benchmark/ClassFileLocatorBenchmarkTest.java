@@ -0,0 +1,25 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClassFileLocatorBenchmarkTest {
+
+    private ClassFileLocatorBenchmark classFileLocatorBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classFileLocatorBenchmark = new ClassFileLocatorBenchmark();
+        classFileLocatorBenchmark.setUp();
+    }
+
+    @Test
+    public void testLocatorsAreEquivalent() throws Exception {
+        int size = classFileLocatorBenchmark.benchmarkJarFile();
+        assertTrue(size > 0);
+        assertEquals(classFileLocatorBenchmark.benchmarkClassLoader(), size);
+    }
+}
@@ -0,0 +1,41 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClassInjectionBenchmarkTest {
+
+    private static final String INJECTED = "$Injected";
+
+    private static final int BATCH_SIZE = 32;
+
+    private ClassInjectionBenchmark classInjectionBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classInjectionBenchmark = new ClassInjectionBenchmark();
+        classInjectionBenchmark.setUp();
+    }
+
+    @Test
+    public void testSeparateInjection() throws Exception {
+        assertInjected(classInjectionBenchmark.benchmarkSeparateInjection());
+    }
+
+    @Test
+    public void testBatchInjection() throws Exception {
+        assertInjected(classInjectionBenchmark.benchmarkBatchInjection());
+    }
+
+    private static void assertInjected(ClassLoader classLoader) throws Exception {
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            Class<?> type = classLoader.loadClass(ClassInjectionBenchmark.class.getName() + INJECTED + index);
+            assertEquals(classLoader, type.getClassLoader());
+            assertTrue(ExampleClass.class.isAssignableFrom(type));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class ClassLoadingStrategyBenchmarkTest {
+
+    private ClassLoadingStrategyBenchmark classLoadingStrategyBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classLoadingStrategyBenchmark = new ClassLoadingStrategyBenchmark();
+        classLoadingStrategyBenchmark.setUp();
+    }
+
+    @Test
+    public void testWrapper() throws Exception {
+        Class<?> type = classLoadingStrategyBenchmark.benchmarkWrapper();
+        assertEquals(ExampleClass.class, type.getSuperclass());
+        assertNotSame(ExampleClass.class.getClassLoader(), type.getClassLoader());
+    }
+
+    @Test
+    public void testInjection() throws Exception {
+        Class<?> type = classLoadingStrategyBenchmark.benchmarkInjection();
+        assertEquals(ExampleClass.class, type.getSuperclass());
+        assertNotSame(ExampleClass.class.getClassLoader(), type.getClassLoader());
+    }
+
+    @Test
+    public void testAnonymous() throws Exception {
+        Class<?> type = classLoadingStrategyBenchmark.benchmarkAnonymous();
+        assertEquals(ExampleClass.class, type.getSuperclass());
+        assertEquals(ExampleClass.class.getClassLoader(), type.getClassLoader());
+        assertNotSame(type, classLoadingStrategyBenchmark.benchmarkAnonymous());
+    }
+}
@@ -0,0 +1,41 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ConcurrentClassLoadingBenchmarkTest {
+
+    private static final int TYPES = 64;
+
+    @Test
+    public void testParentFirst() throws Exception {
+        assertFirstTimeInstantiation(false);
+    }
+
+    @Test
+    public void testChildFirst() throws Exception {
+        assertFirstTimeInstantiation(true);
+    }
+
+    private static void assertFirstTimeInstantiation(boolean childFirst) throws Exception {
+        ConcurrentClassLoadingBenchmark concurrentClassLoadingBenchmark = new ConcurrentClassLoadingBenchmark();
+        concurrentClassLoadingBenchmark.childFirst = childFirst;
+        concurrentClassLoadingBenchmark.setUp();
+        ExampleClass first = concurrentClassLoadingBenchmark.benchmarkFirstTimeInstantiation();
+        assertEquals(ExampleClass.class, first.getClass().getSuperclass());
+        assertNotSame(ExampleClass.class.getClassLoader(), first.getClass().getClassLoader());
+        ExampleClass second = concurrentClassLoadingBenchmark.benchmarkFirstTimeInstantiation();
+        assertNotSame(first.getClass(), second.getClass());
+        assertSame(first.getClass().getClassLoader(), second.getClass().getClassLoader());
+        for (int index = 2; index < TYPES; index++) {
+            concurrentClassLoadingBenchmark.benchmarkFirstTimeInstantiation();
+        }
+        ExampleClass next = concurrentClassLoadingBenchmark.benchmarkFirstTimeInstantiation();
+        assertEquals(first.getClass().getName(), next.getClass().getName());
+        assertNotSame(first.getClass().getClassLoader(), next.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,39 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FastClassBenchmarkTest {
+
+    private static final Object RESULT = 42;
+
+    private FastClassBenchmark fastClassBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        fastClassBenchmark = new FastClassBenchmark();
+        fastClassBenchmark.setUp();
+    }
+
+    @Test
+    public void testDirect() throws Exception {
+        assertEquals(RESULT, fastClassBenchmark.benchmarkDirect());
+    }
+
+    @Test
+    public void testReflection() throws Exception {
+        assertEquals(RESULT, fastClassBenchmark.benchmarkReflection());
+    }
+
+    @Test
+    public void testMethodHandle() throws Throwable {
+        assertEquals(RESULT, fastClassBenchmark.benchmarkMethodHandle());
+    }
+
+    @Test
+    public void testFastClass() throws Throwable {
+        assertEquals(RESULT, fastClassBenchmark.benchmarkFastClass());
+    }
+}
@@ -0,0 +1,76 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FieldAccessBenchmarkTest {
+
+    private static final int INT_VALUE = 42;
+
+    private static final long LONG_VALUE = 42L;
+
+    private FieldAccessBenchmark fieldAccessBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        fieldAccessBenchmark = new FieldAccessBenchmark();
+        fieldAccessBenchmark.setUp();
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        assertEquals(INT_VALUE, fieldAccessBenchmark.benchmarkReadDirect());
+        assertEquals(INT_VALUE, fieldAccessBenchmark.benchmarkReadReflection());
+        assertEquals(INT_VALUE, fieldAccessBenchmark.benchmarkReadUnsafe());
+        assertEquals(INT_VALUE, fieldAccessBenchmark.benchmarkReadFastFieldAccessor());
+    }
+
+    @Test
+    public void testWriteDirect() throws Exception {
+        assertEquals(LONG_VALUE, ((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkWriteDirect()).longValue);
+    }
+
+    @Test
+    public void testWriteReflection() throws Exception {
+        assertEquals(LONG_VALUE, ((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkWriteReflection()).longValue);
+    }
+
+    @Test
+    public void testWriteUnsafe() throws Exception {
+        assertEquals(LONG_VALUE, ((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkWriteUnsafe()).longValue);
+    }
+
+    @Test
+    public void testWriteFastFieldAccessor() throws Exception {
+        assertEquals(LONG_VALUE, ((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkWriteFastFieldAccessor()).longValue);
+    }
+
+    @Test
+    public void testCopyDirect() throws Exception {
+        assertCopied((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkCopyDirect());
+    }
+
+    @Test
+    public void testCopyReflection() throws Exception {
+        assertCopied((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkCopyReflection());
+    }
+
+    @Test
+    public void testCopyUnsafe() throws Exception {
+        assertCopied((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkCopyUnsafe());
+    }
+
+    @Test
+    public void testCopyFastFieldAccessor() throws Exception {
+        assertCopied((FieldAccessBenchmark.Bean) fieldAccessBenchmark.benchmarkCopyFastFieldAccessor());
+    }
+
+    private static void assertCopied(FieldAccessBenchmark.Bean bean) {
+        assertEquals(INT_VALUE, bean.intValue);
+        assertEquals(LONG_VALUE, bean.longValue);
+        assertEquals("intValue", bean.stringValue);
+        assertEquals(42d, bean.doubleValue, 0d);
+    }
+}
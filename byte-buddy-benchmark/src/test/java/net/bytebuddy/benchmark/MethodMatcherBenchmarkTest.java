@@ -0,0 +1,22 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MethodMatcherBenchmarkTest {
+
+    private MethodMatcherBenchmark methodMatcherBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        methodMatcherBenchmark = new MethodMatcherBenchmark();
+        methodMatcherBenchmark.setUp();
+    }
+
+    @Test
+    public void testIndexedMatchingIsEquivalent() throws Exception {
+        assertEquals(methodMatcherBenchmark.benchmarkInterpreted(), methodMatcherBenchmark.benchmarkIndexed());
+    }
+}
@@ -0,0 +1,51 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class OriginMethodCacheBenchmarkTest {
+
+    private static final String CALL = "call";
+
+    private OriginMethodCacheBenchmark originMethodCacheBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        originMethodCacheBenchmark = new OriginMethodCacheBenchmark();
+        originMethodCacheBenchmark.setUp();
+    }
+
+    @Test
+    public void testInitialization() throws Exception {
+        assertNotSame(originMethodCacheBenchmark.benchmarkInitializationUncached(), originMethodCacheBenchmark.benchmarkInitializationUncached());
+        assertNotSame(originMethodCacheBenchmark.benchmarkInitializationCached(), originMethodCacheBenchmark.benchmarkInitializationCached());
+        assertNotSame(originMethodCacheBenchmark.benchmarkInitializationLazilyCached(), originMethodCacheBenchmark.benchmarkInitializationLazilyCached());
+    }
+
+    @Test
+    public void testInvocationUncached() throws Exception {
+        Method method = (Method) originMethodCacheBenchmark.benchmarkInvocationUncached();
+        assertEquals(CALL, method.getName());
+        assertNotSame(method, originMethodCacheBenchmark.benchmarkInvocationUncached());
+    }
+
+    @Test
+    public void testInvocationCached() throws Exception {
+        Method method = (Method) originMethodCacheBenchmark.benchmarkInvocationCached();
+        assertEquals(CALL, method.getName());
+        assertSame(method, originMethodCacheBenchmark.benchmarkInvocationCached());
+    }
+
+    @Test
+    public void testInvocationLazilyCached() throws Exception {
+        Method method = (Method) originMethodCacheBenchmark.benchmarkInvocationLazilyCached();
+        assertEquals(CALL, method.getName());
+        assertSame(method, originMethodCacheBenchmark.benchmarkInvocationLazilyCached());
+    }
+}
@@ -0,0 +1,40 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.DynamicType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelTypeCreationBenchmarkTest {
+
+    private static final int THREADS = 4, BATCH_SIZE = 64;
+
+    private ParallelTypeCreationBenchmark parallelTypeCreationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        parallelTypeCreationBenchmark = new ParallelTypeCreationBenchmark();
+        parallelTypeCreationBenchmark.threads = THREADS;
+        parallelTypeCreationBenchmark.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        parallelTypeCreationBenchmark.tearDown();
+    }
+
+    @Test
+    public void testMakeAll() throws Exception {
+        List<DynamicType.Loaded<?>> loaded = parallelTypeCreationBenchmark.benchmarkMakeAll();
+        assertEquals(BATCH_SIZE, loaded.size());
+        for (DynamicType.Loaded<?> dynamicType : loaded) {
+            assertTrue(ExampleClass.class.isAssignableFrom(dynamicType.getLoaded()));
+        }
+    }
+}
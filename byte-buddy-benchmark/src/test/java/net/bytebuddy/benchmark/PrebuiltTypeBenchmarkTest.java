@@ -0,0 +1,40 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class PrebuiltTypeBenchmarkTest {
+
+    private PrebuiltTypeBenchmark prebuiltTypeBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        prebuiltTypeBenchmark = new PrebuiltTypeBenchmark();
+        prebuiltTypeBenchmark.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        prebuiltTypeBenchmark.tearDown();
+    }
+
+    @Test
+    public void testPrebuilt() throws Exception {
+        Class<?> type = prebuiltTypeBenchmark.benchmarkPrebuilt();
+        assertEquals(ExampleClass.class, type.getSuperclass());
+        assertEquals(type.getName(), prebuiltTypeBenchmark.benchmarkPrebuilt().getName());
+        assertNotEquals(type, prebuiltTypeBenchmark.benchmarkPrebuilt());
+    }
+
+    @Test
+    public void testRuntimeGeneration() throws Exception {
+        Class<?> type = prebuiltTypeBenchmark.benchmarkRuntimeGeneration();
+        assertEquals(ExampleClass.class, type.getSuperclass());
+        assertNotEquals(type, prebuiltTypeBenchmark.benchmarkRuntimeGeneration());
+    }
+}
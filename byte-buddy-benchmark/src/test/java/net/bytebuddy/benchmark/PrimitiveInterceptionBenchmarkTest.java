@@ -0,0 +1,39 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrimitiveInterceptionBenchmarkTest {
+
+    private static final int RESULT = 1001;
+
+    private PrimitiveInterceptionBenchmark primitiveInterceptionBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        primitiveInterceptionBenchmark = new PrimitiveInterceptionBenchmark();
+        primitiveInterceptionBenchmark.setUp();
+    }
+
+    @Test
+    public void testBoxingInvocationHandler() throws Exception {
+        assertEquals(RESULT, primitiveInterceptionBenchmark.benchmarkBoxingInvocationHandler());
+    }
+
+    @Test
+    public void testPrimitiveInvocationHandler() throws Exception {
+        assertEquals(RESULT, primitiveInterceptionBenchmark.benchmarkPrimitiveInvocationHandler());
+    }
+
+    @Test
+    public void testAllArgumentsDelegation() throws Exception {
+        assertEquals(RESULT, primitiveInterceptionBenchmark.benchmarkAllArgumentsDelegation());
+    }
+
+    @Test
+    public void testArgumentDelegation() throws Exception {
+        assertEquals(RESULT, primitiveInterceptionBenchmark.benchmarkArgumentDelegation());
+    }
+}
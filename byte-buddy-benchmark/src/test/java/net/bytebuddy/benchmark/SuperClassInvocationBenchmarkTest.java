@@ -18,6 +18,11 @@ public class SuperClassInvocationBenchmarkTest extends AbstractBlackHoleTest {
         superClassInvocationBenchmark.benchmarkByteBuddyWithAnnotations(blackHole);
     }
 
+    @Test
+    public void testByteBuddyWithInvokeDynamicBenchmark() throws Exception {
+        superClassInvocationBenchmark.benchmarkByteBuddyWithInvokeDynamic(blackHole);
+    }
+
     @Test
     public void testByteBuddySpecializedBenchmark() throws Exception {
         superClassInvocationBenchmark.benchmarkByteBuddySpecialized(blackHole);
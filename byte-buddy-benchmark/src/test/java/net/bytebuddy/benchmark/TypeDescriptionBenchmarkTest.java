@@ -0,0 +1,22 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TypeDescriptionBenchmarkTest {
+
+    private TypeDescriptionBenchmark typeDescriptionBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        typeDescriptionBenchmark = new TypeDescriptionBenchmark();
+        typeDescriptionBenchmark.setUp();
+    }
+
+    @Test
+    public void testCanonicalDescriptionIsEquivalent() throws Exception {
+        assertEquals(typeDescriptionBenchmark.benchmarkUncached(), typeDescriptionBenchmark.benchmarkCanonical());
+    }
+}
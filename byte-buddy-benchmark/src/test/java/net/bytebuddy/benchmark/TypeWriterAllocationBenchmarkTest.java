@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class TypeWriterAllocationBenchmarkTest {
+
+    private TypeWriterAllocationBenchmark typeWriterAllocationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        typeWriterAllocationBenchmark = new TypeWriterAllocationBenchmark();
+        typeWriterAllocationBenchmark.setUp();
+    }
+
+    @Test
+    public void testByteBuddy() throws Exception {
+        ClassReader classReader = new ClassReader(typeWriterAllocationBenchmark.benchmarkByteBuddy());
+        assertEquals(Type.getInternalName(ExampleClass.class), classReader.getSuperName());
+        assertNotEquals(classReader.getClassName(), new ClassReader(typeWriterAllocationBenchmark.benchmarkByteBuddy()).getClassName());
+    }
+
+    @Test
+    public void testClassWriter() throws Exception {
+        ClassReader classReader = new ClassReader(typeWriterAllocationBenchmark.benchmarkClassWriter());
+        assertEquals(Type.getInternalName(ExampleClass.class), classReader.getSuperName());
+        assertEquals(classReader.getClassName(), new ClassReader(typeWriterAllocationBenchmark.benchmarkClassWriter()).getClassName());
+    }
+}
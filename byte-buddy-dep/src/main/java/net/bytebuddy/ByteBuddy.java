@@ -1,7 +1,9 @@
 package net.bytebuddy;
 
 import net.bytebuddy.asm.ClassVisitorWrapper;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.AuxiliaryTypeRegistry;
 import net.bytebuddy.dynamic.scaffold.BridgeMethodResolver;
 import net.bytebuddy.dynamic.scaffold.FieldRegistry;
 import net.bytebuddy.dynamic.scaffold.MethodRegistry;
@@ -17,11 +19,12 @@ import net.bytebuddy.instrumentation.method.matcher.MethodMatcher;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.instrumentation.type.TypeList;
 import net.bytebuddy.modifier.TypeManifestation;
+import net.bytebuddy.utility.PersistentList;
 
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
 import static net.bytebuddy.utility.ByteBuddyCommons.*;
@@ -105,6 +108,11 @@ public class ByteBuddy {
      */
     protected final MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory;
 
+    /**
+     * The registry for sharing auxiliary types among the types that are created by this configuration.
+     */
+    protected final AuxiliaryTypeRegistry auxiliaryTypeRegistry;
+
     /**
      * Defines a new {@code ByteBuddy} default configuration for the current Java virtual machine's
      * class file version.
@@ -130,7 +138,8 @@ public class ByteBuddy {
                 new Definable.Undefined<TypeAttributeAppender>(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
                 FieldAttributeAppender.NoOp.INSTANCE,
-                MethodAttributeAppender.NoOp.INSTANCE);
+                MethodAttributeAppender.NoOp.INSTANCE,
+                AuxiliaryTypeRegistry.NoOp.INSTANCE);
     }
 
     /**
@@ -153,6 +162,7 @@ public class ByteBuddy {
      *                                              definition.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
      *                                              method definition or instrumentation.
+     * @param auxiliaryTypeRegistry                 The registry for sharing auxiliary types among the created types.
      */
     protected ByteBuddy(ClassFileVersion classFileVersion,
                         NamingStrategy namingStrategy,
@@ -165,7 +175,8 @@ public class ByteBuddy {
                         Definable<TypeAttributeAppender> typeAttributeAppender,
                         MethodLookupEngine.Factory methodLookupEngineFactory,
                         FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
-                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory) {
+                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                        AuxiliaryTypeRegistry auxiliaryTypeRegistry) {
         this.classFileVersion = classFileVersion;
         this.namingStrategy = namingStrategy;
         this.interfaceTypes = interfaceTypes;
@@ -178,6 +189,7 @@ public class ByteBuddy {
         this.methodLookupEngineFactory = methodLookupEngineFactory;
         this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
         this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
+        this.auxiliaryTypeRegistry = auxiliaryTypeRegistry;
     }
 
     /**
@@ -292,6 +304,15 @@ public class ByteBuddy {
         return defaultMethodAttributeAppenderFactory;
     }
 
+    /**
+     * Returns the auxiliary type registry for the current configuration.
+     *
+     * @return The auxiliary type registry for the current configuration.
+     */
+    public AuxiliaryTypeRegistry getAuxiliaryTypeRegistry() {
+        return auxiliaryTypeRegistry;
+    }
+
     /**
      * Creates a dynamic type builder that creates a subclass of a given loaded type where the subclass
      * is created by the {@link net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy.Default#IMITATE_SUPER_TYPE}
@@ -343,7 +364,7 @@ public class ByteBuddy {
         List<TypeDescription> interfaceTypes = this.interfaceTypes;
         if (nonNull(superType).isInterface()) {
             actualSuperType = new TypeDescription.ForLoadedType(Object.class);
-            interfaceTypes = join(superType, interfaceTypes);
+            interfaceTypes = PersistentList.of(interfaceTypes).prepend(superType);
         }
         return new SubclassDynamicTypeBuilder<T>(classFileVersion,
                 namingStrategy,
@@ -359,9 +380,117 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 nonNull(constructorStrategy));
     }
 
+    /**
+     * Creates the dynamic types of all given builders concurrently, using a thread pool of daemon threads that is
+     * shared by all Byte Buddy instances and that runs at most a thread for each available processor. Idle threads
+     * of this pool are terminated after a short time. Types are created sequentially on the calling thread if only a
+     * single processor is available or if this method is called while creating a type on the shared pool. See
+     * {@link net.bytebuddy.ByteBuddy#makeAll(java.util.Collection, java.util.concurrent.ExecutorService)}
+     * for the requirements of creating types concurrently.
+     *
+     * @param builders The builders of the dynamic types to create.
+     * @return A list of the created dynamic types in the iteration order of the given builders.
+     */
+    public List<DynamicType.Unloaded<?>> makeAll(Collection<? extends DynamicType.Builder<?>> builders) {
+        if (builders.size() < 2 || SharedExecutor.PARALLELISM < 2 || Thread.currentThread() instanceof SharedExecutor.Worker) {
+            List<DynamicType.Unloaded<?>> dynamicTypes = new ArrayList<DynamicType.Unloaded<?>>(builders.size());
+            for (DynamicType.Builder<?> builder : builders) {
+                dynamicTypes.add(builder.make());
+            }
+            return dynamicTypes;
+        }
+        return makeAll(builders, SharedExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates the dynamic types of all given builders concurrently by submitting the creation of each type to the
+     * given executor service. On Java 7 or later, a {@code java.util.concurrent.ForkJoinPool} can be supplied. The
+     * creation of a type includes the method lookup, the compilation of the method and field registries and the
+     * writing of the class file.
+     * <p>&nbsp;</p>
+     * Concurrent creation is safe as Byte Buddy's builders, {@link net.bytebuddy.dynamic.scaffold.MethodRegistry}s,
+     * {@link net.bytebuddy.dynamic.scaffold.FieldRegistry}s, {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Factory}s
+     * and the {@link net.bytebuddy.instrumentation.Instrumentation}s that are shipped with Byte Buddy are immutable
+     * or otherwise thread-safe and as any mutable state of a type creation is confined to the thread creating the type.
+     * Custom instrumentations, naming strategies, class visitor wrappers or attribute appenders must equally be
+     * thread-safe when they are shared among several builders. Similarly, any object that is a delegation target of
+     * an instrumentation must allow for concurrent access if it is used by several of the created types. If the
+     * creation of any type fails, the remaining creations are cancelled and the failure is rethrown.
+     *
+     * @param builders        The builders of the dynamic types to create.
+     * @param executorService The executor service that runs the type creations.
+     * @return A list of the created dynamic types in the iteration order of the given builders.
+     */
+    public List<DynamicType.Unloaded<?>> makeAll(Collection<? extends DynamicType.Builder<?>> builders,
+                                                 ExecutorService executorService) {
+        List<Future<DynamicType.Unloaded<?>>> futures = new ArrayList<Future<DynamicType.Unloaded<?>>>(builders.size());
+        for (DynamicType.Builder<?> builder : builders) {
+            futures.add(executorService.submit(new TypeCreation(builder)));
+        }
+        List<DynamicType.Unloaded<?>> dynamicTypes = new ArrayList<DynamicType.Unloaded<?>>(futures.size());
+        try {
+            for (Future<DynamicType.Unloaded<?>> future : futures) {
+                dynamicTypes.add(future.get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            throw new IllegalStateException("Interrupted while creating dynamic types", exception);
+        } catch (ExecutionException exception) {
+            cancel(futures);
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            } else if (exception.getCause() instanceof Error) {
+                throw (Error) exception.getCause();
+            } else {
+                throw new IllegalStateException("Cannot create dynamic type", exception.getCause());
+            }
+        }
+        return dynamicTypes;
+    }
+
+    /**
+     * Cancels all given type creations.
+     *
+     * @param futures The futures of the type creations to cancel.
+     */
+    private static void cancel(List<Future<DynamicType.Unloaded<?>>> futures) {
+        for (Future<DynamicType.Unloaded<?>> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Loads all given dynamic types including their auxiliary types by a single application of the given class
+     * loading strategy. This way, all types are for example defined by a single
+     * {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader} when applying the
+     * {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default#WRAPPER} strategy.
+     *
+     * @param dynamicTypes         The dynamic types to load.
+     * @param classLoader          The class loader to use for this class loading.
+     * @param classLoadingStrategy The class loader strategy which should be used for this class loading.
+     * @return A list of the loaded dynamic types in the order of the given dynamic types.
+     */
+    public List<DynamicType.Loaded<?>> loadAll(List<? extends DynamicType.Unloaded<?>> dynamicTypes,
+                                               ClassLoader classLoader,
+                                               ClassLoadingStrategy classLoadingStrategy) {
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        for (DynamicType.Unloaded<?> dynamicType : dynamicTypes) {
+            types.putAll(dynamicType.getRawAuxiliaryTypes());
+            types.put(dynamicType.getDescription(), dynamicType.getBytes());
+        }
+        ClassLoadingStrategy loadedTypes = new ClassLoadingStrategy.ForLoadedTypes(classLoadingStrategy.load(classLoader, types));
+        List<DynamicType.Loaded<?>> loaded = new ArrayList<DynamicType.Loaded<?>>(dynamicTypes.size());
+        for (DynamicType.Unloaded<?> dynamicType : dynamicTypes) {
+            loaded.add(dynamicType.load(classLoader, loadedTypes));
+        }
+        return loaded;
+    }
+
     /**
      * Defines a new class file version for this configuration.
      *
@@ -380,7 +509,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -401,7 +531,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -423,7 +554,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -445,7 +577,8 @@ public class ByteBuddy {
                 new Definable.Defined<TypeAttributeAppender>(nonNull(typeAttributeAppender)),
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -468,7 +601,8 @@ public class ByteBuddy {
                 new Definable.Defined<TypeAttributeAppender>(new TypeAttributeAppender.ForAnnotation(nonNull(annotation))),
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -497,7 +631,7 @@ public class ByteBuddy {
     public OptionalMethodInterception withImplementing(TypeDescription... type) {
         return new OptionalMethodInterception(classFileVersion,
                 namingStrategy,
-                join(interfaceTypes, isInterface(Arrays.asList(type))),
+                PersistentList.of(interfaceTypes).appendAll(isInterface(Arrays.asList(type))),
                 ignoredMethods,
                 bridgeMethodResolverFactory,
                 classVisitorWrapperChain,
@@ -507,6 +641,7 @@ public class ByteBuddy {
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 isDeclaredByAny(type));
     }
 
@@ -533,7 +668,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -559,7 +695,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -582,7 +719,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -607,7 +745,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 nonNull(methodLookupEngineFactory),
                 defaultFieldAttributeAppenderFactory,
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -631,7 +770,8 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 nonNull(attributeAppenderFactory),
-                defaultMethodAttributeAppenderFactory);
+                defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -655,7 +795,33 @@ public class ByteBuddy {
                 typeAttributeAppender,
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
-                nonNull(attributeAppenderFactory));
+                nonNull(attributeAppenderFactory),
+                auxiliaryTypeRegistry);
+    }
+
+    /**
+     * Defines a registry for sharing structurally identical auxiliary types among the dynamic types that are created
+     * by this configuration. By default, auxiliary types are never shared among dynamic types. Note that
+     * an {@link net.bytebuddy.dynamic.scaffold.AuxiliaryTypeRegistry.ForClassLoader} requires any dynamic type to be
+     * loaded by the registry's class loader.
+     *
+     * @param auxiliaryTypeRegistry The registry for sharing auxiliary types.
+     * @return A new configuration that represents this configuration with the given auxiliary type registry.
+     */
+    public ByteBuddy withAuxiliaryTypeRegistry(AuxiliaryTypeRegistry auxiliaryTypeRegistry) {
+        return new ByteBuddy(classFileVersion,
+                namingStrategy,
+                interfaceTypes,
+                ignoredMethods,
+                bridgeMethodResolverFactory,
+                classVisitorWrapperChain,
+                methodRegistry,
+                modifiers,
+                typeAttributeAppender,
+                methodLookupEngineFactory,
+                defaultFieldAttributeAppenderFactory,
+                defaultMethodAttributeAppenderFactory,
+                nonNull(auxiliaryTypeRegistry));
     }
 
     /**
@@ -698,6 +864,7 @@ public class ByteBuddy {
                 && classVisitorWrapperChain.equals(byteBuddy.classVisitorWrapperChain)
                 && defaultFieldAttributeAppenderFactory.equals(byteBuddy.defaultFieldAttributeAppenderFactory)
                 && defaultMethodAttributeAppenderFactory.equals(byteBuddy.defaultMethodAttributeAppenderFactory)
+                && auxiliaryTypeRegistry.equals(byteBuddy.auxiliaryTypeRegistry)
                 && ignoredMethods.equals(byteBuddy.ignoredMethods)
                 && interfaceTypes.equals(byteBuddy.interfaceTypes)
                 && methodLookupEngineFactory.equals(byteBuddy.methodLookupEngineFactory)
@@ -721,6 +888,7 @@ public class ByteBuddy {
         result = 31 * result + typeAttributeAppender.hashCode();
         result = 31 * result + defaultFieldAttributeAppenderFactory.hashCode();
         result = 31 * result + defaultMethodAttributeAppenderFactory.hashCode();
+        result = 31 * result + auxiliaryTypeRegistry.hashCode();
         return result;
     }
 
@@ -739,6 +907,7 @@ public class ByteBuddy {
                 ", typeAttributeAppender=" + typeAttributeAppender +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
+                ", auxiliaryTypeRegistry=" + auxiliaryTypeRegistry +
                 '}';
     }
 
@@ -913,6 +1082,7 @@ public class ByteBuddy {
          *                                              definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
          *                                              method definition or instrumentation.
+         * @param auxiliaryTypeRegistry                 The registry for sharing auxiliary types among the created types.
          * @param methodMatcher                         The method matcher representing the current method selection.
          * @param instrumentation                       The instrumentation that was defined for the current method
          *                                              selection.
@@ -931,6 +1101,7 @@ public class ByteBuddy {
                                          MethodLookupEngine.Factory methodLookupEngineFactory,
                                          FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                         AuxiliaryTypeRegistry auxiliaryTypeRegistry,
                                          MethodMatcher methodMatcher,
                                          Instrumentation instrumentation,
                                          MethodAttributeAppender.Factory attributeAppenderFactory) {
@@ -945,7 +1116,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory);
+                    defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry);
             this.methodMatcher = methodMatcher;
             this.instrumentation = instrumentation;
             this.attributeAppenderFactory = attributeAppenderFactory;
@@ -972,6 +1144,7 @@ public class ByteBuddy {
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry,
                     methodMatcher,
                     instrumentation,
                     new MethodAttributeAppender.Factory.Compound(this.attributeAppenderFactory, nonNull(attributeAppenderFactory)));
@@ -1067,6 +1240,11 @@ public class ByteBuddy {
             return materialize().getDefaultMethodAttributeAppenderFactory();
         }
 
+        @Override
+        public AuxiliaryTypeRegistry getAuxiliaryTypeRegistry() {
+            return materialize().getAuxiliaryTypeRegistry();
+        }
+
         @Override
         public <T> DynamicType.Builder<T> subclass(Class<T> superType) {
             return materialize().subclass(superType);
@@ -1147,6 +1325,11 @@ public class ByteBuddy {
             return materialize().withDefaultMethodAttributeAppender(attributeAppenderFactory);
         }
 
+        @Override
+        public ByteBuddy withAuxiliaryTypeRegistry(AuxiliaryTypeRegistry auxiliaryTypeRegistry) {
+            return materialize().withAuxiliaryTypeRegistry(auxiliaryTypeRegistry);
+        }
+
         @Override
         public MatchedMethodInterception invokable(MethodMatcher methodMatcher) {
             return materialize().invokable(methodMatcher);
@@ -1171,8 +1354,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory
-            );
+                    defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry);
         }
 
         @Override
@@ -1236,6 +1419,7 @@ public class ByteBuddy {
          *                                              definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
          *                                              method definition or instrumentation.
+         * @param auxiliaryTypeRegistry                 The registry for sharing auxiliary types among the created types.
          * @param methodMatcher                         The method matcher representing the current method selection.
          */
         protected OptionalMethodInterception(ClassFileVersion classFileVersion,
@@ -1250,6 +1434,7 @@ public class ByteBuddy {
                                              MethodLookupEngine.Factory methodLookupEngineFactory,
                                              FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                              MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                             AuxiliaryTypeRegistry auxiliaryTypeRegistry,
                                              MethodMatcher methodMatcher) {
             super(classFileVersion,
                     namingStrategy,
@@ -1262,7 +1447,8 @@ public class ByteBuddy {
                     typeAttributeAppender,
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
-                    defaultMethodAttributeAppenderFactory);
+                    defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry);
             this.methodMatcher = methodMatcher;
         }
 
@@ -1339,6 +1525,7 @@ public class ByteBuddy {
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry,
                     methodMatcher,
                     nonNull(instrumentation),
                     MethodAttributeAppender.NoOp.INSTANCE);
@@ -1379,4 +1566,130 @@ public class ByteBuddy {
                     '}';
         }
     }
+
+    /**
+     * A holder of the executor service that is shared by all Byte Buddy instances for creating types concurrently.
+     * The executor service is only created when this class is initialized on the first concurrent type creation.
+     */
+    protected static final class SharedExecutor {
+
+        /**
+         * The maximal number of threads of the shared executor service.
+         */
+        protected static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The time in seconds after which an idle thread of the shared executor service is terminated.
+         */
+        private static final long KEEP_ALIVE_SECONDS = 10L;
+
+        /**
+         * The shared executor service.
+         */
+        protected static final ExecutorService INSTANCE;
+
+        /*
+         * Creates the shared executor service where all core threads are allowed to time out.
+         */
+        static {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(PARALLELISM,
+                    PARALLELISM,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    Worker.Factory.INSTANCE);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            INSTANCE = threadPoolExecutor;
+        }
+
+        /**
+         * This class is not intended for instantiation.
+         */
+        private SharedExecutor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * A daemon thread of the shared executor service.
+         */
+        protected static class Worker extends Thread {
+
+            /**
+             * The prefix of the name of any worker thread.
+             */
+            private static final String NAME_PREFIX = "byte-buddy-type-creation-";
+
+            /**
+             * A counter for naming worker threads.
+             */
+            private static final AtomicInteger COUNTER = new AtomicInteger();
+
+            /**
+             * Creates a new worker thread.
+             *
+             * @param runnable The runnable to execute.
+             */
+            protected Worker(Runnable runnable) {
+                super(runnable, NAME_PREFIX + COUNTER.incrementAndGet());
+                setDaemon(true);
+            }
+
+            /**
+             * A thread factory for worker threads.
+             */
+            protected static enum Factory implements ThreadFactory {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    return new Worker(runnable);
+                }
+            }
+        }
+    }
+
+    /**
+     * A creation of a dynamic type by a builder that can be submitted to an executor service.
+     */
+    protected static class TypeCreation implements Callable<DynamicType.Unloaded<?>> {
+
+        /**
+         * The builder of the dynamic type.
+         */
+        private final DynamicType.Builder<?> builder;
+
+        /**
+         * Creates a new type creation.
+         *
+         * @param builder The builder of the dynamic type.
+         */
+        protected TypeCreation(DynamicType.Builder<?> builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public DynamicType.Unloaded<?> call() {
+            return builder.make();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && builder.equals(((TypeCreation) other).builder);
+        }
+
+        @Override
+        public int hashCode() {
+            return builder.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ByteBuddy.TypeCreation{builder=" + builder + '}';
+        }
+    }
 }
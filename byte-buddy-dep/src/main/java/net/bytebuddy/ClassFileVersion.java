@@ -98,6 +98,7 @@ public class ClassFileVersion implements Comparable<ClassFileVersion> {
      */
     public static ClassFileVersion forCurrentJavaVersion() {
         String versionString = System.getProperty(JAVA_VERSION_PROPERTY);
+        if (!versionString.startsWith("1.")) return JAVA_V8; // LOCALHACK
         int[] versionIndex = {-1, 0, 0};
         for (int i = 1; i < 3; i++) {
             versionIndex[i] = versionString.indexOf('.', versionIndex[i - 1] + 1);
@@ -5,8 +5,12 @@ import net.bytebuddy.modifier.SyntheticState;
 import net.bytebuddy.modifier.TypeManifestation;
 import net.bytebuddy.modifier.Visibility;
 
+import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A naming strategy for finding a fully qualified name for a Java type.
@@ -175,6 +179,226 @@ public interface NamingStrategy {
         }
     }
 
+    /**
+     * A naming strategy that creates a name by concatenating:
+     * <ol>
+     * <li>The super classes package and name</li>
+     * <li>A given suffix string</li>
+     * <li>A sequential number that is counted separately for every super class</li>
+     * </ol>
+     * Other than {@link net.bytebuddy.NamingStrategy.SuffixingRandom}, this naming strategy creates the same names
+     * for the same sequence of types on every run and does not require any synchronization between threads that
+     * are naming types concurrently. Types that subclass classes from the {@code java.**} packages or signed types
+     * are prefixed with a given package. Optionally, names that are already taken by a type that is visible to a
+     * given class loader are skipped.
+     */
+    static class SuffixingSequential implements NamingStrategy {
+
+        /**
+         * The package prefix of the {@code java.**} packages for which the definition of non-bootstrap types is
+         * illegal.
+         */
+        private static final String JAVA_PACKAGE = "java.";
+
+        /**
+         * The default package for defining types that are renamed to not be contained in the
+         * {@link net.bytebuddy.NamingStrategy.SuffixingSequential#JAVA_PACKAGE} package.
+         */
+        private static final String BYTE_BUDDY_RENAME_PACKAGE = "net.bytebuddy.renamed";
+
+        /**
+         * The suffix to attach to a super type name.
+         */
+        private final String suffix;
+
+        /**
+         * The renaming location for types of the {@link net.bytebuddy.NamingStrategy.SuffixingSequential#JAVA_PACKAGE}.
+         */
+        private final String javaLangPackagePrefix;
+
+        /**
+         * The sequence that numbers the names for each super class.
+         */
+        private final Sequence sequence;
+
+        /**
+         * Creates a naming strategy with a given suffix but moves types that subclass types within the
+         * {@code java.lang} package into ByteBuddy's package namespace.
+         *
+         * @param suffix The suffix for the generated class.
+         */
+        public SuffixingSequential(String suffix) {
+            this(suffix, BYTE_BUDDY_RENAME_PACKAGE);
+        }
+
+        /**
+         * Creates a naming strategy with a given suffix but moves types that subclass types within the
+         * {@code java.lang} package into a given namespace.
+         *
+         * @param suffix                The suffix for the generated class.
+         * @param javaLangPackagePrefix The fallback namespace for type's that subclass types within the
+         *                              {@code java.lang} namespace.
+         */
+        public SuffixingSequential(String suffix, String javaLangPackagePrefix) {
+            this(suffix, javaLangPackagePrefix, new Sequence());
+        }
+
+        /**
+         * Creates a naming strategy with a given suffix that skips any names of types that are visible to the
+         * given class loader.
+         *
+         * @param suffix                The suffix for the generated class.
+         * @param javaLangPackagePrefix The fallback namespace for type's that subclass types within the
+         *                              {@code java.lang} namespace.
+         * @param classLoader           The class loader into which the named types are loaded.
+         */
+        public SuffixingSequential(String suffix, String javaLangPackagePrefix, ClassLoader classLoader) {
+            this(suffix, javaLangPackagePrefix, new Sequence(classLoader));
+        }
+
+        /**
+         * Creates a naming strategy with a given suffix that numbers names by the given sequence.
+         *
+         * @param suffix                The suffix for the generated class.
+         * @param javaLangPackagePrefix The fallback namespace for type's that subclass types within the
+         *                              {@code java.lang} namespace.
+         * @param sequence              The sequence that numbers the names for each super class.
+         */
+        public SuffixingSequential(String suffix, String javaLangPackagePrefix, Sequence sequence) {
+            this.suffix = suffix;
+            this.javaLangPackagePrefix = javaLangPackagePrefix;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String name(UnnamedType unnamedType) {
+            String superClassName = unnamedType.getSuperClass().getName();
+            if (superClassName.startsWith(JAVA_PACKAGE) || unnamedType.getSuperClass().isSealed()) {
+                superClassName = javaLangPackagePrefix + "." + superClassName;
+            }
+            return sequence.next(superClassName + "$" + suffix);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            SuffixingSequential that = (SuffixingSequential) other;
+            return javaLangPackagePrefix.equals(that.javaLangPackagePrefix)
+                    && suffix.equals(that.suffix);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = suffix.hashCode();
+            result = 31 * result + javaLangPackagePrefix.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "NamingStrategy.SuffixingSequential{" +
+                    "suffix='" + suffix + '\'' +
+                    ", javaLangPackagePrefix='" + javaLangPackagePrefix + '\'' +
+                    ", sequence=" + sequence +
+                    '}';
+        }
+    }
+
+    /**
+     * A sequence of unique names that appends a number to a base name where a separate counter is maintained for
+     * every base name. Counters are incremented atomically such that threads only compete for a counter when
+     * creating names for the same base name. If a class loader is provided, any name of a type that is visible to
+     * this class loader is skipped. The class loader is only referenced weakly. A sequence is thread-safe.
+     */
+    static class Sequence {
+
+        /**
+         * The separator between a base name and its number.
+         */
+        private static final char SEPARATOR = '$';
+
+        /**
+         * A mapping of base names to the counter of the next number to append.
+         */
+        private final ConcurrentMap<String, AtomicLong> counters;
+
+        /**
+         * A weak reference to the class loader that is queried for existing types or {@code null} if names
+         * are not validated.
+         */
+        private final WeakReference<ClassLoader> classLoader;
+
+        /**
+         * Creates a new sequence that does not validate the created names.
+         */
+        public Sequence() {
+            counters = new ConcurrentHashMap<String, AtomicLong>();
+            classLoader = null;
+        }
+
+        /**
+         * Creates a new sequence that skips any names of types that are visible to the given class loader.
+         *
+         * @param classLoader The class loader that is queried for existing types.
+         */
+        public Sequence(ClassLoader classLoader) {
+            counters = new ConcurrentHashMap<String, AtomicLong>();
+            this.classLoader = new WeakReference<ClassLoader>(classLoader);
+        }
+
+        /**
+         * Returns the next unique name for a given base name.
+         *
+         * @param baseName The base name to which a number is appended.
+         * @return A name that was not yet returned by this sequence.
+         */
+        public String next(String baseName) {
+            AtomicLong counter = counters.get(baseName);
+            if (counter == null) {
+                counter = new AtomicLong();
+                AtomicLong previous = counters.putIfAbsent(baseName, counter);
+                if (previous != null) {
+                    counter = previous;
+                }
+            }
+            String name;
+            do {
+                name = baseName + SEPARATOR + counter.getAndIncrement();
+            } while (isTaken(name));
+            return name;
+        }
+
+        /**
+         * Checks if a type of the given name is visible to this sequence's class loader.
+         *
+         * @param name The name to validate.
+         * @return {@code true} if a type of the given name can already be loaded.
+         */
+        private boolean isTaken(String name) {
+            ClassLoader classLoader = this.classLoader == null
+                    ? null
+                    : this.classLoader.get();
+            if (classLoader == null) {
+                return false;
+            }
+            try {
+                Class.forName(name, false, classLoader);
+                return true;
+            } catch (ClassNotFoundException ignored) {
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "NamingStrategy.Sequence{" +
+                    "counters=" + counters +
+                    ", classLoader=" + (classLoader == null ? null : classLoader.get()) +
+                    '}';
+        }
+    }
+
     /**
      * A naming strategy that creates a name by prefixing a given class and its package with another package and
      * by appending a random number to the class's simple name.
@@ -0,0 +1,501 @@
+package net.bytebuddy;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A cache for storing types that were created by Byte Buddy such that identical types are only generated and
+ * loaded once per {@link java.lang.ClassLoader}. Types are looked up by a user-supplied key that must implement
+ * value semantics, for example a {@link net.bytebuddy.dynamic.DynamicType.Builder} which implements
+ * {@link java.lang.Object#equals(Object)} and {@link java.lang.Object#hashCode()} over its complete configuration.
+ * Class loaders are only referenced weakly such that the cache does not prevent their garbage collection while
+ * types are referenced by a reference of the configured {@link net.bytebuddy.TypeCache.Sort}.
+ * <p>&nbsp;</p>
+ * Using {@link net.bytebuddy.TypeCache#findOrInsert(ClassLoader, Object, java.util.concurrent.Callable)}, the
+ * creation of a type is only executed once even if several threads request the same type concurrently. Any thread
+ * that requests a type that is currently created by another thread blocks until this creation is complete.
+ * <p>&nbsp;</p>
+ * <b>Important</b>: A cache key must not strongly reference the class loader for which it is stored. Otherwise,
+ * the cache prevents the class loader from being collected what results in a memory leak. When caching types for
+ * short-lived class loaders, a {@link net.bytebuddy.TypeCache.SimpleKey} that only references type names should be
+ * used instead of a builder. Similarly, the callable that creates a type must not reenter the cache for the same
+ * key as this would cause a dead lock.
+ *
+ * @param <T> The type of the keys that are used for looking up types.
+ */
+public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
+
+    /**
+     * Indicates that a type was not found in the cache.
+     */
+    private static final Class<?> NOT_FOUND = null;
+
+    /**
+     * The reference type that is used for referencing cached types.
+     */
+    protected final Sort sort;
+
+    /**
+     * The types that are stored for the bootstrap class loader which is represented by {@code null}.
+     */
+    protected final ConcurrentMap<T, Slot> bootstrapStorage;
+
+    /**
+     * The types that are stored for any non-bootstrap class loader, mapped by a weak reference to the class loader.
+     */
+    protected final ConcurrentMap<StorageKey, ConcurrentMap<T, Slot>> storage;
+
+    /**
+     * Creates a new type cache.
+     *
+     * @param sort The reference type that is used for referencing cached types.
+     */
+    public TypeCache(Sort sort) {
+        this.sort = sort;
+        bootstrapStorage = new ConcurrentHashMap<T, Slot>();
+        storage = new ConcurrentHashMap<StorageKey, ConcurrentMap<T, Slot>>();
+    }
+
+    /**
+     * Finds a type in the cache.
+     *
+     * @param classLoader The class loader for which the type was stored or {@code null} for the bootstrap
+     *                    class loader.
+     * @param key         The key of the stored type.
+     * @return The stored type or {@code null} if no such type is stored or if the type was already collected.
+     */
+    public Class<?> find(ClassLoader classLoader, T key) {
+        ConcurrentMap<T, Slot> types = classLoader == null
+                ? bootstrapStorage
+                : storage.get(new LookupKey(classLoader));
+        if (types == null) {
+            return NOT_FOUND;
+        }
+        Slot slot = types.get(key);
+        return slot == null || slot.isPending()
+                ? NOT_FOUND
+                : slot.resolve();
+    }
+
+    /**
+     * Inserts a type into the cache. If another type is already stored for the given key, the previously
+     * stored type is returned and the given type is discarded.
+     *
+     * @param classLoader The class loader for which the type is stored or {@code null} for the bootstrap
+     *                    class loader.
+     * @param key         The key of the stored type.
+     * @param type        The type to store.
+     * @return The type that is stored in the cache for the given key after this operation.
+     */
+    public Class<?> insert(ClassLoader classLoader, T key, Class<?> type) {
+        ConcurrentMap<T, Slot> types = storageOf(classLoader);
+        Slot slot = new Slot.Resolved(sort.wrap(type));
+        while (true) {
+            Slot previous = types.putIfAbsent(key, slot);
+            if (previous == null) {
+                return type;
+            }
+            Class<?> previousType = previous.resolve();
+            if (previousType != NOT_FOUND) {
+                return previousType;
+            }
+            types.remove(key, previous);
+        }
+    }
+
+    /**
+     * Finds a type in the cache or creates it by the given callable if no such type is stored. If several threads
+     * request the same type concurrently, the type is only created once while any other thread blocks until the
+     * type is available.
+     *
+     * @param classLoader The class loader for which the type is stored or {@code null} for the bootstrap
+     *                    class loader.
+     * @param key         The key of the stored type.
+     * @param lazy        A callable that creates the type if it is not yet stored. The callable must neither
+     *                    return {@code null} nor reenter this cache for the same key.
+     * @return The stored or created type.
+     */
+    public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
+        ConcurrentMap<T, Slot> types = storageOf(classLoader);
+        while (true) {
+            Slot slot = types.get(key);
+            if (slot == null) {
+                Slot.Pending pending = new Slot.Pending(lazy);
+                slot = types.putIfAbsent(key, pending);
+                if (slot == null) {
+                    Class<?> type = pending.execute(types, key);
+                    types.replace(key, pending, new Slot.Resolved(sort.wrap(type)));
+                    return type;
+                }
+            }
+            Class<?> type = slot.resolve();
+            if (type != NOT_FOUND) {
+                return type;
+            }
+            types.remove(key, slot);
+        }
+    }
+
+    /**
+     * Removes any entries of class loaders that were already garbage collected.
+     */
+    public void expungeStaleEntries() {
+        Reference<?> reference;
+        while ((reference = poll()) != null) {
+            storage.remove(reference);
+        }
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear() {
+        bootstrapStorage.clear();
+        storage.clear();
+    }
+
+    /**
+     * Returns the storage of types for the given class loader and creates such a storage if it does not yet exist.
+     *
+     * @param classLoader The class loader for which to locate the storage or {@code null} for the bootstrap
+     *                    class loader.
+     * @return The storage of types for the given class loader.
+     */
+    private ConcurrentMap<T, Slot> storageOf(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return bootstrapStorage;
+        }
+        ConcurrentMap<T, Slot> types = storage.get(new LookupKey(classLoader));
+        if (types == null) {
+            expungeStaleEntries();
+            types = new ConcurrentHashMap<T, Slot>();
+            ConcurrentMap<T, Slot> previous = storage.putIfAbsent(new StorageKey(classLoader, this), types);
+            if (previous != null) {
+                types = previous;
+            }
+        }
+        return types;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCache{" +
+                "sort=" + sort +
+                ", bootstrapStorage=" + bootstrapStorage +
+                ", storage=" + storage +
+                '}';
+    }
+
+    /**
+     * Determines how a type cache references the types it stores.
+     */
+    public static enum Sort {
+
+        /**
+         * Creates a cache where types are referenced weakly such that they are only retained as long as they
+         * are referenced elsewhere.
+         */
+        WEAK {
+            @Override
+            protected Reference<Class<?>> wrap(Class<?> type) {
+                return new WeakReference<Class<?>>(type);
+            }
+        },
+
+        /**
+         * Creates a cache where types are referenced softly such that they are retained until the JVM runs
+         * low on memory.
+         */
+        SOFT {
+            @Override
+            protected Reference<Class<?>> wrap(Class<?> type) {
+                return new SoftReference<Class<?>>(type);
+            }
+        };
+
+        /**
+         * Wraps a type in a reference of this sort.
+         *
+         * @param type The type to wrap.
+         * @return A reference to the given type.
+         */
+        protected abstract Reference<Class<?>> wrap(Class<?> type);
+    }
+
+    /**
+     * A simple key that represents a type by the names of a base type and a collection of additional types.
+     * As this key only references type names, it does not strongly reference any class loader.
+     */
+    public static class SimpleKey {
+
+        /**
+         * The names of the types that are represented by this key.
+         */
+        private final Set<String> types;
+
+        /**
+         * Creates a new simple key.
+         *
+         * @param type            The base type of this key.
+         * @param additionalTypes Any additional types, for example implemented interfaces.
+         */
+        public SimpleKey(Class<?> type, Class<?>... additionalTypes) {
+            this(type, Arrays.asList(additionalTypes));
+        }
+
+        /**
+         * Creates a new simple key.
+         *
+         * @param type            The base type of this key.
+         * @param additionalTypes Any additional types, for example implemented interfaces.
+         */
+        public SimpleKey(Class<?> type, Collection<? extends Class<?>> additionalTypes) {
+            types = new HashSet<String>(additionalTypes.size() + 1);
+            types.add(type.getName());
+            for (Class<?> additionalType : additionalTypes) {
+                types.add(additionalType.getName());
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && types.equals(((SimpleKey) other).types);
+        }
+
+        @Override
+        public int hashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.SimpleKey{types=" + types + '}';
+        }
+    }
+
+    /**
+     * A slot within a type cache that either holds a resolved type or represents a type that is currently created.
+     */
+    protected abstract static class Slot {
+
+        /**
+         * Checks if the type of this slot is currently created.
+         *
+         * @return {@code true} if the type of this slot is currently created.
+         */
+        protected abstract boolean isPending();
+
+        /**
+         * Resolves the type of this slot, possibly by blocking until the type is created.
+         *
+         * @return The type of this slot or {@code null} if the type was already collected.
+         */
+        protected abstract Class<?> resolve();
+
+        /**
+         * A slot that holds a reference to a resolved type.
+         */
+        protected static class Resolved extends Slot {
+
+            /**
+             * The reference to the resolved type.
+             */
+            private final Reference<Class<?>> reference;
+
+            /**
+             * Creates a new resolved slot.
+             *
+             * @param reference The reference to the resolved type.
+             */
+            protected Resolved(Reference<Class<?>> reference) {
+                this.reference = reference;
+            }
+
+            @Override
+            protected boolean isPending() {
+                return false;
+            }
+
+            @Override
+            protected Class<?> resolve() {
+                return reference.get();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeCache.Slot.Resolved{type=" + reference.get() + '}';
+            }
+        }
+
+        /**
+         * A slot for a type that is currently created by a single thread.
+         */
+        protected static class Pending extends Slot {
+
+            /**
+             * The future task that creates the type of this slot.
+             */
+            private final FutureTask<Class<?>> futureTask;
+
+            /**
+             * Creates a new pending slot.
+             *
+             * @param lazy The callable that creates the type of this slot.
+             */
+            protected Pending(Callable<Class<?>> lazy) {
+                futureTask = new FutureTask<Class<?>>(lazy);
+            }
+
+            /**
+             * Creates the type of this slot on the current thread. If the creation fails, this slot is removed
+             * from the given storage such that a later request can reattempt the creation.
+             *
+             * @param types The storage this slot was registered in.
+             * @param key   The key this slot was registered for.
+             * @param <S>   The type of the key.
+             * @return The created type.
+             */
+            protected <S> Class<?> execute(ConcurrentMap<S, Slot> types, S key) {
+                futureTask.run();
+                try {
+                    return resolve();
+                } catch (RuntimeException exception) {
+                    types.remove(key, this);
+                    throw exception;
+                }
+            }
+
+            @Override
+            protected boolean isPending() {
+                return !futureTask.isDone();
+            }
+
+            @Override
+            protected Class<?> resolve() {
+                Class<?> type;
+                try {
+                    type = futureTask.get();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for type creation", exception);
+                } catch (ExecutionException exception) {
+                    throw new IllegalStateException("Could not create type", exception.getCause());
+                }
+                if (type == null) {
+                    throw new IllegalStateException("Type creation must not yield null");
+                }
+                return type;
+            }
+
+            @Override
+            public String toString() {
+                return "TypeCache.Slot.Pending{futureTask=" + futureTask + '}';
+            }
+        }
+    }
+
+    /**
+     * A key for looking up the storage of a class loader without creating a weak reference.
+     */
+    protected static class LookupKey {
+
+        /**
+         * The represented class loader.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The identity hash code of the represented class loader.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new lookup key.
+         *
+         * @param classLoader The represented class loader.
+         */
+        protected LookupKey(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                return classLoader == ((LookupKey) other).classLoader;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && classLoader == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.LookupKey{classLoader=" + classLoader + '}';
+        }
+    }
+
+    /**
+     * A key for storing the types of a class loader that only references the class loader weakly.
+     */
+    protected static class StorageKey extends WeakReference<ClassLoader> {
+
+        /**
+         * The identity hash code of the represented class loader.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new storage key.
+         *
+         * @param classLoader    The represented class loader.
+         * @param referenceQueue The reference queue to notify upon the class loader's collection.
+         */
+        protected StorageKey(ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue) {
+            super(classLoader, referenceQueue);
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                LookupKey lookupKey = (LookupKey) other;
+                return hashCode == lookupKey.hashCode && get() == lookupKey.classLoader;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                ClassLoader classLoader = get();
+                return classLoader != null && hashCode == storageKey.hashCode && classLoader == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.StorageKey{classLoader=" + get() + '}';
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package net.bytebuddy.asm;
 
+import net.bytebuddy.utility.PersistentList;
 import org.objectweb.asm.ClassVisitor;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -59,10 +59,7 @@ public interface ClassVisitorWrapper {
          * @return A new chain incorporating the {@code ClassVisitorWrapper}.
          */
         public Chain prepend(ClassVisitorWrapper classVisitorWrapper) {
-            List<ClassVisitorWrapper> appendedList = new ArrayList<ClassVisitorWrapper>(classVisitorWrappers.size() + 1);
-            appendedList.add(classVisitorWrapper);
-            appendedList.addAll(classVisitorWrappers);
-            return new Chain(appendedList);
+            return new Chain(PersistentList.of(classVisitorWrappers).prepend(classVisitorWrapper));
         }
 
         /**
@@ -73,10 +70,7 @@ public interface ClassVisitorWrapper {
          * @return A new chain incorporating the {@code ClassVisitorWrapper}.
          */
         public Chain append(ClassVisitorWrapper classVisitorWrapper) {
-            List<ClassVisitorWrapper> appendedList = new ArrayList<ClassVisitorWrapper>(classVisitorWrappers.size() + 1);
-            appendedList.addAll(classVisitorWrappers);
-            appendedList.add(classVisitorWrapper);
-            return new Chain(appendedList);
+            return new Chain(PersistentList.of(classVisitorWrappers).append(classVisitorWrapper));
         }
 
         @Override
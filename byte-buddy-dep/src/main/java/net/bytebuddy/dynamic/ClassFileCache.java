@@ -0,0 +1,442 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.SubclassInstrumentedType;
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.objectweb.asm.ClassReader;
+
+import java.io.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * A persistent cache that stores the binary representation of dynamic types in a folder of the file system such that
+ * they do not need to be regenerated on a later run of the Java virtual machine. Any cache entry is addressed by
+ * a digest over a {@link net.bytebuddy.dynamic.ClassFileCache.Key} that consists of a user-supplied description of
+ * the builder's configuration, the class file version of the created type and the class files of any type that
+ * the dynamic type depends on, typically the super type and any implemented interfaces. Therefore, an entry is
+ * implicitly invalidated when any of these types change.
+ * <p>&nbsp;</p>
+ * The builder itself does not take part in a key: a builder cannot describe the type it creates without creating
+ * it and its components do not offer a representation that is stable across runs of the Java virtual machine. For
+ * example, the default naming strategy's string representation contains the identity of its random generator. As a
+ * consequence, an entry that was created by a previous configuration is returned without any validation if a
+ * changed configuration is not reflected by the key's description. The builder is only used on a cache miss.
+ * <p>&nbsp;</p>
+ * A cache entry only contains class files such that reading an entry never deserializes an object. Consequently, a
+ * dynamic type is only stored if none of its {@link net.bytebuddy.instrumentation.LoadedTypeInitializer}s is alive.
+ * Otherwise, the dynamic type is regenerated on any request. Note that the class files of a cache entry are defined
+ * as they are read such that the cache folder must only be writable by trusted users.
+ */
+public class ClassFileCache {
+
+    /**
+     * The file name extension of a cache entry.
+     */
+    private static final String CACHE_FILE_EXTENSION = ".types";
+
+    /**
+     * The file name extension of a cache entry that is currently written.
+     */
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    /**
+     * The file name extension for Java class files.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The digest algorithm for computing a cache entry's file name.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+
+    /**
+     * The radix for representing a digest as a file name.
+     */
+    private static final int HEX_RADIX = 16;
+
+    /**
+     * The folder in which this cache stores its entries.
+     */
+    private final File folder;
+
+    /**
+     * Creates a new class file cache.
+     *
+     * @param folder The folder in which this cache stores its entries. The folder is created if it does not exist.
+     */
+    public ClassFileCache(File folder) {
+        this.folder = folder;
+    }
+
+    /**
+     * Reads the class file of a loaded type.
+     *
+     * @param type The type for which to read the class file.
+     * @return The class file of the given type.
+     * @throws IOException If the class file cannot be read.
+     */
+    private static byte[] classFileOf(Class<?> type) throws IOException {
+        String resourceName = type.getName().replace('.', '/') + CLASS_FILE_EXTENSION;
+        InputStream inputStream = type.getClassLoader() == null
+                ? ClassLoader.getSystemResourceAsStream(resourceName)
+                : type.getClassLoader().getResourceAsStream(resourceName);
+        if (inputStream == null) {
+            throw new FileNotFoundException("Cannot locate class file for " + type);
+        }
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Returns the dynamic type that is stored for the given key or creates the dynamic type by the given builder
+     * and stores it if it is not yet cached.
+     *
+     * @param key     The key that identifies the dynamic type.
+     * @param builder The builder that creates the dynamic type on a cache miss.
+     * @param <T>     The most specific known loaded type that is implemented by the created dynamic type.
+     * @return The cached or created dynamic type.
+     * @throws IOException If the cache entry cannot be written.
+     */
+    public <T> DynamicType.Unloaded<T> make(Key key, DynamicType.Builder<T> builder) throws IOException {
+        File file = new File(folder, key.digest() + CACHE_FILE_EXTENSION);
+        DynamicType.Unloaded<T> dynamicType = read(file, key.getClassLoader());
+        if (dynamicType == null) {
+            dynamicType = builder.make();
+            write(file, dynamicType);
+        }
+        return dynamicType;
+    }
+
+    /**
+     * Removes all entries from this cache.
+     *
+     * @return {@code true} if all entries were removed.
+     */
+    public boolean clear() {
+        File[] file = folder.listFiles();
+        boolean cleared = true;
+        if (file != null) {
+            for (File aFile : file) {
+                if (aFile.getName().endsWith(CACHE_FILE_EXTENSION)) {
+                    cleared = aFile.delete() && cleared;
+                }
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Reads a dynamic type from a cache entry.
+     *
+     * @param file        The file of the cache entry.
+     * @param classLoader The class loader for resolving types that are referenced by the cached entry.
+     * @param <T>         The most specific known loaded type that is implemented by the cached dynamic type.
+     * @return The cached dynamic type or {@code null} if no valid entry exists.
+     */
+    private <T> DynamicType.Unloaded<T> read(File file, ClassLoader classLoader) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            Map<String, byte[]> binaryRepresentations = new LinkedHashMap<String, byte[]>();
+            DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                int count = inputStream.readInt();
+                for (int index = 0; index < count; index++) {
+                    int length = inputStream.readInt();
+                    if (length < 0 || length > file.length()) {
+                        return null;
+                    }
+                    byte[] binaryRepresentation = new byte[length];
+                    inputStream.readFully(binaryRepresentation);
+                    binaryRepresentations.put(new ClassReader(binaryRepresentation).getClassName(), binaryRepresentation);
+                }
+            } finally {
+                inputStream.close();
+            }
+            if (binaryRepresentations.isEmpty()) {
+                return null;
+            }
+            Map<String, TypeDescription> typeDescriptions = new HashMap<String, TypeDescription>();
+            Iterator<Map.Entry<String, byte[]>> iterator = binaryRepresentations.entrySet().iterator();
+            Map.Entry<String, byte[]> mainType = iterator.next();
+            List<DynamicType> auxiliaryTypes = new ArrayList<DynamicType>(binaryRepresentations.size() - 1);
+            while (iterator.hasNext()) {
+                Map.Entry<String, byte[]> auxiliaryType = iterator.next();
+                auxiliaryTypes.add(new DynamicType.Default(describe(auxiliaryType.getKey(), binaryRepresentations, typeDescriptions, classLoader),
+                        auxiliaryType.getValue(),
+                        LoadedTypeInitializer.NoOp.INSTANCE,
+                        Collections.<DynamicType>emptyList()));
+            }
+            return new DynamicType.Default.Unloaded<T>(describe(mainType.getKey(), binaryRepresentations, typeDescriptions, classLoader),
+                    mainType.getValue(),
+                    LoadedTypeInitializer.NoOp.INSTANCE,
+                    auxiliaryTypes);
+        } catch (IOException ignored) {
+            return null;
+        } catch (ClassNotFoundException ignored) {
+            return null;
+        } catch (RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Describes a type that is referenced by a cache entry. A type of the cache entry is described from its class file
+     * without loading the type itself while any other type is loaded by the given class loader.
+     *
+     * @param internalName          The internal name of the type to describe.
+     * @param binaryRepresentations The binary representations of all types of the cache entry by their internal names.
+     * @param typeDescriptions      The types of the cache entry that were already described by their internal names
+     *                              where a type that is currently described is mapped to {@code null}.
+     * @param classLoader           The class loader for resolving types that are not contained by the cache entry.
+     * @return A description of the given type.
+     * @throws ClassNotFoundException If a type cannot be resolved or if the types of the cache entry form a circular
+     *                                type hierarchy.
+     */
+    private static TypeDescription describe(String internalName,
+                                            Map<String, byte[]> binaryRepresentations,
+                                            Map<String, TypeDescription> typeDescriptions,
+                                            ClassLoader classLoader) throws ClassNotFoundException {
+        byte[] binaryRepresentation = binaryRepresentations.get(internalName);
+        if (binaryRepresentation == null) {
+            return new TypeDescription.ForLoadedType(Class.forName(internalName.replace('/', '.'), false, classLoader));
+        } else if (typeDescriptions.containsKey(internalName)) {
+            TypeDescription typeDescription = typeDescriptions.get(internalName);
+            if (typeDescription == null) {
+                throw new ClassNotFoundException("Circular type hierarchy of cached type " + internalName);
+            }
+            return typeDescription;
+        }
+        typeDescriptions.put(internalName, null);
+        ClassReader classReader = new ClassReader(binaryRepresentation);
+        List<TypeDescription> interfaceTypes = new ArrayList<TypeDescription>(classReader.getInterfaces().length);
+        for (String interfaceName : classReader.getInterfaces()) {
+            interfaceTypes.add(describe(interfaceName, binaryRepresentations, typeDescriptions, classLoader));
+        }
+        TypeDescription typeDescription = new SubclassInstrumentedType(new ClassFileVersion(classReader.readUnsignedShort(6) << 16 | classReader.readUnsignedShort(4)),
+                describe(classReader.getSuperName(), binaryRepresentations, typeDescriptions, classLoader),
+                interfaceTypes,
+                classReader.getAccess(),
+                new NamingStrategy.Fixed(classReader.getClassName().replace('/', '.')));
+        typeDescriptions.put(internalName, typeDescription);
+        return typeDescription;
+    }
+
+    /**
+     * Writes a dynamic type to a cache entry if none of its loaded type initializers is alive. The entry is first
+     * written to a uniquely named temporary file in the cache folder which is removed if the entry cannot be written.
+     *
+     * @param file        The file of the cache entry.
+     * @param dynamicType The dynamic type to store.
+     * @throws IOException If the cache entry cannot be written.
+     */
+    private void write(File file, DynamicType dynamicType) throws IOException {
+        if (dynamicType.hasAliveTypeInitializers()) {
+            return;
+        } else if (!folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Cannot create cache folder " + folder);
+        }
+        File temporary = File.createTempFile(file.getName(), TEMPORARY_FILE_EXTENSION, folder);
+        boolean written = false;
+        try {
+            DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+            try {
+                Collection<byte[]> auxiliaryTypes = dynamicType.getRawAuxiliaryTypes().values();
+                outputStream.writeInt(auxiliaryTypes.size() + 1);
+                write(outputStream, dynamicType.getBytes());
+                for (byte[] binaryRepresentation : auxiliaryTypes) {
+                    write(outputStream, binaryRepresentation);
+                }
+            } finally {
+                outputStream.close();
+            }
+            written = temporary.renameTo(file);
+        } finally {
+            if (!written && !temporary.delete() && temporary.exists()) {
+                temporary.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Writes a single type to a cache entry.
+     *
+     * @param outputStream         The output stream of the cache entry.
+     * @param binaryRepresentation The binary representation of the type.
+     * @throws IOException If the type cannot be written.
+     */
+    private static void write(DataOutputStream outputStream, byte[] binaryRepresentation) throws IOException {
+        outputStream.writeInt(binaryRepresentation.length);
+        outputStream.write(binaryRepresentation);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && folder.equals(((ClassFileCache) other).folder);
+    }
+
+    @Override
+    public int hashCode() {
+        return folder.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ClassFileCache{folder=" + folder + '}';
+    }
+
+    /**
+     * A key that identifies a cached dynamic type across runs of the Java virtual machine. A key is only derived from
+     * its description of the builder's configuration, the class file version and the class files of its types but
+     * not from the builder itself. Any change of a builder's configuration, for example a different interceptor,
+     * method matcher or naming strategy, must therefore be reflected by a changed description. Otherwise, a cache
+     * silently returns the dynamic type that was created by the previous configuration.
+     */
+    public static class Key {
+
+        /**
+         * A description of the configuration of the builder that creates the dynamic type.
+         */
+        private final String configuration;
+
+        /**
+         * The class file version of the dynamic type.
+         */
+        private final ClassFileVersion classFileVersion;
+
+        /**
+         * The types that the dynamic type depends on.
+         */
+        private final List<Class<?>> types;
+
+        /**
+         * Creates a new key.
+         *
+         * @param configuration    A description of the configuration of the builder that creates the dynamic type.
+         *                         This description must be stable across runs of the Java virtual machine and must
+         *                         change whenever the builder's configuration is altered.
+         * @param classFileVersion The class file version of the dynamic type.
+         * @param type             The types that the dynamic type depends on where the first type must be visible
+         *                         to any type that is referenced by the dynamic type, usually the super type.
+         */
+        public Key(String configuration, ClassFileVersion classFileVersion, Class<?>... type) {
+            if (type.length == 0) {
+                throw new IllegalArgumentException("At least one type must be specified for " + configuration);
+            }
+            this.configuration = configuration;
+            this.classFileVersion = classFileVersion;
+            this.types = Arrays.asList(type);
+        }
+
+        /**
+         * Computes a digest of this key that represents the key's configuration, class file version and
+         * the class files of all types of this key.
+         *
+         * @return A hexadecimal representation of this key's digest.
+         * @throws IOException If a class file cannot be read.
+         */
+        protected String digest() throws IOException {
+            MessageDigest messageDigest;
+            try {
+                messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Cannot compute digest using " + DIGEST_ALGORITHM, e);
+            }
+            DataOutputStream outputStream = new DataOutputStream(new DigestOutputStream(DiscardingOutputStream.INSTANCE, messageDigest));
+            outputStream.writeUTF(configuration);
+            outputStream.writeInt(classFileVersion.getVersionNumber());
+            for (Class<?> type : types) {
+                outputStream.writeUTF(type.getName());
+                byte[] classFile = classFileOf(type);
+                outputStream.writeInt(classFile.length);
+                outputStream.write(classFile);
+            }
+            outputStream.close();
+            StringBuilder stringBuilder = new StringBuilder();
+            for (byte aByte : messageDigest.digest()) {
+                stringBuilder.append(Character.forDigit((aByte >> 4) & 0xF, HEX_RADIX));
+                stringBuilder.append(Character.forDigit(aByte & 0xF, HEX_RADIX));
+            }
+            return stringBuilder.toString();
+        }
+
+        /**
+         * Returns the class loader for resolving types that are referenced by a cached dynamic type.
+         *
+         * @return The class loader for resolving types that are referenced by a cached dynamic type.
+         */
+        protected ClassLoader getClassLoader() {
+            ClassLoader classLoader = types.get(0).getClassLoader();
+            return classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Key key = (Key) other;
+            return classFileVersion.equals(key.classFileVersion)
+                    && configuration.equals(key.configuration)
+                    && types.equals(key.types);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = configuration.hashCode();
+            result = 31 * result + classFileVersion.hashCode();
+            result = 31 * result + types.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileCache.Key{" +
+                    "configuration='" + configuration + '\'' +
+                    ", classFileVersion=" + classFileVersion +
+                    ", types=" + types +
+                    '}';
+        }
+    }
+
+    /**
+     * An output stream that discards any written byte.
+     */
+    private static class DiscardingOutputStream extends OutputStream {
+
+        /**
+         * The singleton instance.
+         */
+        private static final OutputStream INSTANCE = new DiscardingOutputStream();
+
+        @Override
+        public void write(int value) {
+            /* do nothing */
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            /* do nothing */
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileCache.DiscardingOutputStream";
+        }
+    }
+}
@@ -0,0 +1,543 @@
+package net.bytebuddy.dynamic;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Locates the class file of a type by its name without loading the type.
+ */
+public interface ClassFileLocator {
+
+    /**
+     * The file extension of a Java class file.
+     */
+    static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * Locates the class file of a given type.
+     *
+     * @param typeName The binary name of the type, as returned by {@link Class#getName()}.
+     * @return The class file of the given type or {@code null} if this locator cannot locate the type.
+     * @throws IOException If the class file of the given type cannot be read.
+     */
+    byte[] locate(String typeName) throws IOException;
+
+    /**
+     * A class file locator that queries a class loader for the class file of a type as a resource.
+     */
+    static class ForClassLoader implements ClassFileLocator {
+
+        /**
+         * The size of the buffer that is used for reading a class file.
+         */
+        private static final int BUFFER_SIZE = 1024;
+
+        /**
+         * The class loader that is queried for class files.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * Creates a new class file locator for a given class loader.
+         *
+         * @param classLoader The class loader that is queried for class files or {@code null} for the bootstrap
+         *                    class loader which is represented by the system class loader.
+         */
+        public ForClassLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+        }
+
+        /**
+         * Creates a class file locator that queries the system class loader.
+         *
+         * @return A class file locator for the system class path.
+         */
+        public static ClassFileLocator ofClassPath() {
+            return new ForClassLoader(ClassLoader.getSystemClassLoader());
+        }
+
+        @Override
+        public byte[] locate(String typeName) throws IOException {
+            InputStream inputStream = classLoader.getResourceAsStream(typeName.replace('.', '/') + CLASS_FILE_EXTENSION);
+            if (inputStream == null) {
+                return null;
+            }
+            try {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                return outputStream.toByteArray();
+            } finally {
+                inputStream.close();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && classLoader.equals(((ForClassLoader) other).classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return classLoader.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileLocator.ForClassLoader{classLoader=" + classLoader + '}';
+        }
+    }
+
+    /**
+     * A compound class file locator that queries several class file locators in their given order and returns
+     * the first class file that is located.
+     */
+    static class Compound implements ClassFileLocator {
+
+        /**
+         * The class file locators to query in their order of precedence.
+         */
+        private final List<? extends ClassFileLocator> classFileLocators;
+
+        /**
+         * Creates a new compound class file locator.
+         *
+         * @param classFileLocator The class file locators to query in their order of precedence.
+         */
+        public Compound(ClassFileLocator... classFileLocator) {
+            this(Arrays.asList(classFileLocator));
+        }
+
+        /**
+         * Creates a new compound class file locator.
+         *
+         * @param classFileLocators The class file locators to query in their order of precedence.
+         */
+        public Compound(List<? extends ClassFileLocator> classFileLocators) {
+            this.classFileLocators = classFileLocators;
+        }
+
+        @Override
+        public byte[] locate(String typeName) throws IOException {
+            for (ClassFileLocator classFileLocator : classFileLocators) {
+                byte[] binaryRepresentation = classFileLocator.locate(typeName);
+                if (binaryRepresentation != null) {
+                    return binaryRepresentation;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && classFileLocators.equals(((Compound) other).classFileLocators);
+        }
+
+        @Override
+        public int hashCode() {
+            return classFileLocators.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileLocator.Compound{classFileLocators=" + classFileLocators + '}';
+        }
+    }
+
+    /**
+     * A class file locator that locates class files in a JAR file. The JAR file is mapped into memory and its central
+     * directory is indexed once when the locator is created such that any lookup only requires to read the located
+     * entry's bytes from the mapped file. A locator can be shared by any number of threads.
+     */
+    static class ForJarFile implements ClassFileLocator {
+
+        /**
+         * The signature of a ZIP file's end of central directory record.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+        /**
+         * The signature of a ZIP file's central directory file header.
+         */
+        private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+
+        /**
+         * The signature of a ZIP file's local file header.
+         */
+        private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+        /**
+         * The minimal size of an end of central directory record.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+        /**
+         * The maximal size of a ZIP file's comment that follows the end of central directory record.
+         */
+        private static final int MAXIMUM_COMMENT_SIZE = 0xFFFF;
+
+        /**
+         * The size of a central directory file header without its variable fields.
+         */
+        private static final int CENTRAL_DIRECTORY_SIZE = 46;
+
+        /**
+         * The size of a local file header without its variable fields.
+         */
+        private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+        /**
+         * The compression method of an entry that is stored without compression.
+         */
+        private static final int STORED = 0;
+
+        /**
+         * The compression method of an entry that is deflated.
+         */
+        private static final int DEFLATED = 8;
+
+        /**
+         * A value of a 32 bit field that indicates that the actual value is stored in a ZIP64 extension.
+         */
+        private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+        /**
+         * The charset of the entry names of a JAR file.
+         */
+        private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+        /**
+         * The JAR file of this locator.
+         */
+        private final File file;
+
+        /**
+         * The memory-mapped content of the JAR file.
+         */
+        private final ByteBuffer content;
+
+        /**
+         * The entries of all class files of the JAR file by their binary type names.
+         */
+        private final Map<String, Entry> entries;
+
+        /**
+         * Creates a new class file locator for a JAR file.
+         *
+         * @param file The JAR file of this locator.
+         * @throws IOException If the JAR file cannot be read or does not represent a valid ZIP file.
+         */
+        public ForJarFile(File file) throws IOException {
+            this.file = file;
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+            try {
+                FileChannel fileChannel = randomAccessFile.getChannel();
+                if (fileChannel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Cannot map JAR file that exceeds 2 GB: " + file);
+                }
+                MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+                content = mappedByteBuffer.order(ByteOrder.LITTLE_ENDIAN);
+            } finally {
+                randomAccessFile.close();
+            }
+            entries = index(content.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        }
+
+        /**
+         * Indexes all class file entries of a ZIP file's central directory. The offsets of a ZIP file are relative
+         * to the beginning of the archive which does not need to be the beginning of the file if any data such as
+         * a launcher script is prepended to the archive. The beginning of the archive is therefore computed from
+         * the position of the end of central directory record and the size and offset of the central directory.
+         *
+         * @param content The content of the ZIP file.
+         * @return A map of all class file entries by their binary type names.
+         * @throws IOException If the content does not represent a valid ZIP file.
+         */
+        private static Map<String, Entry> index(ByteBuffer content) throws IOException {
+            int endOfCentralDirectory = findEndOfCentralDirectory(content);
+            int entryCount = content.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+            long centralDirectorySize = content.getInt(endOfCentralDirectory + 12) & ZIP64_MARKER;
+            long centralDirectoryOffset = content.getInt(endOfCentralDirectory + 16) & ZIP64_MARKER;
+            if (centralDirectorySize == ZIP64_MARKER || centralDirectoryOffset == ZIP64_MARKER) {
+                throw new IOException("ZIP64 archives are not supported");
+            }
+            long archiveOffset = endOfCentralDirectory - centralDirectorySize - centralDirectoryOffset;
+            if (archiveOffset < 0) {
+                throw new IOException("Invalid central directory: size " + centralDirectorySize
+                        + " and offset " + centralDirectoryOffset + " exceed the end of central directory record at " + endOfCentralDirectory);
+            }
+            Map<String, Entry> entries = new HashMap<String, Entry>(entryCount * 2);
+            int position = (int) (archiveOffset + centralDirectoryOffset);
+            for (int index = 0; index < entryCount; index++) {
+                if (position + CENTRAL_DIRECTORY_SIZE > endOfCentralDirectory || content.getInt(position) != CENTRAL_DIRECTORY_SIGNATURE) {
+                    throw new IOException("Invalid central directory file header at " + position);
+                }
+                int method = content.getShort(position + 10) & 0xFFFF;
+                long compressedSize = content.getInt(position + 20) & ZIP64_MARKER;
+                long size = content.getInt(position + 24) & ZIP64_MARKER;
+                int nameLength = content.getShort(position + 28) & 0xFFFF;
+                int extraLength = content.getShort(position + 30) & 0xFFFF;
+                int commentLength = content.getShort(position + 32) & 0xFFFF;
+                long localHeaderOffset = content.getInt(position + 42) & ZIP64_MARKER;
+                byte[] name = new byte[nameLength];
+                ByteBuffer nameBuffer = content.duplicate();
+                nameBuffer.position(position + CENTRAL_DIRECTORY_SIZE);
+                nameBuffer.get(name);
+                String entryName = new String(name, UTF_8);
+                if (entryName.endsWith(CLASS_FILE_EXTENSION)) {
+                    if (compressedSize == ZIP64_MARKER || size == ZIP64_MARKER || localHeaderOffset == ZIP64_MARKER) {
+                        throw new IOException("ZIP64 archives are not supported");
+                    }
+                    entries.put(entryName.substring(0, entryName.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'),
+                            new Entry(method, (int) compressedSize, (int) size, (int) (archiveOffset + localHeaderOffset)));
+                }
+                position += CENTRAL_DIRECTORY_SIZE + nameLength + extraLength + commentLength;
+            }
+            return entries;
+        }
+
+        /**
+         * Locates the end of central directory record of a ZIP file.
+         *
+         * @param content The content of the ZIP file.
+         * @return The position of the end of central directory record.
+         * @throws IOException If the content does not contain an end of central directory record.
+         */
+        private static int findEndOfCentralDirectory(ByteBuffer content) throws IOException {
+            int minimum = Math.max(0, content.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAXIMUM_COMMENT_SIZE);
+            for (int position = content.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= minimum; position--) {
+                if (content.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                    return position;
+                }
+            }
+            throw new IOException("Not a ZIP file: no end of central directory record found");
+        }
+
+        /**
+         * Returns the binary names of all types of which this locator can locate a class file.
+         *
+         * @return The binary names of all types of which this locator can locate a class file.
+         */
+        public Set<String> getTypeNames() {
+            return Collections.unmodifiableSet(entries.keySet());
+        }
+
+        @Override
+        public byte[] locate(String typeName) throws IOException {
+            Entry entry = entries.get(typeName);
+            return entry == null ? null : entry.read(content.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && file.equals(((ForJarFile) other).file)
+                    && entries.equals(((ForJarFile) other).entries);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * file.hashCode() + entries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileLocator.ForJarFile{" +
+                    "file=" + file +
+                    ", entries=" + entries.size() +
+                    '}';
+        }
+
+        /**
+         * An entry of a class file in a JAR file's central directory.
+         */
+        protected static class Entry {
+
+            /**
+             * The compression method of the entry.
+             */
+            private final int method;
+
+            /**
+             * The compressed size of the entry.
+             */
+            private final int compressedSize;
+
+            /**
+             * The uncompressed size of the entry.
+             */
+            private final int size;
+
+            /**
+             * The offset of the entry's local file header.
+             */
+            private final int localHeaderOffset;
+
+            /**
+             * Creates a new entry.
+             *
+             * @param method            The compression method of the entry.
+             * @param compressedSize    The compressed size of the entry.
+             * @param size              The uncompressed size of the entry.
+             * @param localHeaderOffset The offset of the entry's local file header.
+             */
+            protected Entry(int method, int compressedSize, int size, int localHeaderOffset) {
+                this.method = method;
+                this.compressedSize = compressedSize;
+                this.size = size;
+                this.localHeaderOffset = localHeaderOffset;
+            }
+
+            /**
+             * Reads the uncompressed content of this entry.
+             *
+             * @param content A view of the content of the JAR file that can be positioned freely.
+             * @return The uncompressed content of this entry.
+             * @throws IOException If the entry cannot be read.
+             */
+            protected byte[] read(ByteBuffer content) throws IOException {
+                if (localHeaderOffset < 0
+                        || localHeaderOffset > content.limit() - LOCAL_FILE_HEADER_SIZE
+                        || content.getInt(localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+                    throw new IOException("Invalid local file header at " + localHeaderOffset);
+                }
+                int dataOffset = localHeaderOffset
+                        + LOCAL_FILE_HEADER_SIZE
+                        + (content.getShort(localHeaderOffset + 26) & 0xFFFF)
+                        + (content.getShort(localHeaderOffset + 28) & 0xFFFF);
+                if (size < 0 || compressedSize < 0 || dataOffset > content.limit() - (method == DEFLATED ? compressedSize : size)) {
+                    throw new IOException("Entry at " + localHeaderOffset + " exceeds the end of the JAR file");
+                }
+                content.position(dataOffset);
+                byte[] binaryRepresentation = new byte[size];
+                switch (method) {
+                    case STORED:
+                        content.get(binaryRepresentation);
+                        return binaryRepresentation;
+                    case DEFLATED:
+                        byte[] compressed = new byte[compressedSize];
+                        content.get(compressed);
+                        Inflater inflater = new Inflater(true);
+                        try {
+                            inflater.setInput(compressed);
+                            int length = 0;
+                            while (length < size) {
+                                int inflated = inflater.inflate(binaryRepresentation, length, size - length);
+                                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                                    throw new IOException("Unexpected end of deflated entry at " + localHeaderOffset);
+                                }
+                                length += inflated;
+                            }
+                            return binaryRepresentation;
+                        } catch (DataFormatException e) {
+                            throw new IOException("Cannot inflate entry at " + localHeaderOffset + ": " + e.getMessage());
+                        } finally {
+                            inflater.end();
+                        }
+                    default:
+                        throw new IOException("Unsupported compression method " + method + " of entry at " + localHeaderOffset);
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Entry entry = (Entry) other;
+                return method == entry.method
+                        && compressedSize == entry.compressedSize
+                        && size == entry.size
+                        && localHeaderOffset == entry.localHeaderOffset;
+            }
+
+            @Override
+            public int hashCode() {
+                int result = method;
+                result = 31 * result + compressedSize;
+                result = 31 * result + size;
+                result = 31 * result + localHeaderOffset;
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "ClassFileLocator.ForJarFile.Entry{" +
+                        "method=" + method +
+                        ", compressedSize=" + compressedSize +
+                        ", size=" + size +
+                        ", localHeaderOffset=" + localHeaderOffset +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A class file locator that locates class files in a folder that represents the root of a package hierarchy.
+     * Any class file is read into an array of its exact size by a single read operation of a file channel.
+     */
+    static class ForFolder implements ClassFileLocator {
+
+        /**
+         * The root folder of the package hierarchy.
+         */
+        private final File folder;
+
+        /**
+         * Creates a new class file locator for a folder.
+         *
+         * @param folder The root folder of the package hierarchy.
+         */
+        public ForFolder(File folder) {
+            this.folder = folder;
+        }
+
+        @Override
+        public byte[] locate(String typeName) throws IOException {
+            File file = new File(folder, typeName.replace('.', File.separatorChar) + CLASS_FILE_EXTENSION);
+            if (!file.isFile()) {
+                return null;
+            }
+            FileInputStream fileInputStream = new FileInputStream(file);
+            try {
+                FileChannel fileChannel = fileInputStream.getChannel();
+                ByteBuffer binaryRepresentation = ByteBuffer.allocate((int) fileChannel.size());
+                while (binaryRepresentation.hasRemaining()) {
+                    if (fileChannel.read(binaryRepresentation) == -1) {
+                        throw new IOException("Unexpected end of file: " + file);
+                    }
+                }
+                return binaryRepresentation.array();
+            } finally {
+                fileInputStream.close();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && folder.equals(((ForFolder) other).folder);
+        }
+
+        @Override
+        public int hashCode() {
+            return folder.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileLocator.ForFolder{folder=" + folder + '}';
+        }
+    }
+}
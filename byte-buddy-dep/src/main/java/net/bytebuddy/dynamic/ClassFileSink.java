@@ -0,0 +1,206 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * A sink that receives the class files of dynamic types, for example by
+ * {@link net.bytebuddy.dynamic.DynamicType#writeTo(ClassFileSink)}. A sink writes the binary representation of a
+ * dynamic type directly to its target without copying it into an intermediate array.
+ */
+public interface ClassFileSink {
+
+    /**
+     * Writes the class file of a type to this sink.
+     *
+     * @param typeDescription      A description of the type to write.
+     * @param binaryRepresentation The type's binary representation which must not be altered.
+     * @throws IOException If an I/O exception occurs.
+     */
+    void write(TypeDescription typeDescription, byte[] binaryRepresentation) throws IOException;
+
+    /**
+     * A class file sink that writes class files as entries of a JAR file. After writing all class files, the JAR
+     * file must be completed by calling {@link net.bytebuddy.dynamic.ClassFileSink.ForJarOutputStream#finish()}.
+     */
+    static class ForJarOutputStream implements ClassFileSink {
+
+        /**
+         * The file name extension for Java class files.
+         */
+        private static final String CLASS_FILE_EXTENSION = ".class";
+
+        /**
+         * The size of the buffer that is used for writing to a file or a channel such that a JAR file is not
+         * written by a system call per entry.
+         */
+        private static final int BUFFER_SIZE = 1 << 16;
+
+        /**
+         * The version of the manifest of a JAR file that is created by this sink.
+         */
+        private static final String MANIFEST_VERSION = "1.0";
+
+        /**
+         * The JAR output stream to which class files are written.
+         */
+        private final JarOutputStream jarOutputStream;
+
+        /**
+         * Creates a new class file sink for a JAR output stream.
+         *
+         * @param jarOutputStream The JAR output stream to which class files are written.
+         */
+        public ForJarOutputStream(JarOutputStream jarOutputStream) {
+            this.jarOutputStream = jarOutputStream;
+        }
+
+        /**
+         * Creates a class file sink that writes a JAR file with a default manifest to the given channel.
+         *
+         * @param channel The channel to which the JAR file is written.
+         * @return A class file sink that writes to the given channel.
+         * @throws IOException If an I/O exception occurs.
+         */
+        public static ForJarOutputStream of(WritableByteChannel channel) throws IOException {
+            return new ForJarOutputStream(new JarOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE),
+                    makeManifest()));
+        }
+
+        /**
+         * Writes several dynamic types including their auxiliary types into a single JAR file with a default
+         * manifest. An existing file is overwritten.
+         *
+         * @param jar          The JAR file to write.
+         * @param dynamicTypes The dynamic types to write.
+         * @throws IOException If an I/O exception occurs.
+         */
+        public static void saveAll(File jar, Iterable<? extends DynamicType> dynamicTypes) throws IOException {
+            FileOutputStream fileOutputStream = new FileOutputStream(jar);
+            try {
+                ForJarOutputStream classFileSink = of(fileOutputStream.getChannel());
+                for (DynamicType dynamicType : dynamicTypes) {
+                    dynamicType.writeTo(classFileSink);
+                }
+                classFileSink.finish();
+            } finally {
+                fileOutputStream.close();
+            }
+        }
+
+        /**
+         * Creates a default manifest.
+         *
+         * @return A default manifest.
+         */
+        private static Manifest makeManifest() {
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, MANIFEST_VERSION);
+            return manifest;
+        }
+
+        @Override
+        public void write(TypeDescription typeDescription, byte[] binaryRepresentation) throws IOException {
+            jarOutputStream.putNextEntry(new JarEntry(typeDescription.getInternalName() + CLASS_FILE_EXTENSION));
+            jarOutputStream.write(binaryRepresentation);
+            jarOutputStream.closeEntry();
+        }
+
+        /**
+         * Completes the JAR file by writing its central directory and flushes the underlying stream without
+         * closing it.
+         *
+         * @throws IOException If an I/O exception occurs.
+         */
+        public void finish() throws IOException {
+            jarOutputStream.finish();
+            jarOutputStream.flush();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileSink.ForJarOutputStream{jarOutputStream=" + jarOutputStream + '}';
+        }
+    }
+
+    /**
+     * A class file sink that writes class files consecutively into a given byte buffer where every class file can
+     * be accessed as a slice of this buffer. The byte buffer can be reused, for example from a pool of buffers, after
+     * resetting this sink. This class is not thread-safe.
+     */
+    static class ForByteBuffer implements ClassFileSink {
+
+        /**
+         * The byte buffer to which class files are written.
+         */
+        private final ByteBuffer byteBuffer;
+
+        /**
+         * The written class files as slices of the byte buffer mapped by their type descriptions.
+         */
+        private final Map<TypeDescription, ByteBuffer> classFiles;
+
+        /**
+         * Creates a new class file sink for a byte buffer. Class files are written starting at the buffer's
+         * current position.
+         *
+         * @param byteBuffer The byte buffer to which class files are written.
+         */
+        public ForByteBuffer(ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+            classFiles = new LinkedHashMap<TypeDescription, ByteBuffer>();
+        }
+
+        @Override
+        public void write(TypeDescription typeDescription, byte[] binaryRepresentation) throws IOException {
+            if (byteBuffer.remaining() < binaryRepresentation.length) {
+                throw new IOException("Insufficient buffer capacity for writing " + typeDescription);
+            }
+            ByteBuffer classFile = byteBuffer.duplicate();
+            byteBuffer.put(binaryRepresentation);
+            classFile.limit(byteBuffer.position());
+            classFiles.put(typeDescription, classFile.slice());
+        }
+
+        /**
+         * Returns the written class files as read-only slices of this sink's byte buffer.
+         *
+         * @return The written class files mapped by their type descriptions in the order of their writing.
+         */
+        public Map<TypeDescription, ByteBuffer> getClassFiles() {
+            Map<TypeDescription, ByteBuffer> classFiles = new LinkedHashMap<TypeDescription, ByteBuffer>(this.classFiles.size());
+            for (Map.Entry<TypeDescription, ByteBuffer> entry : this.classFiles.entrySet()) {
+                classFiles.put(entry.getKey(), entry.getValue().asReadOnlyBuffer());
+            }
+            return Collections.unmodifiableMap(classFiles);
+        }
+
+        /**
+         * Clears the byte buffer of this sink and discards all written class files such that the buffer can be
+         * reused. Any previously returned class file slice must no longer be used.
+         */
+        public void reset() {
+            byteBuffer.clear();
+            classFiles.clear();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileSink.ForByteBuffer{" +
+                    "byteBuffer=" + byteBuffer +
+                    ", classFiles=" + classFiles.keySet() +
+                    '}';
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package net.bytebuddy.dynamic;
 
+import net.bytebuddy.dynamic.loading.AnonymousClassInjector;
 import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.dynamic.loading.ClassLoaderByteArrayInjector;
+import net.bytebuddy.dynamic.loading.LookupClassInjector;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A strategy for loading a collection of types.
@@ -53,25 +58,264 @@ public interface ClassLoadingStrategy {
             }
         },
 
+        /**
+         * This strategy behaves as {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default#WRAPPER} but creates a
+         * {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader.ChildFirst} class loader. This class loader looks
+         * up the dynamic types it defines before querying its parent class loader such that a dynamic type can
+         * shadow a type of the same name that is visible to the parent class loader.
+         */
+        CHILD_FIRST {
+            @Override
+            public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+                Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>(types.size());
+                classLoader = new ByteArrayClassLoader.ChildFirst(types, classLoader);
+                for (TypeDescription typeDescription : types.keySet()) {
+                    try {
+                        loadedTypes.put(typeDescription, classLoader.loadClass(typeDescription.getName()));
+                    } catch (ClassNotFoundException e) {
+                        throw new RuntimeException("Cannot load class " + typeDescription, e);
+                    }
+                }
+                return loadedTypes;
+            }
+        },
+
         /**
          * This strategy does not create a new class loader but injects all classes into the given {@link java.lang.ClassLoader}
          * by reflective access. This prevents the loading of classes with cyclic load-time dependencies but avoids the
          * creation of an additional class loader. The advantage of this strategy is that the loaded classes will have
          * package-private access to other classes within their package of the class loader into which they are
          * injected what is not permitted when the wrapper class loader is used. This strategy is implemented using a
-         * {@link net.bytebuddy.dynamic.loading.ClassLoaderByteArrayInjector}. Note that this strategy usually yields
-         * a better runtime performance.
+         * {@link net.bytebuddy.dynamic.loading.ClassLoaderByteArrayInjector} that injects all types while holding
+         * the class loader's monitor only once where super types are injected before their subtypes. Note that this
+         * strategy usually yields a better runtime performance.
          */
         INJECTION {
             @Override
             public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
-                Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>(types.size());
-                ClassLoaderByteArrayInjector classLoaderByteArrayInjector = new ClassLoaderByteArrayInjector(classLoader);
+                Map<String, byte[]> binaryRepresentations = new LinkedHashMap<String, byte[]>(types.size());
                 for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
-                    loadedTypes.put(entry.getKey(), classLoaderByteArrayInjector.inject(entry.getKey().getName(), entry.getValue()));
+                    binaryRepresentations.put(entry.getKey().getName(), entry.getValue());
+                }
+                Map<String, Class<?>> injectedTypes = new ClassLoaderByteArrayInjector(classLoader).injectAll(binaryRepresentations);
+                Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>(types.size());
+                for (TypeDescription typeDescription : types.keySet()) {
+                    loadedTypes.put(typeDescription, injectedTypes.get(typeDescription.getName()));
                 }
                 return loadedTypes;
             }
+        },
+
+        /**
+         * This strategy defines a type as an anonymous class of its super class, using an
+         * {@link net.bytebuddy.dynamic.loading.AnonymousClassInjector}. The given class loader is only used for
+         * locating the super class while the type is defined by the super class's class loader. An anonymous class
+         * is not registered by its class loader such that it can be unloaded as soon as the class and its instances
+         * become unreachable, without the overhead of a dedicated class loader per type. However, an anonymous class
+         * cannot be referenced by name. Therefore, this strategy cannot load a type that requires auxiliary types.
+         * For the same reason, a type must not contain an {@code invokedynamic} call site that names the type in its
+         * descriptor. As a consequence, super method calls can neither be bound by
+         * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall.Binder#INSTANCE} which
+         * requires an auxiliary type nor by
+         * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall.Binder#INVOKE_DYNAMIC} which
+         * binds the instrumented instance at its call site. Such types are rejected by an
+         * {@link java.lang.IllegalArgumentException}. Furthermore, the type must be declared in the package of its
+         * super class which must not be loaded by the bootstrap class loader.
+         */
+        ANONYMOUS {
+            @Override
+            public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+                if (types.size() != 1) {
+                    throw new IllegalArgumentException("Cannot define auxiliary types as anonymous classes: " + types.keySet());
+                }
+                Map.Entry<TypeDescription, byte[]> type = types.entrySet().iterator().next();
+                Class<?> hostClass;
+                try {
+                    hostClass = Class.forName(type.getKey().getSupertype().getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalArgumentException("Cannot locate super class of " + type.getKey(), e);
+                }
+                if (hostClass.getClassLoader() == null) {
+                    throw new IllegalArgumentException("Cannot define anonymous class for bootstrap type " + hostClass);
+                }
+                return Collections.<TypeDescription, Class<?>>singletonMap(type.getKey(),
+                        new AnonymousClassInjector(hostClass).inject(type.getValue()));
+            }
+        }
+    }
+
+    /**
+     * A class loading strategy that defines types by a {@code java.lang.invoke.MethodHandles.Lookup} of a lookup type
+     * in the package of the loaded types, using a {@link net.bytebuddy.dynamic.loading.LookupClassInjector}. Other
+     * than {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default#INJECTION}, this strategy does not require
+     * reflective access to non-public methods of {@link java.lang.ClassLoader} such that it also works on runtimes
+     * that strongly encapsulate the Java class library. This strategy requires a virtual machine of at least
+     * version 9.
+     * <p>&nbsp;</p>
+     * For each package of the loaded types, a lookup type is required that is loaded by the given class loader.
+     * Such a lookup type is either registered explicitly or it is located as a super class or an interface of a loaded
+     * type that is declared in the same package. A located injector is cached per class loader and package such that
+     * its lookup is only resolved once. The class loaders are referenced weakly and the located injectors softly such
+     * that this cache does not prevent the unloading of a class loader. An explicitly registered injector is never
+     * replaced by a located injector. This strategy is thread-safe.
+     */
+    static class UsingLookup implements ClassLoadingStrategy {
+
+        /**
+         * The explicitly registered injectors of this strategy mapped by the names of their packages.
+         */
+        private final Map<String, LookupClassInjector> registeredInjectors;
+
+        /**
+         * The located injectors of this strategy mapped by the names of their packages, mapped by the class loader
+         * of their lookup types. This map must only be accessed while holding its monitor.
+         */
+        private final Map<ClassLoader, ConcurrentMap<String, Reference<LookupClassInjector>>> injectors;
+
+        /**
+         * Creates a new class loading strategy using a lookup.
+         *
+         * @param lookupType The lookup types that are explicitly registered, at most one per package.
+         */
+        public UsingLookup(Class<?>... lookupType) {
+            registeredInjectors = new HashMap<String, LookupClassInjector>();
+            for (Class<?> type : lookupType) {
+                if (registeredInjectors.put(TypeDescription.ForLoadedType.of(type).getPackageName(), new LookupClassInjector(type)) != null) {
+                    throw new IllegalArgumentException("Duplicate lookup type for package of " + type);
+                }
+            }
+            injectors = new WeakHashMap<ClassLoader, ConcurrentMap<String, Reference<LookupClassInjector>>>();
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            Map<String, Map<String, byte[]>> packages = new LinkedHashMap<String, Map<String, byte[]>>();
+            for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
+                String packageName = entry.getKey().getPackageName();
+                Map<String, byte[]> binaryRepresentations = packages.get(packageName);
+                if (binaryRepresentations == null) {
+                    binaryRepresentations = new LinkedHashMap<String, byte[]>();
+                    packages.put(packageName, binaryRepresentations);
+                }
+                binaryRepresentations.put(entry.getKey().getName(), entry.getValue());
+            }
+            Map<String, Class<?>> injectedTypes = new HashMap<String, Class<?>>(types.size());
+            for (Map.Entry<String, Map<String, byte[]>> entry : packages.entrySet()) {
+                injectedTypes.putAll(injector(classLoader, entry.getKey(), types.keySet()).injectAll(entry.getValue()));
+            }
+            Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>(types.size());
+            for (TypeDescription typeDescription : types.keySet()) {
+                loadedTypes.put(typeDescription, injectedTypes.get(typeDescription.getName()));
+            }
+            return loadedTypes;
+        }
+
+        /**
+         * Returns an injector for the given package and class loader. An explicitly registered injector is used if
+         * its lookup type is loaded by the given class loader. Otherwise, an injector is located and cached for the
+         * given class loader and package.
+         *
+         * @param classLoader The class loader into which types are to be injected.
+         * @param packageName The name of the package into which types are to be injected.
+         * @param types       The types that are to be loaded.
+         * @return An injector for the given package and class loader.
+         */
+        private LookupClassInjector injector(ClassLoader classLoader, String packageName, Collection<TypeDescription> types) {
+            LookupClassInjector injector = registeredInjectors.get(packageName);
+            if (injector != null && injector.getLookupType().getClassLoader() == classLoader) {
+                return injector;
+            }
+            ConcurrentMap<String, Reference<LookupClassInjector>> injectors;
+            synchronized (this.injectors) {
+                injectors = this.injectors.get(classLoader);
+                if (injectors == null) {
+                    injectors = new ConcurrentHashMap<String, Reference<LookupClassInjector>>();
+                    this.injectors.put(classLoader, injectors);
+                }
+            }
+            Reference<LookupClassInjector> reference = injectors.get(packageName);
+            injector = reference == null ? null : reference.get();
+            if (injector != null) {
+                return injector;
+            }
+            for (TypeDescription typeDescription : types) {
+                List<TypeDescription> candidates = new ArrayList<TypeDescription>(typeDescription.getInterfaces());
+                if (typeDescription.getSupertype() != null) {
+                    candidates.add(0, typeDescription.getSupertype());
+                }
+                for (TypeDescription candidate : candidates) {
+                    if (candidate.getPackageName().equals(packageName) && !types.contains(candidate)) {
+                        Class<?> lookupType;
+                        try {
+                            lookupType = Class.forName(candidate.getName(), false, classLoader);
+                        } catch (ClassNotFoundException ignored) {
+                            continue;
+                        }
+                        if (lookupType.getClassLoader() == classLoader) {
+                            injector = new LookupClassInjector(lookupType);
+                            injectors.put(packageName, new SoftReference<LookupClassInjector>(injector));
+                            return injector;
+                        }
+                    }
+                }
+            }
+            throw new IllegalArgumentException("No lookup type for package " + packageName + " is loaded by " + classLoader);
+        }
+
+        @Override
+        public String toString() {
+            return "ClassLoadingStrategy.UsingLookup{registeredInjectors=" + registeredInjectors + '}';
+        }
+    }
+
+    /**
+     * A class loading strategy that does not load any types but returns types that were already loaded. This
+     * strategy is used for splitting the result of loading several dynamic types by a single class loading
+     * strategy application. Any type that is requested must be contained in the already loaded types.
+     */
+    static class ForLoadedTypes implements ClassLoadingStrategy {
+
+        /**
+         * The already loaded types mapped by their type descriptions.
+         */
+        private final Map<TypeDescription, Class<?>> loadedTypes;
+
+        /**
+         * Creates a new class loading strategy for already loaded types.
+         *
+         * @param loadedTypes The already loaded types mapped by their type descriptions.
+         */
+        public ForLoadedTypes(Map<TypeDescription, Class<?>> loadedTypes) {
+            this.loadedTypes = loadedTypes;
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>(types.size());
+            for (TypeDescription typeDescription : types.keySet()) {
+                Class<?> type = this.loadedTypes.get(typeDescription);
+                if (type == null) {
+                    throw new IllegalArgumentException("Type was not loaded: " + typeDescription);
+                }
+                loadedTypes.put(typeDescription, type);
+            }
+            return loadedTypes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && loadedTypes.equals(((ForLoadedTypes) other).loadedTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return loadedTypes.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassLoadingStrategy.ForLoadedTypes{loadedTypes=" + loadedTypes + '}';
         }
     }
 }
@@ -88,6 +88,15 @@ public interface DynamicType {
      */
     Map<TypeDescription, File> saveIn(File folder) throws IOException;
 
+    /**
+     * Writes this dynamic type and all of its auxiliary types, if any, to the given class file sink. The binary
+     * representations of the types are handed to the sink without being copied.
+     *
+     * @param classFileSink The class file sink to write the types to.
+     * @throws IOException Thrown if the class file sink causes an {@code IOException}.
+     */
+    void writeTo(ClassFileSink classFileSink) throws IOException;
+
     /**
      * A builder for defining a dynamic type. Implementations of such builders are usually immutable.
      *
@@ -1286,6 +1295,9 @@ public interface DynamicType {
         public Map<TypeDescription, File> saveIn(File folder) throws IOException {
             Map<TypeDescription, File> savedFiles = new HashMap<TypeDescription, File>();
             File target = new File(folder, typeDescription.getName().replace('.', File.separatorChar) + CLASS_FILE_EXTENSION);
+            if (!target.getParentFile().isDirectory() && !target.getParentFile().mkdirs()) {
+                throw new IOException("Could not create package folder " + target.getParentFile());
+            }
             FileOutputStream fileOutputStream = new FileOutputStream(target);
             try {
                 fileOutputStream.write(binaryRepresentation);
@@ -1299,6 +1311,14 @@ public interface DynamicType {
             return savedFiles;
         }
 
+        @Override
+        public void writeTo(ClassFileSink classFileSink) throws IOException {
+            classFileSink.write(typeDescription, binaryRepresentation);
+            for (DynamicType auxiliaryType : auxiliaryTypes) {
+                auxiliaryType.writeTo(classFileSink);
+            }
+        }
+
         @Override
         public boolean equals(Object other) {
             if (this == other) return true;
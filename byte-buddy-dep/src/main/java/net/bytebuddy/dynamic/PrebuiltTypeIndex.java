@@ -0,0 +1,325 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An index of dynamic types that were created ahead of time, for example by Byte Buddy's Maven plugin, and that are
+ * stored as class files of a class loader. Every prebuilt type is identified by the key of the
+ * {@link net.bytebuddy.dynamic.PrebuiltTypeIndex.Definition} that created it. When locating a type of a definition
+ * whose key is contained in the index, the prebuilt type is loaded and its alive
+ * {@link net.bytebuddy.instrumentation.LoadedTypeInitializer}s, which were serialized when the type was created,
+ * are run. Otherwise, the type is created at runtime. A located type is only created or loaded once per index.
+ * <p>&nbsp;</p>
+ * This class is thread-safe.
+ */
+public class PrebuiltTypeIndex {
+
+    /**
+     * The name of the resource that maps the keys of all prebuilt types to their type names.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/net.bytebuddy/prebuilt-types.properties";
+
+    /**
+     * The file name extension of the resource of a prebuilt type's serialized loaded type initializers.
+     */
+    private static final String INITIALIZER_EXTENSION = ".initializers";
+
+    /**
+     * The class loader that provides the prebuilt types.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * The names of the prebuilt types mapped by their keys.
+     */
+    private final Map<String, String> typeNames;
+
+    /**
+     * The located types mapped by their keys.
+     */
+    private final ConcurrentMap<String, Class<?>> locatedTypes;
+
+    /**
+     * The monitors that serialize the creation or loading of a type mapped by the key of its definition.
+     */
+    private final ConcurrentMap<String, Object> locks;
+
+    /**
+     * Creates a new index of prebuilt types.
+     *
+     * @param classLoader The class loader that provides the prebuilt types.
+     * @param typeNames   The names of the prebuilt types mapped by their keys.
+     */
+    public PrebuiltTypeIndex(ClassLoader classLoader, Map<String, String> typeNames) {
+        this.classLoader = classLoader;
+        this.typeNames = new HashMap<String, String>(typeNames);
+        locatedTypes = new ConcurrentHashMap<String, Class<?>>();
+        locks = new ConcurrentHashMap<String, Object>();
+    }
+
+    /**
+     * Reads the index of all prebuilt types that are provided by the given class loader. The index is merged from
+     * all index resources of the class loader.
+     *
+     * @param classLoader The class loader that provides the prebuilt types.
+     * @return An index of all prebuilt types of the given class loader.
+     * @throws IOException If an index resource cannot be read.
+     */
+    public static PrebuiltTypeIndex of(ClassLoader classLoader) throws IOException {
+        Map<String, String> typeNames = new HashMap<String, String>();
+        Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            Properties index = new Properties();
+            InputStream inputStream = resource.openStream();
+            try {
+                index.load(inputStream);
+            } finally {
+                inputStream.close();
+            }
+            for (String key : index.stringPropertyNames()) {
+                String typeName = index.getProperty(key), previous = typeNames.put(key, typeName);
+                if (previous != null && !previous.equals(typeName)) {
+                    throw new IllegalStateException("The key " + key + " is indexed for both " + previous + " and " + typeName);
+                }
+            }
+        }
+        return new PrebuiltTypeIndex(classLoader, typeNames);
+    }
+
+    /**
+     * Returns the name of the resource that contains the serialized loaded type initializers of a prebuilt type.
+     *
+     * @param typeName The name of the prebuilt type.
+     * @return The name of the resource that contains the type's serialized loaded type initializers.
+     */
+    private static String initializerResourceOf(String typeName) {
+        return typeName.replace('.', '/') + INITIALIZER_EXTENSION;
+    }
+
+    /**
+     * Checks if a type of the given key is prebuilt.
+     *
+     * @param key The key of a definition.
+     * @return {@code true} if a type of the given key is prebuilt.
+     */
+    public boolean isPrebuilt(String key) {
+        return typeNames.containsKey(key);
+    }
+
+    /**
+     * Locates the type of the given definition. If the type is prebuilt, it is loaded by this index's class loader
+     * and its loaded type initializers are run. Otherwise, the type is created and loaded by the given class loading
+     * strategy into this index's class loader. Concurrent calls for the same key are serialized such that a type
+     * is only created or loaded once and its loaded type initializers are only run once.
+     *
+     * @param definition           The definition of the type to locate.
+     * @param classLoadingStrategy The class loading strategy for loading a type that is not prebuilt.
+     * @return The located type.
+     */
+    public Class<?> locate(Definition definition, ClassLoadingStrategy classLoadingStrategy) {
+        String key = definition.getKey();
+        Class<?> type = locatedTypes.get(key);
+        if (type != null) {
+            return type;
+        }
+        Object lock = new Object(), previous = locks.putIfAbsent(key, lock);
+        synchronized (previous == null ? lock : previous) {
+            type = locatedTypes.get(key);
+            if (type == null) {
+                String typeName = typeNames.get(key);
+                type = typeName == null
+                        ? definition.builder().make().load(classLoader, classLoadingStrategy).getLoaded()
+                        : loadPrebuilt(typeName);
+                locatedTypes.put(key, type);
+            }
+            return type;
+        }
+    }
+
+    /**
+     * Loads a prebuilt type and runs the loaded type initializers of the type and of its auxiliary types.
+     *
+     * @param typeName The name of the prebuilt type.
+     * @return The loaded prebuilt type.
+     */
+    private Class<?> loadPrebuilt(String typeName) {
+        try {
+            Class<?> type = Class.forName(typeName, false, classLoader);
+            InputStream inputStream = classLoader.getResourceAsStream(initializerResourceOf(typeName));
+            if (inputStream != null) {
+                Map<?, ?> loadedTypeInitializers;
+                try {
+                    loadedTypeInitializers = (Map<?, ?>) new ClassLoaderAwareObjectInputStream(inputStream, classLoader).readObject();
+                } finally {
+                    inputStream.close();
+                }
+                for (Map.Entry<?, ?> entry : loadedTypeInitializers.entrySet()) {
+                    ((LoadedTypeInitializer) entry.getValue()).onLoad(Class.forName((String) entry.getKey(), false, classLoader));
+                }
+            }
+            return type;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read loaded type initializers of prebuilt type " + typeName, e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot load prebuilt type " + typeName, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PrebuiltTypeIndex{" +
+                "classLoader=" + classLoader +
+                ", typeNames=" + typeNames +
+                '}';
+    }
+
+    /**
+     * A definition of a dynamic type that is identified by a key. A definition must be stateless such that the
+     * created type does not depend on the definition's instance, and a definition that is processed at build time
+     * must declare a public default constructor.
+     */
+    public static interface Definition {
+
+        /**
+         * Returns the key that identifies the type of this definition.
+         *
+         * @return The key that identifies the type of this definition.
+         */
+        String getKey();
+
+        /**
+         * Returns a builder for the type of this definition.
+         *
+         * @return A builder for the type of this definition.
+         */
+        DynamicType.Builder<?> builder();
+    }
+
+    /**
+     * A writer that creates the types of definitions and stores them as prebuilt types in a folder. After writing
+     * all types, the index must be stored by calling {@link PrebuiltTypeIndex.Writer#finish()}. Any loaded type
+     * initializer that is alive must be serializable. This class is not thread-safe.
+     */
+    public static class Writer {
+
+        /**
+         * The folder in which prebuilt types are stored.
+         */
+        private final File folder;
+
+        /**
+         * The names of the written types mapped by their keys.
+         */
+        private final Properties index;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param folder The folder in which prebuilt types are stored, typically the output folder of a build.
+         */
+        public Writer(File folder) {
+            this.folder = folder;
+            index = new Properties();
+        }
+
+        /**
+         * Creates the type of the given definition and stores its class files and alive loaded type initializers.
+         *
+         * @param definition The definition of the type to write.
+         * @return The created dynamic type.
+         * @throws IOException If the type cannot be stored.
+         */
+        public DynamicType write(Definition definition) throws IOException {
+            if (index.containsKey(definition.getKey())) {
+                throw new IllegalArgumentException("The key " + definition.getKey() + " is already written");
+            }
+            DynamicType dynamicType = definition.builder().make();
+            dynamicType.saveIn(folder);
+            Map<String, LoadedTypeInitializer> loadedTypeInitializers = new HashMap<String, LoadedTypeInitializer>();
+            for (Map.Entry<TypeDescription, LoadedTypeInitializer> entry : dynamicType.getTypeInitializers().entrySet()) {
+                if (entry.getValue().isAlive()) {
+                    loadedTypeInitializers.put(entry.getKey().getName(), entry.getValue());
+                }
+            }
+            if (!loadedTypeInitializers.isEmpty()) {
+                ObjectOutputStream objectOutputStream = new ObjectOutputStream(new FileOutputStream(new File(folder,
+                        initializerResourceOf(dynamicType.getDescription().getName()))));
+                try {
+                    objectOutputStream.writeObject(loadedTypeInitializers);
+                } finally {
+                    objectOutputStream.close();
+                }
+            }
+            index.setProperty(definition.getKey(), dynamicType.getDescription().getName());
+            return dynamicType;
+        }
+
+        /**
+         * Stores the index of all written types.
+         *
+         * @return The file of the stored index.
+         * @throws IOException If the index cannot be stored.
+         */
+        public File finish() throws IOException {
+            File target = new File(folder, INDEX_RESOURCE);
+            if (!target.getParentFile().isDirectory() && !target.getParentFile().mkdirs()) {
+                throw new IOException("Could not create index folder " + target.getParentFile());
+            }
+            OutputStream outputStream = new FileOutputStream(target);
+            try {
+                index.store(outputStream, null);
+            } finally {
+                outputStream.close();
+            }
+            return target;
+        }
+
+        @Override
+        public String toString() {
+            return "PrebuiltTypeIndex.Writer{" +
+                    "folder=" + folder +
+                    ", index=" + index +
+                    '}';
+        }
+    }
+
+    /**
+     * An object input stream that resolves classes by a given class loader.
+     */
+    private static class ClassLoaderAwareObjectInputStream extends ObjectInputStream {
+
+        /**
+         * The class loader for resolving classes.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * Creates a new object input stream.
+         *
+         * @param inputStream The input stream to read from.
+         * @param classLoader The class loader for resolving classes.
+         * @throws IOException If the stream header cannot be read.
+         */
+        private ClassLoaderAwareObjectInputStream(InputStream inputStream, ClassLoader classLoader) throws IOException {
+            super(inputStream);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(objectStreamClass.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(objectStreamClass);
+            }
+        }
+    }
+}
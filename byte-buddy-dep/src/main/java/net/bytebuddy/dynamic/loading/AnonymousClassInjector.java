@@ -0,0 +1,380 @@
+package net.bytebuddy.dynamic.loading;
+
+import org.objectweb.asm.*;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * An injector that defines classes as anonymous classes of a given host class. Such classes are not registered by
+ * their defining class loader what allows their unloading as soon as the class and its instances become unreachable
+ * without requiring a dedicated class loader. On Java 15 or later, classes are defined as hidden classes by
+ * {@code java.lang.invoke.MethodHandles.Lookup#defineHiddenClass}. On previous versions, classes are defined by
+ * {@code sun.misc.Unsafe#defineAnonymousClass} if this method is available.
+ * <p>&nbsp;</p>
+ * Note that an anonymous class cannot be referenced by its name from any other class. As a consequence, a type that
+ * requires auxiliary types cannot be defined by this injector. Furthermore, hidden classes must be declared in the
+ * package of their host class. Anonymous classes that are defined by {@code sun.misc.Unsafe} are additionally
+ * limited to byte code that does not require the verifier to resolve the anonymous class by its name, as it is for
+ * example the case for an invocation of a super method. Finally, an anonymous class must not contain an
+ * {@code invokedynamic} call site that names the anonymous class in its descriptor, as such a descriptor is resolved
+ * by name once the call site is linked. This applies for example to super method calls that are bound by
+ * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall.Binder#INVOKE_DYNAMIC}. Such
+ * classes are rejected by this injector.
+ */
+public class AnonymousClassInjector {
+
+    /**
+     * The dispatcher for defining anonymous classes on the current virtual machine.
+     */
+    private static final Dispatcher DISPATCHER;
+
+    static {
+        Dispatcher dispatcher;
+        try {
+            Class<?> lookupType = Class.forName("java.lang.invoke.MethodHandles$Lookup");
+            Class<?> classOptionType = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            Class<?> methodHandlesType = Class.forName("java.lang.invoke.MethodHandles");
+            dispatcher = new Dispatcher.ForHiddenClass(methodHandlesType.getDeclaredMethod("lookup"),
+                    methodHandlesType.getDeclaredMethod("privateLookupIn", Class.class, lookupType),
+                    lookupType.getDeclaredMethod("defineHiddenClass",
+                            byte[].class,
+                            boolean.class,
+                            Array.newInstance(classOptionType, 0).getClass()),
+                    lookupType.getDeclaredMethod("lookupClass"),
+                    Array.newInstance(classOptionType, 0));
+        } catch (Exception ignored) {
+            try {
+                Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                dispatcher = new Dispatcher.ForUnsafe(theUnsafe.get(null),
+                        unsafeType.getDeclaredMethod("defineAnonymousClass", Class.class, byte[].class, Object[].class));
+            } catch (Exception exception) {
+                dispatcher = new Dispatcher.Unavailable(exception);
+            }
+        }
+        DISPATCHER = dispatcher;
+    }
+
+    /**
+     * The host class of the defined anonymous classes.
+     */
+    private final Class<?> hostClass;
+
+    /**
+     * Creates a new injector for anonymous classes.
+     *
+     * @param hostClass The host class of the defined anonymous classes which determines their class loader and
+     *                  their access rights.
+     */
+    public AnonymousClassInjector(Class<?> hostClass) {
+        this.hostClass = hostClass;
+    }
+
+    /**
+     * Checks if the current virtual machine allows for the definition of anonymous classes.
+     *
+     * @return {@code true} if anonymous classes can be defined.
+     */
+    public static boolean isAvailable() {
+        return DISPATCHER.isAvailable();
+    }
+
+    /**
+     * Defines an anonymous class for the given binary representation.
+     *
+     * @param binaryRepresentation The type's binary representation.
+     * @return The defined anonymous class.
+     */
+    public Class<?> inject(byte[] binaryRepresentation) {
+        ClassReader classReader = new ClassReader(binaryRepresentation);
+        SelfReferenceDetector selfReferenceDetector = new SelfReferenceDetector(classReader.getClassName());
+        classReader.accept(selfReferenceDetector, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        if (selfReferenceDetector.getCallSite() != null) {
+            throw new IllegalArgumentException("Cannot define anonymous class " + classReader.getClassName().replace('/', '.')
+                    + " with an invokedynamic call site that references the anonymous class by its name: "
+                    + selfReferenceDetector.getCallSite());
+        }
+        try {
+            return DISPATCHER.define(hostClass, binaryRepresentation);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not access anonymous class definition method", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Exception on defining anonymous class", e.getCause());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AnonymousClassInjector{hostClass=" + hostClass + '}';
+    }
+
+    /**
+     * A class visitor that detects {@code invokedynamic} call sites which reference the visited type by its name. Such
+     * call sites cannot be linked for an anonymous class as their descriptors are resolved by name.
+     */
+    protected static class SelfReferenceDetector extends ClassVisitor {
+
+        /**
+         * The descriptor of the visited type.
+         */
+        private final String descriptor;
+
+        /**
+         * A description of the first call site that references the visited type or {@code null} if no such call
+         * site was found.
+         */
+        private String callSite;
+
+        /**
+         * Creates a new self reference detector.
+         *
+         * @param internalName The internal name of the visited type.
+         */
+        protected SelfReferenceDetector(String internalName) {
+            super(Opcodes.ASM5);
+            descriptor = "L" + internalName + ";";
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exception) {
+            return callSite == null
+                    ? new CallSiteVisitor(internalName + descriptor)
+                    : null;
+        }
+
+        /**
+         * Returns a description of the first call site that references the visited type.
+         *
+         * @return A description of the first call site that references the visited type or {@code null} if no such
+         * call site was found.
+         */
+        protected String getCallSite() {
+            return callSite;
+        }
+
+        @Override
+        public String toString() {
+            return "AnonymousClassInjector.SelfReferenceDetector{" +
+                    "descriptor='" + descriptor + '\'' +
+                    ", callSite='" + callSite + '\'' +
+                    '}';
+        }
+
+        /**
+         * A method visitor that inspects the {@code invokedynamic} call sites of a method.
+         */
+        protected class CallSiteVisitor extends MethodVisitor {
+
+            /**
+             * The name and descriptor of the visited method.
+             */
+            private final String method;
+
+            /**
+             * Creates a new call site visitor.
+             *
+             * @param method The name and descriptor of the visited method.
+             */
+            protected CallSiteVisitor(String method) {
+                super(Opcodes.ASM5);
+                this.method = method;
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethod, Object... bootstrapArgument) {
+                if (callSite == null && descriptor.contains(SelfReferenceDetector.this.descriptor)) {
+                    callSite = name + descriptor + " in " + method;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "AnonymousClassInjector.SelfReferenceDetector.CallSiteVisitor{" +
+                        "selfReferenceDetector=" + SelfReferenceDetector.this +
+                        ", method='" + method + '\'' +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A dispatcher for defining anonymous classes.
+     */
+    private static interface Dispatcher {
+
+        /**
+         * Checks if this dispatcher is able to define anonymous classes.
+         *
+         * @return {@code true} if this dispatcher is able to define anonymous classes.
+         */
+        boolean isAvailable();
+
+        /**
+         * Defines an anonymous class.
+         *
+         * @param hostClass            The host class of the anonymous class.
+         * @param binaryRepresentation The type's binary representation.
+         * @return The defined anonymous class.
+         * @throws IllegalAccessException    If a reflective method is not accessible.
+         * @throws InvocationTargetException If a reflective method throws an exception.
+         */
+        Class<?> define(Class<?> hostClass, byte[] binaryRepresentation) throws IllegalAccessException, InvocationTargetException;
+
+        /**
+         * A dispatcher that defines hidden classes by a {@code java.lang.invoke.MethodHandles.Lookup}.
+         */
+        static class ForHiddenClass implements Dispatcher {
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles#lookup} method.
+             */
+            private final Method lookup;
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles#privateLookupIn} method.
+             */
+            private final Method privateLookupIn;
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles.Lookup#defineHiddenClass} method.
+             */
+            private final Method defineHiddenClass;
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles.Lookup#lookupClass} method.
+             */
+            private final Method lookupClass;
+
+            /**
+             * An empty array of {@code java.lang.invoke.MethodHandles.Lookup.ClassOption}s.
+             */
+            private final Object classOptions;
+
+            /**
+             * Creates a new dispatcher for hidden classes.
+             *
+             * @param lookup            The {@code java.lang.invoke.MethodHandles#lookup} method.
+             * @param privateLookupIn   The {@code java.lang.invoke.MethodHandles#privateLookupIn} method.
+             * @param defineHiddenClass The {@code java.lang.invoke.MethodHandles.Lookup#defineHiddenClass} method.
+             * @param lookupClass       The {@code java.lang.invoke.MethodHandles.Lookup#lookupClass} method.
+             * @param classOptions      An empty array of {@code java.lang.invoke.MethodHandles.Lookup.ClassOption}s.
+             */
+            private ForHiddenClass(Method lookup,
+                                   Method privateLookupIn,
+                                   Method defineHiddenClass,
+                                   Method lookupClass,
+                                   Object classOptions) {
+                this.lookup = lookup;
+                this.privateLookupIn = privateLookupIn;
+                this.defineHiddenClass = defineHiddenClass;
+                this.lookupClass = lookupClass;
+                this.classOptions = classOptions;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public Class<?> define(Class<?> hostClass, byte[] binaryRepresentation) throws IllegalAccessException, InvocationTargetException {
+                Object hostLookup = privateLookupIn.invoke(null, hostClass, lookup.invoke(null));
+                return (Class<?>) lookupClass.invoke(defineHiddenClass.invoke(hostLookup, binaryRepresentation, false, classOptions));
+            }
+
+            @Override
+            public String toString() {
+                return "AnonymousClassInjector.Dispatcher.ForHiddenClass{" +
+                        "lookup=" + lookup +
+                        ", privateLookupIn=" + privateLookupIn +
+                        ", defineHiddenClass=" + defineHiddenClass +
+                        ", lookupClass=" + lookupClass +
+                        '}';
+            }
+        }
+
+        /**
+         * A dispatcher that defines anonymous classes by {@code sun.misc.Unsafe#defineAnonymousClass}.
+         */
+        static class ForUnsafe implements Dispatcher {
+
+            /**
+             * The {@code sun.misc.Unsafe} instance.
+             */
+            private final Object unsafe;
+
+            /**
+             * The {@code sun.misc.Unsafe#defineAnonymousClass} method.
+             */
+            private final Method defineAnonymousClass;
+
+            /**
+             * Creates a new dispatcher for anonymous classes.
+             *
+             * @param unsafe               The {@code sun.misc.Unsafe} instance.
+             * @param defineAnonymousClass The {@code sun.misc.Unsafe#defineAnonymousClass} method.
+             */
+            private ForUnsafe(Object unsafe, Method defineAnonymousClass) {
+                this.unsafe = unsafe;
+                this.defineAnonymousClass = defineAnonymousClass;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public Class<?> define(Class<?> hostClass, byte[] binaryRepresentation) throws IllegalAccessException, InvocationTargetException {
+                return (Class<?>) defineAnonymousClass.invoke(unsafe, hostClass, binaryRepresentation, null);
+            }
+
+            @Override
+            public String toString() {
+                return "AnonymousClassInjector.Dispatcher.ForUnsafe{" +
+                        "unsafe=" + unsafe +
+                        ", defineAnonymousClass=" + defineAnonymousClass +
+                        '}';
+            }
+        }
+
+        /**
+         * A dispatcher for a virtual machine that does not support the definition of anonymous classes.
+         */
+        static class Unavailable implements Dispatcher {
+
+            /**
+             * The exception that was thrown when attempting to lookup the definition methods.
+             */
+            private final Exception exception;
+
+            /**
+             * Creates a new dispatcher for a virtual machine without support for anonymous classes.
+             *
+             * @param exception The exception that was thrown when attempting to lookup the definition methods.
+             */
+            private Unavailable(Exception exception) {
+                this.exception = exception;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return false;
+            }
+
+            @Override
+            public Class<?> define(Class<?> hostClass, byte[] binaryRepresentation) {
+                throw new UnsupportedOperationException("Anonymous classes are not supported by this VM", exception);
+            }
+
+            @Override
+            public String toString() {
+                return "AnonymousClassInjector.Dispatcher.Unavailable{exception=" + exception + '}';
+            }
+        }
+    }
+}
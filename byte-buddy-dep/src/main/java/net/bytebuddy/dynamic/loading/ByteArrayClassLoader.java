@@ -2,20 +2,69 @@ package net.bytebuddy.dynamic.loading;
 
 import net.bytebuddy.instrumentation.type.TypeDescription;
 
-import java.util.HashMap;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A {@link java.lang.ClassLoader} that is capable of loading explicitly defined classes. The class loader will free
- * any binary resources once a class that is defined by its binary data is loaded. This class loader is thread safe since
- * the class loading mechanics are only called from synchronized context.
+ * any binary resources once a class that is defined by its binary data is loaded. Any type that is defined by this
+ * class loader is defined within a {@link java.lang.Package} of this class loader such that a single class loader
+ * can host many unrelated types. Additional types can be registered after the class loader's creation.
+ * <p>&nbsp;</p>
+ * This class loader is thread safe. On Java 7 or later, it is registered as parallel capable such that classes
+ * of different names can be loaded concurrently.
  */
 public class ByteArrayClassLoader extends ClassLoader {
 
+    /**
+     * The name of the {@code ClassLoader#registerAsParallelCapable()} method.
+     */
+    private static final String REGISTER_AS_PARALLEL_CAPABLE = "registerAsParallelCapable";
+
+    /**
+     * The name of the {@code ClassLoader#getClassLoadingLock(String)} method.
+     */
+    private static final String GET_CLASS_LOADING_LOCK = "getClassLoadingLock";
+
+    /**
+     * {@code true} if this class loader was registered as parallel capable.
+     */
+    private static final boolean PARALLEL_CAPABLE;
+
+    /**
+     * The {@code ClassLoader#getClassLoadingLock(String)} method or {@code null} if this method is not available
+     * on the current VM.
+     */
+    private static final Method CLASS_LOADING_LOCK;
+
+    /*
+     * Registers this class loader as parallel capable and looks up the method for locating the class loading lock
+     * of a name. Both methods are only available from Java 7 and are therefore invoked reflectively. The registration
+     * is caller sensitive and must therefore be invoked from the registered class's type initializer.
+     */
+    static {
+        boolean parallelCapable;
+        Method classLoadingLock;
+        try {
+            Method registerAsParallelCapable = ClassLoader.class.getDeclaredMethod(REGISTER_AS_PARALLEL_CAPABLE);
+            registerAsParallelCapable.setAccessible(true);
+            classLoadingLock = ClassLoader.class.getDeclaredMethod(GET_CLASS_LOADING_LOCK, String.class);
+            parallelCapable = (Boolean) registerAsParallelCapable.invoke(null);
+        } catch (Exception ignored) {
+            classLoadingLock = null;
+            parallelCapable = false;
+        }
+        PARALLEL_CAPABLE = parallelCapable;
+        CLASS_LOADING_LOCK = classLoadingLock;
+    }
+
     /**
      * A mutable map of type names mapped to their binary representation.
      */
-    private final Map<String, byte[]> typeDefinitions;
+    protected final ConcurrentMap<String, byte[]> typeDefinitions;
 
     /**
      * Creates a new class loader for a given definition of classes.
@@ -25,7 +74,7 @@ public class ByteArrayClassLoader extends ClassLoader {
      */
     public ByteArrayClassLoader(ClassLoader parent, Map<String, byte[]> typeDefinitions) {
         super(parent);
-        this.typeDefinitions = new HashMap<String, byte[]>(typeDefinitions);
+        this.typeDefinitions = new ConcurrentHashMap<String, byte[]>(typeDefinitions);
     }
 
     /**
@@ -36,25 +85,176 @@ public class ByteArrayClassLoader extends ClassLoader {
      */
     public ByteArrayClassLoader(Map<TypeDescription, byte[]> typeDefinitions, ClassLoader parent) {
         super(parent);
-        this.typeDefinitions = new HashMap<String, byte[]>(typeDefinitions.size());
+        this.typeDefinitions = new ConcurrentHashMap<String, byte[]>(typeDefinitions.size());
         for (Map.Entry<TypeDescription, byte[]> entry : typeDefinitions.entrySet()) {
             this.typeDefinitions.put(entry.getKey().getName(), entry.getValue());
         }
     }
 
+    /**
+     * Registers an additional type definition with this class loader. A type can only be registered if no type
+     * of the given name was yet defined by or registered with this class loader. The registration holds the
+     * class loading lock of the given name such that a type cannot be defined concurrently.
+     *
+     * @param name                 The fully qualified name of the type.
+     * @param binaryRepresentation The type's binary representation.
+     * @return {@code true} if the type was registered.
+     */
+    public boolean register(String name, byte[] binaryRepresentation) {
+        synchronized (lockFor(name)) {
+            return findLoadedClass(name) == null && typeDefinitions.putIfAbsent(name, binaryRepresentation) == null;
+        }
+    }
+
+    /**
+     * Returns the lock for loading a class of the given name. If this class loader is parallel capable, this is
+     * a lock for the given name that is maintained by the Java class loader. Otherwise, the lock is this class
+     * loader.
+     *
+     * @param name The name of the class to load.
+     * @return The lock for loading a class of the given name.
+     */
+    protected Object lockFor(String name) {
+        return PARALLEL_CAPABLE ? classLoadingLockFor(name) : this;
+    }
+
+    /**
+     * Returns the class loading lock for the given name as it is maintained by the Java class loader. If the
+     * current VM does not maintain such locks, this class loader is returned.
+     *
+     * @param name The name of the class to load.
+     * @return The class loading lock for the given name.
+     */
+    protected Object classLoadingLockFor(String name) {
+        if (CLASS_LOADING_LOCK == null) {
+            return this;
+        }
+        try {
+            return CLASS_LOADING_LOCK.invoke(this, name);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access class loading lock for " + name, e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Cannot resolve class loading lock for " + name, e.getCause());
+        }
+    }
+
     @Override
     protected Class<?> findClass(String name) throws ClassNotFoundException {
-        // Does not need synchronization because this method is only called from within
-        // ClassLoader in a synchronized context.
-        byte[] javaType = typeDefinitions.remove(name);
-        if (javaType != null) {
-            return defineClass(name, javaType, 0, javaType.length);
+        // Concurrent requests for the same name are serialized by the class loading lock of this name. The binary
+        // representation is only released after the type was defined such that a failed definition can be retried.
+        byte[] binaryRepresentation = typeDefinitions.get(name);
+        if (binaryRepresentation == null) {
+            throw new ClassNotFoundException(name);
+        }
+        definePackageOf(name);
+        Class<?> type = defineClass(name, binaryRepresentation, 0, binaryRepresentation.length);
+        typeDefinitions.remove(name);
+        return type;
+    }
+
+    /**
+     * Defines the package of a type of the given name if this package is not yet defined.
+     *
+     * @param name The fully qualified name of the type.
+     */
+    private void definePackageOf(String name) {
+        int index = name.lastIndexOf('.');
+        if (index == -1) {
+            return;
+        }
+        String packageName = name.substring(0, index);
+        if (getPackage(packageName) == null) {
+            try {
+                definePackage(packageName, null, null, null, null, null, null, null);
+            } catch (IllegalArgumentException e) {
+                // The package might have been defined concurrently which is not an error.
+                if (getPackage(packageName) == null) {
+                    throw new IllegalStateException("Cannot define package " + packageName, e);
+                }
+            }
         }
-        return super.findClass(name);
     }
 
     @Override
     public String toString() {
-        return "ByteArrayClassLoader{typeDefinitions=" + typeDefinitions + " (unloaded)}";
+        return "ByteArrayClassLoader{typeDefinitions=" + typeDefinitions.keySet() + " (unloaded)}";
+    }
+
+    /**
+     * A {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader} that looks up the types it defines before
+     * querying its parent class loader. Any type that is not defined by this class loader is still loaded
+     * parent-first such that lookups of any other type, for example of types of the Java class library, are
+     * not delayed. Concurrent lookups of types of different names are not serialized.
+     */
+    public static class ChildFirst extends ByteArrayClassLoader {
+
+        /**
+         * {@code true} if this class loader was registered as parallel capable.
+         */
+        private static final boolean PARALLEL_CAPABLE;
+
+        /*
+         * Registers this class loader as parallel capable. The registration is caller sensitive such that every
+         * subclass must register itself. The method is only available from Java 7 and is therefore invoked
+         * reflectively.
+         */
+        static {
+            boolean parallelCapable;
+            try {
+                Method registerAsParallelCapable = ClassLoader.class.getDeclaredMethod(REGISTER_AS_PARALLEL_CAPABLE);
+                registerAsParallelCapable.setAccessible(true);
+                parallelCapable = (Boolean) registerAsParallelCapable.invoke(null);
+            } catch (Exception ignored) {
+                parallelCapable = false;
+            }
+            PARALLEL_CAPABLE = parallelCapable;
+        }
+
+        /**
+         * Creates a new child-first class loader for a given definition of classes.
+         *
+         * @param parent          The {@link java.lang.ClassLoader} that is the parent of this class loader.
+         * @param typeDefinitions A map of fully qualified class names pointing to their binary representations.
+         */
+        public ChildFirst(ClassLoader parent, Map<String, byte[]> typeDefinitions) {
+            super(parent, typeDefinitions);
+        }
+
+        /**
+         * Creates a new child-first class loader for a given definition of classes.
+         *
+         * @param typeDefinitions A map of type descriptions pointing to their binary representations.
+         * @param parent          The {@link java.lang.ClassLoader} that is the parent of this class loader.
+         */
+        public ChildFirst(Map<TypeDescription, byte[]> typeDefinitions, ClassLoader parent) {
+            super(typeDefinitions, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (lockFor(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null && typeDefinitions.containsKey(name)) {
+                    type = findClass(name);
+                }
+                if (type == null) {
+                    return super.loadClass(name, resolve);
+                }
+                if (resolve) {
+                    resolveClass(type);
+                }
+                return type;
+            }
+        }
+
+        @Override
+        protected Object lockFor(String name) {
+            return PARALLEL_CAPABLE ? classLoadingLockFor(name) : this;
+        }
+
+        @Override
+        public String toString() {
+            return "ByteArrayClassLoader.ChildFirst{typeDefinitions=" + typeDefinitions.keySet() + " (unloaded)}";
+        }
     }
 }
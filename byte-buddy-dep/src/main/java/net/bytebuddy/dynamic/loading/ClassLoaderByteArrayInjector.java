@@ -2,6 +2,7 @@ package net.bytebuddy.dynamic.loading;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.*;
 
 /**
  * An injector that loads classes by reflectively invoking non-public methods on a given {@link java.lang.ClassLoader}.
@@ -59,18 +60,50 @@ public class ClassLoaderByteArrayInjector {
      * @return The loaded class that is a result of the class loading attempt.
      */
     public Class<?> inject(String name, byte[] binaryRepresentation) {
+        synchronized (classLoader) {
+            return doInject(name, binaryRepresentation);
+        }
+    }
+
+    /**
+     * Explicitly loads several {@link java.lang.Class}es by reflective access into the represented class loader
+     * while holding the class loader's monitor only once. The types are defined in an order where any super class
+     * or interface that is contained in the given types is defined before its subtypes such that the definition of
+     * a type does not trigger the loading of another type that is about to be injected.
+     *
+     * @param types The binary representations of the types to be loaded mapped by their fully qualified names.
+     * @return The loaded classes mapped by their names in the order of their definition.
+     */
+    public Map<String, Class<?>> injectAll(Map<String, byte[]> types) {
+        List<String> names = TypeDefinitionOrder.orderByDependency(types);
+        Map<String, Class<?>> loadedTypes = new LinkedHashMap<String, Class<?>>(types.size());
+        synchronized (classLoader) {
+            for (String name : names) {
+                loadedTypes.put(name, doInject(name, types.get(name)));
+            }
+        }
+        return loadedTypes;
+    }
+
+    /**
+     * Loads a {@link java.lang.Class} into the represented class loader. The class loader's monitor must be held
+     * by the current thread.
+     *
+     * @param name                 The fully qualified name of the {@link java.lang.Class} to be loaded.
+     * @param binaryRepresentation The type's binary representation.
+     * @return The loaded class that is a result of the class loading attempt.
+     */
+    private Class<?> doInject(String name, byte[] binaryRepresentation) {
         try {
-            synchronized (classLoader) {
-                Class<?> type = (Class<?>) REFLECTION_STORE.getFindLoadedClassMethod().invoke(classLoader, name);
-                if (type != null) {
-                    return type;
-                } else {
-                    return (Class<?>) REFLECTION_STORE.getLoadByteArrayMethod().invoke(classLoader,
-                            name,
-                            binaryRepresentation,
-                            0,
-                            binaryRepresentation.length);
-                }
+            Class<?> type = (Class<?>) REFLECTION_STORE.getFindLoadedClassMethod().invoke(classLoader, name);
+            if (type != null) {
+                return type;
+            } else {
+                return (Class<?>) REFLECTION_STORE.getLoadByteArrayMethod().invoke(classLoader,
+                        name,
+                        binaryRepresentation,
+                        0,
+                        binaryRepresentation.length);
             }
         } catch (IllegalAccessException e) {
             throw new IllegalStateException("Could not access injection method", e);
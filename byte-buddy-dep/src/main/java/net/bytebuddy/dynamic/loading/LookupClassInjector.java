@@ -0,0 +1,273 @@
+package net.bytebuddy.dynamic.loading;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An injector that defines classes by a {@code java.lang.invoke.MethodHandles.Lookup} of a lookup type. All classes
+ * are defined in the package and by the class loader of the lookup type. Other than a
+ * {@link net.bytebuddy.dynamic.loading.ClassLoaderByteArrayInjector}, this injector does not require to make any
+ * non-public method of {@link java.lang.ClassLoader} accessible and therefore also works on runtimes that strongly
+ * encapsulate the Java class library. This injector requires a virtual machine of at least version 9 and that the
+ * package of the lookup type is open to this library. The lookup is only resolved once per injector such that an
+ * injector should be reused for defining several classes in the same package.
+ * <p>&nbsp;</p>
+ * Note that the injector is only able to load classes in a linear manner. Thus, classes that refer to other classes
+ * which are not yet loaded cannot be injected but will result in a {@link java.lang.NoClassDefFoundError}.
+ */
+public class LookupClassInjector {
+
+    /**
+     * The dispatcher for defining classes by a lookup on the current virtual machine.
+     */
+    private static final Dispatcher DISPATCHER;
+
+    static {
+        Dispatcher dispatcher;
+        try {
+            Class<?> methodHandlesType = Class.forName("java.lang.invoke.MethodHandles");
+            Class<?> lookupType = Class.forName("java.lang.invoke.MethodHandles$Lookup");
+            dispatcher = new Dispatcher.Resolved(methodHandlesType.getDeclaredMethod("lookup"),
+                    methodHandlesType.getDeclaredMethod("privateLookupIn", Class.class, lookupType),
+                    lookupType.getDeclaredMethod("defineClass", byte[].class));
+        } catch (Exception e) {
+            dispatcher = new Dispatcher.Unavailable(e);
+        }
+        DISPATCHER = dispatcher;
+    }
+
+    /**
+     * The lookup type in whose package classes are defined.
+     */
+    private final Class<?> lookupType;
+
+    /**
+     * The resolved {@code java.lang.invoke.MethodHandles.Lookup} of the lookup type or {@code null} if the lookup
+     * was not yet resolved.
+     */
+    private volatile Object lookup;
+
+    /**
+     * Creates a new injector for the given lookup type.
+     *
+     * @param lookupType The lookup type in whose package and by whose class loader classes are defined.
+     */
+    public LookupClassInjector(Class<?> lookupType) {
+        this.lookupType = lookupType;
+    }
+
+    /**
+     * Checks if the current virtual machine allows for the definition of classes by a lookup.
+     *
+     * @return {@code true} if classes can be defined by a lookup.
+     */
+    public static boolean isAvailable() {
+        return DISPATCHER.isAvailable();
+    }
+
+    /**
+     * Returns the lookup type of this injector.
+     *
+     * @return The lookup type in whose package classes are defined.
+     */
+    public Class<?> getLookupType() {
+        return lookupType;
+    }
+
+    /**
+     * Defines a class in the package of the lookup type.
+     *
+     * @param binaryRepresentation The type's binary representation.
+     * @return The defined class.
+     */
+    public Class<?> inject(byte[] binaryRepresentation) {
+        try {
+            return DISPATCHER.defineClass(resolveLookup(), binaryRepresentation);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not access lookup method", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Exception on invoking lookup method", e.getCause());
+        }
+    }
+
+    /**
+     * Defines several classes in the package of the lookup type. The types are defined in an order where any super
+     * class or interface that is contained in the given types is defined before its subtypes.
+     *
+     * @param types The binary representations of the types to be loaded mapped by their fully qualified names.
+     * @return The loaded classes mapped by their names in the order of their definition.
+     */
+    public Map<String, Class<?>> injectAll(Map<String, byte[]> types) {
+        Map<String, Class<?>> loadedTypes = new LinkedHashMap<String, Class<?>>(types.size());
+        for (String name : TypeDefinitionOrder.orderByDependency(types)) {
+            loadedTypes.put(name, inject(types.get(name)));
+        }
+        return loadedTypes;
+    }
+
+    /**
+     * Resolves the private lookup of the lookup type which is only resolved once.
+     *
+     * @return The private lookup of the lookup type.
+     * @throws IllegalAccessException    If a reflective method is not accessible.
+     * @throws InvocationTargetException If a reflective method throws an exception.
+     */
+    private Object resolveLookup() throws IllegalAccessException, InvocationTargetException {
+        Object lookup = this.lookup;
+        if (lookup == null) {
+            lookup = DISPATCHER.privateLookupIn(lookupType);
+            this.lookup = lookup;
+        }
+        return lookup;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && lookupType.equals(((LookupClassInjector) other).lookupType);
+    }
+
+    @Override
+    public int hashCode() {
+        return lookupType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LookupClassInjector{lookupType=" + lookupType + '}';
+    }
+
+    /**
+     * A dispatcher for defining classes by a {@code java.lang.invoke.MethodHandles.Lookup}.
+     */
+    private static interface Dispatcher {
+
+        /**
+         * Checks if this dispatcher is able to define classes.
+         *
+         * @return {@code true} if this dispatcher is able to define classes.
+         */
+        boolean isAvailable();
+
+        /**
+         * Resolves a private lookup of the given type.
+         *
+         * @param lookupType The type for which a lookup is resolved.
+         * @return A private lookup of the given type.
+         * @throws IllegalAccessException    If a reflective method is not accessible.
+         * @throws InvocationTargetException If a reflective method throws an exception.
+         */
+        Object privateLookupIn(Class<?> lookupType) throws IllegalAccessException, InvocationTargetException;
+
+        /**
+         * Defines a class by the given lookup.
+         *
+         * @param lookup               The lookup to use for defining the class.
+         * @param binaryRepresentation The type's binary representation.
+         * @return The defined class.
+         * @throws IllegalAccessException    If a reflective method is not accessible.
+         * @throws InvocationTargetException If a reflective method throws an exception.
+         */
+        Class<?> defineClass(Object lookup, byte[] binaryRepresentation) throws IllegalAccessException, InvocationTargetException;
+
+        /**
+         * A dispatcher for a virtual machine that supports the definition of classes by a lookup.
+         */
+        static class Resolved implements Dispatcher {
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles#lookup} method.
+             */
+            private final Method lookup;
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles#privateLookupIn} method.
+             */
+            private final Method privateLookupIn;
+
+            /**
+             * The {@code java.lang.invoke.MethodHandles.Lookup#defineClass} method.
+             */
+            private final Method defineClass;
+
+            /**
+             * Creates a new resolved dispatcher.
+             *
+             * @param lookup          The {@code java.lang.invoke.MethodHandles#lookup} method.
+             * @param privateLookupIn The {@code java.lang.invoke.MethodHandles#privateLookupIn} method.
+             * @param defineClass     The {@code java.lang.invoke.MethodHandles.Lookup#defineClass} method.
+             */
+            private Resolved(Method lookup, Method privateLookupIn, Method defineClass) {
+                this.lookup = lookup;
+                this.privateLookupIn = privateLookupIn;
+                this.defineClass = defineClass;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public Object privateLookupIn(Class<?> lookupType) throws IllegalAccessException, InvocationTargetException {
+                return privateLookupIn.invoke(null, lookupType, lookup.invoke(null));
+            }
+
+            @Override
+            public Class<?> defineClass(Object lookup, byte[] binaryRepresentation) throws IllegalAccessException, InvocationTargetException {
+                return (Class<?>) defineClass.invoke(lookup, (Object) binaryRepresentation);
+            }
+
+            @Override
+            public String toString() {
+                return "LookupClassInjector.Dispatcher.Resolved{" +
+                        "lookup=" + lookup +
+                        ", privateLookupIn=" + privateLookupIn +
+                        ", defineClass=" + defineClass +
+                        '}';
+            }
+        }
+
+        /**
+         * A dispatcher for a virtual machine that does not support the definition of classes by a lookup.
+         */
+        static class Unavailable implements Dispatcher {
+
+            /**
+             * The exception that was thrown when attempting to lookup the definition methods.
+             */
+            private final Exception exception;
+
+            /**
+             * Creates a new dispatcher for a virtual machine without support for defining classes by a lookup.
+             *
+             * @param exception The exception that was thrown when attempting to lookup the definition methods.
+             */
+            private Unavailable(Exception exception) {
+                this.exception = exception;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return false;
+            }
+
+            @Override
+            public Object privateLookupIn(Class<?> lookupType) {
+                throw new UnsupportedOperationException("Defining classes by a lookup is not supported by this VM", exception);
+            }
+
+            @Override
+            public Class<?> defineClass(Object lookup, byte[] binaryRepresentation) {
+                throw new UnsupportedOperationException("Defining classes by a lookup is not supported by this VM", exception);
+            }
+
+            @Override
+            public String toString() {
+                return "LookupClassInjector.Dispatcher.Unavailable{exception=" + exception + '}';
+            }
+        }
+    }
+}
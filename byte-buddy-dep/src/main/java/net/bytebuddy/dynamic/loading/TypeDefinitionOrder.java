@@ -0,0 +1,62 @@
+package net.bytebuddy.dynamic.loading;
+
+import org.objectweb.asm.ClassReader;
+
+import java.util.*;
+
+/**
+ * A utility for ordering types that are defined together such that any super class or interface that is contained
+ * in the defined types is defined before its subtypes. This utility is independent of any injection strategy such
+ * that ordering types does not require to initialize an injector.
+ */
+final class TypeDefinitionOrder {
+
+    /**
+     * This utility class is not supposed to be instantiated.
+     */
+    private TypeDefinitionOrder() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Orders the given types such that any super class or interface that is contained in the given types precedes
+     * its subtypes. Otherwise, the iteration order of the given types is retained. The super types of a type are
+     * read from the header of its class file.
+     *
+     * @param types The binary representations of the types mapped by their fully qualified names.
+     * @return The names of the given types in their order of definition.
+     */
+    static List<String> orderByDependency(Map<String, byte[]> types) {
+        List<String> names = new ArrayList<String>(types.size());
+        Set<String> visited = new HashSet<String>();
+        for (String name : types.keySet()) {
+            orderByDependency(name, types, visited, names);
+        }
+        return names;
+    }
+
+    /**
+     * Appends a type to the given list of names after appending its super types that are contained in the given
+     * types.
+     *
+     * @param name    The fully qualified name of the type to append.
+     * @param types   The binary representations of the types mapped by their fully qualified names.
+     * @param visited The names of all types that were already visited.
+     * @param names   The names of the ordered types.
+     */
+    private static void orderByDependency(String name, Map<String, byte[]> types, Set<String> visited, List<String> names) {
+        byte[] binaryRepresentation = types.get(name);
+        if (binaryRepresentation == null || !visited.add(name)) {
+            return;
+        }
+        ClassReader classReader = new ClassReader(binaryRepresentation);
+        String superName = classReader.getSuperName();
+        if (superName != null) {
+            orderByDependency(superName.replace('/', '.'), types, visited, names);
+        }
+        for (String interfaceName : classReader.getInterfaces()) {
+            orderByDependency(interfaceName.replace('/', '.'), types, visited, names);
+        }
+        names.add(name);
+    }
+}
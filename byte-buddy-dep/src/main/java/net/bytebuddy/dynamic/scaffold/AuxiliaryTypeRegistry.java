@@ -0,0 +1,177 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A registry of auxiliary types that are shared among several instrumented types. Without such a registry, an
+ * auxiliary type is only reused within a single instrumented type such that structurally identical auxiliary types
+ * are defined once for every instrumented type. A registry allows to reuse a
+ * {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.Shareable} auxiliary type that was previously
+ * created for another instrumented type of the same package, as long as this auxiliary type is still accessible.
+ */
+public interface AuxiliaryTypeRegistry {
+
+    /**
+     * Looks up a previously registered auxiliary type that is structurally identical to the given auxiliary type and
+     * that is accessible from the given instrumented type.
+     *
+     * @param instrumentedType The instrumented type for which an auxiliary type is required.
+     * @param auxiliaryType    The auxiliary type that is required.
+     * @return A description of a previously defined auxiliary type or {@code null} if no such type is available.
+     */
+    TypeDescription lookup(TypeDescription instrumentedType, AuxiliaryType.Shareable auxiliaryType);
+
+    /**
+     * Registers an auxiliary type that was created for an instrumented type such that it can be reused by other
+     * instrumented types.
+     *
+     * @param instrumentedType         The instrumented type for which the auxiliary type was created.
+     * @param auxiliaryType            The auxiliary type that was created.
+     * @param auxiliaryTypeDescription A description of the created auxiliary type.
+     */
+    void register(TypeDescription instrumentedType,
+                  AuxiliaryType.Shareable auxiliaryType,
+                  TypeDescription auxiliaryTypeDescription);
+
+    /**
+     * An auxiliary type registry that never shares any auxiliary types.
+     */
+    static enum NoOp implements AuxiliaryTypeRegistry {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public TypeDescription lookup(TypeDescription instrumentedType, AuxiliaryType.Shareable auxiliaryType) {
+            return null;
+        }
+
+        @Override
+        public void register(TypeDescription instrumentedType,
+                             AuxiliaryType.Shareable auxiliaryType,
+                             TypeDescription auxiliaryTypeDescription) {
+            /* do nothing */
+        }
+    }
+
+    /**
+     * An auxiliary type registry that shares auxiliary types among the instrumented types that are loaded by a
+     * given class loader. An auxiliary type is only reused after it was defined by this class loader what is
+     * validated on every lookup. Since auxiliary types are package-private, a registry must only be used for
+     * creating instrumented types that are loaded by the registry's class loader, for example by
+     * {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default#INJECTION}. The class loader is only referenced
+     * weakly. This registry is thread-safe.
+     */
+    static class ForClassLoader implements AuxiliaryTypeRegistry {
+
+        /**
+         * A weak reference to the class loader in which the shared auxiliary types are defined.
+         */
+        private final WeakReference<ClassLoader> classLoader;
+
+        /**
+         * A mapping of the structural keys of registered auxiliary types to their type names.
+         */
+        private final ConcurrentMap<Key, String> typeNames;
+
+        /**
+         * Creates a new auxiliary type registry.
+         *
+         * @param classLoader The class loader in which the shared auxiliary types are defined.
+         */
+        public ForClassLoader(ClassLoader classLoader) {
+            this.classLoader = new WeakReference<ClassLoader>(classLoader);
+            typeNames = new ConcurrentHashMap<Key, String>();
+        }
+
+        @Override
+        public TypeDescription lookup(TypeDescription instrumentedType, AuxiliaryType.Shareable auxiliaryType) {
+            Key key = new Key(instrumentedType.getPackageName(), auxiliaryType);
+            String typeName = typeNames.get(key);
+            ClassLoader classLoader = this.classLoader.get();
+            if (typeName == null || classLoader == null) {
+                return null;
+            }
+            Class<?> type;
+            try {
+                type = Class.forName(typeName, false, classLoader);
+            } catch (ClassNotFoundException ignored) {
+                type = null; // The auxiliary type was created but was never loaded by this class loader.
+            }
+            if (type != null && type.getClassLoader() == classLoader) {
+                return TypeDescription.ForLoadedType.of(type);
+            }
+            typeNames.remove(key, typeName);
+            return null;
+        }
+
+        @Override
+        public void register(TypeDescription instrumentedType,
+                             AuxiliaryType.Shareable auxiliaryType,
+                             TypeDescription auxiliaryTypeDescription) {
+            typeNames.put(new Key(instrumentedType.getPackageName(), auxiliaryType), auxiliaryTypeDescription.getName());
+        }
+
+        @Override
+        public String toString() {
+            return "AuxiliaryTypeRegistry.ForClassLoader{" +
+                    "classLoader=" + classLoader.get() +
+                    ", typeNames=" + typeNames +
+                    '}';
+        }
+
+        /**
+         * The structural key of a shareable auxiliary type which is only accessible from within its package.
+         */
+        protected static class Key {
+
+            /**
+             * The name of the package of the instrumented types that can access the auxiliary type.
+             */
+            private final String packageName;
+
+            /**
+             * The auxiliary type.
+             */
+            private final AuxiliaryType.Shareable auxiliaryType;
+
+            /**
+             * Creates a new key.
+             *
+             * @param packageName   The name of the package of the instrumented types that can access the auxiliary type.
+             * @param auxiliaryType The auxiliary type.
+             */
+            protected Key(String packageName, AuxiliaryType.Shareable auxiliaryType) {
+                this.packageName = packageName;
+                this.auxiliaryType = auxiliaryType;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && packageName.equals(((Key) other).packageName)
+                        && auxiliaryType.equals(((Key) other).auxiliaryType);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * packageName.hashCode() + auxiliaryType.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "AuxiliaryTypeRegistry.ForClassLoader.Key{" +
+                        "packageName='" + packageName + '\'' +
+                        ", auxiliaryType=" + auxiliaryType +
+                        '}';
+            }
+        }
+    }
+}
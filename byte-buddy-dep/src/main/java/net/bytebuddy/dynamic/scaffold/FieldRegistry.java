@@ -3,10 +3,7 @@ package net.bytebuddy.dynamic.scaffold;
 import net.bytebuddy.instrumentation.attribute.FieldAttributeAppender;
 import net.bytebuddy.instrumentation.field.FieldDescription;
 import net.bytebuddy.instrumentation.type.TypeDescription;
-
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import net.bytebuddy.utility.PersistentMap;
 
 /**
  * A field registry represents an extendable collection of fields which are identified by their names that are mapped
@@ -17,6 +14,9 @@ import java.util.Map;
  * However, a field registry is implemented simpler since it does not have to deal with complex signatures or
  * inheritance. For the sake of consistency, the field registry follows however a similar pattern without introducing
  * unnecessary complexity.
+ * <p>&nbsp;</p>
+ * Like a method registry, a field registry must be immutable such that it can be compiled by several threads
+ * concurrently.
  */
 public interface FieldRegistry {
 
@@ -89,13 +89,13 @@ public interface FieldRegistry {
         /**
          * Contains all registered field registry entries mapped by the field name. This map should never be mutated.
          */
-        private final Map<String, TypeWriter.FieldPool.Entry> entries;
+        private final PersistentMap<String, TypeWriter.FieldPool.Entry> entries;
 
         /**
          * Creates a new field registry without any registered fields.
          */
         public Default() {
-            entries = Collections.emptyMap();
+            entries = PersistentMap.empty();
         }
 
         /**
@@ -103,7 +103,7 @@ public interface FieldRegistry {
          *
          * @param entries The entries of this field registry.
          */
-        private Default(Map<String, TypeWriter.FieldPool.Entry> entries) {
+        private Default(PersistentMap<String, TypeWriter.FieldPool.Entry> entries) {
             this.entries = entries;
         }
 
@@ -111,12 +111,11 @@ public interface FieldRegistry {
         public FieldRegistry include(LatentFieldMatcher latentFieldMatcher,
                                      FieldAttributeAppender.Factory attributeAppenderFactory,
                                      Object defaultValue) {
-            Map<String, TypeWriter.FieldPool.Entry> entries = new HashMap<String, TypeWriter.FieldPool.Entry>(this.entries);
-            TypeWriter.FieldPool.Entry entry = new TypeWriter.FieldPool.Entry.Simple(attributeAppenderFactory, defaultValue);
-            if (entries.put(latentFieldMatcher.getFieldName(), entry) != null) {
+            if (entries.containsKey(latentFieldMatcher.getFieldName())) {
                 throw new IllegalArgumentException("the field name " + latentFieldMatcher.getFieldName() + " is already registered");
             }
-            return new Default(entries);
+            return new Default(entries.with(latentFieldMatcher.getFieldName(),
+                    new TypeWriter.FieldPool.Entry.Simple(attributeAppenderFactory, defaultValue)));
         }
 
         @Override
@@ -10,14 +10,18 @@ import net.bytebuddy.instrumentation.method.bytecode.ByteCodeAppender;
 import net.bytebuddy.instrumentation.method.matcher.MethodMatcher;
 import net.bytebuddy.instrumentation.type.InstrumentedType;
 import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.PersistentList;
 
 import java.util.*;
 
 import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.is;
-import static net.bytebuddy.utility.ByteBuddyCommons.join;
 
 /**
  * A method registry is responsible for storing information on how a method is intercepted.
+ * <p>&nbsp;</p>
+ * A method registry must be immutable where any registration returns a new registry. As a consequence, the same
+ * registry can be prepared and compiled by several threads concurrently, for example when types are created by
+ * {@link net.bytebuddy.ByteBuddy#makeAll(java.util.Collection)}.
  */
 public interface MethodRegistry {
 
@@ -85,6 +89,16 @@ public interface MethodRegistry {
          * @return The type initializer of the currently created instrumented type.
          */
         LoadedTypeInitializer getLoadedTypeInitializer();
+
+        /**
+         * Returns the entries that were resolved for all invokable methods of this compiled method registry's
+         * {@link net.bytebuddy.dynamic.scaffold.MethodRegistry.Compiled#getFinding()} when this method registry
+         * was compiled. This view is meant for diagnostic purposes.
+         *
+         * @return A map of all invokable methods to the entries that were resolved for them, in the order of the
+         * methods' appearance in the finding.
+         */
+        Map<MethodDescription, TypeWriter.MethodPool.Entry> getResolvedEntries();
     }
 
     /**
@@ -157,13 +171,13 @@ public interface MethodRegistry {
         /**
          * The entries of method instrumentations that were registered for creating this instance.
          */
-        private final List<Entry> entries;
+        private final PersistentList<Entry> entries;
 
         /**
          * Creates a new empty method registry.
          */
         public Default() {
-            entries = Collections.emptyList();
+            entries = PersistentList.empty();
         }
 
         /**
@@ -172,7 +186,7 @@ public interface MethodRegistry {
          *
          * @param entries The entries of this method registry.
          */
-        private Default(List<Entry> entries) {
+        private Default(PersistentList<Entry> entries) {
             this.entries = entries;
         }
 
@@ -180,14 +194,14 @@ public interface MethodRegistry {
         public MethodRegistry append(LatentMethodMatcher latentMethodMatcher,
                                      Instrumentation instrumentation,
                                      MethodAttributeAppender.Factory attributeAppenderFactory) {
-            return new Default(join(entries, new Entry(latentMethodMatcher, instrumentation, attributeAppenderFactory)));
+            return new Default(entries.append(new Entry(latentMethodMatcher, instrumentation, attributeAppenderFactory)));
         }
 
         @Override
         public MethodRegistry prepend(LatentMethodMatcher latentMethodMatcher,
                                       Instrumentation instrumentation,
                                       MethodAttributeAppender.Factory attributeAppenderFactory) {
-            return new Default(join(new Entry(latentMethodMatcher, instrumentation, attributeAppenderFactory), entries));
+            return new Default(entries.prepend(new Entry(latentMethodMatcher, instrumentation, attributeAppenderFactory)));
         }
 
         @Override
@@ -315,6 +329,11 @@ public interface MethodRegistry {
              */
             private final MethodRegistry.Compiled.Entry fallback;
 
+            /**
+             * The resolutions of all invokable methods of the finding, indexed by their unique signature.
+             */
+            private final Map<String, Resolution> resolutions;
+
             /**
              * Creates a compiled default method registry.
              *
@@ -334,10 +353,34 @@ public interface MethodRegistry {
                 this.loadedTypeInitializer = loadedTypeInitializer;
                 this.entries = entries;
                 this.fallback = fallback;
+                MethodList invokableMethods = finding.getInvokableMethods();
+                resolutions = new LinkedHashMap<String, Resolution>(invokableMethods.size());
+                for (MethodDescription methodDescription : invokableMethods) {
+                    String uniqueSignature = methodDescription.getUniqueSignature();
+                    // If two invokable methods share a signature, only the first one is indexed. Any other method
+                    // is resolved by applying the compiled entries' matchers.
+                    if (!resolutions.containsKey(uniqueSignature)) {
+                        resolutions.put(uniqueSignature, new Resolution(methodDescription, resolve(methodDescription)));
+                    }
+                }
             }
 
             @Override
             public MethodRegistry.Compiled.Entry target(MethodDescription methodDescription) {
+                Resolution resolution = resolutions.get(methodDescription.getUniqueSignature());
+                return resolution != null && resolution.represents(methodDescription)
+                        ? resolution.getEntry()
+                        : resolve(methodDescription);
+            }
+
+            /**
+             * Resolves the entry for a given method by applying the matchers of all compiled entries in their
+             * order of precedence.
+             *
+             * @param methodDescription The method for which an entry is to be resolved.
+             * @return The first compiled entry that matches the given method or the fallback entry.
+             */
+            private MethodRegistry.Compiled.Entry resolve(MethodDescription methodDescription) {
                 for (Entry entry : entries) {
                     if (entry.matches(methodDescription)) {
                         return entry;
@@ -346,6 +389,16 @@ public interface MethodRegistry {
                 return fallback;
             }
 
+            @Override
+            public Map<MethodDescription, TypeWriter.MethodPool.Entry> getResolvedEntries() {
+                Map<MethodDescription, TypeWriter.MethodPool.Entry> resolvedEntries =
+                        new LinkedHashMap<MethodDescription, TypeWriter.MethodPool.Entry>(resolutions.size());
+                for (Resolution resolution : resolutions.values()) {
+                    resolvedEntries.put(resolution.methodDescription, resolution.getEntry());
+                }
+                return Collections.unmodifiableMap(resolvedEntries);
+            }
+
             @Override
             public MethodLookupEngine.Finding getFinding() {
                 return finding;
@@ -386,6 +439,75 @@ public interface MethodRegistry {
                         '}';
             }
 
+            /**
+             * A resolution of the compiled entry that is applied to a given method.
+             */
+            private static class Resolution {
+
+                /**
+                 * The method for which an entry was resolved.
+                 */
+                private final MethodDescription methodDescription;
+
+                /**
+                 * The entry that was resolved for the method.
+                 */
+                private final MethodRegistry.Compiled.Entry entry;
+
+                /**
+                 * Creates a new resolution.
+                 *
+                 * @param methodDescription The method for which an entry was resolved.
+                 * @param entry             The entry that was resolved for the method.
+                 */
+                private Resolution(MethodDescription methodDescription, MethodRegistry.Compiled.Entry entry) {
+                    this.methodDescription = methodDescription;
+                    this.entry = entry;
+                }
+
+                /**
+                 * Checks if this resolution was created for the given method. As method matchers might also consider
+                 * a method's declaring type, a method that shares this resolution's signature is not necessarily
+                 * represented by it.
+                 *
+                 * @param methodDescription The method to check.
+                 * @return {@code true} if this resolution represents the given method.
+                 */
+                private boolean represents(MethodDescription methodDescription) {
+                    return this.methodDescription.equals(methodDescription);
+                }
+
+                /**
+                 * Returns the entry that was resolved for this resolution's method.
+                 *
+                 * @return The entry that was resolved for this resolution's method.
+                 */
+                private MethodRegistry.Compiled.Entry getEntry() {
+                    return entry;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Resolution resolution = (Resolution) other;
+                    return entry.equals(resolution.entry) && methodDescription.equals(resolution.methodDescription);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * methodDescription.hashCode() + entry.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "MethodRegistry.Default.Compiled.Resolution{" +
+                            "methodDescription=" + methodDescription +
+                            ", entry=" + entry +
+                            '}';
+                }
+            }
+
             /**
              * An entry of a compiled default method registry.
              */
@@ -1,18 +1,22 @@
 package net.bytebuddy.dynamic.scaffold;
 
 import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.instrumentation.Instrumentation;
 import net.bytebuddy.instrumentation.attribute.MethodAttributeAppender;
 import net.bytebuddy.instrumentation.field.FieldDescription;
 import net.bytebuddy.instrumentation.method.MethodDescription;
 import net.bytebuddy.instrumentation.method.bytecode.ByteCodeAppender;
+import net.bytebuddy.instrumentation.method.bytecode.stack.Duplication;
 import net.bytebuddy.instrumentation.method.bytecode.stack.StackManipulation;
 import net.bytebuddy.instrumentation.method.bytecode.stack.member.FieldAccess;
 import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodReturn;
 import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodVariableAccess;
 import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.TypeList;
 import net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -64,6 +68,11 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
      */
     private final AuxiliaryTypeNamingStrategy auxiliaryTypeNamingStrategy;
 
+    /**
+     * The registry for sharing auxiliary types among instrumented types.
+     */
+    private final AuxiliaryTypeRegistry auxiliaryTypeRegistry;
+
     /**
      * A mapping of special method invocations to their accessor methods that each invoke their mapped invocation.
      */
@@ -84,15 +93,30 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
      */
     private final Map<AuxiliaryType, DynamicType> auxiliaryTypes;
 
+    /**
+     * A map of registered auxiliary types to the descriptions of previously defined auxiliary types that are reused.
+     */
+    private final Map<AuxiliaryType, TypeDescription> sharedAuxiliaryTypes;
+
     /**
      * A map of already registered field caches to their field representation.
      */
     private final Map<FieldCacheEntry, FieldDescription> registeredFieldCacheEntries;
 
     /**
-     * An instance for supporting the creation of random values.
+     * A map of already registered lazy field caches to the accessor methods that return their value.
+     */
+    private final Map<FieldCacheEntry, MethodDescription> registeredLazyFieldCacheEntries;
+
+    /**
+     * A list of the fields of lazy field caches in the order of their registration.
+     */
+    private final List<FieldDescription> lazyFieldCaches;
+
+    /**
+     * The number of accessor methods and field caches that were named by this delegate.
      */
-    private final Random random;
+    private int memberCount;
 
     /**
      * A marker that determines if this instance is still capable of defining field caches. Field caches need to
@@ -118,11 +142,26 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
      */
     public TypeExtensionDelegate(TypeDescription instrumentedType,
                                  ClassFileVersion classFileVersion) {
+        this(instrumentedType, classFileVersion, AuxiliaryTypeRegistry.NoOp.INSTANCE);
+    }
+
+    /**
+     * Creates a new delegate that shares auxiliary types by the given registry. This constructor implicitly defines
+     * default naming strategies for created accessor method and registered auxiliary types.
+     *
+     * @param instrumentedType      The description of the type that is currently subject of creation.
+     * @param classFileVersion      The class file version of the created class.
+     * @param auxiliaryTypeRegistry The registry for sharing auxiliary types among instrumented types.
+     */
+    public TypeExtensionDelegate(TypeDescription instrumentedType,
+                                 ClassFileVersion classFileVersion,
+                                 AuxiliaryTypeRegistry auxiliaryTypeRegistry) {
         this(instrumentedType,
                 classFileVersion,
                 DEFAULT_ACCESSOR_METHOD_SUFFIX,
                 DEFAULT_FIELD_CACHE_PREFIX,
-                new AuxiliaryTypeNamingStrategy.SuffixingRandom(DEFAULT_ACCESSOR_METHOD_SUFFIX));
+                new AuxiliaryTypeNamingStrategy.SuffixingSequential(DEFAULT_ACCESSOR_METHOD_SUFFIX),
+                auxiliaryTypeRegistry);
     }
 
     /**
@@ -134,23 +173,28 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
      *                                    prefixed by the accessed method's name.
      * @param fieldCachePrefix            A prefix that is added to any field cache.
      * @param auxiliaryTypeNamingStrategy The naming strategy for naming an auxiliary type.
+     * @param auxiliaryTypeRegistry       The registry for sharing auxiliary types among instrumented types.
      */
     public TypeExtensionDelegate(TypeDescription instrumentedType,
                                  ClassFileVersion classFileVersion,
                                  String accessorMethodSuffix,
                                  String fieldCachePrefix,
-                                 AuxiliaryTypeNamingStrategy auxiliaryTypeNamingStrategy) {
+                                 AuxiliaryTypeNamingStrategy auxiliaryTypeNamingStrategy,
+                                 AuxiliaryTypeRegistry auxiliaryTypeRegistry) {
         this.instrumentedType = instrumentedType;
         this.classFileVersion = classFileVersion;
         this.accessorMethodSuffix = accessorMethodSuffix;
         this.fieldCachePrefix = fieldCachePrefix;
         this.auxiliaryTypeNamingStrategy = auxiliaryTypeNamingStrategy;
+        this.auxiliaryTypeRegistry = auxiliaryTypeRegistry;
         registeredAccessorMethods = new HashMap<Instrumentation.SpecialMethodInvocation, MethodDescription>();
         orderedAccessorMethods = new LinkedList<MethodDescription>();
         accessorMethodEntries = new HashMap<MethodDescription, TypeWriter.MethodPool.Entry>();
         auxiliaryTypes = new HashMap<AuxiliaryType, DynamicType>();
+        sharedAuxiliaryTypes = new HashMap<AuxiliaryType, TypeDescription>();
         registeredFieldCacheEntries = new HashMap<FieldCacheEntry, FieldDescription>();
-        random = new Random();
+        registeredLazyFieldCacheEntries = new HashMap<FieldCacheEntry, MethodDescription>();
+        lazyFieldCaches = new ArrayList<FieldDescription>();
         canRegisterFieldCache = true;
     }
 
@@ -158,9 +202,9 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
     public MethodDescription registerAccessorFor(Instrumentation.SpecialMethodInvocation specialMethodInvocation) {
         MethodDescription accessorMethod = registeredAccessorMethods.get(specialMethodInvocation);
         if (accessorMethod == null) {
-            String name = String.format("%s$%s$%d", specialMethodInvocation.getMethodDescription().getInternalName(),
+            String name = String.format("%s$%s$%s", specialMethodInvocation.getMethodDescription().getInternalName(),
                     accessorMethodSuffix,
-                    Math.abs(random.nextInt()));
+                    nextMemberNameSuffix());
             accessorMethod = new MethodDescription.Latent(name,
                     instrumentedType,
                     specialMethodInvocation.getMethodDescription().getReturnType(),
@@ -204,14 +248,36 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
         return targetMethodCall;
     }
 
+    @Override
+    public ClassFileVersion getClassFileVersion() {
+        return classFileVersion;
+    }
+
     @Override
     public TypeDescription register(AuxiliaryType auxiliaryType) {
         DynamicType dynamicType = auxiliaryTypes.get(auxiliaryType);
-        if (dynamicType == null) {
-            dynamicType = auxiliaryType.make(auxiliaryTypeNamingStrategy.name(auxiliaryType, instrumentedType),
-                    classFileVersion,
-                    this);
-            auxiliaryTypes.put(auxiliaryType, dynamicType);
+        if (dynamicType != null) {
+            return dynamicType.getDescription();
+        }
+        TypeDescription sharedAuxiliaryType = sharedAuxiliaryTypes.get(auxiliaryType);
+        if (sharedAuxiliaryType != null) {
+            return sharedAuxiliaryType;
+        }
+        boolean shareable = auxiliaryType instanceof AuxiliaryType.Shareable
+                && ((AuxiliaryType.Shareable) auxiliaryType).isShareableFor(instrumentedType);
+        if (shareable) {
+            sharedAuxiliaryType = auxiliaryTypeRegistry.lookup(instrumentedType, (AuxiliaryType.Shareable) auxiliaryType);
+            if (sharedAuxiliaryType != null) {
+                sharedAuxiliaryTypes.put(auxiliaryType, sharedAuxiliaryType);
+                return sharedAuxiliaryType;
+            }
+        }
+        dynamicType = auxiliaryType.make(auxiliaryTypeNamingStrategy.name(auxiliaryType, instrumentedType),
+                classFileVersion,
+                this);
+        auxiliaryTypes.put(auxiliaryType, dynamicType);
+        if (shareable) {
+            auxiliaryTypeRegistry.register(instrumentedType, (AuxiliaryType.Shareable) auxiliaryType, dynamicType.getDescription());
         }
         return dynamicType.getDescription();
     }
@@ -229,7 +295,7 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
             return fieldCache;
         }
         validateFieldCacheAccessibility();
-        fieldCache = new FieldDescription.Latent(String.format("%s$%d", fieldCachePrefix, Math.abs(random.nextInt())),
+        fieldCache = new FieldDescription.Latent(String.format("%s$%s", fieldCachePrefix, nextMemberNameSuffix()),
                 instrumentedType,
                 fieldType,
                 Opcodes.ACC_SYNTHETIC | Opcodes.ACC_FINAL | Opcodes.ACC_STATIC);
@@ -237,6 +303,44 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
         return fieldCache;
     }
 
+    @Override
+    public MethodDescription cacheLazily(StackManipulation fieldValue, TypeDescription fieldType) {
+        if (fieldType.isPrimitive()) {
+            throw new IllegalArgumentException("Cannot cache a primitive value lazily: " + fieldType);
+        }
+        FieldCacheEntry fieldCacheEntry = new FieldCacheEntry(fieldValue, fieldType);
+        MethodDescription accessorMethod = registeredLazyFieldCacheEntries.get(fieldCacheEntry);
+        if (accessorMethod != null) {
+            return accessorMethod;
+        }
+        String suffix = nextMemberNameSuffix();
+        FieldDescription fieldCache = new FieldDescription.Latent(String.format("%s$%s", fieldCachePrefix, suffix),
+                instrumentedType,
+                fieldType,
+                Opcodes.ACC_SYNTHETIC | Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC);
+        accessorMethod = new MethodDescription.Latent(String.format("%s$%s$%s", fieldCachePrefix, accessorMethodSuffix, suffix),
+                instrumentedType,
+                fieldType,
+                new TypeList.Empty(),
+                Opcodes.ACC_SYNTHETIC | Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC);
+        registeredLazyFieldCacheEntries.put(fieldCacheEntry, accessorMethod);
+        lazyFieldCaches.add(fieldCache);
+        orderedAccessorMethods.add(accessorMethod);
+        accessorMethodEntries.put(accessorMethod, new LazyFieldCacheAccessor(fieldValue, fieldCache));
+        return accessorMethod;
+    }
+
+    /**
+     * Returns a suffix for naming an accessor method or a field cache. The suffix is unique within the instrumented
+     * type and is derived from the instrumented type's name such that an accessor method of a subclass that is
+     * itself instrumented does not override a final accessor method of its super class.
+     *
+     * @return A unique suffix for naming a synthetic member of the instrumented type.
+     */
+    private String nextMemberNameSuffix() {
+        return String.format("%08x$%d", instrumentedType.getInternalName().hashCode(), memberCount++);
+    }
+
     /**
      * Validates that the field cache is still accessible. Once the type initializer of a class is written, no
      * additional field caches can be defined. See
@@ -253,7 +357,9 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
 
     @Override
     public List<FieldDescription> getRegisteredFieldCaches() {
-        return new ArrayList<FieldDescription>(registeredFieldCacheEntries.values());
+        List<FieldDescription> fieldCaches = new ArrayList<FieldDescription>(registeredFieldCacheEntries.values());
+        fieldCaches.addAll(lazyFieldCaches);
+        return fieldCaches;
     }
 
     @Override
@@ -282,12 +388,16 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
                 ", accessorMethodSuffix='" + accessorMethodSuffix + '\'' +
                 ", fieldCachePrefix='" + fieldCachePrefix + '\'' +
                 ", auxiliaryTypeNamingStrategy=" + auxiliaryTypeNamingStrategy +
+                ", auxiliaryTypeRegistry=" + auxiliaryTypeRegistry +
                 ", registeredAccessorMethods=" + registeredAccessorMethods +
                 ", orderedAccessorMethods=" + orderedAccessorMethods +
                 ", accessorMethodEntries=" + accessorMethodEntries +
                 ", auxiliaryTypes=" + auxiliaryTypes +
+                ", sharedAuxiliaryTypes=" + sharedAuxiliaryTypes +
                 ", registeredFieldCacheEntries=" + registeredFieldCacheEntries +
-                ", random=" + random +
+                ", registeredLazyFieldCacheEntries=" + registeredLazyFieldCacheEntries +
+                ", lazyFieldCaches=" + lazyFieldCaches +
+                ", memberCount=" + memberCount +
                 ", canRegisterFieldCache=" + canRegisterFieldCache +
                 '}';
     }
@@ -380,6 +490,80 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
                 return "TypeExtensionDelegate.AuxiliaryTypeNamingStrategySuffixingRandom{suffix='" + suffix + '\'' + '}';
             }
         }
+
+        /**
+         * A naming strategy for an auxiliary type which returns the instrumented type's name with a fixed extension
+         * and a sequential number as a suffix. The number is counted separately for every instrumented type such
+         * that the same auxiliary types are named identically on every run. All generated names will be in the same
+         * package as the instrumented type. This naming strategy is thread-safe.
+         */
+        static class SuffixingSequential implements AuxiliaryTypeNamingStrategy {
+
+            /**
+             * The suffix to append to the instrumented type for creating names for the auxiliary types.
+             */
+            private final String suffix;
+
+            /**
+             * The sequence that numbers the auxiliary types of each instrumented type.
+             */
+            private final NamingStrategy.Sequence sequence;
+
+            /**
+             * Creates a new suffixing sequential naming strategy.
+             *
+             * @param suffix The suffix to extend to the instrumented type.
+             */
+            public SuffixingSequential(String suffix) {
+                this(suffix, new NamingStrategy.Sequence());
+            }
+
+            /**
+             * Creates a new suffixing sequential naming strategy that skips any names of types that are visible
+             * to the given class loader.
+             *
+             * @param suffix      The suffix to extend to the instrumented type.
+             * @param classLoader The class loader into which the auxiliary types are loaded.
+             */
+            public SuffixingSequential(String suffix, ClassLoader classLoader) {
+                this(suffix, new NamingStrategy.Sequence(classLoader));
+            }
+
+            /**
+             * Creates a new suffixing sequential naming strategy.
+             *
+             * @param suffix   The suffix to extend to the instrumented type.
+             * @param sequence The sequence that numbers the auxiliary types of each instrumented type.
+             */
+            public SuffixingSequential(String suffix, NamingStrategy.Sequence sequence) {
+                this.suffix = suffix;
+                this.sequence = sequence;
+            }
+
+            @Override
+            public String name(AuxiliaryType auxiliaryType, TypeDescription instrumentedType) {
+                return sequence.next(instrumentedType.getName() + "$" + suffix);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && suffix.equals(((SuffixingSequential) other).suffix);
+            }
+
+            @Override
+            public int hashCode() {
+                return suffix.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeExtensionDelegate.AuxiliaryTypeNamingStrategy.SuffixingSequential{" +
+                        "suffix='" + suffix + '\'' +
+                        ", sequence=" + sequence +
+                        '}';
+            }
+        }
     }
 
     /**
@@ -586,6 +770,98 @@ public class TypeExtensionDelegate implements Instrumentation.Context.Extractabl
         }
     }
 
+    /**
+     * An implementation of a {@link net.bytebuddy.dynamic.scaffold.TypeWriter.MethodPool.Entry} for implementing
+     * the accessor method of a lazy field cache. The accessor reads the field cache once and returns its value if
+     * it is not {@code null}. Otherwise, the value is created, stored in the field cache and returned. As the field
+     * cache is not synchronized, the value might be created more than once by concurrent threads.
+     */
+    private static class LazyFieldCacheAccessor implements TypeWriter.MethodPool.Entry, ByteCodeAppender {
+
+        /**
+         * A stack manipulation for creating the cached value.
+         */
+        private final StackManipulation fieldValue;
+
+        /**
+         * The field in which the cached value is stored.
+         */
+        private final FieldDescription fieldCache;
+
+        /**
+         * Creates a new lazy field cache accessor.
+         *
+         * @param fieldValue A stack manipulation for creating the cached value.
+         * @param fieldCache The field in which the cached value is stored.
+         */
+        private LazyFieldCacheAccessor(StackManipulation fieldValue, FieldDescription fieldCache) {
+            this.fieldValue = fieldValue;
+            this.fieldCache = fieldCache;
+        }
+
+        @Override
+        public ByteCodeAppender getByteCodeAppender() {
+            return this;
+        }
+
+        @Override
+        public boolean isDefineMethod() {
+            return true;
+        }
+
+        @Override
+        public boolean appendsCode() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor,
+                          Instrumentation.Context instrumentationContext,
+                          MethodDescription instrumentedMethod) {
+            StackManipulation.Size stackSize = new StackManipulation.Compound(
+                    FieldAccess.forField(fieldCache).getter(),
+                    Duplication.SINGLE
+            ).apply(methodVisitor, instrumentationContext);
+            Label initialized = new Label();
+            methodVisitor.visitJumpInsn(Opcodes.IFNONNULL, initialized);
+            methodVisitor.visitInsn(Opcodes.POP);
+            stackSize = stackSize.aggregate(new StackManipulation.Size(-2, 0)).aggregate(new StackManipulation.Compound(
+                    fieldValue,
+                    Duplication.SINGLE,
+                    FieldAccess.forField(fieldCache).putter()
+            ).apply(methodVisitor, instrumentationContext));
+            methodVisitor.visitLabel(initialized);
+            methodVisitor.visitFrame(Opcodes.F_SAME1, 0, null, 1, new Object[]{fieldCache.getFieldType().getInternalName()});
+            stackSize = stackSize.aggregate(MethodReturn.ANY_REFERENCE.apply(methodVisitor, instrumentationContext));
+            return new Size(stackSize.getMaximalSize(), instrumentedMethod.getStackSize());
+        }
+
+        @Override
+        public MethodAttributeAppender getAttributeAppender() {
+            return MethodAttributeAppender.NoOp.INSTANCE;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && fieldValue.equals(((LazyFieldCacheAccessor) other).fieldValue)
+                    && fieldCache.equals(((LazyFieldCacheAccessor) other).fieldCache);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fieldValue.hashCode() + fieldCache.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeExtensionDelegate.LazyFieldCacheAccessor{" +
+                    "fieldValue=" + fieldValue +
+                    ", fieldCache=" + fieldCache +
+                    '}';
+        }
+    }
+
     /**
      * A method pool that prepends the initialization of any field caches to the actual instrumentation of a dynamic
      * type's type initializer, if any. If the wrapped method pool does not define an instrumentation for the type
@@ -17,10 +17,10 @@ import net.bytebuddy.instrumentation.method.matcher.MethodMatcher;
 import net.bytebuddy.instrumentation.type.InstrumentedType;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.instrumentation.type.TypeList;
+import net.bytebuddy.utility.PersistentList;
 import org.objectweb.asm.Opcodes;
 
 import java.lang.annotation.Annotation;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -107,11 +107,71 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      */
     private final MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory;
 
+    /**
+     * The registry for sharing auxiliary types among dynamic types.
+     */
+    private final AuxiliaryTypeRegistry auxiliaryTypeRegistry;
+
     /**
      * The constructor strategy that is applied by this builder.
      */
     private final ConstructorStrategy constructorStrategy;
 
+    /**
+     * Creates a new immutable type builder for a subclassing a loaded class which does not share auxiliary types
+     * with other dynamic types.
+     *
+     * @param classFileVersion                      The class file version for the created dynamic type.
+     * @param namingStrategy                        The naming strategy for naming the dynamic type.
+     * @param superType                             The loaded super type the dynamic type should extend.
+     * @param interfaceTypes                        A list of interfaces that should be implemented by the created dynamic type.
+     * @param modifiers                             The modifiers to be represented by the dynamic type.
+     * @param attributeAppender                     The attribute appender to apply onto the dynamic type that is created.
+     * @param ignoredMethods                        A matcher for determining methods that are to be ignored for instrumentation.
+     * @param bridgeMethodResolverFactory           A factory for creating a bridge method resolver.
+     * @param classVisitorWrapperChain              A chain of ASM class visitors to apply to the writing process.
+     * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
+     * @param methodRegistry                        The method registry to apply to the dynamic type creation.
+     * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+     * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
+     *                                              no specific appender was specified for a given field.
+     * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
+     *                                              if no specific appender was specified for a given method.
+     * @param constructorStrategy                   The strategy for creating constructors when defining this dynamic type.
+     */
+    public SubclassDynamicTypeBuilder(ClassFileVersion classFileVersion,
+                                      NamingStrategy namingStrategy,
+                                      TypeDescription superType,
+                                      List<? extends TypeDescription> interfaceTypes,
+                                      int modifiers,
+                                      TypeAttributeAppender attributeAppender,
+                                      MethodMatcher ignoredMethods,
+                                      BridgeMethodResolver.Factory bridgeMethodResolverFactory,
+                                      ClassVisitorWrapper.Chain classVisitorWrapperChain,
+                                      FieldRegistry fieldRegistry,
+                                      MethodRegistry methodRegistry,
+                                      MethodLookupEngine.Factory methodLookupEngineFactory,
+                                      FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
+                                      MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                      ConstructorStrategy constructorStrategy) {
+        this(classFileVersion,
+                namingStrategy,
+                superType,
+                interfaceTypes,
+                modifiers,
+                attributeAppender,
+                ignoredMethods,
+                bridgeMethodResolverFactory,
+                classVisitorWrapperChain,
+                fieldRegistry,
+                methodRegistry,
+                methodLookupEngineFactory,
+                defaultFieldAttributeAppenderFactory,
+                defaultMethodAttributeAppenderFactory,
+                AuxiliaryTypeRegistry.NoOp.INSTANCE,
+                constructorStrategy);
+    }
+
     /**
      * Creates a new immutable type builder for a subclassing a loaded class.
      *
@@ -131,6 +191,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param auxiliaryTypeRegistry                 The registry for sharing auxiliary types among dynamic types.
      * @param constructorStrategy                   The strategy for creating constructors when defining this dynamic type.
      */
     public SubclassDynamicTypeBuilder(ClassFileVersion classFileVersion,
@@ -147,12 +208,13 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                       MethodLookupEngine.Factory methodLookupEngineFactory,
                                       FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                       MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                      AuxiliaryTypeRegistry auxiliaryTypeRegistry,
                                       ConstructorStrategy constructorStrategy) {
         super(Collections.<FieldToken>emptyList(), Collections.<MethodToken>emptyList());
         this.classFileVersion = classFileVersion;
         this.namingStrategy = namingStrategy;
         this.superType = superType;
-        this.interfaceTypes = new ArrayList<TypeDescription>(interfaceTypes);
+        this.interfaceTypes = PersistentList.<TypeDescription>of(interfaceTypes);
         this.modifiers = modifiers;
         this.attributeAppender = attributeAppender;
         this.ignoredMethods = ignoredMethods;
@@ -162,6 +224,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
         this.methodLookupEngineFactory = methodLookupEngineFactory;
         this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
         this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
+        this.auxiliaryTypeRegistry = auxiliaryTypeRegistry;
         this.methodRegistry = methodRegistry;
         this.constructorStrategy = constructorStrategy;
     }
@@ -185,6 +248,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
+     * @param auxiliaryTypeRegistry                 The registry for sharing auxiliary types among dynamic types.
      * @param fieldTokens                           A list of field representations that were added explicitly to this
      *                                              dynamic type.
      * @param methodTokens                          A list of method representations that were added explicitly to this
@@ -206,6 +270,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                          MethodLookupEngine.Factory methodLookupEngineFactory,
                                          FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                         AuxiliaryTypeRegistry auxiliaryTypeRegistry,
                                          List<FieldToken> fieldTokens,
                                          List<MethodToken> methodTokens,
                                          ConstructorStrategy constructorStrategy) {
@@ -224,6 +289,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
         this.methodLookupEngineFactory = methodLookupEngineFactory;
         this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
         this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
+        this.auxiliaryTypeRegistry = auxiliaryTypeRegistry;
         this.constructorStrategy = constructorStrategy;
     }
 
@@ -243,6 +309,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -269,6 +336,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -290,6 +358,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -311,6 +380,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -332,6 +402,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -358,6 +429,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -379,6 +451,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -400,6 +473,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 methodLookupEngineFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
+                auxiliaryTypeRegistry,
                 fieldTokens,
                 methodTokens,
                 constructorStrategy);
@@ -467,7 +541,9 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                         MethodRegistry.Compiled.Entry.Skip.INSTANCE
                 );
         MethodLookupEngine.Finding finding = compiledMethodRegistry.getFinding();
-        TypeExtensionDelegate typeExtensionDelegate = new TypeExtensionDelegate(finding.getTypeDescription(), classFileVersion);
+        TypeExtensionDelegate typeExtensionDelegate = new TypeExtensionDelegate(finding.getTypeDescription(),
+                classFileVersion,
+                auxiliaryTypeRegistry);
         return new TypeWriter.Builder<T>(finding.getTypeDescription(), compiledMethodRegistry.getLoadedTypeInitializer(), typeExtensionDelegate, classFileVersion)
                 .build(classVisitorWrapperChain)
                 .attributeType(attributeAppender)
@@ -515,6 +591,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 && classVisitorWrapperChain.equals(that.classVisitorWrapperChain)
                 && defaultFieldAttributeAppenderFactory.equals(that.defaultFieldAttributeAppenderFactory)
                 && defaultMethodAttributeAppenderFactory.equals(that.defaultMethodAttributeAppenderFactory)
+                && auxiliaryTypeRegistry.equals(that.auxiliaryTypeRegistry)
                 && fieldRegistry.equals(that.fieldRegistry)
                 && ignoredMethods.equals(that.ignoredMethods)
                 && interfaceTypes.equals(that.interfaceTypes)
@@ -541,6 +618,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
         result = 31 * result + methodLookupEngineFactory.hashCode();
         result = 31 * result + defaultFieldAttributeAppenderFactory.hashCode();
         result = 31 * result + defaultMethodAttributeAppenderFactory.hashCode();
+        result = 31 * result + auxiliaryTypeRegistry.hashCode();
         result = 31 * result + constructorStrategy.hashCode();
         return result;
     }
@@ -562,6 +640,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
+                ", auxiliaryTypeRegistry=" + auxiliaryTypeRegistry +
                 ", constructorStrategy=" + constructorStrategy +
                 '}';
     }
@@ -638,7 +717,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
-                    join(fieldTokens, fieldToken),
+                    auxiliaryTypeRegistry,
+                    PersistentList.of(fieldTokens).append(fieldToken),
                     methodTokens,
                     constructorStrategy);
         }
@@ -891,7 +971,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
          * @return A subclass matched method interception that represents the materialized method.
          */
         private SubclassMatchedMethodInterception<S> materialize(MethodToken methodToken) {
-            return new SubclassMatchedMethodInterception<S>(methodToken, join(methodTokens, methodToken));
+            return new SubclassMatchedMethodInterception<S>(methodToken, PersistentList.of(methodTokens).append(methodToken));
         }
 
         @Override
@@ -989,6 +1069,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry,
                     fieldTokens,
                     methodTokens,
                     constructorStrategy);
@@ -1093,7 +1174,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
             return new SubclassDynamicTypeBuilder<S>(classFileVersion,
                     namingStrategy,
                     superType,
-                    join(interfaceTypes, isInterface(Arrays.asList(interfaceType))),
+                    PersistentList.of(interfaceTypes).appendAll(isInterface(Arrays.asList(interfaceType))),
                     modifiers,
                     attributeAppender,
                     ignoredMethods,
@@ -1104,6 +1185,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                     methodLookupEngineFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
+                    auxiliaryTypeRegistry,
                     fieldTokens,
                     methodTokens,
                     constructorStrategy);
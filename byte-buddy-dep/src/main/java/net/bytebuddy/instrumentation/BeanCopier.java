@@ -0,0 +1,684 @@
+package net.bytebuddy.instrumentation;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.instrumentation.method.MethodLookupEngine;
+import net.bytebuddy.instrumentation.method.bytecode.ByteCodeAppender;
+import net.bytebuddy.instrumentation.method.bytecode.stack.StackManipulation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.Assigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.PrimitiveTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodInvocation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodReturn;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodVariableAccess;
+import net.bytebuddy.instrumentation.type.InstrumentedType;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.*;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * An instrumentation that copies the bean properties of a source type to a target type by invoking the getters of
+ * the source type and the setters of the target type directly. The instrumented method must take two arguments where
+ * the first argument is the source instance and the second argument is the target instance. If the instrumented
+ * method does not return {@code void}, the target instance is returned. This instrumentation is typically applied
+ * to implement a {@link net.bytebuddy.instrumentation.Copier}.
+ * <p>&nbsp;</p>
+ * Properties are resolved by the naming conventions that are also applied by
+ * {@link net.bytebuddy.instrumentation.FieldAccessor#ofBeanProperty()}. Any {@code public} getter of the source type
+ * is copied to a {@code public} setter of the target type of a matching property where any conversion such as the
+ * widening or boxing of a value is resolved by an assigner when the instrumentation is applied. A matching property
+ * that cannot be assigned causes an exception when the instrumentation is applied. Getters that are declared by
+ * {@link java.lang.Object} are never copied.
+ */
+public class BeanCopier implements Instrumentation {
+
+    /**
+     * The source type of which properties are read.
+     */
+    protected final TypeDescription sourceType;
+
+    /**
+     * The target type of which properties are written.
+     */
+    protected final TypeDescription targetType;
+
+    /**
+     * The matcher that decides if a source property is copied to a target property.
+     */
+    protected final PropertyMatcher propertyMatcher;
+
+    /**
+     * The handling of {@code null} values of source properties.
+     */
+    protected final NullHandling nullHandling;
+
+    /**
+     * The assigner for converting the value of a source property to the type of a target property.
+     */
+    protected final Assigner assigner;
+
+    /**
+     * {@code true} if the runtime type of a source property's value should be considered for an assignment.
+     */
+    protected final boolean considerRuntimeType;
+
+    /**
+     * Creates a new bean copier.
+     *
+     * @param sourceType          The source type of which properties are read.
+     * @param targetType          The target type of which properties are written.
+     * @param propertyMatcher     The matcher that decides if a source property is copied to a target property.
+     * @param nullHandling        The handling of {@code null} values of source properties.
+     * @param assigner            The assigner for converting the value of a source property to the type of a target
+     *                            property.
+     * @param considerRuntimeType {@code true} if the runtime type of a source property's value should be considered
+     *                            for an assignment.
+     */
+    protected BeanCopier(TypeDescription sourceType,
+                         TypeDescription targetType,
+                         PropertyMatcher propertyMatcher,
+                         NullHandling nullHandling,
+                         Assigner assigner,
+                         boolean considerRuntimeType) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.propertyMatcher = propertyMatcher;
+        this.nullHandling = nullHandling;
+        this.assigner = assigner;
+        this.considerRuntimeType = considerRuntimeType;
+    }
+
+    /**
+     * Creates a bean copier that reads properties of the given type.
+     *
+     * @param sourceType The source type of which properties are read.
+     * @return A bean copier that requires a target type.
+     */
+    public static TargetTypeDefinable from(Class<?> sourceType) {
+        return from(new TypeDescription.ForLoadedType(nonNull(sourceType)));
+    }
+
+    /**
+     * Creates a bean copier that reads properties of the given type.
+     *
+     * @param sourceType The source type of which properties are read.
+     * @return A bean copier that requires a target type.
+     */
+    public static TargetTypeDefinable from(TypeDescription sourceType) {
+        return new TargetTypeDefinable(nonNull(sourceType));
+    }
+
+    /**
+     * Returns a bean copier that uses the given matcher for deciding if a source property is copied to a target
+     * property. By default, properties are only copied between properties of the same name.
+     *
+     * @param propertyMatcher The matcher that decides if a source property is copied to a target property.
+     * @return A bean copier that uses the given property matcher.
+     */
+    public BeanCopier matching(PropertyMatcher propertyMatcher) {
+        return new BeanCopier(sourceType, targetType, nonNull(propertyMatcher), nullHandling, assigner, considerRuntimeType);
+    }
+
+    /**
+     * Returns a bean copier that applies the given handling of {@code null} values of source properties. By default,
+     * {@code null} values are copied.
+     *
+     * @param nullHandling The handling of {@code null} values of source properties.
+     * @return A bean copier that applies the given null handling.
+     */
+    public BeanCopier nullHandling(NullHandling nullHandling) {
+        return new BeanCopier(sourceType, targetType, propertyMatcher, nonNull(nullHandling), assigner, considerRuntimeType);
+    }
+
+    /**
+     * Returns a bean copier that uses the given assigner for converting the value of a source property to the type
+     * of a target property.
+     *
+     * @param assigner            The assigner to use.
+     * @param considerRuntimeType {@code true} if the runtime type of a source property's value should be considered
+     *                            for an assignment.
+     * @return A bean copier that uses the given assigner.
+     */
+    public BeanCopier assigner(Assigner assigner, boolean considerRuntimeType) {
+        return new BeanCopier(sourceType, targetType, propertyMatcher, nullHandling, nonNull(assigner), considerRuntimeType);
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target instrumentationTarget) {
+        return new Appender(resolve());
+    }
+
+    /**
+     * Resolves the copied properties by pairing a getter of the source type with a setter of the target type.
+     *
+     * @return A list of all copied properties in the order in which they are copied.
+     */
+    protected List<Property> resolve() {
+        Map<String, MethodDescription> getters = new LinkedHashMap<String, MethodDescription>();
+        for (MethodDescription getter : accessorsOf(sourceType).filter(isGetter().and(not(isDeclaredBy(Object.class))))) {
+            String name = FieldAccessor.ForBeanProperty.propertyNameOf(getter);
+            if (!getters.containsKey(name)) {
+                getters.put(name, getter);
+            }
+        }
+        Map<String, List<MethodDescription>> setters = new LinkedHashMap<String, List<MethodDescription>>();
+        for (MethodDescription setter : accessorsOf(targetType).filter(isSetter())) {
+            String name = FieldAccessor.ForBeanProperty.propertyNameOf(setter);
+            List<MethodDescription> overloaded = setters.get(name);
+            if (overloaded == null) {
+                overloaded = new ArrayList<MethodDescription>(1);
+                setters.put(name, overloaded);
+            }
+            overloaded.add(setter);
+        }
+        List<Property> properties = new ArrayList<Property>(setters.size());
+        for (Map.Entry<String, List<MethodDescription>> setter : setters.entrySet()) {
+            MethodDescription getter = null;
+            for (Map.Entry<String, MethodDescription> candidate : getters.entrySet()) {
+                if (propertyMatcher.matches(candidate.getKey(), setter.getKey())) {
+                    getter = candidate.getValue();
+                    break;
+                }
+            }
+            if (getter != null) {
+                properties.add(resolve(getter, setter.getValue()));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Resolves a copied property by finding the first of the given setters to which the value of the getter can be
+     * assigned.
+     *
+     * @param getter  The getter of the source property.
+     * @param setters The overloaded setters of the target property.
+     * @return The copied property.
+     */
+    private Property resolve(MethodDescription getter, List<MethodDescription> setters) {
+        for (MethodDescription setter : setters) {
+            StackManipulation assignment = assigner.assign(getter.getReturnType(),
+                    setter.getParameterTypes().get(0),
+                    considerRuntimeType);
+            if (assignment.isValid()) {
+                return new Property(getter, setter, assignment);
+            }
+        }
+        throw new IllegalStateException("Cannot assign " + getter + " to any of " + setters);
+    }
+
+    /**
+     * Returns all {@code public} non-{@code static} methods of the given type in a stable order. A bridge method is
+     * only excluded if it bridges a method with the same name and parameter types, i.e. if it is a bridge for a
+     * covariant return type or a generic type. Visibility bridges that the Java compiler generates for a
+     * {@code public} method that is inherited from a package-private class are retained as this method is otherwise
+     * not represented.
+     *
+     * @param typeDescription The type of which the methods are returned.
+     * @return All {@code public} non-{@code static} methods of the given type.
+     */
+    private static MethodList accessorsOf(TypeDescription typeDescription) {
+        MethodList candidates = new MethodLookupEngine.Default(MethodLookupEngine.Default.DefaultMethodLookup.DISABLED)
+                .process(typeDescription)
+                .getInvokableMethods()
+                .filter(isMethod().and(isPublic()).and(not(isStatic())));
+        List<MethodDescription> methodDescriptions = new ArrayList<MethodDescription>();
+        for (MethodDescription methodDescription : candidates) {
+            if (!methodDescription.isBridge() || candidates.filter(not(isBridge())
+                    .and(named(methodDescription.getName()))
+                    .and(takesArguments(methodDescription.getParameterTypes()))).isEmpty()) {
+                methodDescriptions.add(methodDescription);
+            }
+        }
+        Collections.sort(methodDescriptions, new Comparator<MethodDescription>() {
+            @Override
+            public int compare(MethodDescription left, MethodDescription right) {
+                return left.getUniqueSignature().compareTo(right.getUniqueSignature());
+            }
+        });
+        return new MethodList.Explicit(methodDescriptions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && considerRuntimeType == ((BeanCopier) other).considerRuntimeType
+                && nullHandling == ((BeanCopier) other).nullHandling
+                && assigner.equals(((BeanCopier) other).assigner)
+                && propertyMatcher.equals(((BeanCopier) other).propertyMatcher)
+                && sourceType.equals(((BeanCopier) other).sourceType)
+                && targetType.equals(((BeanCopier) other).targetType);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sourceType.hashCode();
+        result = 31 * result + targetType.hashCode();
+        result = 31 * result + propertyMatcher.hashCode();
+        result = 31 * result + nullHandling.hashCode();
+        result = 31 * result + assigner.hashCode();
+        return 31 * result + (considerRuntimeType ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "BeanCopier{" +
+                "sourceType=" + sourceType +
+                ", targetType=" + targetType +
+                ", propertyMatcher=" + propertyMatcher +
+                ", nullHandling=" + nullHandling +
+                ", assigner=" + assigner +
+                ", considerRuntimeType=" + considerRuntimeType +
+                '}';
+    }
+
+    /**
+     * Decides if the value of a source property is copied to a target property.
+     */
+    public static interface PropertyMatcher {
+
+        /**
+         * Checks if a source property is copied to a target property. If several source properties match a target
+         * property, the property with the lexicographically lowest getter is copied.
+         *
+         * @param sourceProperty The name of the source property.
+         * @param targetProperty The name of the target property.
+         * @return {@code true} if the source property is copied to the target property.
+         */
+        boolean matches(String sourceProperty, String targetProperty);
+
+        /**
+         * Default implementations of property matchers.
+         */
+        static enum Default implements PropertyMatcher {
+
+            /**
+             * Matches properties of equal names.
+             */
+            EXACT {
+                @Override
+                public boolean matches(String sourceProperty, String targetProperty) {
+                    return sourceProperty.equals(targetProperty);
+                }
+            },
+
+            /**
+             * Matches properties of equal names when ignoring their case.
+             */
+            IGNORE_CASE {
+                @Override
+                public boolean matches(String sourceProperty, String targetProperty) {
+                    return sourceProperty.equalsIgnoreCase(targetProperty);
+                }
+            }
+        }
+
+        /**
+         * A property matcher that matches explicitly mapped properties and delegates any other property to another
+         * property matcher.
+         */
+        static class ForMapping implements PropertyMatcher {
+
+            /**
+             * A mapping of source property names to target property names.
+             */
+            private final Map<String, String> mapping;
+
+            /**
+             * The property matcher for any source property that is not mapped explicitly.
+             */
+            private final PropertyMatcher fallback;
+
+            /**
+             * Creates a new property matcher for an explicit mapping.
+             *
+             * @param mapping  A mapping of source property names to target property names.
+             * @param fallback The property matcher for any source property that is not mapped explicitly.
+             */
+            public ForMapping(Map<String, String> mapping, PropertyMatcher fallback) {
+                this.mapping = new HashMap<String, String>(mapping);
+                this.fallback = fallback;
+            }
+
+            @Override
+            public boolean matches(String sourceProperty, String targetProperty) {
+                String mapped = mapping.get(sourceProperty);
+                return mapped == null
+                        ? !mapping.containsValue(targetProperty) && fallback.matches(sourceProperty, targetProperty)
+                        : mapped.equals(targetProperty);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && mapping.equals(((ForMapping) other).mapping)
+                        && fallback.equals(((ForMapping) other).fallback);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * mapping.hashCode() + fallback.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "BeanCopier.PropertyMatcher.ForMapping{" +
+                        "mapping=" + mapping +
+                        ", fallback=" + fallback +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * Determines how a {@code null} value of a source property of a reference type is handled.
+     */
+    public static enum NullHandling {
+
+        /**
+         * Copies a {@code null} value to the target property. If the target property is of a primitive type, copying
+         * a {@code null} value results in a {@link java.lang.NullPointerException}.
+         */
+        COPY,
+
+        /**
+         * Does not invoke the target property's setter if the source property's value is {@code null}.
+         */
+        SKIP
+    }
+
+    /**
+     * Defines the target type of a bean copier.
+     */
+    public static class TargetTypeDefinable {
+
+        /**
+         * The source type of which properties are read.
+         */
+        private final TypeDescription sourceType;
+
+        /**
+         * Creates a new target type definable.
+         *
+         * @param sourceType The source type of which properties are read.
+         */
+        protected TargetTypeDefinable(TypeDescription sourceType) {
+            this.sourceType = sourceType;
+        }
+
+        /**
+         * Defines the target type of the bean copier.
+         *
+         * @param targetType The target type of which properties are written.
+         * @return A bean copier that copies properties from the source type to the given target type.
+         */
+        public BeanCopier to(Class<?> targetType) {
+            return to(new TypeDescription.ForLoadedType(nonNull(targetType)));
+        }
+
+        /**
+         * Defines the target type of the bean copier.
+         *
+         * @param targetType The target type of which properties are written.
+         * @return A bean copier that copies properties from the source type to the given target type.
+         */
+        public BeanCopier to(TypeDescription targetType) {
+            return new BeanCopier(sourceType,
+                    nonNull(targetType),
+                    PropertyMatcher.Default.EXACT,
+                    NullHandling.COPY,
+                    new PrimitiveTypeAwareAssigner(ReferenceTypeAwareAssigner.INSTANCE),
+                    false);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && sourceType.equals(((TargetTypeDefinable) other).sourceType);
+        }
+
+        @Override
+        public int hashCode() {
+            return sourceType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "BeanCopier.TargetTypeDefinable{sourceType=" + sourceType + '}';
+        }
+    }
+
+    /**
+     * A copied property that is represented by a getter of the source type and a setter of the target type.
+     */
+    protected static class Property {
+
+        /**
+         * The getter of the source property.
+         */
+        private final MethodDescription getter;
+
+        /**
+         * The setter of the target property.
+         */
+        private final MethodDescription setter;
+
+        /**
+         * The stack manipulation that converts the getter's return value to the setter's parameter type.
+         */
+        private final StackManipulation assignment;
+
+        /**
+         * Creates a new copied property.
+         *
+         * @param getter     The getter of the source property.
+         * @param setter     The setter of the target property.
+         * @param assignment The stack manipulation that converts the getter's return value to the setter's parameter
+         *                   type.
+         */
+        protected Property(MethodDescription getter, MethodDescription setter, StackManipulation assignment) {
+            this.getter = getter;
+            this.setter = setter;
+            this.assignment = assignment;
+        }
+
+        /**
+         * Returns the getter of the source property.
+         *
+         * @return The getter of the source property.
+         */
+        public MethodDescription getGetter() {
+            return getter;
+        }
+
+        /**
+         * Returns the setter of the target property.
+         *
+         * @return The setter of the target property.
+         */
+        public MethodDescription getSetter() {
+            return setter;
+        }
+
+        /**
+         * Returns the stack manipulation that converts the getter's return value to the setter's parameter type.
+         *
+         * @return The stack manipulation that converts the getter's return value to the setter's parameter type.
+         */
+        public StackManipulation getAssignment() {
+            return assignment;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && getter.equals(((Property) other).getter)
+                    && setter.equals(((Property) other).setter)
+                    && assignment.equals(((Property) other).assignment);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * getter.hashCode() + setter.hashCode()) + assignment.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "BeanCopier.Property{" +
+                    "getter=" + getter +
+                    ", setter=" + setter +
+                    ", assignment=" + assignment +
+                    '}';
+        }
+    }
+
+    /**
+     * An appender that emits straight-line code for copying all resolved properties.
+     */
+    protected class Appender implements ByteCodeAppender {
+
+        /**
+         * The index of the instrumented method's parameter that represents the source instance.
+         */
+        private static final int SOURCE_PARAMETER = 0;
+
+        /**
+         * The index of the instrumented method's parameter that represents the target instance.
+         */
+        private static final int TARGET_PARAMETER = 1;
+
+        /**
+         * The copied properties in the order in which they are copied.
+         */
+        private final List<Property> properties;
+
+        /**
+         * Creates a new appender.
+         *
+         * @param properties The copied properties in the order in which they are copied.
+         */
+        protected Appender(List<Property> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean appendsCode() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor,
+                          Instrumentation.Context instrumentationContext,
+                          MethodDescription instrumentedMethod) {
+            if (instrumentedMethod.getParameterTypes().size() != 2) {
+                throw new IllegalStateException(instrumentedMethod + " does not take a source and a target argument");
+            }
+            StackManipulation loadSource = load(instrumentedMethod, SOURCE_PARAMETER, sourceType);
+            StackManipulation loadTarget = load(instrumentedMethod, TARGET_PARAMETER, targetType);
+            int valueIndex = instrumentedMethod.getStackSize(), maximalSize = 0;
+            boolean valueStored = false;
+            for (Property property : properties) {
+                StackManipulation getValue = new StackManipulation.Compound(
+                        loadSource,
+                        MethodInvocation.invoke(property.getGetter()).virtual(sourceType));
+                StackManipulation setValue = new StackManipulation.Compound(
+                        property.getAssignment(),
+                        MethodInvocation.invoke(property.getSetter()).virtual(targetType));
+                if (nullHandling == NullHandling.SKIP && !property.getGetter().getReturnType().isPrimitive()) {
+                    maximalSize = Math.max(maximalSize, getValue.apply(methodVisitor, instrumentationContext).getMaximalSize());
+                    methodVisitor.visitVarInsn(Opcodes.ASTORE, valueIndex);
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, valueIndex);
+                    Label skipLabel = new Label();
+                    methodVisitor.visitJumpInsn(Opcodes.IFNULL, skipLabel);
+                    maximalSize = Math.max(maximalSize, new StackManipulation.Compound(loadTarget,
+                            MethodVariableAccess.forType(property.getGetter().getReturnType()).loadFromIndex(valueIndex),
+                            setValue).apply(methodVisitor, instrumentationContext).getMaximalSize());
+                    methodVisitor.visitLabel(skipLabel);
+                    methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                    valueStored = true;
+                } else {
+                    maximalSize = Math.max(maximalSize, new StackManipulation.Compound(loadTarget, getValue, setValue)
+                            .apply(methodVisitor, instrumentationContext).getMaximalSize());
+                }
+            }
+            StackManipulation.Size size = (instrumentedMethod.getReturnType().represents(void.class)
+                    ? MethodReturn.VOID
+                    : new StackManipulation.Compound(
+                    MethodVariableAccess.forType(instrumentedMethod.getParameterTypes().get(TARGET_PARAMETER))
+                            .loadFromIndex(offsetOf(instrumentedMethod, TARGET_PARAMETER)),
+                    assigner.assign(instrumentedMethod.getParameterTypes().get(TARGET_PARAMETER), instrumentedMethod.getReturnType(), true),
+                    MethodReturn.returning(instrumentedMethod.getReturnType()))).apply(methodVisitor, instrumentationContext);
+            return new Size(Math.max(maximalSize, size.getMaximalSize()), instrumentedMethod.getStackSize() + (valueStored ? 1 : 0));
+        }
+
+        /**
+         * Loads a parameter of the instrumented method and casts it to the given type.
+         *
+         * @param instrumentedMethod The instrumented method.
+         * @param index              The index of the loaded parameter.
+         * @param typeDescription    The type to which the parameter is cast.
+         * @return A stack manipulation that loads the parameter and casts it to the given type.
+         */
+        private StackManipulation load(MethodDescription instrumentedMethod, int index, TypeDescription typeDescription) {
+            TypeDescription parameterType = instrumentedMethod.getParameterTypes().get(index);
+            return new StackManipulation.Compound(
+                    MethodVariableAccess.forType(parameterType).loadFromIndex(offsetOf(instrumentedMethod, index)),
+                    assigner.assign(parameterType, typeDescription, true));
+        }
+
+        /**
+         * Returns the offset of a parameter of the instrumented method in the local variable array.
+         *
+         * @param instrumentedMethod The instrumented method.
+         * @param index              The index of the parameter.
+         * @return The offset of the parameter in the local variable array.
+         */
+        private int offsetOf(MethodDescription instrumentedMethod, int index) {
+            int offset = instrumentedMethod.isStatic() ? 0 : 1;
+            for (int parameterIndex = 0; parameterIndex < index; parameterIndex++) {
+                offset += instrumentedMethod.getParameterTypes().get(parameterIndex).getStackSize().getSize();
+            }
+            return offset;
+        }
+
+        /**
+         * Returns the outer instance.
+         *
+         * @return The outer instance.
+         */
+        private BeanCopier getBeanCopier() {
+            return BeanCopier.this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && properties.equals(((Appender) other).properties)
+                    && BeanCopier.this.equals(((Appender) other).getBeanCopier());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * BeanCopier.this.hashCode() + properties.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "BeanCopier.Appender{" +
+                    "beanCopier=" + BeanCopier.this +
+                    ", properties=" + properties +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package net.bytebuddy.instrumentation;
+
+/**
+ * A copier transfers the bean properties of a source instance to a target instance. A copier is typically
+ * implemented by a {@link net.bytebuddy.instrumentation.BeanCopier} that invokes the getters of the source
+ * type and the setters of the target type directly.
+ *
+ * @param <S> The type of the instance of which properties are read.
+ * @param <T> The type of the instance of which properties are written.
+ */
+public interface Copier<S, T> {
+
+    /**
+     * Copies all bean properties of the source instance to the target instance.
+     *
+     * @param source The instance of which properties are read.
+     * @param target The instance of which properties are written.
+     */
+    void copy(S source, T target);
+}
@@ -494,8 +494,13 @@ public abstract class FieldAccessor implements Instrumentation {
             return new Appender(fieldLocatorFactory.make(instrumentationTarget.getTypeDescription()));
         }
 
-        @Override
-        protected String getFieldName(MethodDescription targetMethod) {
+        /**
+         * Resolves the name of the bean property that is represented by a getter or setter method.
+         *
+         * @param targetMethod A getter or setter method.
+         * @return The name of the bean property that is represented by the given method.
+         */
+        protected static String propertyNameOf(MethodDescription targetMethod) {
             String name = targetMethod.getInternalName();
             name = name.startsWith("is") ? name.substring(2) : name.substring(3);
             if (name.length() == 0) {
@@ -504,6 +509,11 @@ public abstract class FieldAccessor implements Instrumentation {
             return Character.toLowerCase(name.charAt(0)) + name.substring(1);
         }
 
+        @Override
+        protected String getFieldName(MethodDescription targetMethod) {
+            return propertyNameOf(targetMethod);
+        }
+
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass()) && super.equals(other)
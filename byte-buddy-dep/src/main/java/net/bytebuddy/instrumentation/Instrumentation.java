@@ -1,5 +1,6 @@
 package net.bytebuddy.instrumentation;
 
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.BridgeMethodResolver;
 import net.bytebuddy.instrumentation.field.FieldDescription;
@@ -31,6 +32,13 @@ import java.util.*;
  * An instrumentation implementation should provide meaningful implementations {@link java.lang.Object#equals(Object)}
  * and {@link Object#hashCode()} if it wants to avoid to be used twice within the creation of a dynamic type. For two
  * equal instrumentation implementations only one will be applied on the creation of a dynamic type.
+ * <p>&nbsp;</p>
+ * An instrumentation might be applied by several threads at once when the same instrumentation is used for
+ * creating several types concurrently. All instrumentations that are shipped with Byte Buddy are immutable and any
+ * state of an ongoing instrumentation is kept by the instrumented type, the
+ * {@link net.bytebuddy.instrumentation.Instrumentation.Target} and the
+ * {@link net.bytebuddy.instrumentation.Instrumentation.Context} of a single type creation. Custom implementations
+ * should follow this pattern.
  */
 public interface Instrumentation {
 
@@ -481,6 +489,39 @@ public interface Instrumentation {
          */
         FieldDescription cache(StackManipulation fieldValue, TypeDescription fieldType);
 
+        /**
+         * Caches a single value lazily by storing it in form of a {@code private}, {@code static} and non-final
+         * field. Other than for {@link net.bytebuddy.instrumentation.Instrumentation.Context#cache(StackManipulation, TypeDescription)},
+         * the value is not created in the type initializer. Instead, a {@code private} and {@code static} accessor
+         * method is defined on the instrumented type which returns the field's value and which creates and stores
+         * this value if the field is still {@code null}. This check is not synchronized such that the value might
+         * be created more than once by concurrent threads where any of these values is returned.
+         *
+         * @param fieldValue A stack manipulation for creating the value that is to be cached in a {@code static} field.
+         *                   After executing the stack manipulation, exactly one value must be put onto the operand
+         *                   stack which is assignable to the given {@code fieldType}.
+         * @param fieldType  The type of the field for storing the cached value. This type must not be primitive.
+         * @return A description of a method without parameters that was defined on the instrumented type and that
+         * returns the cached value.
+         */
+        MethodDescription cacheLazily(StackManipulation fieldValue, TypeDescription fieldType);
+
+        /**
+         * Registers an accessor method on the instrumented type that invokes the given special method invocation.
+         * Registering the same special method invocation twice returns the same accessor method.
+         *
+         * @param specialMethodInvocation The special method invocation to be invoked by the accessor method.
+         * @return A description of the accessor method that is defined on the instrumented type.
+         */
+        MethodDescription registerAccessorFor(SpecialMethodInvocation specialMethodInvocation);
+
+        /**
+         * Returns the class file version of the instrumented type.
+         *
+         * @return The class file version of the instrumented type.
+         */
+        ClassFileVersion getClassFileVersion();
+
         /**
          * Represents an extractable view of an {@link net.bytebuddy.instrumentation.Instrumentation.Context} which
          * allows the retrieval of any registered auxiliary type.
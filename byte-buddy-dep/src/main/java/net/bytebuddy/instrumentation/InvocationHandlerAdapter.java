@@ -3,6 +3,7 @@ package net.bytebuddy.instrumentation;
 import net.bytebuddy.instrumentation.method.MethodDescription;
 import net.bytebuddy.instrumentation.method.bytecode.ByteCodeAppender;
 import net.bytebuddy.instrumentation.method.bytecode.stack.StackManipulation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.StackSize;
 import net.bytebuddy.instrumentation.method.bytecode.stack.assign.Assigner;
 import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.PrimitiveTypeAwareAssigner;
 import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.VoidAwareAssigner;
@@ -23,12 +24,15 @@ import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.List;
 
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.takesArguments;
 import static net.bytebuddy.utility.ByteBuddyCommons.isValidIdentifier;
 import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
 
 /**
  * An adapter for adapting an {@link java.lang.reflect.InvocationHandler}. The adapter allows the invocation handler
- * to also intercept method calls to non-interface methods.
+ * to also intercept method calls to non-interface methods. Alternatively, the adapter can adapt a
+ * {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler} for intercepting methods with a primitive signature
+ * without creating an argument array and without boxing any arguments or return values.
  */
 public abstract class InvocationHandlerAdapter implements Instrumentation {
 
@@ -43,8 +47,8 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
     protected final String fieldName;
 
     /**
-     * The assigner that is used for assigning the return invocation handler's return value to the
-     * intercepted method's return value.
+     * The assigner that is used for boxing the intercepted method's arguments and for assigning the invocation
+     * handler's return value to the intercepted method's return value.
      */
     protected final Assigner assigner;
 
@@ -54,16 +58,23 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
      */
     protected final boolean cacheMethods;
 
+    /**
+     * The type of the invocation handler to which method interceptions are delegated.
+     */
+    protected final HandlerType handlerType;
+
     /**
      * Creates a new invocation handler for a given field.
      *
      * @param fieldName    The name of the field.
      * @param cacheMethods Determines if the {@link java.lang.reflect.Method} instances that are handed to the
      *                     intercepted methods are cached in {@code static} fields.
+     * @param handlerType  The type of the invocation handler to which method interceptions are delegated.
      */
-    protected InvocationHandlerAdapter(String fieldName, boolean cacheMethods) {
+    protected InvocationHandlerAdapter(String fieldName, boolean cacheMethods, HandlerType handlerType) {
         this.fieldName = fieldName;
         this.cacheMethods = cacheMethods;
+        this.handlerType = handlerType;
         assigner = new VoidAwareAssigner(new PrimitiveTypeAwareAssigner(ReferenceTypeAwareAssigner.INSTANCE), true);
     }
 
@@ -87,7 +98,36 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
      * @return An instrumentation that delegates all method interceptions to the given invocation handler.
      */
     public static InvocationHandlerAdapter of(InvocationHandler invocationHandler, String fieldName) {
-        return new ForStaticDelegation(nonNull(invocationHandler), isValidIdentifier(fieldName), false);
+        return new ForStaticDelegation(nonNull(invocationHandler), isValidIdentifier(fieldName), false, HandlerType.BOXING);
+    }
+
+    /**
+     * Creates an instrumentation for any instance of a {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler}
+     * that delegates all method interceptions to the given instance which will be stored in a {@code static} field.
+     * Any intercepted method must only declare primitive parameters and must return a primitive value or {@code void}.
+     * The {@link java.lang.reflect.Method} instances that are handed to the handler are always cached such that
+     * intercepting a method does not allocate any object.
+     *
+     * @param primitiveInvocationHandler The primitive invocation handler to which all method calls are delegated.
+     * @return An instrumentation that delegates all method interceptions to the given primitive invocation handler.
+     */
+    public static InvocationHandlerAdapter ofPrimitive(PrimitiveInvocationHandler primitiveInvocationHandler) {
+        return ofPrimitive(primitiveInvocationHandler, String.format("%s$%d", PREFIX, Math.abs(primitiveInvocationHandler.hashCode())));
+    }
+
+    /**
+     * Creates an instrumentation for any instance of a {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler}
+     * that delegates all method interceptions to the given instance which will be stored in a {@code static} field.
+     * Any intercepted method must only declare primitive parameters and must return a primitive value or {@code void}.
+     * The {@link java.lang.reflect.Method} instances that are handed to the handler are always cached such that
+     * intercepting a method does not allocate any object.
+     *
+     * @param primitiveInvocationHandler The primitive invocation handler to which all method calls are delegated.
+     * @param fieldName                  The name of the field.
+     * @return An instrumentation that delegates all method interceptions to the given primitive invocation handler.
+     */
+    public static InvocationHandlerAdapter ofPrimitive(PrimitiveInvocationHandler primitiveInvocationHandler, String fieldName) {
+        return new ForStaticDelegation(nonNull(primitiveInvocationHandler), isValidIdentifier(fieldName), true, HandlerType.PRIMITIVE);
     }
 
     /**
@@ -100,7 +140,22 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
      * @return An instrumentation that delegates all method interceptions to an instance field of the given name.
      */
     public static InvocationHandlerAdapter toInstanceField(String fieldName) {
-        return new ForInstanceDelegation(isValidIdentifier(fieldName), false);
+        return new ForInstanceDelegation(isValidIdentifier(fieldName), false, HandlerType.BOXING);
+    }
+
+    /**
+     * Creates an instrumentation for any {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler} that
+     * delegates all method interceptions to a {@code public} instance field with the given name. This field has to
+     * be set before any invocations are intercepted. Otherwise, a {@link java.lang.NullPointerException} will be
+     * thrown. Any intercepted method must only declare primitive parameters and must return a primitive value or
+     * {@code void}. The {@link java.lang.reflect.Method} instances that are handed to the handler are always cached
+     * such that intercepting a method does not allocate any object.
+     *
+     * @param fieldName The name of the field.
+     * @return An instrumentation that delegates all method interceptions to an instance field of the given name.
+     */
+    public static InvocationHandlerAdapter toPrimitiveInstanceField(String fieldName) {
+        return new ForInstanceDelegation(isValidIdentifier(fieldName), true, HandlerType.PRIMITIVE);
     }
 
     /**
@@ -129,7 +184,8 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
      * needs to be copied by its defining {@link java.lang.Class} before exposing it. This can cause performance
      * deficits when a method is for example called repeatedly in a loop. By enabling the method cache, this
      * performance penalty can be avoided by caching a single {@link java.lang.reflect.Method} instance for
-     * any intercepted method as a {@code static} field in the instrumented type.
+     * any intercepted method as a {@code static} field in the instrumented type. An adapter for a
+     * {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler} always caches its methods.
      *
      * @return A similar invocation handler adapter which caches any {@link java.lang.reflect.Method} instance
      * in form of a {@code static} field.
@@ -151,18 +207,14 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
                                           MethodDescription instrumentedMethod,
                                           TypeDescription instrumentedType,
                                           StackManipulation preparingManipulation) {
-        TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
-        TypeDescription invocationHandlerType = new TypeDescription.ForLoadedType(InvocationHandler.class);
         StackManipulation.Size stackSize = new StackManipulation.Compound(
                 preparingManipulation,
                 FieldAccess.forField(instrumentedType.getDeclaredFields().named(fieldName)).getter(),
-                MethodVariableAccess.forType(objectType).loadFromIndex(0),
+                MethodVariableAccess.forType(new TypeDescription.ForLoadedType(Object.class)).loadFromIndex(0),
                 cacheMethods
                         ? MethodConstant.forMethod(instrumentedMethod).cached()
                         : MethodConstant.forMethod(instrumentedMethod),
-                ArrayFactory.targeting(objectType).withValues(argumentValuesOf(instrumentedMethod)),
-                MethodInvocation.invoke(invocationHandlerType.getDeclaredMethods().getOnly()),
-                assigner.assign(objectType, instrumentedMethod.getReturnType(), true),
+                handlerType.invoke(instrumentedMethod, assigner),
                 MethodReturn.returning(instrumentedMethod.getReturnType())
         ).apply(methodVisitor, instrumentationContext);
         return new ByteCodeAppender.Size(stackSize.getMaximalSize(), instrumentedMethod.getStackSize());
@@ -172,12 +224,394 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
                 && cacheMethods == ((InvocationHandlerAdapter) other).cacheMethods
+                && handlerType == ((InvocationHandlerAdapter) other).handlerType
                 && fieldName.equals(((InvocationHandlerAdapter) other).fieldName);
     }
 
     @Override
     public int hashCode() {
-        return 31 * fieldName.hashCode() + (cacheMethods ? 1 : 0);
+        return 31 * (31 * fieldName.hashCode() + (cacheMethods ? 1 : 0)) + handlerType.hashCode();
+    }
+
+    /**
+     * Describes the type of an invocation handler to which an invocation handler adapter delegates method
+     * interceptions.
+     */
+    protected static enum HandlerType {
+
+        /**
+         * A {@link java.lang.reflect.InvocationHandler} that receives an array of all boxed argument values and that
+         * returns a boxed value.
+         */
+        BOXING(InvocationHandler.class) {
+            @Override
+            protected StackManipulation invoke(MethodDescription instrumentedMethod, Assigner assigner) {
+                TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
+                TypeList parameterTypes = instrumentedMethod.getParameterTypes();
+                List<StackManipulation> argumentValues = argumentValuesOf(instrumentedMethod);
+                List<StackManipulation> boxedValues = new ArrayList<StackManipulation>(parameterTypes.size());
+                for (int index = 0; index < parameterTypes.size(); index++) {
+                    boxedValues.add(new StackManipulation.Compound(argumentValues.get(index),
+                            assigner.assign(parameterTypes.get(index), objectType, false)));
+                }
+                return new StackManipulation.Compound(
+                        ArrayFactory.targeting(objectType).withValues(boxedValues),
+                        MethodInvocation.invoke(getTypeDescription().getDeclaredMethods().getOnly()),
+                        assigner.assign(objectType, instrumentedMethod.getReturnType(), true)
+                );
+            }
+        },
+
+        /**
+         * A {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler} that receives all argument values and
+         * returns a value in {@code long} slots.
+         */
+        PRIMITIVE(PrimitiveInvocationHandler.class) {
+            @Override
+            protected StackManipulation invoke(MethodDescription instrumentedMethod, Assigner assigner) {
+                TypeList parameterTypes = instrumentedMethod.getParameterTypes();
+                if (parameterTypes.size() > PrimitiveInvocationHandler.MAXIMUM_ARITY) {
+                    throw new IllegalStateException(instrumentedMethod + " declares more than "
+                            + PrimitiveInvocationHandler.MAXIMUM_ARITY + " parameters");
+                }
+                List<StackManipulation> stackManipulations = new ArrayList<StackManipulation>(2 * parameterTypes.size() + 2);
+                List<StackManipulation> argumentValues = argumentValuesOf(instrumentedMethod);
+                for (int index = 0; index < parameterTypes.size(); index++) {
+                    stackManipulations.add(argumentValues.get(index));
+                    stackManipulations.add(PrimitiveSlot.of(parameterTypes.get(index), instrumentedMethod).encoding());
+                }
+                stackManipulations.add(MethodInvocation.invoke(getTypeDescription().getDeclaredMethods()
+                        .filter(takesArguments(2 + parameterTypes.size())).getOnly()));
+                stackManipulations.add(PrimitiveSlot.of(instrumentedMethod.getReturnType(), instrumentedMethod).decoding());
+                return new StackManipulation.Compound(stackManipulations.toArray(new StackManipulation[stackManipulations.size()]));
+            }
+        };
+
+        /**
+         * A description of the invocation handler type.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * Creates a new handler type.
+         *
+         * @param type The invocation handler type.
+         */
+        private HandlerType(Class<?> type) {
+            typeDescription = new TypeDescription.ForLoadedType(type);
+        }
+
+        /**
+         * Returns a description of the invocation handler type.
+         *
+         * @return A description of the invocation handler type.
+         */
+        protected TypeDescription getTypeDescription() {
+            return typeDescription;
+        }
+
+        /**
+         * Creates a stack manipulation that loads the arguments of an instrumented method, invokes an invocation
+         * handler of this type and converts its return value to the instrumented method's return type. The
+         * invocation handler, the instrumented instance and the invoked method must already be on the operand stack.
+         *
+         * @param instrumentedMethod The method that is instrumented.
+         * @param assigner           The assigner for assigning the invocation handler's return value.
+         * @return A stack manipulation that invokes an invocation handler of this type.
+         */
+        protected abstract StackManipulation invoke(MethodDescription instrumentedMethod, Assigner assigner);
+    }
+
+    /**
+     * Converts a primitive value to and from the {@code long} slot that represents this value for a
+     * {@link net.bytebuddy.instrumentation.PrimitiveInvocationHandler}.
+     */
+    protected static enum PrimitiveSlot {
+
+        /**
+         * The slot of a {@code boolean} value.
+         */
+        BOOLEAN(boolean.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.I2L);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.LCONST_0);
+                methodVisitor.visitInsn(Opcodes.LCMP);
+                methodVisitor.visitInsn(Opcodes.ICONST_1);
+                methodVisitor.visitInsn(Opcodes.IAND);
+                return StackSize.DOUBLE.getSize();
+            }
+        },
+
+        /**
+         * The slot of a {@code byte} value.
+         */
+        BYTE(byte.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.I2L);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.L2I);
+                methodVisitor.visitInsn(Opcodes.I2B);
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of a {@code short} value.
+         */
+        SHORT(short.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.I2L);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.L2I);
+                methodVisitor.visitInsn(Opcodes.I2S);
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of a {@code char} value.
+         */
+        CHARACTER(char.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.I2L);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.L2I);
+                methodVisitor.visitInsn(Opcodes.I2C);
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of an {@code int} value.
+         */
+        INTEGER(int.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.I2L);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.L2I);
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of a {@code long} value which is the value itself.
+         */
+        LONG(long.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                /* do nothing */
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of a {@code float} value.
+         */
+        FLOAT(float.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "floatToRawIntBits", "(F)I", false);
+                methodVisitor.visitInsn(Opcodes.I2L);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.L2I);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "intBitsToFloat", "(I)F", false);
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of a {@code double} value.
+         */
+        DOUBLE(double.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "doubleToRawLongBits", "(D)J", false);
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "longBitsToDouble", "(J)D", false);
+                return 0;
+            }
+        },
+
+        /**
+         * The slot of a {@code void} return value which is discarded.
+         */
+        VOID(void.class) {
+            @Override
+            protected void encode(MethodVisitor methodVisitor) {
+                throw new IllegalStateException("Cannot encode a void value");
+            }
+
+            @Override
+            protected int decode(MethodVisitor methodVisitor) {
+                methodVisitor.visitInsn(Opcodes.POP2);
+                return 0;
+            }
+        };
+
+        /**
+         * The primitive type of this slot.
+         */
+        private final Class<?> type;
+
+        /**
+         * The size of the primitive type of this slot.
+         */
+        private final StackSize size;
+
+        /**
+         * Creates a new primitive slot.
+         *
+         * @param type The primitive type of this slot.
+         */
+        private PrimitiveSlot(Class<?> type) {
+            this.type = type;
+            size = StackSize.of(type);
+        }
+
+        /**
+         * Locates the slot of a primitive type.
+         *
+         * @param typeDescription    The primitive type.
+         * @param instrumentedMethod The instrumented method that makes use of the given type.
+         * @return The slot of the given type.
+         */
+        protected static PrimitiveSlot of(TypeDescription typeDescription, MethodDescription instrumentedMethod) {
+            for (PrimitiveSlot primitiveSlot : values()) {
+                if (typeDescription.represents(primitiveSlot.type)) {
+                    return primitiveSlot;
+                }
+            }
+            throw new IllegalStateException(instrumentedMethod + " cannot represent " + typeDescription + " by a primitive slot");
+        }
+
+        /**
+         * Converts a primitive value on top of the operand stack to its slot.
+         *
+         * @param methodVisitor The method visitor for writing the conversion.
+         */
+        protected abstract void encode(MethodVisitor methodVisitor);
+
+        /**
+         * Converts a slot on top of the operand stack to its primitive value. A slot is narrowed to the primitive
+         * type where any slot other than {@code 0} represents {@code true} for a {@code boolean} value.
+         *
+         * @param methodVisitor The method visitor for writing the conversion.
+         * @return The operand stack size that is required by the conversion in addition to the slot.
+         */
+        protected abstract int decode(MethodVisitor methodVisitor);
+
+        /**
+         * Returns a stack manipulation that converts a primitive value on top of the operand stack to its slot.
+         *
+         * @return A stack manipulation that converts a primitive value to its slot.
+         */
+        protected StackManipulation encoding() {
+            return new Conversion(this, true);
+        }
+
+        /**
+         * Returns a stack manipulation that converts a slot on top of the operand stack to its primitive value.
+         *
+         * @return A stack manipulation that converts a slot to its primitive value.
+         */
+        protected StackManipulation decoding() {
+            return new Conversion(this, false);
+        }
+
+        /**
+         * A stack manipulation that converts between a primitive value and its slot.
+         */
+        protected static class Conversion implements StackManipulation {
+
+            /**
+             * The slot of the converted value.
+             */
+            private final PrimitiveSlot primitiveSlot;
+
+            /**
+             * {@code true} if a value is converted to its slot, {@code false} if a slot is converted to its value.
+             */
+            private final boolean encoding;
+
+            /**
+             * Creates a new conversion.
+             *
+             * @param primitiveSlot The slot of the converted value.
+             * @param encoding      {@code true} if a value is converted to its slot, {@code false} if a slot is
+             *                      converted to its value.
+             */
+            protected Conversion(PrimitiveSlot primitiveSlot, boolean encoding) {
+                this.primitiveSlot = primitiveSlot;
+                this.encoding = encoding;
+            }
+
+            @Override
+            public boolean isValid() {
+                return !encoding || primitiveSlot != VOID;
+            }
+
+            @Override
+            public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
+                int sizeDifference = StackSize.DOUBLE.getSize() - primitiveSlot.size.getSize();
+                if (encoding) {
+                    primitiveSlot.encode(methodVisitor);
+                    return new Size(sizeDifference, sizeDifference);
+                } else {
+                    return new Size(-sizeDifference, primitiveSlot.decode(methodVisitor));
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && encoding == ((Conversion) other).encoding
+                        && primitiveSlot == ((Conversion) other).primitiveSlot;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * primitiveSlot.hashCode() + (encoding ? 1 : 0);
+            }
+
+            @Override
+            public String toString() {
+                return "InvocationHandlerAdapter.PrimitiveSlot.Conversion{" +
+                        "primitiveSlot=" + primitiveSlot +
+                        ", encoding=" + encoding +
+                        '}';
+            }
+        }
     }
 
     /**
@@ -189,7 +623,7 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
         /**
          * The invocation handler to which method interceptions are to be delegated.
          */
-        private final InvocationHandler invocationHandler;
+        private final Object invocationHandler;
 
         /**
          * Creates a new invocation handler adapter for delegating invocations to an invocation handler that is stored
@@ -199,21 +633,22 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
          * @param fieldName         The name of the field.
          * @param cacheMethods      Determines if the {@link java.lang.reflect.Method} instances that are handed to the
          *                          intercepted methods are cached in {@code static} fields.
+         * @param handlerType       The type of the invocation handler to which method interceptions are delegated.
          */
-        private ForStaticDelegation(InvocationHandler invocationHandler, String fieldName, boolean cacheMethods) {
-            super(fieldName, cacheMethods);
+        private ForStaticDelegation(Object invocationHandler, String fieldName, boolean cacheMethods, HandlerType handlerType) {
+            super(fieldName, cacheMethods, handlerType);
             this.invocationHandler = invocationHandler;
         }
 
         @Override
         public Instrumentation withMethodCache() {
-            return new ForStaticDelegation(invocationHandler, fieldName, true);
+            return new ForStaticDelegation(invocationHandler, fieldName, true, handlerType);
         }
 
         @Override
         public InstrumentedType prepare(InstrumentedType instrumentedType) {
             return instrumentedType
-                    .withField(fieldName, new TypeDescription.ForLoadedType(InvocationHandler.class), Opcodes.ACC_STATIC)
+                    .withField(fieldName, handlerType.getTypeDescription(), Opcodes.ACC_STATIC)
                     .withInitializer(LoadedTypeInitializer.ForStaticField.nonAccessible(fieldName, invocationHandler));
         }
 
@@ -239,6 +674,7 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
             return "InvocationHandlerAdapter.ForStaticDelegation{" +
                     "fieldName=" + fieldName +
                     "cacheMethods=" + cacheMethods +
+                    "handlerType=" + handlerType +
                     "invocationHandler=" + invocationHandler +
                     '}';
         }
@@ -322,20 +758,21 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
          * @param fieldName    The name of the field.
          * @param cacheMethods Determines if the {@link java.lang.reflect.Method} instances that are handed to the
          *                     intercepted methods are cached in {@code static} fields.
+         * @param handlerType  The type of the invocation handler to which method interceptions are delegated.
          */
-        private ForInstanceDelegation(String fieldName, boolean cacheMethods) {
-            super(fieldName, cacheMethods);
+        private ForInstanceDelegation(String fieldName, boolean cacheMethods, HandlerType handlerType) {
+            super(fieldName, cacheMethods, handlerType);
         }
 
         @Override
         public Instrumentation withMethodCache() {
-            return new ForInstanceDelegation(fieldName, true);
+            return new ForInstanceDelegation(fieldName, true, handlerType);
         }
 
         @Override
         public InstrumentedType prepare(InstrumentedType instrumentedType) {
             return instrumentedType.withField(fieldName,
-                    new TypeDescription.ForLoadedType(InvocationHandler.class),
+                    handlerType.getTypeDescription(),
                     Opcodes.ACC_PUBLIC);
         }
 
@@ -349,6 +786,7 @@ public abstract class InvocationHandlerAdapter implements Instrumentation {
             return "InvocationHandlerAdapter.ForInstanceDelegation{" +
                     "fieldName=" + fieldName +
                     "cacheMethods=" + cacheMethods +
+                    "handlerType=" + handlerType +
                     '}';
         }
 
@@ -0,0 +1,76 @@
+package net.bytebuddy.instrumentation;
+
+import java.lang.reflect.Method;
+
+/**
+ * An invocation handler for methods that only take primitive arguments and that return a primitive value or
+ * {@code void}. Other than a {@link java.lang.reflect.InvocationHandler}, such a handler receives the arguments of
+ * an intercepted method in {@code long} slots and returns its result in a {@code long} slot such that neither an
+ * argument array needs to be created nor any value needs to be boxed for intercepting a method. A handler is
+ * applied by a {@link net.bytebuddy.instrumentation.InvocationHandlerAdapter} which invokes the method of this
+ * interface that matches the number of an intercepted method's parameters.
+ * <p>&nbsp;</p>
+ * Values are represented in a slot as follows:
+ * <ul>
+ * <li>A {@code boolean} is represented as {@code 1} for {@code true} and as {@code 0} for {@code false}.</li>
+ * <li>A {@code byte}, {@code short}, {@code char} or {@code int} is widened to a {@code long}.</li>
+ * <li>A {@code float} is represented by the bits of {@link java.lang.Float#floatToRawIntBits(float)}.</li>
+ * <li>A {@code double} is represented by the bits of {@link java.lang.Double#doubleToRawLongBits(double)}.</li>
+ * </ul>
+ * A returned slot is narrowed to the intercepted method's return type where any slot other than {@code 0} is
+ * returned as {@code true} by a method that returns a {@code boolean}. A returned slot is ignored for methods that
+ * return {@code void}.
+ */
+public interface PrimitiveInvocationHandler {
+
+    /**
+     * The maximal number of parameters of a method that can be intercepted by a primitive invocation handler.
+     */
+    static final int MAXIMUM_ARITY = 3;
+
+    /**
+     * Handles the invocation of a method without parameters.
+     *
+     * @param proxy  The instance on which the method was invoked.
+     * @param method The method that was invoked.
+     * @return The slot of the method's return value.
+     * @throws Throwable Any exception to be thrown by the intercepted method.
+     */
+    long invoke(Object proxy, Method method) throws Throwable;
+
+    /**
+     * Handles the invocation of a method with one parameter.
+     *
+     * @param proxy    The instance on which the method was invoked.
+     * @param method   The method that was invoked.
+     * @param argument The slot of the first argument.
+     * @return The slot of the method's return value.
+     * @throws Throwable Any exception to be thrown by the intercepted method.
+     */
+    long invoke(Object proxy, Method method, long argument) throws Throwable;
+
+    /**
+     * Handles the invocation of a method with two parameters.
+     *
+     * @param proxy          The instance on which the method was invoked.
+     * @param method         The method that was invoked.
+     * @param argument       The slot of the first argument.
+     * @param secondArgument The slot of the second argument.
+     * @return The slot of the method's return value.
+     * @throws Throwable Any exception to be thrown by the intercepted method.
+     */
+    long invoke(Object proxy, Method method, long argument, long secondArgument) throws Throwable;
+
+    /**
+     * Handles the invocation of a method with three parameters.
+     *
+     * @param proxy          The instance on which the method was invoked.
+     * @param method         The method that was invoked.
+     * @param argument       The slot of the first argument.
+     * @param secondArgument The slot of the second argument.
+     * @param thirdArgument  The slot of the third argument.
+     * @return The slot of the method's return value.
+     * @throws Throwable Any exception to be thrown by the intercepted method.
+     */
+    long invoke(Object proxy, Method method, long argument, long secondArgument, long thirdArgument) throws Throwable;
+}
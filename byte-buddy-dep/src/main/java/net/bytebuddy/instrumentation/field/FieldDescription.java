@@ -79,7 +79,7 @@ public interface FieldDescription extends ModifierReviewable, ByteCodeElement, D
 
         @Override
         public TypeDescription getFieldType() {
-            return new TypeDescription.ForLoadedType(field.getType());
+            return TypeDescription.ForLoadedType.of(field.getType());
         }
 
         @Override
@@ -109,7 +109,7 @@ public interface FieldDescription extends ModifierReviewable, ByteCodeElement, D
 
         @Override
         public TypeDescription getDeclaringType() {
-            return new TypeDescription.ForLoadedType(field.getDeclaringClass());
+            return TypeDescription.ForLoadedType.of(field.getDeclaringClass());
         }
 
         @Override
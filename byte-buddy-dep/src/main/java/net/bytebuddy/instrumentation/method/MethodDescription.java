@@ -230,6 +230,16 @@ public interface MethodDescription extends ModifierReviewable, ByteCodeMethod, D
          */
         private final Constructor<?> constructor;
 
+        /**
+         * The lazily resolved parameter types of the represented constructor or {@code null} if they were not yet resolved.
+         */
+        private volatile TypeList parameterTypes;
+
+        /**
+         * The lazily resolved exception types of the represented constructor or {@code null} if they were not yet resolved.
+         */
+        private volatile TypeList exceptionTypes;
+
         /**
          * Creates a new immutable method description for a loaded constructor.
          *
@@ -241,17 +251,22 @@ public interface MethodDescription extends ModifierReviewable, ByteCodeMethod, D
 
         @Override
         public TypeDescription getDeclaringType() {
-            return new TypeDescription.ForLoadedType(constructor.getDeclaringClass());
+            return TypeDescription.ForLoadedType.of(constructor.getDeclaringClass());
         }
 
         @Override
         public TypeDescription getReturnType() {
-            return new TypeDescription.ForLoadedType(void.class);
+            return TypeDescription.ForLoadedType.of(void.class);
         }
 
         @Override
         public TypeList getParameterTypes() {
-            return new TypeList.ForLoadedType(constructor.getParameterTypes());
+            TypeList parameterTypes = this.parameterTypes;
+            if (parameterTypes == null) {
+                parameterTypes = new TypeList.ForLoadedType(constructor.getParameterTypes());
+                this.parameterTypes = parameterTypes;
+            }
+            return parameterTypes;
         }
 
         @Override
@@ -261,7 +276,12 @@ public interface MethodDescription extends ModifierReviewable, ByteCodeMethod, D
 
         @Override
         public TypeList getExceptionTypes() {
-            return new TypeList.ForLoadedType(constructor.getExceptionTypes());
+            TypeList exceptionTypes = this.exceptionTypes;
+            if (exceptionTypes == null) {
+                exceptionTypes = new TypeList.ForLoadedType(constructor.getExceptionTypes());
+                this.exceptionTypes = exceptionTypes;
+            }
+            return exceptionTypes;
         }
 
         @Override
@@ -355,6 +375,16 @@ public interface MethodDescription extends ModifierReviewable, ByteCodeMethod, D
          */
         private final Method method;
 
+        /**
+         * The lazily resolved parameter types of the represented method or {@code null} if they were not yet resolved.
+         */
+        private volatile TypeList parameterTypes;
+
+        /**
+         * The lazily resolved exception types of the represented method or {@code null} if they were not yet resolved.
+         */
+        private volatile TypeList exceptionTypes;
+
         /**
          * Creates a new immutable method description for a loaded method.
          *
@@ -366,17 +396,22 @@ public interface MethodDescription extends ModifierReviewable, ByteCodeMethod, D
 
         @Override
         public TypeDescription getDeclaringType() {
-            return new TypeDescription.ForLoadedType(method.getDeclaringClass());
+            return TypeDescription.ForLoadedType.of(method.getDeclaringClass());
         }
 
         @Override
         public TypeDescription getReturnType() {
-            return new TypeDescription.ForLoadedType(method.getReturnType());
+            return TypeDescription.ForLoadedType.of(method.getReturnType());
         }
 
         @Override
         public TypeList getParameterTypes() {
-            return new TypeList.ForLoadedType(method.getParameterTypes());
+            TypeList parameterTypes = this.parameterTypes;
+            if (parameterTypes == null) {
+                parameterTypes = new TypeList.ForLoadedType(method.getParameterTypes());
+                this.parameterTypes = parameterTypes;
+            }
+            return parameterTypes;
         }
 
         @Override
@@ -386,7 +421,12 @@ public interface MethodDescription extends ModifierReviewable, ByteCodeMethod, D
 
         @Override
         public TypeList getExceptionTypes() {
-            return new TypeList.ForLoadedType(method.getExceptionTypes());
+            TypeList exceptionTypes = this.exceptionTypes;
+            if (exceptionTypes == null) {
+                exceptionTypes = new TypeList.ForLoadedType(method.getExceptionTypes());
+                this.exceptionTypes = exceptionTypes;
+            }
+            return exceptionTypes;
         }
 
         @Override
@@ -4,12 +4,16 @@ import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.instrumentation.method.matcher.MethodMatcher;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.instrumentation.type.TypeList;
+import net.bytebuddy.utility.ClassAttachment;
 import org.objectweb.asm.Opcodes;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
 
@@ -17,6 +21,10 @@ import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
  * A method lookup engine is responsible for finding all methods that can be invoked on a given
  * {@link net.bytebuddy.instrumentation.type.TypeDescription}. This includes the resolution of overridden methods
  * in order to avoid an enlistment of duplicate methods of identical signature.
+ * <p>&nbsp;</p>
+ * A method lookup engine is only used by a single thread at a time while its
+ * {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Factory} must be thread-safe as it is shared by
+ * all builders that are created from the same configuration.
  */
 public interface MethodLookupEngine {
 
@@ -353,22 +361,55 @@ public interface MethodLookupEngine {
         private final DefaultMethodLookup defaultMethodLookup;
 
         /**
-         * Creates a new default method lookup engine.
+         * The hierarchy resolver that supplies the methods and interfaces of the super types of a looked up type.
+         */
+        private final HierarchyResolver hierarchyResolver;
+
+        /**
+         * Creates a new default method lookup engine that resolves any type hierarchy anew.
          *
          * @param defaultMethodLookup Determines if default method lookup is enabled.
          */
         public Default(DefaultMethodLookup defaultMethodLookup) {
+            this(defaultMethodLookup, HierarchyResolver.Direct.INSTANCE);
+        }
+
+        /**
+         * Creates a new default method lookup engine.
+         *
+         * @param defaultMethodLookup Determines if default method lookup is enabled.
+         * @param hierarchyResolver   The hierarchy resolver that supplies the methods and interfaces of the super
+         *                            types of a looked up type.
+         */
+        public Default(DefaultMethodLookup defaultMethodLookup, HierarchyResolver hierarchyResolver) {
             this.defaultMethodLookup = defaultMethodLookup;
+            this.hierarchyResolver = hierarchyResolver;
+        }
+
+        /**
+         * Determines the default method lookup that is applicable for a given class file version.
+         *
+         * @param classFileVersion The class file version of the types that are looked up.
+         * @return The applicable default method lookup.
+         */
+        private static DefaultMethodLookup lookupFor(ClassFileVersion classFileVersion) {
+            return classFileVersion.isSupportsDefaultMethods()
+                    ? DefaultMethodLookup.ENABLED
+                    : DefaultMethodLookup.DISABLED;
         }
 
         @Override
         public Finding process(TypeDescription typeDescription) {
-            MethodBucket methodBucket = new MethodBucket(typeDescription);
+            MethodBucket methodBucket = new MethodBucket(typeDescription, hierarchyResolver);
             Set<TypeDescription> interfaces = new HashSet<TypeDescription>();
             TypeList defaultMethodRelevantInterfaces = typeDescription.getInterfaces();
-            while ((typeDescription = typeDescription.getSupertype()) != null) {
-                methodBucket.pushClass(typeDescription);
-                interfaces.addAll(typeDescription.getInterfaces());
+            TypeDescription supertype = typeDescription.getSupertype();
+            if (supertype != null) {
+                ClassHierarchy classHierarchy = hierarchyResolver.resolve(supertype,
+                        typeDescription,
+                        methodBucket.getVirtualMethodMatcher());
+                methodBucket.pushClassHierarchy(classHierarchy);
+                interfaces.addAll(classHierarchy.getInterfaces());
             }
             Map<TypeDescription, Set<MethodDescription>> defaultMethods = defaultMethodLookup.apply(methodBucket,
                     interfaces,
@@ -382,21 +423,360 @@ public interface MethodLookupEngine {
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
-                    && defaultMethodLookup == ((Default) other).defaultMethodLookup;
+                    && defaultMethodLookup == ((Default) other).defaultMethodLookup
+                    && hierarchyResolver.equals(((Default) other).hierarchyResolver);
         }
 
         @Override
         public int hashCode() {
-            return defaultMethodLookup.hashCode();
+            return 31 * defaultMethodLookup.hashCode() + hierarchyResolver.hashCode();
         }
 
         @Override
         public String toString() {
             return "MethodLookupEngine.Default{" +
                     "defaultMethodLookup=" + defaultMethodLookup +
+                    ", hierarchyResolver=" + hierarchyResolver +
                     '}';
         }
 
+        /**
+         * A hierarchy resolver supplies the method lookup with the methods and interfaces of the super types of a
+         * looked up type.
+         */
+        public static interface HierarchyResolver {
+
+            /**
+             * Resolves the class hierarchy of a super class.
+             *
+             * @param supertype            The super class of the looked up type.
+             * @param typeOfInterest       The looked up type.
+             * @param virtualMethodMatcher A matcher that identifies the methods of a super type that are
+             *                             virtual for the looked up type.
+             * @return The class hierarchy of the given super class.
+             */
+            ClassHierarchy resolve(TypeDescription supertype, TypeDescription typeOfInterest, MethodMatcher virtualMethodMatcher);
+
+            /**
+             * Resolves the virtual methods that are declared by an interface.
+             *
+             * @param interfaceType        The interface type of which the declared methods are resolved.
+             * @param virtualMethodMatcher A matcher that identifies the methods of a super type that are
+             *                             virtual for the looked up type.
+             * @return The virtual methods that are declared by the given interface.
+             */
+            MethodList resolve(TypeDescription interfaceType, MethodMatcher virtualMethodMatcher);
+
+            /**
+             * A hierarchy resolver that resolves any type hierarchy anew.
+             */
+            static enum Direct implements HierarchyResolver {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public ClassHierarchy resolve(TypeDescription supertype,
+                                              TypeDescription typeOfInterest,
+                                              MethodMatcher virtualMethodMatcher) {
+                    return ClassHierarchy.of(supertype, virtualMethodMatcher);
+                }
+
+                @Override
+                public MethodList resolve(TypeDescription interfaceType, MethodMatcher virtualMethodMatcher) {
+                    return interfaceType.getDeclaredMethods().filter(virtualMethodMatcher);
+                }
+            }
+
+            /**
+             * A hierarchy resolver that memoizes the class hierarchies and interface methods of loaded types. Memoized
+             * results are attached to their loaded type by a {@link net.bytebuddy.utility.ClassAttachment}. The results
+             * reference the loaded type they are attached to and are therefore held by soft references as a class
+             * attachment holds its values strongly on a VM that does not support class values. On such a VM, the
+             * results keep their loaded type softly reachable such that memoizing a type delays its unloading until
+             * the soft references are cleared under memory pressure. On a VM that supports class values, the results
+             * do not delay the unloading of a type.
+             * <p>&nbsp;</p>
+             * The methods of a class hierarchy that are virtual for a looked up type only depend on the looked up
+             * type's package as a package-private method is only visible to types within the same package. A class
+             * hierarchy is therefore memoized per super class and package of the looked up type. Interface methods
+             * are public such that their virtual methods are independent of the looked up type.
+             */
+            static class Memoizing implements HierarchyResolver {
+
+                /**
+                 * The memoized results by their loaded type.
+                 */
+                private volatile ClassAttachment<Entry> entries;
+
+                /**
+                 * Creates a new memoizing hierarchy resolver.
+                 */
+                public Memoizing() {
+                    entries = ClassAttachment.of(Entry.Initializer.INSTANCE);
+                }
+
+                @Override
+                public ClassHierarchy resolve(TypeDescription supertype,
+                                              TypeDescription typeOfInterest,
+                                              MethodMatcher virtualMethodMatcher) {
+                    String packageName = typeOfInterest.getPackageName();
+                    if (packageName == null || !(supertype instanceof TypeDescription.ForLoadedType)) {
+                        return ClassHierarchy.of(supertype, virtualMethodMatcher);
+                    }
+                    ConcurrentMap<String, ClassHierarchy> classHierarchies = entries
+                            .get(((TypeDescription.ForLoadedType) supertype).getLoadedType())
+                            .getClassHierarchies();
+                    ClassHierarchy classHierarchy = classHierarchies.get(packageName);
+                    if (classHierarchy == null) {
+                        classHierarchy = ClassHierarchy.of(supertype, virtualMethodMatcher);
+                        ClassHierarchy previous = classHierarchies.putIfAbsent(packageName, classHierarchy);
+                        return previous == null ? classHierarchy : previous;
+                    }
+                    return classHierarchy;
+                }
+
+                @Override
+                public MethodList resolve(TypeDescription interfaceType, MethodMatcher virtualMethodMatcher) {
+                    if (!(interfaceType instanceof TypeDescription.ForLoadedType)) {
+                        return interfaceType.getDeclaredMethods().filter(virtualMethodMatcher);
+                    }
+                    Entry entry = entries.get(((TypeDescription.ForLoadedType) interfaceType).getLoadedType());
+                    MethodList methodList = entry.getInterfaceMethods();
+                    if (methodList == null) {
+                        methodList = new MethodList.Explicit(new ArrayList<MethodDescription>(interfaceType.getDeclaredMethods().filter(virtualMethodMatcher)));
+                        entry.setInterfaceMethods(methodList);
+                    }
+                    return methodList;
+                }
+
+                /**
+                 * Removes all memoized results from this resolver. Results that were memoized before are released
+                 * together with their loaded type.
+                 */
+                public void clear() {
+                    entries = ClassAttachment.of(Entry.Initializer.INSTANCE);
+                }
+
+                @Override
+                public String toString() {
+                    return "MethodLookupEngine.Default.HierarchyResolver.Memoizing{entries=" + entries + '}';
+                }
+
+                /**
+                 * The memoized results of a single loaded type. The results are held softly as they reference the
+                 * loaded type they are attached to. On a VM that does not support class values, this softly reachable
+                 * reference delays the unloading of the loaded type until the results are cleared under memory
+                 * pressure.
+                 */
+                protected static class Entry {
+
+                    /**
+                     * A soft reference to the class hierarchies of the loaded type by the package of the looked up
+                     * type or {@code null} if no class hierarchy was memoized.
+                     */
+                    private volatile SoftReference<ConcurrentMap<String, ClassHierarchy>> classHierarchies;
+
+                    /**
+                     * A soft reference to the virtual methods of the loaded interface type or {@code null} if they are
+                     * not yet resolved.
+                     */
+                    private volatile SoftReference<MethodList> interfaceMethods;
+
+                    /**
+                     * Returns the class hierarchies of the loaded type by the package of the looked up type.
+                     *
+                     * @return The class hierarchies of the loaded type.
+                     */
+                    protected ConcurrentMap<String, ClassHierarchy> getClassHierarchies() {
+                        SoftReference<ConcurrentMap<String, ClassHierarchy>> reference = classHierarchies;
+                        ConcurrentMap<String, ClassHierarchy> classHierarchies = reference == null ? null : reference.get();
+                        return classHierarchies == null ? makeClassHierarchies() : classHierarchies;
+                    }
+
+                    /**
+                     * Creates the class hierarchies of the loaded type if they are not available.
+                     *
+                     * @return The class hierarchies of the loaded type.
+                     */
+                    private synchronized ConcurrentMap<String, ClassHierarchy> makeClassHierarchies() {
+                        SoftReference<ConcurrentMap<String, ClassHierarchy>> reference = this.classHierarchies;
+                        ConcurrentMap<String, ClassHierarchy> classHierarchies = reference == null ? null : reference.get();
+                        if (classHierarchies == null) {
+                            classHierarchies = new ConcurrentHashMap<String, ClassHierarchy>();
+                            this.classHierarchies = new SoftReference<ConcurrentMap<String, ClassHierarchy>>(classHierarchies);
+                        }
+                        return classHierarchies;
+                    }
+
+                    /**
+                     * Returns the virtual methods of the loaded interface type.
+                     *
+                     * @return The virtual methods of the loaded interface type or {@code null} if they are not
+                     * available.
+                     */
+                    protected MethodList getInterfaceMethods() {
+                        SoftReference<MethodList> reference = interfaceMethods;
+                        return reference == null ? null : reference.get();
+                    }
+
+                    /**
+                     * Memoizes the virtual methods of the loaded interface type.
+                     *
+                     * @param interfaceMethods The virtual methods of the loaded interface type.
+                     */
+                    protected void setInterfaceMethods(MethodList interfaceMethods) {
+                        this.interfaceMethods = new SoftReference<MethodList>(interfaceMethods);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "MethodLookupEngine.Default.HierarchyResolver.Memoizing.Entry{" +
+                                "classHierarchies=" + classHierarchies +
+                                ", interfaceMethods=" + interfaceMethods +
+                                '}';
+                    }
+
+                    /**
+                     * An initializer for an entry without any memoized results.
+                     */
+                    protected static enum Initializer implements ClassAttachment.Initializer<Entry> {
+
+                        /**
+                         * The singleton instance.
+                         */
+                        INSTANCE;
+
+                        @Override
+                        public Entry initialize(Class<?> type) {
+                            return new Entry();
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * A class hierarchy describes the virtual methods and the interfaces of a super class and all of its
+         * super classes.
+         */
+        public static class ClassHierarchy {
+
+            /**
+             * The super class and all of its super classes, beginning with the super class.
+             */
+            private final List<TypeDescription> types;
+
+            /**
+             * The virtual methods of the class hierarchy by their unique signature where the most specific
+             * method of any signature is contained.
+             */
+            private final Map<String, MethodDescription> methods;
+
+            /**
+             * The interfaces of all types of the class hierarchy in the order of their declaration.
+             */
+            private final List<TypeDescription> interfaces;
+
+            /**
+             * Creates a new class hierarchy.
+             *
+             * @param types      The super class and all of its super classes, beginning with the super class.
+             * @param methods    The virtual methods of the class hierarchy by their unique signature.
+             * @param interfaces The interfaces of all types of the class hierarchy in the order of their declaration.
+             */
+            protected ClassHierarchy(List<TypeDescription> types,
+                                     Map<String, MethodDescription> methods,
+                                     List<TypeDescription> interfaces) {
+                this.types = types;
+                this.methods = methods;
+                this.interfaces = interfaces;
+            }
+
+            /**
+             * Resolves the class hierarchy of a given super class.
+             *
+             * @param supertype            The super class of which the hierarchy is resolved.
+             * @param virtualMethodMatcher A matcher that identifies the methods of a super type that are
+             *                             virtual for the looked up type.
+             * @return The class hierarchy of the given super class.
+             */
+            public static ClassHierarchy of(TypeDescription supertype, MethodMatcher virtualMethodMatcher) {
+                List<TypeDescription> types = new ArrayList<TypeDescription>();
+                Map<String, MethodDescription> methods = new LinkedHashMap<String, MethodDescription>();
+                List<TypeDescription> interfaces = new ArrayList<TypeDescription>();
+                do {
+                    types.add(supertype);
+                    for (MethodDescription methodDescription : supertype.getDeclaredMethods().filter(virtualMethodMatcher)) {
+                        String uniqueSignature = methodDescription.getUniqueSignature();
+                        if (!methods.containsKey(uniqueSignature)) {
+                            methods.put(uniqueSignature, methodDescription);
+                        }
+                    }
+                    interfaces.addAll(supertype.getInterfaces());
+                } while ((supertype = supertype.getSupertype()) != null);
+                return new ClassHierarchy(Collections.unmodifiableList(types),
+                        Collections.unmodifiableMap(methods),
+                        Collections.unmodifiableList(interfaces));
+            }
+
+            /**
+             * Returns the super class and all of its super classes, beginning with the super class.
+             *
+             * @return The types of this class hierarchy.
+             */
+            public List<TypeDescription> getTypes() {
+                return types;
+            }
+
+            /**
+             * Returns the virtual methods of this class hierarchy by their unique signature.
+             *
+             * @return The virtual methods of this class hierarchy by their unique signature.
+             */
+            public Map<String, MethodDescription> getMethods() {
+                return methods;
+            }
+
+            /**
+             * Returns the interfaces of all types of the class hierarchy in the order of their declaration.
+             *
+             * @return The interfaces of all types of this class hierarchy.
+             */
+            public List<TypeDescription> getInterfaces() {
+                return interfaces;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                ClassHierarchy classHierarchy = (ClassHierarchy) other;
+                return types.equals(classHierarchy.types)
+                        && methods.equals(classHierarchy.methods)
+                        && interfaces.equals(classHierarchy.interfaces);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = types.hashCode();
+                result = 31 * result + methods.hashCode();
+                result = 31 * result + interfaces.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "MethodLookupEngine.Default.ClassHierarchy{" +
+                        "types=" + types +
+                        ", methods=" + methods +
+                        ", interfaces=" + interfaces +
+                        '}';
+            }
+        }
+
         /**
          * Determines if default methods are extracted when analyzing a given type. This might not be relevant in
          * some contexts and is normally fully irrelevant when writing types in class file formats that do not
@@ -457,9 +837,45 @@ public interface MethodLookupEngine {
 
             @Override
             public MethodLookupEngine make(ClassFileVersion classFileVersion) {
-                return new Default(classFileVersion.isSupportsDefaultMethods()
-                        ? DefaultMethodLookup.ENABLED
-                        : DefaultMethodLookup.DISABLED);
+                return new Default(lookupFor(classFileVersion));
+            }
+        }
+
+        /**
+         * A factory for creating {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Default} lookup
+         * engines that share a {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Default.HierarchyResolver.Memoizing}
+         * hierarchy resolver. Looking up many types that share the same super classes and interfaces only requires to
+         * resolve these super types once.
+         */
+        public static class MemoizingFactory implements MethodLookupEngine.Factory {
+
+            /**
+             * The hierarchy resolver that is shared by all lookup engines that are created by this factory.
+             */
+            private final HierarchyResolver.Memoizing hierarchyResolver;
+
+            /**
+             * Creates a new memoizing factory.
+             */
+            public MemoizingFactory() {
+                hierarchyResolver = new HierarchyResolver.Memoizing();
+            }
+
+            @Override
+            public MethodLookupEngine make(ClassFileVersion classFileVersion) {
+                return new Default(lookupFor(classFileVersion), hierarchyResolver);
+            }
+
+            /**
+             * Removes all memoized results of this factory.
+             */
+            public void clear() {
+                hierarchyResolver.clear();
+            }
+
+            @Override
+            public String toString() {
+                return "MethodLookupEngine.Default.MemoizingFactory{hierarchyResolver=" + hierarchyResolver + '}';
             }
         }
 
@@ -513,13 +929,20 @@ public interface MethodLookupEngine {
              */
             private final MethodMatcher virtualMethodMatcher;
 
+            /**
+             * The hierarchy resolver that supplies the virtual methods of interfaces.
+             */
+            private final HierarchyResolver hierarchyResolver;
+
             /**
              * Creates a new mutable method bucket.
              *
-             * @param typeOfInterest The type for which a type extraction is performed.
+             * @param typeOfInterest    The type for which a type extraction is performed.
+             * @param hierarchyResolver The hierarchy resolver that supplies the virtual methods of interfaces.
              */
-            private MethodBucket(TypeDescription typeOfInterest) {
+            private MethodBucket(TypeDescription typeOfInterest, HierarchyResolver hierarchyResolver) {
                 this.typeOfInterest = typeOfInterest;
+                this.hierarchyResolver = hierarchyResolver;
                 classMethods = new HashMap<String, MethodDescription>();
                 interfaceMethods = new HashMap<String, MethodDescription>();
                 processedTypes = new HashSet<TypeDescription>();
@@ -528,13 +951,28 @@ public interface MethodLookupEngine {
             }
 
             /**
-             * Pushes a new class into the bucket where all virtual methods relatively to the type of interest are
-             * extracted.
+             * Returns a matcher that identifies the methods of a super type that are virtual for the type of interest.
+             *
+             * @return A matcher that identifies the methods of a super type that are virtual for the type of interest.
+             */
+            private MethodMatcher getVirtualMethodMatcher() {
+                return virtualMethodMatcher;
+            }
+
+            /**
+             * Pushes the class hierarchy of the type of interest's super class into the bucket. The class hierarchy
+             * must have been resolved by applying this bucket's
+             * {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Default.MethodBucket#virtualMethodMatcher}.
              *
-             * @param typeDescription The class for which all virtual members are to be extracted.
+             * @param classHierarchy The class hierarchy of the type of interest's super class.
              */
-            private void pushClass(TypeDescription typeDescription) {
-                pushClass(typeDescription, virtualMethodMatcher);
+            private void pushClassHierarchy(ClassHierarchy classHierarchy) {
+                processedTypes.addAll(classHierarchy.getTypes());
+                for (Map.Entry<String, MethodDescription> entry : classHierarchy.getMethods().entrySet()) {
+                    if (!classMethods.containsKey(entry.getKey())) {
+                        classMethods.put(entry.getKey(), entry.getValue());
+                    }
+                }
             }
 
             /**
@@ -645,7 +1083,7 @@ public interface MethodLookupEngine {
                 Set<String> locallyProcessedMethods = new HashSet<String>(processedMethodsInHierarchy);
                 if (processedTypes.add(typeDescription)) {
                     defaultMethodLookup.begin(typeDescription);
-                    for (MethodDescription methodDescription : typeDescription.getDeclaredMethods().filter(virtualMethodMatcher)) {
+                    for (MethodDescription methodDescription : hierarchyResolver.resolve(typeDescription, virtualMethodMatcher)) {
                         String uniqueSignature = methodDescription.getUniqueSignature();
                         if (locallyProcessedMethods.add(uniqueSignature)) {
                             MethodDescription conflictingMethod = interfaceMethods.get(uniqueSignature);
@@ -56,9 +56,35 @@ public @interface DefaultCall {
     static enum Binder implements TargetMethodAnnotationDrivenBinder.ParameterBinder<DefaultCall> {
 
         /**
-         * The singleton instance.
+         * A binder that assigns a {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy} which is
+         * registered as an auxiliary type.
          */
-        INSTANCE;
+        INSTANCE(false),
+
+        /**
+         * A binder that assigns a proxy which is bootstrapped from an {@code invokedynamic} call site for types of a
+         * class file version of at least Java 8 such that no auxiliary type is registered. Proxies that cannot be
+         * created by the lambda meta factory are still represented by a
+         * {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy}.
+         *
+         * @see net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy.InvokeDynamicCall
+         */
+        INVOKE_DYNAMIC(true);
+
+        /**
+         * {@code true} if this binder binds the default method call by an {@code invokedynamic} call site.
+         */
+        private final boolean invokeDynamic;
+
+        /**
+         * Creates a new binder.
+         *
+         * @param invokeDynamic {@code true} if this binder binds the default method call by an {@code invokedynamic}
+         *                      call site.
+         */
+        private Binder(boolean invokeDynamic) {
+            this.invokeDynamic = invokeDynamic;
+        }
 
         /**
          * Defines a locator for looking up the suitable default method to an annotation.
@@ -91,7 +117,9 @@ public @interface DefaultCall {
             }
             Instrumentation.SpecialMethodInvocation specialMethodInvocation = locate(annotation.targetType()).resolve(instrumentationTarget, source);
             return specialMethodInvocation.isValid()
-                    ? new MethodDelegationBinder.ParameterBinding.Anonymous(new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.serializableProxy()))
+                    ? new MethodDelegationBinder.ParameterBinding.Anonymous(invokeDynamic
+                    ? new MethodCallProxy.InvokeDynamicCall(specialMethodInvocation, targetType, annotation.serializableProxy())
+                    : new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.serializableProxy()))
                     : MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE;
         }
 
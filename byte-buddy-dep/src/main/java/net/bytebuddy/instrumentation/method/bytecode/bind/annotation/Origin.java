@@ -65,6 +65,22 @@ public @interface Origin {
      */
     boolean cacheMethod() default false;
 
+    /**
+     * If this value is set to {@code true} and the annotated parameter is a {@link java.lang.reflect.Method} type,
+     * the value that is assigned to this parameter is cached in a {@code static} field that is only assigned when
+     * the intercepted method is invoked for the first time. Other than with {@link Origin#cacheMethod()}, the
+     * look-up of the {@link java.lang.reflect.Method} instance is not executed by the instrumented type's type
+     * initializer. This way, the initialization of an instrumented type with many intercepted methods does not
+     * require the look-up of methods that are never invoked. Instead, the cached value is read by a synthetic
+     * {@code static} method of the instrumented type that looks up the method if its field is not yet assigned.
+     * This check is not synchronized such that concurrent first invocations might look up the method more than
+     * once. If this value is set, the value of {@link Origin#cacheMethod()} is ignored.
+     *
+     * @return {@code true} if the annotated {@link java.lang.reflect.Method} parameter should be assigned a lazily
+     * cached instance. For any other parameter type, this value is ignored.
+     */
+    boolean cacheMethodLazily() default false;
+
     /**
      * A binder for binding parameters that are annotated with
      * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Origin}.
@@ -94,9 +110,10 @@ public @interface Origin {
             if (parameterType.represents(Class.class)) {
                 return new MethodDelegationBinder.ParameterBinding.Anonymous(ClassConstant.of(instrumentationTarget.getTypeDescription()));
             } else if (parameterType.represents(Method.class)) {
-                return new MethodDelegationBinder.ParameterBinding.Anonymous(annotation.cacheMethod()
-                        ? MethodConstant.forMethod(source).cached()
-                        : MethodConstant.forMethod(source));
+                MethodConstant.CanCache methodConstant = MethodConstant.forMethod(source);
+                return new MethodDelegationBinder.ParameterBinding.Anonymous(annotation.cacheMethodLazily()
+                        ? methodConstant.cachedLazily()
+                        : (annotation.cacheMethod() ? methodConstant.cached() : methodConstant));
             } else if (parameterType.represents(String.class)) {
                 return new MethodDelegationBinder.ParameterBinding.Anonymous(new TextConstant(source.getUniqueSignature()));
             } else if (MethodHandleConstant.isRepresentedBy(parameterType)) {
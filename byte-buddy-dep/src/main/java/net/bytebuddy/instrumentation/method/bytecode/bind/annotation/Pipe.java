@@ -208,7 +208,7 @@ public @interface Pipe {
          * An auxiliary type for performing the redirection of a method invocation as requested by the
          * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe} annotation.
          */
-        protected static class Redirection implements AuxiliaryType, StackManipulation {
+        protected static class Redirection implements AuxiliaryType.Shareable, StackManipulation {
 
             /**
              * The prefix for naming fields to store method arguments.
@@ -309,6 +309,11 @@ public @interface Pipe {
                 return builder.make();
             }
 
+            @Override
+            public boolean isShareableFor(TypeDescription instrumentedType) {
+                return !sourceMethod.getDeclaringType().equals(instrumentedType);
+            }
+
             @Override
             public boolean isValid() {
                 return true;
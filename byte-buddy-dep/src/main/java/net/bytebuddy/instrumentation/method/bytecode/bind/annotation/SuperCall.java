@@ -17,7 +17,9 @@ import java.util.concurrent.Callable;
  * <p>&nbsp;</p>
  * The proxy will both implement the {@link java.util.concurrent.Callable} and the {@link java.lang.Runnable} interfaces
  * such that the annotated parameter must be assignable to any of those interfaces or be of the {@link java.lang.Object}
- * type.
+ * type. If a method delegation registers the {@link SuperCall.Binder#INVOKE_DYNAMIC} binder, a proxy that is
+ * assigned to either {@link java.lang.Runnable} or {@link java.util.concurrent.Callable} only implements this interface
+ * and is created from an {@code invokedynamic} call site instead of an auxiliary type.
  *
  * @see net.bytebuddy.instrumentation.MethodDelegation
  * @see TargetMethodAnnotationDrivenBinder
@@ -44,9 +46,37 @@ public @interface SuperCall {
     static enum Binder implements TargetMethodAnnotationDrivenBinder.ParameterBinder<SuperCall> {
 
         /**
-         * The singleton instance.
+         * A binder that assigns a {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy} which is
+         * registered as an auxiliary type.
          */
-        INSTANCE;
+        INSTANCE(false),
+
+        /**
+         * A binder that assigns a proxy which is bootstrapped from an {@code invokedynamic} call site for types of a
+         * class file version of at least Java 8 such that no auxiliary type is registered. Proxies that cannot be
+         * created by the lambda meta factory are still represented by a
+         * {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy}. As the call site names the
+         * instrumented type in its descriptor, this binder cannot be used for types that are loaded by
+         * {@link net.bytebuddy.dynamic.ClassLoadingStrategy.Default#ANONYMOUS}.
+         *
+         * @see net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy.InvokeDynamicCall
+         */
+        INVOKE_DYNAMIC(true);
+
+        /**
+         * {@code true} if this binder binds the super method call by an {@code invokedynamic} call site.
+         */
+        private final boolean invokeDynamic;
+
+        /**
+         * Creates a new binder.
+         *
+         * @param invokeDynamic {@code true} if this binder binds the super method call by an {@code invokedynamic}
+         *                      call site.
+         */
+        private Binder(boolean invokeDynamic) {
+            this.invokeDynamic = invokeDynamic;
+        }
 
         @Override
         public Class<SuperCall> getHandledType() {
@@ -67,7 +97,9 @@ public @interface SuperCall {
             Instrumentation.SpecialMethodInvocation specialMethodInvocation = instrumentationTarget.invokeSuper(source,
                     Instrumentation.Target.MethodLookup.Default.EXACT);
             return specialMethodInvocation.isValid()
-                    ? new MethodDelegationBinder.ParameterBinding.Anonymous(new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.serializableProxy()))
+                    ? new MethodDelegationBinder.ParameterBinding.Anonymous(invokeDynamic
+                    ? new MethodCallProxy.InvokeDynamicCall(specialMethodInvocation, targetType, annotation.serializableProxy())
+                    : new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.serializableProxy()))
                     : MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE;
         }
     }
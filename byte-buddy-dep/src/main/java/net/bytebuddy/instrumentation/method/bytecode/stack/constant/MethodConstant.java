@@ -5,11 +5,13 @@ import net.bytebuddy.instrumentation.method.MethodDescription;
 import net.bytebuddy.instrumentation.method.bytecode.stack.StackManipulation;
 import net.bytebuddy.instrumentation.method.bytecode.stack.collection.ArrayFactory;
 import net.bytebuddy.instrumentation.method.bytecode.stack.member.FieldAccess;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodInvocation;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +27,16 @@ public abstract class MethodConstant implements StackManipulation {
      */
     private static final String CLASS_TYPE_INTERNAL_NAME = "java/lang/Class";
 
+    /**
+     * A description of the {@link java.lang.reflect.Method} type.
+     */
+    private static final TypeDescription METHOD_TYPE = new TypeDescription.ForLoadedType(Method.class);
+
+    /**
+     * A description of the {@link java.lang.reflect.Constructor} type.
+     */
+    private static final TypeDescription CONSTRUCTOR_TYPE = new TypeDescription.ForLoadedType(Constructor.class);
+
     /**
      * A description of the method to be loaded onto the stack.
      */
@@ -122,6 +134,16 @@ public abstract class MethodConstant implements StackManipulation {
         return new Cached(this);
     }
 
+    /**
+     * Returns a lazily cached version of this method constant as specified by
+     * {@link net.bytebuddy.instrumentation.method.bytecode.stack.constant.MethodConstant.LazilyCached}.
+     *
+     * @return A lazily cached version of this method constant.
+     */
+    public StackManipulation cachedLazily() {
+        return new LazilyCached(this, methodDescription.isConstructor() ? CONSTRUCTOR_TYPE : METHOD_TYPE);
+    }
+
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
@@ -153,6 +175,13 @@ public abstract class MethodConstant implements StackManipulation {
          * @return A cached version of the method constant that is represented by this instance.
          */
         StackManipulation cached();
+
+        /**
+         * Returns this method constant as a lazily cached version.
+         *
+         * @return A lazily cached version of the method constant that is represented by this instance.
+         */
+        StackManipulation cachedLazily();
     }
 
     /**
@@ -249,11 +278,6 @@ public abstract class MethodConstant implements StackManipulation {
      */
     private static class Cached implements StackManipulation {
 
-        /**
-         * A description of the {@link java.lang.reflect.Method} type.
-         */
-        private static final TypeDescription METHOD_TYPE = new TypeDescription.ForLoadedType(Method.class);
-
         /**
          * The stack manipulation that is represented by this caching wrapper.
          */
@@ -295,4 +319,67 @@ public abstract class MethodConstant implements StackManipulation {
             return "MethodConstant.Cached{methodConstant=" + methodConstant + '}';
         }
     }
+
+    /**
+     * Represents a {@link net.bytebuddy.instrumentation.method.bytecode.stack.constant.MethodConstant} that is
+     * cached in a field of the instrumented type when it is loaded for the first time. Other than for a
+     * {@link net.bytebuddy.instrumentation.method.bytecode.stack.constant.MethodConstant.Cached} constant, the
+     * reflective look-up is not executed by the instrumented type's type initializer. Instead, the constant is
+     * loaded by invoking a {@code static} accessor method of the instrumented type which looks up the constant
+     * only if it was not yet cached.
+     */
+    private static class LazilyCached implements StackManipulation {
+
+        /**
+         * The stack manipulation that is represented by this caching wrapper.
+         */
+        private final StackManipulation methodConstant;
+
+        /**
+         * The type of the reflective representation of the method constant.
+         */
+        private final TypeDescription constantType;
+
+        /**
+         * Creates a new lazily cached {@link net.bytebuddy.instrumentation.method.bytecode.stack.constant.MethodConstant}.
+         *
+         * @param methodConstant The method constant to store in the lazy field cache.
+         * @param constantType   The type of the reflective representation of the method constant.
+         */
+        private LazilyCached(StackManipulation methodConstant, TypeDescription constantType) {
+            this.methodConstant = methodConstant;
+            this.constantType = constantType;
+        }
+
+        @Override
+        public boolean isValid() {
+            return methodConstant.isValid();
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
+            return MethodInvocation.invoke(instrumentationContext.cacheLazily(methodConstant, constantType))
+                    .apply(methodVisitor, instrumentationContext);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && methodConstant.equals(((LazilyCached) other).methodConstant)
+                    && constantType.equals(((LazilyCached) other).constantType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * methodConstant.hashCode() + constantType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "MethodConstant.LazilyCached{" +
+                    "methodConstant=" + methodConstant +
+                    ", constantType=" + constantType +
+                    '}';
+        }
+    }
 }
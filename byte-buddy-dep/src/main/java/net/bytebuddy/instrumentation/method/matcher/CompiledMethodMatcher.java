@@ -0,0 +1,125 @@
+package net.bytebuddy.instrumentation.method.matcher;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * A method matcher that is the result of compiling another method matcher by
+ * {@link net.bytebuddy.instrumentation.method.matcher.MethodMatchers#compile(MethodMatcher)}. Cheap discriminators
+ * of the compiled matcher, such as exact method names, the number of parameters or required modifiers, are hoisted
+ * out of the matcher tree and are checked before any residual matcher is applied. A compiled method matcher matches
+ * exactly the same methods as the method matcher it was compiled from.
+ */
+public class CompiledMethodMatcher extends JunctionMethodMatcher.AbstractBase {
+
+    /**
+     * Indicates that the number of parameters of a method is not constrained.
+     */
+    static final int ANY_PARAMETER_COUNT = -1;
+
+    /**
+     * The names of which a matched method must have one or {@code null} if the name is not constrained.
+     * Constructors and type initializers are never matched if this set is not {@code null}.
+     */
+    private final Set<String> names;
+
+    /**
+     * The number of parameters of a matched method or {@link CompiledMethodMatcher#ANY_PARAMETER_COUNT}.
+     */
+    private final int parameterCount;
+
+    /**
+     * The modifiers that must all be set for a matched method.
+     */
+    private final int modifiers;
+
+    /**
+     * The method matchers that must additionally match a method after all hoisted discriminators were checked.
+     */
+    private final MethodMatcher[] residualMatchers;
+
+    /**
+     * Creates a new compiled method matcher.
+     *
+     * @param names            The names of which a matched method must have one or {@code null} if the name is
+     *                         not constrained.
+     * @param parameterCount   The number of parameters of a matched method or
+     *                         {@link CompiledMethodMatcher#ANY_PARAMETER_COUNT}.
+     * @param modifiers        The modifiers that must all be set for a matched method.
+     * @param residualMatchers The method matchers that must additionally match a method.
+     */
+    CompiledMethodMatcher(Set<String> names, int parameterCount, int modifiers, MethodMatcher[] residualMatchers) {
+        this.names = names;
+        this.parameterCount = parameterCount;
+        this.modifiers = modifiers;
+        this.residualMatchers = residualMatchers;
+    }
+
+    @Override
+    public boolean matches(MethodDescription methodDescription) {
+        if (names != null && (methodDescription.isConstructor()
+                || methodDescription.isTypeInitializer()
+                || !names.contains(methodDescription.getName()))) {
+            return false;
+        } else if ((methodDescription.getModifiers() & modifiers) != modifiers) {
+            return false;
+        } else if (parameterCount != ANY_PARAMETER_COUNT && methodDescription.getParameterTypes().size() != parameterCount) {
+            return false;
+        }
+        for (MethodMatcher residualMatcher : residualMatchers) {
+            if (!residualMatcher.matches(methodDescription)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the names of which a matched method must have one.
+     *
+     * @return The names of which a matched method must have one or {@code null} if the name is not constrained.
+     */
+    Set<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Checks if this compiled method matcher only constrains the name of a matched method.
+     *
+     * @return {@code true} if this compiled method matcher is fully represented by its names.
+     */
+    boolean isNameOnly() {
+        return names != null && parameterCount == ANY_PARAMETER_COUNT && modifiers == 0 && residualMatchers.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        CompiledMethodMatcher compiledMethodMatcher = (CompiledMethodMatcher) other;
+        return modifiers == compiledMethodMatcher.modifiers
+                && parameterCount == compiledMethodMatcher.parameterCount
+                && (names == null ? compiledMethodMatcher.names == null : names.equals(compiledMethodMatcher.names))
+                && Arrays.equals(residualMatchers, compiledMethodMatcher.residualMatchers);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = names == null ? 0 : names.hashCode();
+        result = 31 * result + parameterCount;
+        result = 31 * result + modifiers;
+        result = 31 * result + Arrays.hashCode(residualMatchers);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "compiled(names=" + names +
+                ", parameterCount=" + parameterCount +
+                ", modifiers=" + modifiers +
+                ", residual=" + Arrays.toString(residualMatchers) +
+                ')';
+    }
+}
@@ -69,6 +69,24 @@ public interface JunctionMethodMatcher extends MethodMatcher {
             return left.matches(methodDescription) && right.matches(methodDescription);
         }
 
+        /**
+         * Returns the first method matcher of this conjunction.
+         *
+         * @return The first method matcher of this conjunction.
+         */
+        MethodMatcher getLeft() {
+            return left;
+        }
+
+        /**
+         * Returns the second method matcher of this conjunction.
+         *
+         * @return The second method matcher of this conjunction.
+         */
+        MethodMatcher getRight() {
+            return right;
+        }
+
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
@@ -114,6 +132,24 @@ public interface JunctionMethodMatcher extends MethodMatcher {
             return left.matches(methodDescription) || right.matches(methodDescription);
         }
 
+        /**
+         * Returns the first method matcher of this disjunction.
+         *
+         * @return The first method matcher of this disjunction.
+         */
+        MethodMatcher getLeft() {
+            return left;
+        }
+
+        /**
+         * Returns the second method matcher of this disjunction.
+         *
+         * @return The second method matcher of this disjunction.
+         */
+        MethodMatcher getRight() {
+            return right;
+        }
+
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
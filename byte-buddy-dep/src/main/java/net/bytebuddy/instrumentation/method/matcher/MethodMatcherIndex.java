@@ -0,0 +1,191 @@
+package net.bytebuddy.instrumentation.method.matcher;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+
+import java.util.*;
+
+/**
+ * An index over a list of method matchers that allows to determine the matchers that match a given method without
+ * applying every matcher. All matchers are {@link MethodMatchers#compile(MethodMatcher) compiled} and indexed by the
+ * method names they require such that only those matchers are applied to a method that either require the method's
+ * name or that do not constrain a method's name at all.
+ */
+public class MethodMatcherIndex {
+
+    /**
+     * Represents a matcher position for a method that is not matched by any matcher.
+     */
+    public static final int NO_MATCH = -1;
+
+    /**
+     * An empty array of matcher positions.
+     */
+    private static final int[] NO_POSITIONS = new int[0];
+
+    /**
+     * The compiled method matchers in their original order.
+     */
+    private final CompiledMethodMatcher[] methodMatchers;
+
+    /**
+     * The positions of all matchers that constrain a method's name, indexed by any of these names. The positions
+     * are stored in ascending order.
+     */
+    private final Map<String, int[]> namedMatchers;
+
+    /**
+     * The positions of all matchers that do not constrain a method's name in ascending order.
+     */
+    private final int[] unnamedMatchers;
+
+    /**
+     * Creates a new method matcher index.
+     *
+     * @param methodMatcher The method matchers to index in the order of their precedence.
+     */
+    public MethodMatcherIndex(MethodMatcher... methodMatcher) {
+        this(Arrays.asList(methodMatcher));
+    }
+
+    /**
+     * Creates a new method matcher index.
+     *
+     * @param methodMatchers The method matchers to index in the order of their precedence.
+     */
+    public MethodMatcherIndex(List<? extends MethodMatcher> methodMatchers) {
+        this.methodMatchers = new CompiledMethodMatcher[methodMatchers.size()];
+        Map<String, List<Integer>> namedMatchers = new HashMap<String, List<Integer>>();
+        List<Integer> unnamedMatchers = new ArrayList<Integer>();
+        int index = 0;
+        for (MethodMatcher methodMatcher : methodMatchers) {
+            CompiledMethodMatcher compiledMethodMatcher = MethodMatchers.compile(methodMatcher);
+            this.methodMatchers[index] = compiledMethodMatcher;
+            if (compiledMethodMatcher.getNames() == null) {
+                unnamedMatchers.add(index);
+            } else {
+                for (String name : compiledMethodMatcher.getNames()) {
+                    List<Integer> positions = namedMatchers.get(name);
+                    if (positions == null) {
+                        positions = new ArrayList<Integer>();
+                        namedMatchers.put(name, positions);
+                    }
+                    positions.add(index);
+                }
+            }
+            index++;
+        }
+        this.namedMatchers = new HashMap<String, int[]>(namedMatchers.size());
+        for (Map.Entry<String, List<Integer>> entry : namedMatchers.entrySet()) {
+            this.namedMatchers.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        this.unnamedMatchers = toArray(unnamedMatchers);
+    }
+
+    /**
+     * Converts a list of integers into an array.
+     *
+     * @param values The values to convert.
+     * @return An array containing all given values.
+     */
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        int index = 0;
+        for (Integer value : values) {
+            array[index++] = value;
+        }
+        return array;
+    }
+
+    /**
+     * Returns the position of the first method matcher that matches the given method.
+     *
+     * @param methodDescription The method to match.
+     * @return The position of the first matching method matcher or {@link MethodMatcherIndex#NO_MATCH} if no
+     * method matcher matches the given method.
+     */
+    public int indexOf(MethodDescription methodDescription) {
+        int[] namedMatchers = candidatesFor(methodDescription);
+        int namedIndex = 0, unnamedIndex = 0;
+        while (namedIndex < namedMatchers.length || unnamedIndex < unnamedMatchers.length) {
+            int position;
+            if (unnamedIndex == unnamedMatchers.length
+                    || (namedIndex < namedMatchers.length && namedMatchers[namedIndex] < unnamedMatchers[unnamedIndex])) {
+                position = namedMatchers[namedIndex++];
+            } else {
+                position = unnamedMatchers[unnamedIndex++];
+            }
+            if (methodMatchers[position].matches(methodDescription)) {
+                return position;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Returns the positions of all method matchers that match the given method.
+     *
+     * @param methodDescription The method to match.
+     * @return A bit set where any bit is set for the position of a method matcher that matches the given method.
+     */
+    public BitSet matching(MethodDescription methodDescription) {
+        BitSet matching = new BitSet(methodMatchers.length);
+        for (int position : candidatesFor(methodDescription)) {
+            if (methodMatchers[position].matches(methodDescription)) {
+                matching.set(position);
+            }
+        }
+        for (int position : unnamedMatchers) {
+            if (methodMatchers[position].matches(methodDescription)) {
+                matching.set(position);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Filters a list of methods for those methods that are matched by any of the indexed method matchers.
+     *
+     * @param methodList The methods to filter.
+     * @return A list of all given methods that are matched by any method matcher.
+     */
+    public MethodList filter(MethodList methodList) {
+        List<MethodDescription> filteredMethods = new ArrayList<MethodDescription>(methodList.size());
+        for (MethodDescription methodDescription : methodList) {
+            if (indexOf(methodDescription) != NO_MATCH) {
+                filteredMethods.add(methodDescription);
+            }
+        }
+        return new MethodList.Explicit(filteredMethods);
+    }
+
+    /**
+     * Returns the positions of all method matchers that require the name of the given method.
+     *
+     * @param methodDescription The method for which to locate candidate matchers.
+     * @return The positions of all method matchers that require the method's name in ascending order.
+     */
+    private int[] candidatesFor(MethodDescription methodDescription) {
+        if (methodDescription.isConstructor() || methodDescription.isTypeInitializer()) {
+            return NO_POSITIONS;
+        }
+        int[] positions = namedMatchers.get(methodDescription.getName());
+        return positions == null ? NO_POSITIONS : positions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && Arrays.equals(methodMatchers, ((MethodMatcherIndex) other).methodMatchers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(methodMatchers);
+    }
+
+    @Override
+    public String toString() {
+        return "MethodMatcherIndex{methodMatchers=" + Arrays.toString(methodMatchers) + '}';
+    }
+}
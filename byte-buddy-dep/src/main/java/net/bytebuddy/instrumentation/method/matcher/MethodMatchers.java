@@ -10,8 +10,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 /**
  * A collection of common {@link net.bytebuddy.instrumentation.method.matcher.MethodMatcher}
@@ -868,6 +867,153 @@ public final class MethodMatchers {
         return new BooleanMethodMatcher(false);
     }
 
+    /**
+     * Compiles a method matcher into a matcher that checks cheap discriminators, such as exact names, the number of
+     * parameters or single modifiers, before applying the remaining parts of the original matcher. The compiled
+     * matcher matches exactly the same methods as the given matcher but avoids the evaluation of the original matcher
+     * tree for most methods that are not matched. Compiling a matcher is only beneficial if it is applied to
+     * a larger number of methods.
+     *
+     * @param methodMatcher The method matcher to compile.
+     * @return A compiled version of the given method matcher.
+     */
+    public static CompiledMethodMatcher compile(MethodMatcher methodMatcher) {
+        if (methodMatcher instanceof CompiledMethodMatcher) {
+            return (CompiledMethodMatcher) methodMatcher;
+        }
+        Compilation compilation = new Compilation();
+        compilation.conjoin(methodMatcher);
+        return compilation.toMatcher();
+    }
+
+    /**
+     * A compilation of a method matcher tree that collects the discriminators of all conjunctive parts of a matcher.
+     */
+    private static class Compilation {
+
+        /**
+         * The names of which a matched method must have one or {@code null} if the name is not constrained.
+         */
+        private Set<String> names;
+
+        /**
+         * The number of parameters of a matched method.
+         */
+        private int parameterCount;
+
+        /**
+         * The modifiers that must all be set for a matched method.
+         */
+        private int modifiers;
+
+        /**
+         * {@code true} if the compiled matcher can match any method at all.
+         */
+        private boolean satisfiable;
+
+        /**
+         * The parts of the compiled matcher that could not be hoisted into discriminators.
+         */
+        private final List<MethodMatcher> residualMatchers;
+
+        /**
+         * Creates a new compilation for a matcher that does not yet constrain any method.
+         */
+        private Compilation() {
+            parameterCount = CompiledMethodMatcher.ANY_PARAMETER_COUNT;
+            satisfiable = true;
+            residualMatchers = new ArrayList<MethodMatcher>();
+        }
+
+        /**
+         * Adds a method matcher as a conjunctive part of the compiled method matcher.
+         *
+         * @param methodMatcher The method matcher to add.
+         */
+        private void conjoin(MethodMatcher methodMatcher) {
+            if (methodMatcher instanceof JunctionMethodMatcher.Conjunction) {
+                conjoin(((JunctionMethodMatcher.Conjunction) methodMatcher).getLeft());
+                conjoin(((JunctionMethodMatcher.Conjunction) methodMatcher).getRight());
+            } else if (methodMatcher instanceof MethodNameMethodMatcher
+                    && ((MethodNameMethodMatcher) methodMatcher).matchMode == MatchMode.EQUALS_FULLY) {
+                restrictNames(Collections.singleton(((MethodNameMethodMatcher) methodMatcher).name));
+            } else if (methodMatcher instanceof ParameterCountMethodMatcher) {
+                restrictParameterCount(((ParameterCountMethodMatcher) methodMatcher).numberOfParameters);
+            } else if (methodMatcher instanceof ParameterTypeMethodMatcher) {
+                restrictParameterCount(((ParameterTypeMethodMatcher) methodMatcher).parameterTypes.size());
+                residualMatchers.add(methodMatcher);
+            } else if (methodMatcher instanceof ModifierMethodMatcher
+                    && Integer.bitCount(((ModifierMethodMatcher) methodMatcher).modifiers) == 1) {
+                modifiers |= ((ModifierMethodMatcher) methodMatcher).modifiers;
+            } else if (methodMatcher instanceof BooleanMethodMatcher) {
+                satisfiable &= ((BooleanMethodMatcher) methodMatcher).matches;
+            } else if (methodMatcher instanceof JunctionMethodMatcher.Disjunction) {
+                CompiledMethodMatcher left = compile(((JunctionMethodMatcher.Disjunction) methodMatcher).getLeft());
+                CompiledMethodMatcher right = compile(((JunctionMethodMatcher.Disjunction) methodMatcher).getRight());
+                // A disjunction can only be discriminated by name if both of its branches are.
+                if (left.getNames() != null && right.getNames() != null) {
+                    Set<String> names = new HashSet<String>(left.getNames());
+                    names.addAll(right.getNames());
+                    restrictNames(names);
+                }
+                if (!left.isNameOnly() || !right.isNameOnly()) {
+                    residualMatchers.add(methodMatcher);
+                }
+            } else {
+                residualMatchers.add(methodMatcher);
+            }
+        }
+
+        /**
+         * Restricts the names of a matched method to the given names.
+         *
+         * @param names The names of which a matched method must have one.
+         */
+        private void restrictNames(Set<String> names) {
+            if (this.names == null) {
+                this.names = new HashSet<String>(names);
+            } else {
+                this.names.retainAll(names);
+            }
+        }
+
+        /**
+         * Restricts the number of parameters of a matched method.
+         *
+         * @param parameterCount The number of parameters of a matched method.
+         */
+        private void restrictParameterCount(int parameterCount) {
+            if (this.parameterCount == CompiledMethodMatcher.ANY_PARAMETER_COUNT) {
+                this.parameterCount = parameterCount;
+            } else if (this.parameterCount != parameterCount) {
+                satisfiable = false;
+            }
+        }
+
+        /**
+         * Creates a compiled method matcher of this compilation.
+         *
+         * @return A compiled method matcher that represents this compilation.
+         */
+        private CompiledMethodMatcher toMatcher() {
+            return new CompiledMethodMatcher(satisfiable ? names : Collections.<String>emptySet(),
+                    parameterCount,
+                    modifiers,
+                    residualMatchers.toArray(new MethodMatcher[residualMatchers.size()]));
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMatchers.Compilation{" +
+                    "names=" + names +
+                    ", parameterCount=" + parameterCount +
+                    ", modifiers=" + modifiers +
+                    ", satisfiable=" + satisfiable +
+                    ", residualMatchers=" + residualMatchers +
+                    '}';
+        }
+    }
+
     /**
      * Each match mode represents a way of comparing two strings to another.
      */
@@ -6,12 +6,16 @@ import net.bytebuddy.instrumentation.field.FieldList;
 import net.bytebuddy.instrumentation.method.MethodDescription;
 import net.bytebuddy.instrumentation.method.MethodList;
 import net.bytebuddy.instrumentation.method.bytecode.stack.StackSize;
+import net.bytebuddy.utility.ClassAttachment;
 import org.objectweb.asm.Type;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Implementations of this interface represent a Java type, i.e. a class or interface.
@@ -239,11 +243,29 @@ public interface TypeDescription extends ByteCodeElement, DeclaredInType, Modifi
      */
     static class ForLoadedType extends AbstractTypeDescription {
 
+        /**
+         * The canonical descriptions of types that are loaded by the bootstrap class loader. Such types are never
+         * unloaded such that their descriptions can be referenced strongly.
+         */
+        private static final ConcurrentMap<Class<?>, ForLoadedType> BOOTSTRAP_TYPES = new ConcurrentHashMap<Class<?>, ForLoadedType>();
+
+        /**
+         * The canonical descriptions of types that are not loaded by the bootstrap class loader where each description
+         * is attached to its type. The descriptions are referenced weakly such that an attachment never reaches its
+         * own type and never prevents the unloading of a class.
+         */
+        private static final ClassAttachment<CanonicalType> CANONICAL_TYPES = ClassAttachment.of(CanonicalType.Initializer.INSTANCE);
+
         /**
          * The loaded type this instance represents.
          */
         private final Class<?> type;
 
+        /**
+         * The lazily resolved interfaces of the represented type or {@code null} if they were not yet resolved.
+         */
+        private volatile TypeList interfaces;
+
         /**
          * Creates a new immutable type description for a loaded type.
          *
@@ -253,6 +275,39 @@ public interface TypeDescription extends ByteCodeElement, DeclaredInType, Modifi
             this.type = type;
         }
 
+        /**
+         * Returns a canonical type description for a loaded type. As long as a canonical description is referenced,
+         * any lookup of the same type returns the same description such that type descriptions that are frequently
+         * requested for the same type, for example parameter types or super types, do not need to be recreated.
+         * Canonical descriptions of types that are not loaded by the bootstrap class loader are weakly attached to
+         * their type by a {@link net.bytebuddy.utility.ClassAttachment} such that they are looked up without locking
+         * on a VM that supports class values and do not prevent the unloading of their class loader.
+         *
+         * @param type The type to be represented by the returned type description.
+         * @return A canonical type description of the given type.
+         */
+        public static ForLoadedType of(Class<?> type) {
+            if (type.getClassLoader() == null) {
+                ForLoadedType typeDescription = BOOTSTRAP_TYPES.get(type);
+                if (typeDescription == null) {
+                    typeDescription = new ForLoadedType(type);
+                    ForLoadedType previous = BOOTSTRAP_TYPES.putIfAbsent(type, typeDescription);
+                    return previous == null ? typeDescription : previous;
+                }
+                return typeDescription;
+            }
+            return CANONICAL_TYPES.get(type).resolve(type);
+        }
+
+        /**
+         * Returns the loaded type that is represented by this type description.
+         *
+         * @return The loaded type that is represented by this type description.
+         */
+        public Class<?> getLoadedType() {
+            return type;
+        }
+
         @Override
         public boolean isInstance(Object object) {
             return type.isInstance(object);
@@ -295,7 +350,7 @@ public interface TypeDescription extends ByteCodeElement, DeclaredInType, Modifi
 
         @Override
         public TypeDescription getComponentType() {
-            return type.getComponentType() == null ? null : new TypeDescription.ForLoadedType(type.getComponentType());
+            return type.getComponentType() == null ? null : ForLoadedType.of(type.getComponentType());
         }
 
         @Override
@@ -315,18 +370,23 @@ public interface TypeDescription extends ByteCodeElement, DeclaredInType, Modifi
 
         @Override
         public TypeDescription getSupertype() {
-            return type.getSuperclass() == null ? null : new TypeDescription.ForLoadedType(type.getSuperclass());
+            return type.getSuperclass() == null ? null : ForLoadedType.of(type.getSuperclass());
         }
 
         @Override
         public TypeList getInterfaces() {
-            return new TypeList.ForLoadedType(type.getInterfaces());
+            TypeList interfaces = this.interfaces;
+            if (interfaces == null) {
+                interfaces = new TypeList.ForLoadedType(type.getInterfaces());
+                this.interfaces = interfaces;
+            }
+            return interfaces;
         }
 
         @Override
         public TypeDescription getDeclaringType() {
             Class<?> declaringType = type.getDeclaringClass();
-            return declaringType == null ? null : new TypeDescription.ForLoadedType(declaringType);
+            return declaringType == null ? null : ForLoadedType.of(declaringType);
         }
 
         @Override
@@ -345,7 +405,7 @@ public interface TypeDescription extends ByteCodeElement, DeclaredInType, Modifi
         @Override
         public TypeDescription getEnclosingClass() {
             Class<?> enclosingType = type.getEnclosingClass();
-            return enclosingType == null ? null : new TypeDescription.ForLoadedType(enclosingType);
+            return enclosingType == null ? null : ForLoadedType.of(enclosingType);
         }
 
         @Override
@@ -437,5 +497,67 @@ public interface TypeDescription extends ByteCodeElement, DeclaredInType, Modifi
         public String toString() {
             return "TypeDescription.ForLoadedType{" + type + "}";
         }
+
+        /**
+         * A holder for the canonical description of a loaded type which is attached to this type. The description is
+         * referenced weakly as it references the type it describes.
+         */
+        protected static class CanonicalType {
+
+            /**
+             * A weak reference to the canonical description of the type or {@code null} if no description was
+             * created.
+             */
+            private volatile WeakReference<ForLoadedType> reference;
+
+            /**
+             * Returns the canonical description of the given type.
+             *
+             * @param type The type this holder is attached to.
+             * @return The canonical description of the given type.
+             */
+            protected ForLoadedType resolve(Class<?> type) {
+                WeakReference<ForLoadedType> reference = this.reference;
+                ForLoadedType typeDescription = reference == null ? null : reference.get();
+                return typeDescription == null ? make(type) : typeDescription;
+            }
+
+            /**
+             * Creates the canonical description of the given type if it is not available.
+             *
+             * @param type The type this holder is attached to.
+             * @return The canonical description of the given type.
+             */
+            private synchronized ForLoadedType make(Class<?> type) {
+                WeakReference<ForLoadedType> reference = this.reference;
+                ForLoadedType typeDescription = reference == null ? null : reference.get();
+                if (typeDescription == null) {
+                    typeDescription = new ForLoadedType(type);
+                    this.reference = new WeakReference<ForLoadedType>(typeDescription);
+                }
+                return typeDescription;
+            }
+
+            @Override
+            public String toString() {
+                return "TypeDescription.ForLoadedType.CanonicalType{reference=" + reference + '}';
+            }
+
+            /**
+             * An initializer for a holder without a canonical description.
+             */
+            protected static enum Initializer implements ClassAttachment.Initializer<CanonicalType> {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public CanonicalType initialize(Class<?> type) {
+                    return new CanonicalType();
+                }
+            }
+        }
     }
 }
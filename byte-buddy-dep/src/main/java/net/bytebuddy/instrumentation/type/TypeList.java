@@ -37,6 +37,11 @@ public interface TypeList extends List<TypeDescription> {
          */
         private final Class<?>[] type;
 
+        /**
+         * The canonical descriptions of the represented types which are resolved lazily on their first lookup.
+         */
+        private final TypeDescription[] typeDescription;
+
         /**
          * Creates a new type list for an array of loaded types.
          *
@@ -44,6 +49,7 @@ public interface TypeList extends List<TypeDescription> {
          */
         public ForLoadedType(Class<?>[] type) {
             this.type = type;
+            typeDescription = new TypeDescription[type.length];
         }
 
         /**
@@ -52,12 +58,17 @@ public interface TypeList extends List<TypeDescription> {
          * @param types The types to be represented by this list.
          */
         public ForLoadedType(List<Class<?>> types) {
-            type = types.toArray(new Class<?>[types.size()]);
+            this(types.toArray(new Class<?>[types.size()]));
         }
 
         @Override
         public TypeDescription get(int index) {
-            return new TypeDescription.ForLoadedType(type[index]);
+            TypeDescription typeDescription = this.typeDescription[index];
+            if (typeDescription == null) {
+                typeDescription = TypeDescription.ForLoadedType.of(type[index]);
+                this.typeDescription[index] = typeDescription;
+            }
+            return typeDescription;
         }
 
         @Override
@@ -5,6 +5,7 @@ import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.instrumentation.Instrumentation;
 import net.bytebuddy.instrumentation.ModifierContributor;
 import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.modifier.SyntheticState;
 import net.bytebuddy.modifier.Visibility;
 
@@ -51,5 +52,40 @@ public interface AuxiliaryType {
          * @return The accessor method for invoking the special method invocation.
          */
         MethodDescription registerAccessorFor(Instrumentation.SpecialMethodInvocation specialMethodInvocation);
+
+        /**
+         * A method accessor factory for creating an auxiliary type outside of an instrumentation, which does not
+         * support the registration of accessor methods.
+         */
+        static enum Illegal implements MethodAccessorFactory {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public MethodDescription registerAccessorFor(Instrumentation.SpecialMethodInvocation specialMethodInvocation) {
+                throw new IllegalStateException("Cannot register an accessor method for " + specialMethodInvocation);
+            }
+        }
+    }
+
+    /**
+     * An auxiliary type whose byte code does not necessarily depend on the instrumented type it is registered for.
+     * Such a type can be shared among several instrumented types that live in the same package and that are loaded
+     * by the same class loader if a {@link net.bytebuddy.dynamic.scaffold.AuxiliaryTypeRegistry} is used. Two
+     * shareable auxiliary types are considered structurally identical if they are equal.
+     */
+    static interface Shareable extends AuxiliaryType {
+
+        /**
+         * Checks if this auxiliary type can be shared when it is registered for the given instrumented type. This
+         * is not the case if the auxiliary type's byte code references the instrumented type or any of its members.
+         *
+         * @param instrumentedType The instrumented type for which this auxiliary type is registered.
+         * @return {@code true} if this auxiliary type does not depend on the given instrumented type.
+         */
+        boolean isShareableFor(TypeDescription instrumentedType);
     }
 }
@@ -0,0 +1,573 @@
+package net.bytebuddy.instrumentation.type.auxiliary;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.instrumentation.Instrumentation;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.instrumentation.method.MethodLookupEngine;
+import net.bytebuddy.instrumentation.method.bytecode.ByteCodeAppender;
+import net.bytebuddy.instrumentation.method.bytecode.stack.Duplication;
+import net.bytebuddy.instrumentation.method.bytecode.stack.StackManipulation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.Throw;
+import net.bytebuddy.instrumentation.method.bytecode.stack.TypeCreation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.Assigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.PrimitiveTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.VoidAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.constant.IntegerConstant;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodInvocation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodReturn;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodVariableAccess;
+import net.bytebuddy.instrumentation.type.InstrumentedType;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.TypeList;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
+
+/**
+ * A fast class invokes the methods and constructors of a given type by an index instead of by reflection. A fast
+ * class is a generated subclass of this class that dispatches the index of a method or constructor by a
+ * {@code tableswitch} instruction to a direct invocation of this method or constructor. Arguments are unboxed and
+ * return values are boxed where this is necessary. A fast class represents all {@code public} methods that are
+ * invokable on the given type, excluding bridge methods, and all {@code public} constructors of the given type. The
+ * index of a method or constructor can be looked up by its signature and should be retained for repeated
+ * invocations. Any exception that is thrown by an invoked method or constructor is rethrown without being wrapped.
+ * <p>&nbsp;</p>
+ * A fast class is thread-safe.
+ */
+public abstract class FastClass {
+
+    /**
+     * The suffix of the name of a fast class that is created by {@link FastClass#of(Class)}.
+     */
+    private static final String NAME_SUFFIX = "ByteBuddy$FastClass";
+
+    /**
+     * The package prefix of types for which no class can be defined in their package.
+     */
+    private static final String JAVA_PACKAGE = "java.";
+
+    /**
+     * The package into which a generated type is moved if no class can be defined in the package of its type.
+     */
+    private static final String BYTE_BUDDY_RENAME_PACKAGE = "net.bytebuddy.renamed";
+
+    /**
+     * The name of the method that invokes a method by its index.
+     */
+    private static final String INVOKE_METHOD_NAME = "invoke";
+
+    /**
+     * The name of the method that invokes a constructor by its index.
+     */
+    private static final String NEW_INSTANCE_METHOD_NAME = "newInstance";
+
+    /**
+     * The name of the method that creates an exception for an illegal index.
+     */
+    private static final String ILLEGAL_INDEX_METHOD_NAME = "illegalIndex";
+
+    /**
+     * The index of a method or constructor that is not represented by a fast class.
+     */
+    public static final int NO_INDEX = -1;
+
+    /**
+     * The type whose methods and constructors are invoked by this fast class.
+     */
+    private final Class<?> type;
+
+    /**
+     * The indices of all represented methods mapped by their names and parameter descriptors.
+     */
+    private final Map<String, Integer> methodIndices;
+
+    /**
+     * The indices of all represented constructors mapped by their parameter descriptors.
+     */
+    private final Map<String, Integer> constructorIndices;
+
+    /**
+     * Creates a new fast class.
+     *
+     * @param type The type whose methods and constructors are invoked by this fast class.
+     */
+    protected FastClass(Class<?> type) {
+        this.type = type;
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(type);
+        methodIndices = indicesOf(methodsOf(typeDescription), true);
+        constructorIndices = indicesOf(constructorsOf(typeDescription), false);
+    }
+
+    /**
+     * Creates a fast class for the given type. The fast class is loaded by a new class loader that is a child of the
+     * given type's class loader or of Byte Buddy's class loader if the type is loaded by the bootstrap class loader.
+     * Creating a fast class is expensive such that a fast class should be retained for repeated use.
+     *
+     * @param type A {@code public} type whose methods and constructors are invoked by the fast class.
+     * @return A fast class for the given type.
+     */
+    public static FastClass of(Class<?> type) {
+        return (FastClass) make(new Generator(new TypeDescription.ForLoadedType(type)), type, NAME_SUFFIX);
+    }
+
+    /**
+     * Creates an auxiliary type that represents the given type, loads it by a new class loader that is a child of the
+     * given type's class loader or of Byte Buddy's class loader if the type is loaded by the bootstrap class loader
+     * and instantiates it by its constructor that takes the represented type as its only argument.
+     *
+     * @param auxiliaryType The auxiliary type that represents the given type.
+     * @param type          A {@code public} type that is represented by the auxiliary type.
+     * @param nameSuffix    The suffix that is appended to the represented type's name for naming the auxiliary type.
+     * @return An instance of the auxiliary type.
+     */
+    static Object make(AuxiliaryType auxiliaryType, Class<?> type, String nameSuffix) {
+        if (type.isPrimitive() || type.isArray() || !Modifier.isPublic(type.getModifiers())) {
+            throw new IllegalArgumentException("Cannot represent a non-public, primitive or array type " + type);
+        }
+        String name = type.getName();
+        if (name.startsWith(JAVA_PACKAGE)) {
+            name = BYTE_BUDDY_RENAME_PACKAGE + "." + name;
+        }
+        DynamicType dynamicType = auxiliaryType.make(String.format("%s$%s", name, nameSuffix),
+                ClassFileVersion.JAVA_V6,
+                AuxiliaryType.MethodAccessorFactory.Illegal.INSTANCE);
+        Class<?> loaded = ClassLoadingStrategy.Default.WRAPPER.load(type.getClassLoader() == null ? FastClass.class.getClassLoader() : type.getClassLoader(),
+                Collections.singletonMap(dynamicType.getDescription(), dynamicType.getBytes())).get(dynamicType.getDescription());
+        try {
+            Constructor<?> constructor = loaded.getDeclaredConstructor(Class.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot instantiate " + loaded + " for " + type, e);
+        }
+    }
+
+    /**
+     * Returns all methods that are represented by a fast class of the given type in the order of their indices. A
+     * bridge method is only excluded if a method with the same name and parameter types is represented, such that
+     * visibility bridges of methods that are inherited from a package-private type are retained. A {@code static}
+     * method is excluded if it is not declared by a {@code public} type as it cannot be invoked on its declaring
+     * type from the package of the fast class. A {@code static} method of an interface is excluded as well as a fast
+     * class is defined in the Java 6 class file format which does not allow the invocation of such methods.
+     *
+     * @param typeDescription The type for which a fast class is created.
+     * @return All methods that are represented by a fast class of the given type.
+     */
+    protected static MethodList methodsOf(TypeDescription typeDescription) {
+        MethodList candidates = new MethodLookupEngine.Default(MethodLookupEngine.Default.DefaultMethodLookup.DISABLED)
+                .process(typeDescription)
+                .getInvokableMethods()
+                .filter(isMethod().and(isPublic()));
+        List<MethodDescription> methodDescriptions = new ArrayList<MethodDescription>();
+        for (MethodDescription methodDescription : candidates) {
+            if ((!methodDescription.isStatic() || methodDescription.getDeclaringType().isPublic() && !methodDescription.getDeclaringType().isInterface())
+                    && (!methodDescription.isBridge() || candidates.filter(not(isBridge())
+                    .and(named(methodDescription.getName()))
+                    .and(takesArguments(methodDescription.getParameterTypes()))).isEmpty())) {
+                methodDescriptions.add(methodDescription);
+            }
+        }
+        return sorted(methodDescriptions);
+    }
+
+    /**
+     * Returns all constructors that are represented by a fast class of the given type in the order of their indices.
+     *
+     * @param typeDescription The type for which a fast class is created.
+     * @return All constructors that are represented by a fast class of the given type.
+     */
+    protected static MethodList constructorsOf(TypeDescription typeDescription) {
+        List<MethodDescription> methodDescriptions = new ArrayList<MethodDescription>();
+        if (!typeDescription.isAbstract()) {
+            for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+                if (methodDescription.isConstructor() && methodDescription.isPublic()) {
+                    methodDescriptions.add(methodDescription);
+                }
+            }
+        }
+        return sorted(methodDescriptions);
+    }
+
+    /**
+     * Sorts a list of method descriptions by their unique signatures such that the order of any type's methods is
+     * stable.
+     *
+     * @param methodDescriptions The method descriptions to sort.
+     * @return A list of the sorted method descriptions.
+     */
+    private static MethodList sorted(List<MethodDescription> methodDescriptions) {
+        Collections.sort(methodDescriptions, new Comparator<MethodDescription>() {
+            @Override
+            public int compare(MethodDescription left, MethodDescription right) {
+                return left.getUniqueSignature().compareTo(right.getUniqueSignature());
+            }
+        });
+        return new MethodList.Explicit(methodDescriptions);
+    }
+
+    /**
+     * Maps the indices of the given methods or constructors by their keys. If several methods share a key, the
+     * lowest index is retained.
+     *
+     * @param methodDescriptions The methods or constructors in the order of their indices.
+     * @param includeName        {@code true} if the methods' names are part of their keys.
+     * @return The indices of the given methods or constructors mapped by their keys.
+     */
+    private static Map<String, Integer> indicesOf(MethodList methodDescriptions, boolean includeName) {
+        Map<String, Integer> indices = new HashMap<String, Integer>(methodDescriptions.size() * 2);
+        int index = 0;
+        for (MethodDescription methodDescription : methodDescriptions) {
+            String key = keyOf(includeName ? methodDescription.getInternalName() : "", methodDescription.getParameterTypes());
+            if (!indices.containsKey(key)) {
+                indices.put(key, index);
+            }
+            index++;
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the key of a method or constructor.
+     *
+     * @param name           The method's name or an empty string for a constructor.
+     * @param parameterTypes The parameter types of the method or constructor.
+     * @return The key of the method or constructor.
+     */
+    private static String keyOf(String name, List<TypeDescription> parameterTypes) {
+        StringBuilder key = new StringBuilder(name).append('(');
+        for (TypeDescription parameterType : parameterTypes) {
+            key.append(parameterType.getDescriptor());
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * Creates an exception that is thrown by a fast class when it is asked to invoke a method or constructor of an
+     * index that it does not represent.
+     *
+     * @param index The illegal index.
+     * @return An exception for the illegal index.
+     */
+    protected static IllegalArgumentException illegalIndex(int index) {
+        return new IllegalArgumentException("No method or constructor is represented by the index " + index);
+    }
+
+    /**
+     * Returns the type whose methods and constructors are invoked by this fast class.
+     *
+     * @return The type whose methods and constructors are invoked by this fast class.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index of a method.
+     *
+     * @param name           The name of the method.
+     * @param parameterTypes The parameter types of the method.
+     * @return The index of the method or {@link FastClass#NO_INDEX} if this fast class does not represent such
+     * a method.
+     */
+    public int getIndex(String name, Class<?>... parameterTypes) {
+        Integer index = methodIndices.get(keyOf(name, new TypeList.ForLoadedType(parameterTypes)));
+        return index == null
+                ? NO_INDEX
+                : index;
+    }
+
+    /**
+     * Returns the index of a method.
+     *
+     * @param method The method.
+     * @return The index of the method or {@link FastClass#NO_INDEX} if this fast class does not represent such
+     * a method.
+     */
+    public int getIndex(Method method) {
+        return getIndex(method.getName(), method.getParameterTypes());
+    }
+
+    /**
+     * Returns the index of a constructor.
+     *
+     * @param parameterTypes The parameter types of the constructor.
+     * @return The index of the constructor or {@link FastClass#NO_INDEX} if this fast class does not represent
+     * such a constructor.
+     */
+    public int getConstructorIndex(Class<?>... parameterTypes) {
+        Integer index = constructorIndices.get(keyOf("", new TypeList.ForLoadedType(parameterTypes)));
+        return index == null
+                ? NO_INDEX
+                : index;
+    }
+
+    /**
+     * Invokes the method of the given index.
+     *
+     * @param index     The index of the method.
+     * @param target    The instance on which the method is invoked which is ignored for a {@code static} method.
+     * @param arguments The arguments of the invocation where primitive arguments are boxed.
+     * @return The boxed return value of the method or {@code null} if the method returns {@code void}.
+     * @throws Throwable Any exception that is thrown by the invoked method.
+     */
+    public abstract Object invoke(int index, Object target, Object[] arguments) throws Throwable;
+
+    /**
+     * Invokes the constructor of the given index.
+     *
+     * @param index     The index of the constructor.
+     * @param arguments The arguments of the invocation where primitive arguments are boxed.
+     * @return The created instance.
+     * @throws Throwable Any exception that is thrown by the invoked constructor.
+     */
+    public abstract Object newInstance(int index, Object[] arguments) throws Throwable;
+
+    @Override
+    public String toString() {
+        return "FastClass{type=" + type + '}';
+    }
+
+    /**
+     * An auxiliary type that creates the fast class of a given type. The created fast class must be instantiated by
+     * its single constructor which takes the given type as its argument. All represented methods and constructors
+     * must be accessible to the fast class.
+     */
+    public static class Generator implements AuxiliaryType {
+
+        /**
+         * The type for which a fast class is created.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * Creates a new generator for a fast class.
+         *
+         * @param typeDescription The type for which a fast class is created.
+         */
+        public Generator(TypeDescription typeDescription) {
+            this.typeDescription = typeDescription;
+        }
+
+        @Override
+        public DynamicType make(String auxiliaryTypeName,
+                                ClassFileVersion classFileVersion,
+                                MethodAccessorFactory methodAccessorFactory) {
+            return new ByteBuddy(classFileVersion)
+                    .subclass(FastClass.class, ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
+                    .name(auxiliaryTypeName)
+                    .modifiers(DEFAULT_TYPE_MODIFIER)
+                    .method(named(INVOKE_METHOD_NAME)).intercept(new Dispatch(typeDescription, methodsOf(typeDescription), false))
+                    .method(named(NEW_INSTANCE_METHOD_NAME)).intercept(new Dispatch(typeDescription, constructorsOf(typeDescription), true))
+                    .make();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && typeDescription.equals(((Generator) other).typeDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            return typeDescription.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "FastClass.Generator{typeDescription=" + typeDescription + '}';
+        }
+    }
+
+    /**
+     * An instrumentation of a fast class's {@code invoke} or {@code newInstance} method that dispatches the index
+     * argument by a {@code tableswitch} instruction to a direct invocation of the represented method or constructor.
+     */
+    protected static class Dispatch implements Instrumentation, ByteCodeAppender {
+
+        /**
+         * The assigner for unboxing arguments and for boxing return values.
+         */
+        private static final Assigner ASSIGNER = new VoidAwareAssigner(new PrimitiveTypeAwareAssigner(ReferenceTypeAwareAssigner.INSTANCE), true);
+
+        /**
+         * The index of the parameter of the instrumented method that represents the dispatched index.
+         */
+        private static final int INDEX_PARAMETER = 1;
+
+        /**
+         * The index of the parameter of the {@code invoke} method that represents the target instance.
+         */
+        private static final int TARGET_PARAMETER = 2;
+
+        /**
+         * The type for which a fast class is created.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * The dispatched methods or constructors in the order of their indices.
+         */
+        private final MethodList targets;
+
+        /**
+         * {@code true} if constructors are dispatched.
+         */
+        private final boolean construction;
+
+        /**
+         * Creates a new dispatch.
+         *
+         * @param typeDescription The type for which a fast class is created.
+         * @param targets         The dispatched methods or constructors in the order of their indices.
+         * @param construction    {@code true} if constructors are dispatched.
+         */
+        protected Dispatch(TypeDescription typeDescription, MethodList targets, boolean construction) {
+            this.typeDescription = typeDescription;
+            this.targets = targets;
+            this.construction = construction;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Target instrumentationTarget) {
+            return this;
+        }
+
+        @Override
+        public boolean appendsCode() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor,
+                          Context instrumentationContext,
+                          MethodDescription instrumentedMethod) {
+            int maximalSize = 0;
+            if (!targets.isEmpty()) {
+                Label[] labels = new Label[targets.size()];
+                for (int index = 0; index < labels.length; index++) {
+                    labels[index] = new Label();
+                }
+                Label defaultLabel = new Label();
+                methodVisitor.visitVarInsn(Opcodes.ILOAD, INDEX_PARAMETER);
+                methodVisitor.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+                for (int index = 0; index < labels.length; index++) {
+                    methodVisitor.visitLabel(labels[index]);
+                    methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                    maximalSize = Math.max(maximalSize, invocationOf(targets.get(index), instrumentedMethod)
+                            .apply(methodVisitor, instrumentationContext)
+                            .getMaximalSize());
+                }
+                methodVisitor.visitLabel(defaultLabel);
+                methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            }
+            StackManipulation.Size size = new StackManipulation.Compound(
+                    MethodVariableAccess.forType(new TypeDescription.ForLoadedType(int.class)).loadFromIndex(INDEX_PARAMETER),
+                    MethodInvocation.invoke(new TypeDescription.ForLoadedType(FastClass.class).getDeclaredMethods()
+                            .filter(named(ILLEGAL_INDEX_METHOD_NAME)).getOnly()),
+                    Throw.INSTANCE
+            ).apply(methodVisitor, instrumentationContext);
+            return new Size(Math.max(maximalSize, size.getMaximalSize()), instrumentedMethod.getStackSize());
+        }
+
+        /**
+         * Creates a stack manipulation that invokes a dispatched method or constructor and returns its boxed result.
+         *
+         * @param target             The dispatched method or constructor.
+         * @param instrumentedMethod The instrumented {@code invoke} or {@code newInstance} method.
+         * @return A stack manipulation that invokes the given method or constructor.
+         */
+        private StackManipulation invocationOf(MethodDescription target, MethodDescription instrumentedMethod) {
+            TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
+            int argumentsParameter = instrumentedMethod.getParameterTypes().size();
+            TypeList parameterTypes = target.getParameterTypes();
+            List<StackManipulation> stackManipulations = new ArrayList<StackManipulation>(3 * parameterTypes.size() + 4);
+            if (construction) {
+                stackManipulations.add(TypeCreation.forType(typeDescription));
+                stackManipulations.add(Duplication.SINGLE);
+            } else if (!target.isStatic()) {
+                stackManipulations.add(MethodVariableAccess.forType(objectType).loadFromIndex(TARGET_PARAMETER));
+                stackManipulations.add(ASSIGNER.assign(objectType, typeDescription, true));
+            }
+            int index = 0;
+            for (TypeDescription parameterType : parameterTypes) {
+                stackManipulations.add(MethodVariableAccess.forType(objectType).loadFromIndex(argumentsParameter));
+                stackManipulations.add(IntegerConstant.forValue(index++));
+                stackManipulations.add(ArrayElement.REFERENCE);
+                stackManipulations.add(ASSIGNER.assign(objectType, parameterType, true));
+            }
+            if (construction) {
+                stackManipulations.add(MethodInvocation.invoke(target));
+            } else {
+                stackManipulations.add(target.isStatic()
+                        ? MethodInvocation.invoke(target)
+                        : MethodInvocation.invoke(target).virtual(typeDescription));
+                stackManipulations.add(ASSIGNER.assign(target.getReturnType(), objectType, false));
+            }
+            stackManipulations.add(MethodReturn.ANY_REFERENCE);
+            return new StackManipulation.Compound(stackManipulations.toArray(new StackManipulation[stackManipulations.size()]));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && construction == ((Dispatch) other).construction
+                    && typeDescription.equals(((Dispatch) other).typeDescription)
+                    && targets.equals(((Dispatch) other).targets);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * typeDescription.hashCode() + targets.hashCode()) + (construction ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return "FastClass.Dispatch{" +
+                    "typeDescription=" + typeDescription +
+                    ", targets=" + targets +
+                    ", construction=" + construction +
+                    '}';
+        }
+    }
+
+    /**
+     * A stack manipulation that loads an element of a reference array where the array and the element's index are
+     * on top of the operand stack.
+     */
+    protected static enum ArrayElement implements StackManipulation {
+
+        /**
+         * The singleton instance.
+         */
+        REFERENCE;
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
+            methodVisitor.visitInsn(Opcodes.AALOAD);
+            return new Size(-1, 0);
+        }
+    }
+}
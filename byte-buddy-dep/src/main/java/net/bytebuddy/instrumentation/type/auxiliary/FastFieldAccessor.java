@@ -0,0 +1,863 @@
+package net.bytebuddy.instrumentation.type.auxiliary;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.instrumentation.Instrumentation;
+import net.bytebuddy.instrumentation.field.FieldDescription;
+import net.bytebuddy.instrumentation.field.FieldList;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.bytecode.ByteCodeAppender;
+import net.bytebuddy.instrumentation.method.bytecode.stack.StackManipulation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.Throw;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.Assigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.PrimitiveTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.VoidAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.FieldAccess;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodInvocation;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodReturn;
+import net.bytebuddy.instrumentation.method.bytecode.stack.member.MethodVariableAccess;
+import net.bytebuddy.instrumentation.type.InstrumentedType;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.*;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+
+/**
+ * A fast field accessor reads and writes the fields of a given type by an index instead of by reflection. A fast
+ * field accessor is a generated subclass of this class that dispatches the index of a field by a
+ * {@code tableswitch} instruction to a direct field access. The typed accessors such as
+ * {@link FastFieldAccessor#getInt(Object, int)} only access fields of exactly this type without any boxing while
+ * {@link FastFieldAccessor#getObject(Object, int)} and {@link FastFieldAccessor#setObject(Object, int, Object)}
+ * access any field and box or unbox primitive values. Additionally, {@link FastFieldAccessor#copy(Object, Object)}
+ * copies all writable fields of one instance to another instance by straight-line code. A fast field accessor
+ * represents all {@code public} non-{@code static} fields of the given type and its super types where the fields of
+ * a subtype precede the fields of its super types and where the fields of each type are ordered by their names.
+ * Writing a {@code final} field or a field of a type that is not {@code public} is not supported.
+ * <p>&nbsp;</p>
+ * A fast field accessor is thread-safe.
+ */
+public abstract class FastFieldAccessor {
+
+    /**
+     * The suffix of the name of a fast field accessor that is created by {@link FastFieldAccessor#of(Class)}.
+     */
+    private static final String NAME_SUFFIX = "ByteBuddy$FastFieldAccessor";
+
+    /**
+     * The prefix of the names of the reading methods.
+     */
+    private static final String GETTER_PREFIX = "get";
+
+    /**
+     * The prefix of the names of the writing methods.
+     */
+    private static final String SETTER_PREFIX = "set";
+
+    /**
+     * The name of the method that copies all writable fields.
+     */
+    private static final String COPY_METHOD_NAME = "copy";
+
+    /**
+     * The name of the method that creates an exception for an illegal index.
+     */
+    private static final String ILLEGAL_INDEX_METHOD_NAME = "illegalIndex";
+
+    /**
+     * The index of a field that is not represented by a fast field accessor.
+     */
+    public static final int NO_INDEX = -1;
+
+    /**
+     * The type whose fields are accessed by this fast field accessor.
+     */
+    private final Class<?> type;
+
+    /**
+     * The indices of all represented fields mapped by their names.
+     */
+    private final Map<String, Integer> fieldIndices;
+
+    /**
+     * Creates a new fast field accessor.
+     *
+     * @param type The type whose fields are accessed by this fast field accessor.
+     */
+    protected FastFieldAccessor(Class<?> type) {
+        this.type = type;
+        FieldList fieldList = fieldsOf(new TypeDescription.ForLoadedType(type));
+        fieldIndices = new HashMap<String, Integer>(fieldList.size() * 2);
+        int index = 0;
+        for (FieldDescription fieldDescription : fieldList) {
+            if (!fieldIndices.containsKey(fieldDescription.getName())) {
+                fieldIndices.put(fieldDescription.getName(), index);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Creates a fast field accessor for the given type. The fast field accessor is loaded by a new class loader that
+     * is a child of the given type's class loader or of Byte Buddy's class loader if the type is loaded by the
+     * bootstrap class loader. Creating a fast field accessor is expensive such that it should be retained for
+     * repeated use.
+     *
+     * @param type A {@code public} type whose fields are accessed by the fast field accessor.
+     * @return A fast field accessor for the given type.
+     */
+    public static FastFieldAccessor of(Class<?> type) {
+        return (FastFieldAccessor) FastClass.make(new Generator(new TypeDescription.ForLoadedType(type)), type, NAME_SUFFIX);
+    }
+
+    /**
+     * Returns all fields that are represented by a fast field accessor of the given type in the order of their
+     * indices. A {@code public} field that is declared by a type that is not {@code public} is represented as a
+     * field of the closest {@code public} subtype such that it can be accessed from the fast field accessor's
+     * package. If such a field is not resolved by the subtype because a field of the same name is declared in
+     * between, the field is not represented.
+     *
+     * @param typeDescription The type for which a fast field accessor is created.
+     * @return All fields that are represented by a fast field accessor of the given type.
+     */
+    protected static FieldList fieldsOf(TypeDescription typeDescription) {
+        List<FieldDescription> fieldDescriptions = new ArrayList<FieldDescription>();
+        List<TypeDescription> hiddenTypes = new ArrayList<TypeDescription>();
+        TypeDescription accessibleType = typeDescription;
+        while (typeDescription != null) {
+            if (typeDescription.isPublic()) {
+                accessibleType = typeDescription;
+                hiddenTypes.clear();
+            }
+            List<FieldDescription> declaredFields = new ArrayList<FieldDescription>();
+            for (FieldDescription fieldDescription : typeDescription.getDeclaredFields()) {
+                if (!fieldDescription.isPublic() || fieldDescription.isStatic()) {
+                    continue;
+                } else if (typeDescription.isPublic()) {
+                    declaredFields.add(fieldDescription);
+                } else if (!isDeclared(fieldDescription.getName(), hiddenTypes)) {
+                    declaredFields.add(new FieldDescription.Latent(fieldDescription.getName(),
+                            accessibleType,
+                            fieldDescription.getFieldType(),
+                            fieldDescription.getModifiers()));
+                }
+            }
+            Collections.sort(declaredFields, new Comparator<FieldDescription>() {
+                @Override
+                public int compare(FieldDescription left, FieldDescription right) {
+                    return left.getName().compareTo(right.getName());
+                }
+            });
+            fieldDescriptions.addAll(declaredFields);
+            hiddenTypes.add(typeDescription);
+            typeDescription = typeDescription.getSupertype();
+        }
+        return new FieldList.Explicit(fieldDescriptions);
+    }
+
+    /**
+     * Checks if a field of the given name is declared by any of the given types or by any of their interfaces such
+     * that it is resolved before a field of a super type.
+     *
+     * @param name             The name of the field.
+     * @param typeDescriptions The types to check.
+     * @return {@code true} if any of the given types or their interfaces declares a field of the given name.
+     */
+    private static boolean isDeclared(String name, List<? extends TypeDescription> typeDescriptions) {
+        for (TypeDescription typeDescription : typeDescriptions) {
+            for (FieldDescription fieldDescription : typeDescription.getDeclaredFields()) {
+                if (fieldDescription.getName().equals(name)) {
+                    return true;
+                }
+            }
+            if (isDeclared(name, typeDescription.getInterfaces())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates an exception that is thrown by a fast field accessor when it is asked to access a field of an index
+     * that it does not represent or that does not support the requested access.
+     *
+     * @param index The illegal index.
+     * @return An exception for the illegal index.
+     */
+    protected static IllegalArgumentException illegalIndex(int index) {
+        return new IllegalArgumentException("No field of the requested type and access is represented by the index " + index);
+    }
+
+    /**
+     * Returns the type whose fields are accessed by this fast field accessor.
+     *
+     * @return The type whose fields are accessed by this fast field accessor.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index of a field. If a field is hidden by a field of the same name of a subtype, the index of
+     * the subtype's field is returned.
+     *
+     * @param name The name of the field.
+     * @return The index of the field or {@link FastFieldAccessor#NO_INDEX} if this fast field accessor does not
+     * represent such a field.
+     */
+    public int getIndex(String name) {
+        Integer index = fieldIndices.get(name);
+        return index == null
+                ? NO_INDEX
+                : index;
+    }
+
+    /**
+     * Reads a {@code boolean} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract boolean getBoolean(Object target, int index);
+
+    /**
+     * Reads a {@code byte} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract byte getByte(Object target, int index);
+
+    /**
+     * Reads a {@code short} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract short getShort(Object target, int index);
+
+    /**
+     * Reads a {@code char} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract char getChar(Object target, int index);
+
+    /**
+     * Reads an {@code int} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract int getInt(Object target, int index);
+
+    /**
+     * Reads a {@code long} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract long getLong(Object target, int index);
+
+    /**
+     * Reads a {@code float} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract float getFloat(Object target, int index);
+
+    /**
+     * Reads a {@code double} field.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract double getDouble(Object target, int index);
+
+    /**
+     * Reads any field where a primitive value is boxed.
+     *
+     * @param target The instance of which the field is read.
+     * @param index  The index of the field.
+     * @return The value of the field.
+     */
+    public abstract Object getObject(Object target, int index);
+
+    /**
+     * Writes a {@code boolean} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setBoolean(Object target, int index, boolean value);
+
+    /**
+     * Writes a {@code byte} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setByte(Object target, int index, byte value);
+
+    /**
+     * Writes a {@code short} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setShort(Object target, int index, short value);
+
+    /**
+     * Writes a {@code char} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setChar(Object target, int index, char value);
+
+    /**
+     * Writes an {@code int} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setInt(Object target, int index, int value);
+
+    /**
+     * Writes a {@code long} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setLong(Object target, int index, long value);
+
+    /**
+     * Writes a {@code float} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setFloat(Object target, int index, float value);
+
+    /**
+     * Writes a {@code double} field.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setDouble(Object target, int index, double value);
+
+    /**
+     * Writes any field where a primitive value is unboxed.
+     *
+     * @param target The instance of which the field is written.
+     * @param index  The index of the field.
+     * @param value  The value to write.
+     */
+    public abstract void setObject(Object target, int index, Object value);
+
+    /**
+     * Copies the values of all represented non-{@code final} fields from one instance to another instance.
+     *
+     * @param from The instance of which the fields are read.
+     * @param to   The instance of which the fields are written.
+     */
+    public abstract void copy(Object from, Object to);
+
+    @Override
+    public String toString() {
+        return "FastFieldAccessor{type=" + type + '}';
+    }
+
+    /**
+     * The types of values that are read and written by the typed accessor methods of a fast field accessor.
+     */
+    protected static enum ValueType {
+
+        /**
+         * The {@code boolean} type.
+         */
+        BOOLEAN("Boolean", boolean.class),
+
+        /**
+         * The {@code byte} type.
+         */
+        BYTE("Byte", byte.class),
+
+        /**
+         * The {@code short} type.
+         */
+        SHORT("Short", short.class),
+
+        /**
+         * The {@code char} type.
+         */
+        CHARACTER("Char", char.class),
+
+        /**
+         * The {@code int} type.
+         */
+        INTEGER("Int", int.class),
+
+        /**
+         * The {@code long} type.
+         */
+        LONG("Long", long.class),
+
+        /**
+         * The {@code float} type.
+         */
+        FLOAT("Float", float.class),
+
+        /**
+         * The {@code double} type.
+         */
+        DOUBLE("Double", double.class),
+
+        /**
+         * The {@link java.lang.Object} type which represents the value of any field.
+         */
+        OBJECT("Object", Object.class);
+
+        /**
+         * The suffix of the names of the accessor methods of this value type.
+         */
+        private final String suffix;
+
+        /**
+         * A description of this value type.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * Creates a new value type.
+         *
+         * @param suffix The suffix of the names of the accessor methods of this value type.
+         * @param type   The represented type.
+         */
+        private ValueType(String suffix, Class<?> type) {
+            this.suffix = suffix;
+            typeDescription = new TypeDescription.ForLoadedType(type);
+        }
+
+        /**
+         * Returns the name of the reading method of this value type.
+         *
+         * @return The name of the reading method of this value type.
+         */
+        protected String getGetterName() {
+            return GETTER_PREFIX + suffix;
+        }
+
+        /**
+         * Returns the name of the writing method of this value type.
+         *
+         * @return The name of the writing method of this value type.
+         */
+        protected String getSetterName() {
+            return SETTER_PREFIX + suffix;
+        }
+
+        /**
+         * Returns a description of this value type.
+         *
+         * @return A description of this value type.
+         */
+        protected TypeDescription getTypeDescription() {
+            return typeDescription;
+        }
+
+        /**
+         * Checks if a field can be accessed by the accessor methods of this value type.
+         *
+         * @param fieldDescription The field to check.
+         * @return {@code true} if the given field can be accessed by the accessor methods of this value type.
+         */
+        protected boolean isAccessible(FieldDescription fieldDescription) {
+            return this == OBJECT || fieldDescription.getFieldType().equals(typeDescription);
+        }
+    }
+
+    /**
+     * An auxiliary type that creates the fast field accessor of a given type. The created fast field accessor must
+     * be instantiated by its single constructor which takes the given type as its argument. All represented fields
+     * must be accessible to the fast field accessor.
+     */
+    public static class Generator implements AuxiliaryType {
+
+        /**
+         * The type for which a fast field accessor is created.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * Creates a new generator for a fast field accessor.
+         *
+         * @param typeDescription The type for which a fast field accessor is created.
+         */
+        public Generator(TypeDescription typeDescription) {
+            this.typeDescription = typeDescription;
+        }
+
+        @Override
+        public DynamicType make(String auxiliaryTypeName,
+                                ClassFileVersion classFileVersion,
+                                MethodAccessorFactory methodAccessorFactory) {
+            FieldList fieldList = fieldsOf(typeDescription);
+            DynamicType.Builder<?> builder = new ByteBuddy(classFileVersion)
+                    .subclass(FastFieldAccessor.class, ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
+                    .name(auxiliaryTypeName)
+                    .modifiers(DEFAULT_TYPE_MODIFIER)
+                    .method(named(COPY_METHOD_NAME)).intercept(new Copy(typeDescription, fieldList));
+            for (ValueType valueType : ValueType.values()) {
+                builder = builder
+                        .method(named(valueType.getGetterName())).intercept(new Dispatch(typeDescription, fieldList, valueType, false))
+                        .method(named(valueType.getSetterName())).intercept(new Dispatch(typeDescription, fieldList, valueType, true));
+            }
+            return builder.make();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && typeDescription.equals(((Generator) other).typeDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            return typeDescription.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "FastFieldAccessor.Generator{typeDescription=" + typeDescription + '}';
+        }
+    }
+
+    /**
+     * An instrumentation of a typed reading or writing method of a fast field accessor that dispatches the index
+     * argument by a {@code tableswitch} instruction to a direct access of the represented field. An index of a field
+     * that is not accessible by the method's value type or that is {@code final} for a writing method is dispatched
+     * to an exception.
+     */
+    protected static class Dispatch implements Instrumentation, ByteCodeAppender {
+
+        /**
+         * The assigner for boxing and unboxing values.
+         */
+        private static final Assigner ASSIGNER = new VoidAwareAssigner(new PrimitiveTypeAwareAssigner(ReferenceTypeAwareAssigner.INSTANCE), true);
+
+        /**
+         * The index of the parameter of the instrumented method that represents the instance of which a field is
+         * accessed.
+         */
+        private static final int TARGET_PARAMETER = 1;
+
+        /**
+         * The index of the parameter of the instrumented method that represents the dispatched index.
+         */
+        private static final int INDEX_PARAMETER = 2;
+
+        /**
+         * The index of the parameter of a writing method that represents the written value.
+         */
+        private static final int VALUE_PARAMETER = 3;
+
+        /**
+         * The type for which a fast field accessor is created.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * The represented fields in the order of their indices.
+         */
+        private final FieldList fieldList;
+
+        /**
+         * The value type of the instrumented method.
+         */
+        private final ValueType valueType;
+
+        /**
+         * {@code true} if the instrumented method writes a field.
+         */
+        private final boolean write;
+
+        /**
+         * Creates a new dispatch.
+         *
+         * @param typeDescription The type for which a fast field accessor is created.
+         * @param fieldList       The represented fields in the order of their indices.
+         * @param valueType       The value type of the instrumented method.
+         * @param write           {@code true} if the instrumented method writes a field.
+         */
+        protected Dispatch(TypeDescription typeDescription, FieldList fieldList, ValueType valueType, boolean write) {
+            this.typeDescription = typeDescription;
+            this.fieldList = fieldList;
+            this.valueType = valueType;
+            this.write = write;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Target instrumentationTarget) {
+            return this;
+        }
+
+        @Override
+        public boolean appendsCode() {
+            return true;
+        }
+
+        /**
+         * Checks if the instrumented method accesses the given field.
+         *
+         * @param fieldDescription The field to check.
+         * @return {@code true} if the instrumented method accesses the given field.
+         */
+        private boolean isDispatched(FieldDescription fieldDescription) {
+            return valueType.isAccessible(fieldDescription)
+                    && !(write && (fieldDescription.isFinal() || !isCastable(fieldDescription.getFieldType())));
+        }
+
+        /**
+         * Checks if a value can be cast to the given field type by the fast field accessor. As the fast field
+         * accessor is loaded by its own class loader, it cannot cast a value to a type that is not {@code public}
+         * or to an array of such a type.
+         *
+         * @param fieldType The field type to check.
+         * @return {@code true} if a value can be cast to the given field type.
+         */
+        private static boolean isCastable(TypeDescription fieldType) {
+            while (fieldType.isArray()) {
+                fieldType = fieldType.getComponentType();
+            }
+            return fieldType.isPrimitive() || fieldType.isPublic();
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor,
+                          Context instrumentationContext,
+                          MethodDescription instrumentedMethod) {
+            int maximalSize = 0;
+            List<FieldDescription> dispatched = new ArrayList<FieldDescription>(fieldList.size());
+            for (FieldDescription fieldDescription : fieldList) {
+                if (isDispatched(fieldDescription)) {
+                    dispatched.add(fieldDescription);
+                }
+            }
+            if (!dispatched.isEmpty()) {
+                Label defaultLabel = new Label();
+                Label[] labels = new Label[fieldList.size()];
+                Map<FieldDescription, Label> accessLabels = new LinkedHashMap<FieldDescription, Label>(dispatched.size());
+                for (int index = 0; index < labels.length; index++) {
+                    if (isDispatched(fieldList.get(index))) {
+                        labels[index] = new Label();
+                        accessLabels.put(fieldList.get(index), labels[index]);
+                    } else {
+                        labels[index] = defaultLabel;
+                    }
+                }
+                methodVisitor.visitVarInsn(Opcodes.ILOAD, INDEX_PARAMETER);
+                methodVisitor.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+                for (Map.Entry<FieldDescription, Label> entry : accessLabels.entrySet()) {
+                    methodVisitor.visitLabel(entry.getValue());
+                    methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                    maximalSize = Math.max(maximalSize, accessOf(entry.getKey()).apply(methodVisitor, instrumentationContext).getMaximalSize());
+                }
+                methodVisitor.visitLabel(defaultLabel);
+                methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            }
+            StackManipulation.Size size = new StackManipulation.Compound(
+                    MethodVariableAccess.forType(new TypeDescription.ForLoadedType(int.class)).loadFromIndex(INDEX_PARAMETER),
+                    MethodInvocation.invoke(new TypeDescription.ForLoadedType(FastFieldAccessor.class).getDeclaredMethods()
+                            .filter(named(ILLEGAL_INDEX_METHOD_NAME)).getOnly()),
+                    Throw.INSTANCE
+            ).apply(methodVisitor, instrumentationContext);
+            return new Size(Math.max(maximalSize, size.getMaximalSize()), instrumentedMethod.getStackSize());
+        }
+
+        /**
+         * Creates a stack manipulation that accesses the given field and returns from the instrumented method.
+         *
+         * @param fieldDescription The accessed field.
+         * @return A stack manipulation that accesses the given field.
+         */
+        private StackManipulation accessOf(FieldDescription fieldDescription) {
+            TypeDescription valueTypeDescription = valueType.getTypeDescription();
+            TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
+            StackManipulation target = new StackManipulation.Compound(
+                    MethodVariableAccess.forType(objectType).loadFromIndex(TARGET_PARAMETER),
+                    ASSIGNER.assign(objectType, typeDescription, true));
+            if (write) {
+                return new StackManipulation.Compound(
+                        target,
+                        MethodVariableAccess.forType(valueTypeDescription).loadFromIndex(VALUE_PARAMETER),
+                        ASSIGNER.assign(valueTypeDescription, fieldDescription.getFieldType(), true),
+                        FieldAccess.forField(fieldDescription).putter(),
+                        MethodReturn.VOID);
+            } else {
+                return new StackManipulation.Compound(
+                        target,
+                        FieldAccess.forField(fieldDescription).getter(),
+                        ASSIGNER.assign(fieldDescription.getFieldType(), valueTypeDescription, false),
+                        MethodReturn.returning(valueTypeDescription));
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && write == ((Dispatch) other).write
+                    && valueType == ((Dispatch) other).valueType
+                    && typeDescription.equals(((Dispatch) other).typeDescription)
+                    && fieldList.equals(((Dispatch) other).fieldList);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = typeDescription.hashCode();
+            result = 31 * result + fieldList.hashCode();
+            result = 31 * result + valueType.hashCode();
+            return 31 * result + (write ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return "FastFieldAccessor.Dispatch{" +
+                    "typeDescription=" + typeDescription +
+                    ", fieldList=" + fieldList +
+                    ", valueType=" + valueType +
+                    ", write=" + write +
+                    '}';
+        }
+    }
+
+    /**
+     * An instrumentation of a fast field accessor's {@code copy} method that copies all non-{@code final} fields by
+     * straight-line code.
+     */
+    protected static class Copy implements Instrumentation, ByteCodeAppender {
+
+        /**
+         * The index of the parameter of the instrumented method that represents the instance of which fields are read.
+         */
+        private static final int FROM_PARAMETER = 1;
+
+        /**
+         * The index of the parameter of the instrumented method that represents the instance of which fields are
+         * written.
+         */
+        private static final int TO_PARAMETER = 2;
+
+        /**
+         * The type for which a fast field accessor is created.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * The represented fields in the order of their indices.
+         */
+        private final FieldList fieldList;
+
+        /**
+         * Creates a new copy instrumentation.
+         *
+         * @param typeDescription The type for which a fast field accessor is created.
+         * @param fieldList       The represented fields in the order of their indices.
+         */
+        protected Copy(TypeDescription typeDescription, FieldList fieldList) {
+            this.typeDescription = typeDescription;
+            this.fieldList = fieldList;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Target instrumentationTarget) {
+            return this;
+        }
+
+        @Override
+        public boolean appendsCode() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor,
+                          Context instrumentationContext,
+                          MethodDescription instrumentedMethod) {
+            TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
+            StackManipulation castTo = new StackManipulation.Compound(
+                    MethodVariableAccess.forType(objectType).loadFromIndex(TO_PARAMETER),
+                    ReferenceTypeAwareAssigner.INSTANCE.assign(objectType, typeDescription, true));
+            StackManipulation castFrom = new StackManipulation.Compound(
+                    MethodVariableAccess.forType(objectType).loadFromIndex(FROM_PARAMETER),
+                    ReferenceTypeAwareAssigner.INSTANCE.assign(objectType, typeDescription, true));
+            List<StackManipulation> stackManipulations = new ArrayList<StackManipulation>(4 * fieldList.size() + 1);
+            for (FieldDescription fieldDescription : fieldList) {
+                if (!fieldDescription.isFinal()) {
+                    stackManipulations.add(castTo);
+                    stackManipulations.add(castFrom);
+                    stackManipulations.add(FieldAccess.forField(fieldDescription).getter());
+                    stackManipulations.add(FieldAccess.forField(fieldDescription).putter());
+                }
+            }
+            stackManipulations.add(MethodReturn.VOID);
+            StackManipulation.Size size = new StackManipulation.Compound(stackManipulations
+                    .toArray(new StackManipulation[stackManipulations.size()])).apply(methodVisitor, instrumentationContext);
+            return new Size(size.getMaximalSize(), instrumentedMethod.getStackSize());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && typeDescription.equals(((Copy) other).typeDescription)
+                    && fieldList.equals(((Copy) other).fieldList);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * typeDescription.hashCode() + fieldList.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "FastFieldAccessor.Copy{" +
+                    "typeDescription=" + typeDescription +
+                    ", fieldList=" + fieldList +
+                    '}';
+        }
+    }
+}
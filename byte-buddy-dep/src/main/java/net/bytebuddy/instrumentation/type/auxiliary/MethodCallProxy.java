@@ -26,7 +26,10 @@ import net.bytebuddy.instrumentation.type.InstrumentedType;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.instrumentation.type.TypeList;
 import net.bytebuddy.modifier.Visibility;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import java.io.Serializable;
 import java.util.*;
@@ -394,6 +397,146 @@ public class MethodCallProxy implements AuxiliaryType {
         }
     }
 
+    /**
+     * A stack manipulation that binds a special method invocation to a {@link java.lang.Runnable} or a
+     * {@link java.util.concurrent.Callable} by an {@code invokedynamic} call site that is bootstrapped by the
+     * {@code java.lang.invoke.LambdaMetafactory}. Instead of registering a
+     * {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy} as an auxiliary type, only an accessor
+     * method is added to the instrumented type while the implementation of the functional interface is spun by the
+     * runtime when the call site is first linked. As for an
+     * {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy.AssignableSignatureCall}, all arguments of
+     * the proxied method are loaded onto the operand stack.
+     * <p>&nbsp;</p>
+     * If the instrumented type's class file version predates Java 8 and the lambda meta factory, if a serializable
+     * proxy is requested, if the proxy must implement both functional interfaces or if a {@code void} method is
+     * bound to a {@link java.util.concurrent.Callable}, this stack manipulation falls back to registering a
+     * {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy}.
+     */
+    public static class InvokeDynamicCall implements StackManipulation {
+
+        /**
+         * The internal name of the lambda meta factory type.
+         */
+        private static final String LAMBDA_METAFACTORY_INTERNAL_NAME = "java/lang/invoke/LambdaMetafactory";
+
+        /**
+         * The name of the bootstrap method of the lambda meta factory.
+         */
+        private static final String LAMBDA_METAFACTORY_METHOD_NAME = "metafactory";
+
+        /**
+         * The descriptor of the bootstrap method of the lambda meta factory.
+         */
+        private static final String LAMBDA_METAFACTORY_DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;" +
+                "Ljava/lang/String;" +
+                "Ljava/lang/invoke/MethodType;" +
+                "Ljava/lang/invoke/MethodType;" +
+                "Ljava/lang/invoke/MethodHandle;" +
+                "Ljava/lang/invoke/MethodType;)" +
+                "Ljava/lang/invoke/CallSite;";
+
+        /**
+         * The special method invocation to be proxied by this stack manipulation.
+         */
+        private final Instrumentation.SpecialMethodInvocation specialMethodInvocation;
+
+        /**
+         * The type to which the proxy is assigned.
+         */
+        private final TypeDescription proxyType;
+
+        /**
+         * Determines if the generated proxy should be serializable.
+         */
+        private final boolean serializable;
+
+        /**
+         * Creates an operand stack assignment that binds the given special method invocation to an instance of the
+         * given proxy type and pushes this instance onto the stack.
+         *
+         * @param specialMethodInvocation The special method invocation which should be invoked by the proxy.
+         * @param proxyType               The type to which the proxy is assigned which must represent either
+         *                                {@link java.lang.Runnable}, {@link java.util.concurrent.Callable} or
+         *                                {@link java.lang.Object}.
+         * @param serializable            Determines if the generated proxy should be serializable.
+         */
+        public InvokeDynamicCall(Instrumentation.SpecialMethodInvocation specialMethodInvocation,
+                                 TypeDescription proxyType,
+                                 boolean serializable) {
+            this.specialMethodInvocation = specialMethodInvocation;
+            this.proxyType = proxyType;
+            this.serializable = serializable;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
+            MethodDescription methodDescription = specialMethodInvocation.getMethodDescription();
+            boolean callable = proxyType.represents(Callable.class);
+            if (serializable
+                    || !instrumentationContext.getClassFileVersion().isSupportsDefaultMethods()
+                    || !(callable || proxyType.represents(Runnable.class))
+                    || (callable && methodDescription.getReturnType().represents(void.class))) {
+                return new AssignableSignatureCall(specialMethodInvocation, serializable)
+                        .apply(methodVisitor, instrumentationContext);
+            }
+            MethodDescription accessorMethod = instrumentationContext.registerAccessorFor(specialMethodInvocation);
+            String functionalDescriptor = callable ? "()Ljava/lang/Object;" : "()V";
+            StringBuilder callSiteDescriptor = new StringBuilder("(")
+                    .append(accessorMethod.getDeclaringType().getDescriptor());
+            for (TypeDescription parameterType : accessorMethod.getParameterTypes()) {
+                callSiteDescriptor.append(parameterType.getDescriptor());
+            }
+            callSiteDescriptor.append(')').append(proxyType.getDescriptor());
+            Size size = MethodVariableAccess.loadThisReferenceAndArguments(methodDescription)
+                    .apply(methodVisitor, instrumentationContext);
+            methodVisitor.visitInvokeDynamicInsn(callable ? "call" : "run",
+                    callSiteDescriptor.toString(),
+                    new Handle(Opcodes.H_INVOKESTATIC,
+                            LAMBDA_METAFACTORY_INTERNAL_NAME,
+                            LAMBDA_METAFACTORY_METHOD_NAME,
+                            LAMBDA_METAFACTORY_DESCRIPTOR),
+                    Type.getMethodType(functionalDescriptor),
+                    new Handle(Opcodes.H_INVOKEVIRTUAL,
+                            accessorMethod.getDeclaringType().getInternalName(),
+                            accessorMethod.getInternalName(),
+                            accessorMethod.getDescriptor()),
+                    Type.getMethodType(functionalDescriptor));
+            return size.aggregate(new Size(1 - accessorMethod.getStackSize(), 0));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            InvokeDynamicCall that = (InvokeDynamicCall) other;
+            return serializable == that.serializable
+                    && proxyType.equals(that.proxyType)
+                    && specialMethodInvocation.equals(that.specialMethodInvocation);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = specialMethodInvocation.hashCode();
+            result = 31 * result + proxyType.hashCode();
+            result = 31 * result + (serializable ? 1 : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "MethodCallProxy.InvokeDynamicCall{" +
+                    "specialMethodInvocation=" + specialMethodInvocation +
+                    ", proxyType=" + proxyType +
+                    ", serializable=" + serializable +
+                    '}';
+        }
+    }
+
     /**
      * An instrumentation for implementing a method of a {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy}.
      */
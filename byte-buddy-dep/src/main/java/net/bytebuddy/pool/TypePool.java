@@ -0,0 +1,1727 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.instrumentation.field.FieldDescription;
+import net.bytebuddy.instrumentation.field.FieldList;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.instrumentation.method.bytecode.stack.StackSize;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.TypeList;
+import org.objectweb.asm.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A type pool describes types by their name without loading them. This allows to create dynamic types for super
+ * types and interfaces that are not (yet) loaded, for example in order to avoid the eager initialization of large
+ * type hierarchies.
+ */
+public interface TypePool {
+
+    /**
+     * Describes a type by its name.
+     *
+     * @param name The binary name of the type to describe, as returned by {@link Class#getName()}.
+     * @return A description of the given type.
+     */
+    TypeDescription describe(String name);
+
+    /**
+     * Removes all cached type descriptions from this type pool.
+     */
+    void clear();
+
+    /**
+     * A cache provider stores type descriptions that were already resolved by a type pool.
+     */
+    static interface CacheProvider {
+
+        /**
+         * Looks up a cached type description.
+         *
+         * @param name The binary name of the type to look up.
+         * @return The cached type description or {@code null} if no such type description is cached.
+         */
+        TypeDescription find(String name);
+
+        /**
+         * Registers a type description with this cache.
+         *
+         * @param typeDescription The type description to register.
+         * @return The type description that is registered for the type's name which might be a description that
+         * was registered concurrently.
+         */
+        TypeDescription register(TypeDescription typeDescription);
+
+        /**
+         * Removes all type descriptions from this cache.
+         */
+        void clear();
+
+        /**
+         * A cache provider that does not cache any type description.
+         */
+        static enum NoOp implements CacheProvider {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public TypeDescription find(String name) {
+                return null;
+            }
+
+            @Override
+            public TypeDescription register(TypeDescription typeDescription) {
+                return typeDescription;
+            }
+
+            @Override
+            public void clear() {
+                /* do nothing */
+            }
+        }
+
+        /**
+         * A cache provider that caches any type description without ever releasing it.
+         */
+        static class Simple implements CacheProvider {
+
+            /**
+             * The cached type descriptions by their binary names.
+             */
+            private final ConcurrentMap<String, TypeDescription> cache;
+
+            /**
+             * Creates a new simple cache provider.
+             */
+            public Simple() {
+                cache = new ConcurrentHashMap<String, TypeDescription>();
+            }
+
+            @Override
+            public TypeDescription find(String name) {
+                return cache.get(name);
+            }
+
+            @Override
+            public TypeDescription register(TypeDescription typeDescription) {
+                TypeDescription previous = cache.putIfAbsent(typeDescription.getName(), typeDescription);
+                return previous == null ? typeDescription : previous;
+            }
+
+            @Override
+            public void clear() {
+                cache.clear();
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.CacheProvider.Simple{cache=" + cache + '}';
+            }
+        }
+
+        /**
+         * A cache provider that caches a maximum number of type descriptions. When this maximum is exceeded, the
+         * least recently used type description is released.
+         */
+        static class Bounded implements CacheProvider {
+
+            /**
+             * The cached type descriptions by their binary names in the order of their last use.
+             */
+            private final Map<String, TypeDescription> cache;
+
+            /**
+             * Creates a new bounded cache provider.
+             *
+             * @param maximumSize The maximum number of type descriptions to cache.
+             */
+            public Bounded(int maximumSize) {
+                if (maximumSize < 1) {
+                    throw new IllegalArgumentException("A cache must be able to hold at least one entry: " + maximumSize);
+                }
+                cache = new LeastRecentlyUsed(maximumSize);
+            }
+
+            @Override
+            public TypeDescription find(String name) {
+                synchronized (cache) {
+                    return cache.get(name);
+                }
+            }
+
+            @Override
+            public TypeDescription register(TypeDescription typeDescription) {
+                synchronized (cache) {
+                    TypeDescription previous = cache.get(typeDescription.getName());
+                    if (previous != null) {
+                        return previous;
+                    }
+                    cache.put(typeDescription.getName(), typeDescription);
+                    return typeDescription;
+                }
+            }
+
+            @Override
+            public void clear() {
+                synchronized (cache) {
+                    cache.clear();
+                }
+            }
+
+            @Override
+            public String toString() {
+                synchronized (cache) {
+                    return "TypePool.CacheProvider.Bounded{cache=" + cache + '}';
+                }
+            }
+
+            /**
+             * A map in access order that removes its least recently used entry when exceeding a maximum size.
+             */
+            protected static class LeastRecentlyUsed extends LinkedHashMap<String, TypeDescription> {
+
+                /**
+                 * The serial version UID of this map.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                /**
+                 * The maximum number of entries of this map.
+                 */
+                private final int maximumSize;
+
+                /**
+                 * Creates a new map that retains only its most recently used entries.
+                 *
+                 * @param maximumSize The maximum number of entries of this map.
+                 */
+                protected LeastRecentlyUsed(int maximumSize) {
+                    super(16, 0.75f, true);
+                    this.maximumSize = maximumSize;
+                }
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TypeDescription> eldest) {
+                    return size() > maximumSize;
+                }
+            }
+        }
+    }
+
+    /**
+     * An abstract base implementation of a type pool that resolves primitive types and array types and that
+     * caches resolved type descriptions.
+     */
+    abstract static class AbstractBase implements TypePool {
+
+        /**
+         * The prefix of the binary name of an array type.
+         */
+        private static final char ARRAY_PREFIX = '[';
+
+        /**
+         * The descriptions of all primitive types by their names.
+         */
+        private static final Map<String, TypeDescription> PRIMITIVE_TYPES;
+
+        /*
+         * Registers all primitive types.
+         */
+        static {
+            Map<String, TypeDescription> primitiveTypes = new HashMap<String, TypeDescription>();
+            for (Class<?> type : new Class<?>[]{boolean.class, byte.class, short.class, char.class, int.class,
+                    long.class, float.class, double.class, void.class}) {
+                primitiveTypes.put(type.getName(), TypeDescription.ForLoadedType.of(type));
+            }
+            PRIMITIVE_TYPES = Collections.unmodifiableMap(primitiveTypes);
+        }
+
+        /**
+         * The cache provider that stores resolved type descriptions.
+         */
+        protected final CacheProvider cacheProvider;
+
+        /**
+         * Creates a new type pool.
+         *
+         * @param cacheProvider The cache provider that stores resolved type descriptions.
+         */
+        protected AbstractBase(CacheProvider cacheProvider) {
+            this.cacheProvider = cacheProvider;
+        }
+
+        /**
+         * Converts an ASM type into the binary name of the represented type.
+         *
+         * @param type The ASM type to convert.
+         * @return The binary name of the represented type, as returned by {@link Class#getName()}.
+         */
+        protected static String toTypeName(Type type) {
+            return type.getSort() == Type.ARRAY
+                    ? type.getDescriptor().replace('/', '.')
+                    : type.getClassName();
+        }
+
+        @Override
+        public TypeDescription describe(String name) {
+            TypeDescription typeDescription = PRIMITIVE_TYPES.get(name);
+            if (typeDescription != null) {
+                return typeDescription;
+            }
+            typeDescription = cacheProvider.find(name);
+            if (typeDescription != null) {
+                return typeDescription;
+            }
+            return cacheProvider.register(name.charAt(0) == ARRAY_PREFIX
+                    ? describeArray(name)
+                    : doDescribe(name));
+        }
+
+        /**
+         * Describes an array type.
+         *
+         * @param name The binary name of the array type.
+         * @return A description of the array type.
+         */
+        private TypeDescription describeArray(String name) {
+            int arity = 0;
+            while (name.charAt(arity) == ARRAY_PREFIX) {
+                arity++;
+            }
+            return new ArrayTypeDescription(describe(toTypeName(Type.getType(name.substring(arity).replace('.', '/')))), arity);
+        }
+
+        /**
+         * Describes a non-primitive, non-array type that is not yet cached.
+         *
+         * @param name The binary name of the type to describe.
+         * @return A description of the given type.
+         */
+        protected abstract TypeDescription doDescribe(String name);
+
+        @Override
+        public void clear() {
+            cacheProvider.clear();
+        }
+    }
+
+    /**
+     * A default type pool that parses the class files of types which are located by a class file locator. Only the
+     * declarations of a type are parsed such that any description remains lazy with regards to its super types,
+     * interfaces and the types of its members which are only resolved when they are requested. The byte code of
+     * methods is never parsed.
+     * <p>&nbsp;</p>
+     * As annotations cannot be represented without loading their types, the descriptions of this type pool do not
+     * describe any annotations.
+     */
+    static class Default extends AbstractBase {
+
+        /**
+         * The ASM API version that is used for parsing class files.
+         */
+        private static final int ASM_API_VERSION = Opcodes.ASM5;
+
+        /**
+         * The class file locator that locates the class files of described types.
+         */
+        private final ClassFileLocator classFileLocator;
+
+        /**
+         * Creates a new default type pool.
+         *
+         * @param cacheProvider    The cache provider that stores resolved type descriptions.
+         * @param classFileLocator The class file locator that locates the class files of described types.
+         */
+        public Default(CacheProvider cacheProvider, ClassFileLocator classFileLocator) {
+            super(cacheProvider);
+            this.classFileLocator = classFileLocator;
+        }
+
+        /**
+         * Creates a type pool that describes the types of the system class path.
+         *
+         * @return A type pool for the system class path.
+         */
+        public static TypePool ofClassPath() {
+            return of(ClassLoader.getSystemClassLoader());
+        }
+
+        /**
+         * Creates a type pool that describes the types that are visible to a class loader.
+         *
+         * @param classLoader The class loader that is queried for class files.
+         * @return A type pool for the given class loader.
+         */
+        public static TypePool of(ClassLoader classLoader) {
+            return new Default(new CacheProvider.Simple(), new ClassFileLocator.ForClassLoader(classLoader));
+        }
+
+        @Override
+        protected TypeDescription doDescribe(String name) {
+            byte[] binaryRepresentation;
+            try {
+                binaryRepresentation = classFileLocator.locate(name);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read class file of " + name, e);
+            }
+            if (binaryRepresentation == null) {
+                throw new IllegalArgumentException("Cannot locate class file of " + name);
+            }
+            return parse(binaryRepresentation);
+        }
+
+        /**
+         * Parses a class file into a lazy type description.
+         *
+         * @param binaryRepresentation The class file to parse.
+         * @return A lazy description of the parsed type.
+         */
+        protected TypeDescription parse(byte[] binaryRepresentation) {
+            TypeExtractor typeExtractor = new TypeExtractor();
+            new ClassReader(binaryRepresentation).accept(typeExtractor, ClassReader.SKIP_CODE
+                    | ClassReader.SKIP_DEBUG
+                    | ClassReader.SKIP_FRAMES);
+            return typeExtractor.toTypeDescription();
+        }
+
+        @Override
+        public String toString() {
+            return "TypePool.Default{" +
+                    "cacheProvider=" + cacheProvider +
+                    ", classFileLocator=" + classFileLocator +
+                    '}';
+        }
+
+        /**
+         * A class visitor that extracts the declarations of a type from its class file.
+         */
+        protected class TypeExtractor extends ClassVisitor {
+
+            /**
+             * The modifiers of the parsed type.
+             */
+            private int modifiers;
+
+            /**
+             * The internal name of the parsed type.
+             */
+            private String internalName;
+
+            /**
+             * The internal name of the parsed type's super class or {@code null} if the parsed type does not
+             * define a super class.
+             */
+            private String superTypeName;
+
+            /**
+             * The internal names of the parsed type's interfaces.
+             */
+            private String[] interfaceName;
+
+            /**
+             * The declaration context of the parsed type.
+             */
+            private DeclarationContext declarationContext;
+
+            /**
+             * Tokens that represent the fields of the parsed type.
+             */
+            private final List<FieldToken> fieldTokens;
+
+            /**
+             * Tokens that represent the methods and constructors of the parsed type.
+             */
+            private final List<MethodToken> methodTokens;
+
+            /**
+             * Creates a new type extractor.
+             */
+            protected TypeExtractor() {
+                super(ASM_API_VERSION);
+                declarationContext = DeclarationContext.TopLevel.INSTANCE;
+                fieldTokens = new ArrayList<FieldToken>();
+                methodTokens = new ArrayList<MethodToken>();
+            }
+
+            @Override
+            public void visit(int classFileVersion,
+                              int modifiers,
+                              String internalName,
+                              String genericSignature,
+                              String superTypeName,
+                              String[] interfaceName) {
+                this.modifiers = modifiers;
+                this.internalName = internalName;
+                this.superTypeName = superTypeName;
+                this.interfaceName = interfaceName;
+            }
+
+            @Override
+            public void visitOuterClass(String typeName, String methodName, String methodDescriptor) {
+                declarationContext = new DeclarationContext.Enclosed(typeName, methodName, methodDescriptor, declarationContext.getSimpleName());
+            }
+
+            @Override
+            public void visitInnerClass(String internalName, String outerName, String innerName, int modifiers) {
+                if (internalName.equals(this.internalName)) {
+                    this.modifiers = modifiers;
+                    if (outerName != null && innerName != null) {
+                        declarationContext = new DeclarationContext.Member(outerName, innerName);
+                    } else {
+                        declarationContext = declarationContext.withSimpleName(innerName == null ? "" : innerName);
+                    }
+                }
+            }
+
+            @Override
+            public FieldVisitor visitField(int modifiers, String name, String descriptor, String genericSignature, Object value) {
+                fieldTokens.add(new FieldToken(modifiers, name, descriptor));
+                return null;
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String genericSignature, String[] exceptionName) {
+                if (!internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)) {
+                    methodTokens.add(new MethodToken(modifiers, internalName, descriptor, exceptionName));
+                }
+                return null;
+            }
+
+            /**
+             * Creates a type description of the parsed type.
+             *
+             * @return A type description of the parsed type.
+             */
+            protected TypeDescription toTypeDescription() {
+                return new LazyTypeDescription(Default.this,
+                        modifiers,
+                        internalName,
+                        superTypeName,
+                        interfaceName,
+                        declarationContext,
+                        fieldTokens,
+                        methodTokens);
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.Default.TypeExtractor{" +
+                        "typePool=" + Default.this +
+                        ", internalName='" + internalName + '\'' +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * Describes the context in which a type is declared.
+     */
+    static interface DeclarationContext {
+
+        /**
+         * Returns the internal name of the type that declares the described type as a member.
+         *
+         * @return The internal name of the declaring type or {@code null} if the described type is not a member.
+         */
+        String getDeclaringTypeName();
+
+        /**
+         * Returns the internal name of the type that encloses the described type.
+         *
+         * @return The internal name of the enclosing type or {@code null} if the described type is a top-level type.
+         */
+        String getEnclosingTypeName();
+
+        /**
+         * Resolves the method or constructor that encloses the described type.
+         *
+         * @param typePool The type pool to use for describing the enclosing type.
+         * @return The enclosing method or {@code null} if the described type is not declared within a method.
+         */
+        MethodDescription getEnclosingMethod(TypePool typePool);
+
+        /**
+         * Returns the simple name of the described type.
+         *
+         * @return The simple name of the described type or {@code null} if it is to be derived from the type's name.
+         */
+        String getSimpleName();
+
+        /**
+         * Returns a declaration context that is equal to this context but with a given simple name.
+         *
+         * @param simpleName The simple name of the described type.
+         * @return A declaration context with the given simple name.
+         */
+        DeclarationContext withSimpleName(String simpleName);
+
+        /**
+         * The declaration context of a top-level type.
+         */
+        static enum TopLevel implements DeclarationContext {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public String getDeclaringTypeName() {
+                return null;
+            }
+
+            @Override
+            public String getEnclosingTypeName() {
+                return null;
+            }
+
+            @Override
+            public MethodDescription getEnclosingMethod(TypePool typePool) {
+                return null;
+            }
+
+            @Override
+            public String getSimpleName() {
+                return null;
+            }
+
+            @Override
+            public DeclarationContext withSimpleName(String simpleName) {
+                return new Enclosed(null, null, null, simpleName);
+            }
+        }
+
+        /**
+         * The declaration context of a member type.
+         */
+        static class Member implements DeclarationContext {
+
+            /**
+             * The internal name of the declaring type.
+             */
+            private final String declaringTypeName;
+
+            /**
+             * The simple name of the described type.
+             */
+            private final String simpleName;
+
+            /**
+             * Creates a new declaration context for a member type.
+             *
+             * @param declaringTypeName The internal name of the declaring type.
+             * @param simpleName        The simple name of the described type.
+             */
+            public Member(String declaringTypeName, String simpleName) {
+                this.declaringTypeName = declaringTypeName;
+                this.simpleName = simpleName;
+            }
+
+            @Override
+            public String getDeclaringTypeName() {
+                return declaringTypeName;
+            }
+
+            @Override
+            public String getEnclosingTypeName() {
+                return declaringTypeName;
+            }
+
+            @Override
+            public MethodDescription getEnclosingMethod(TypePool typePool) {
+                return null;
+            }
+
+            @Override
+            public String getSimpleName() {
+                return simpleName;
+            }
+
+            @Override
+            public DeclarationContext withSimpleName(String simpleName) {
+                return new Member(declaringTypeName, simpleName);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Member member = (Member) other;
+                return declaringTypeName.equals(member.declaringTypeName) && simpleName.equals(member.simpleName);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * declaringTypeName.hashCode() + simpleName.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.DeclarationContext.Member{" +
+                        "declaringTypeName='" + declaringTypeName + '\'' +
+                        ", simpleName='" + simpleName + '\'' +
+                        '}';
+            }
+        }
+
+        /**
+         * The declaration context of a local or an anonymous type.
+         */
+        static class Enclosed implements DeclarationContext {
+
+            /**
+             * The internal name of the enclosing type or {@code null} if this information is not yet known.
+             */
+            private final String enclosingTypeName;
+
+            /**
+             * The internal name of the enclosing method or {@code null} if the type is not declared within a method.
+             */
+            private final String methodName;
+
+            /**
+             * The descriptor of the enclosing method or {@code null} if the type is not declared within a method.
+             */
+            private final String methodDescriptor;
+
+            /**
+             * The simple name of the described type or {@code null} if this information is not yet known.
+             */
+            private final String simpleName;
+
+            /**
+             * Creates a new declaration context for a local or an anonymous type.
+             *
+             * @param enclosingTypeName The internal name of the enclosing type.
+             * @param methodName        The internal name of the enclosing method or {@code null}.
+             * @param methodDescriptor  The descriptor of the enclosing method or {@code null}.
+             * @param simpleName        The simple name of the described type or {@code null}.
+             */
+            public Enclosed(String enclosingTypeName, String methodName, String methodDescriptor, String simpleName) {
+                this.enclosingTypeName = enclosingTypeName;
+                this.methodName = methodName;
+                this.methodDescriptor = methodDescriptor;
+                this.simpleName = simpleName;
+            }
+
+            @Override
+            public String getDeclaringTypeName() {
+                return null;
+            }
+
+            @Override
+            public String getEnclosingTypeName() {
+                return enclosingTypeName;
+            }
+
+            @Override
+            public MethodDescription getEnclosingMethod(TypePool typePool) {
+                if (enclosingTypeName == null || methodName == null || methodDescriptor == null) {
+                    return null;
+                }
+                for (MethodDescription methodDescription : typePool.describe(enclosingTypeName.replace('/', '.')).getDeclaredMethods()) {
+                    if (methodDescription.getInternalName().equals(methodName) && methodDescription.getDescriptor().equals(methodDescriptor)) {
+                        return methodDescription;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public String getSimpleName() {
+                return simpleName;
+            }
+
+            @Override
+            public DeclarationContext withSimpleName(String simpleName) {
+                return new Enclosed(enclosingTypeName, methodName, methodDescriptor, simpleName);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Enclosed enclosed = (Enclosed) other;
+                return (enclosingTypeName == null ? enclosed.enclosingTypeName == null : enclosingTypeName.equals(enclosed.enclosingTypeName))
+                        && (methodName == null ? enclosed.methodName == null : methodName.equals(enclosed.methodName))
+                        && (methodDescriptor == null ? enclosed.methodDescriptor == null : methodDescriptor.equals(enclosed.methodDescriptor))
+                        && (simpleName == null ? enclosed.simpleName == null : simpleName.equals(enclosed.simpleName));
+            }
+
+            @Override
+            public int hashCode() {
+                int result = enclosingTypeName == null ? 0 : enclosingTypeName.hashCode();
+                result = 31 * result + (methodName == null ? 0 : methodName.hashCode());
+                result = 31 * result + (methodDescriptor == null ? 0 : methodDescriptor.hashCode());
+                result = 31 * result + (simpleName == null ? 0 : simpleName.hashCode());
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.DeclarationContext.Enclosed{" +
+                        "enclosingTypeName='" + enclosingTypeName + '\'' +
+                        ", methodName='" + methodName + '\'' +
+                        ", methodDescriptor='" + methodDescriptor + '\'' +
+                        ", simpleName='" + simpleName + '\'' +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A token that represents a field as it is declared in a class file.
+     */
+    static class FieldToken {
+
+        /**
+         * The modifiers of the field.
+         */
+        private final int modifiers;
+
+        /**
+         * The name of the field.
+         */
+        private final String name;
+
+        /**
+         * The descriptor of the field's type.
+         */
+        private final String descriptor;
+
+        /**
+         * Creates a new field token.
+         *
+         * @param modifiers  The modifiers of the field.
+         * @param name       The name of the field.
+         * @param descriptor The descriptor of the field's type.
+         */
+        protected FieldToken(int modifiers, String name, String descriptor) {
+            this.modifiers = modifiers & ~Opcodes.ACC_DEPRECATED;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            FieldToken fieldToken = (FieldToken) other;
+            return modifiers == fieldToken.modifiers
+                    && name.equals(fieldToken.name)
+                    && descriptor.equals(fieldToken.descriptor);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = modifiers;
+            result = 31 * result + name.hashCode();
+            result = 31 * result + descriptor.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypePool.FieldToken{" +
+                    "modifiers=" + modifiers +
+                    ", name='" + name + '\'' +
+                    ", descriptor='" + descriptor + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * A token that represents a method or a constructor as it is declared in a class file.
+     */
+    static class MethodToken {
+
+        /**
+         * The modifiers of the method.
+         */
+        private final int modifiers;
+
+        /**
+         * The internal name of the method.
+         */
+        private final String internalName;
+
+        /**
+         * The descriptor of the method.
+         */
+        private final String descriptor;
+
+        /**
+         * The internal names of the method's declared exception types.
+         */
+        private final String[] exceptionName;
+
+        /**
+         * Creates a new method token.
+         *
+         * @param modifiers     The modifiers of the method.
+         * @param internalName  The internal name of the method.
+         * @param descriptor    The descriptor of the method.
+         * @param exceptionName The internal names of the method's declared exception types or {@code null} if
+         *                      the method does not declare any exceptions.
+         */
+        protected MethodToken(int modifiers, String internalName, String descriptor, String[] exceptionName) {
+            this.modifiers = modifiers & ~Opcodes.ACC_DEPRECATED;
+            this.internalName = internalName;
+            this.descriptor = descriptor;
+            this.exceptionName = exceptionName == null ? new String[0] : exceptionName;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            MethodToken methodToken = (MethodToken) other;
+            return modifiers == methodToken.modifiers
+                    && internalName.equals(methodToken.internalName)
+                    && descriptor.equals(methodToken.descriptor)
+                    && Arrays.equals(exceptionName, methodToken.exceptionName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = modifiers;
+            result = 31 * result + internalName.hashCode();
+            result = 31 * result + descriptor.hashCode();
+            result = 31 * result + Arrays.hashCode(exceptionName);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypePool.MethodToken{" +
+                    "modifiers=" + modifiers +
+                    ", internalName='" + internalName + '\'' +
+                    ", descriptor='" + descriptor + '\'' +
+                    ", exceptionName=" + Arrays.toString(exceptionName) +
+                    '}';
+        }
+    }
+
+    /**
+     * A type list that describes its types by a type pool when they are requested.
+     */
+    static class LazyTypeList extends AbstractList<TypeDescription> implements TypeList {
+
+        /**
+         * The type pool that describes the types of this list.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The ASM types that represent the types of this list.
+         */
+        private final Type[] type;
+
+        /**
+         * Creates a new lazy type list.
+         *
+         * @param typePool The type pool that describes the types of this list.
+         * @param type     The ASM types that represent the types of this list.
+         */
+        protected LazyTypeList(TypePool typePool, Type[] type) {
+            this.typePool = typePool;
+            this.type = type;
+        }
+
+        /**
+         * Creates a new lazy type list for a given array of internal names.
+         *
+         * @param typePool     The type pool that describes the types of this list.
+         * @param internalName The internal names of the types of this list.
+         * @return A lazy type list of the given types.
+         */
+        protected static TypeList ofInternalNames(TypePool typePool, String[] internalName) {
+            Type[] type = new Type[internalName.length];
+            for (int index = 0; index < internalName.length; index++) {
+                type[index] = Type.getObjectType(internalName[index]);
+            }
+            return new LazyTypeList(typePool, type);
+        }
+
+        @Override
+        public TypeDescription get(int index) {
+            return typePool.describe(AbstractBase.toTypeName(type[index]));
+        }
+
+        @Override
+        public int size() {
+            return type.length;
+        }
+
+        @Override
+        public String[] toInternalNames() {
+            String[] internalName = new String[type.length];
+            for (int index = 0; index < type.length; index++) {
+                internalName[index] = type[index].getInternalName();
+            }
+            return internalName.length == 0 ? null : internalName;
+        }
+
+        @Override
+        public int getStackSize() {
+            int stackSize = 0;
+            for (Type aType : type) {
+                stackSize += aType.getSize();
+            }
+            return stackSize;
+        }
+    }
+
+    /**
+     * A type description of a type that was parsed from its class file. Any referenced type is described by the
+     * type pool that parsed this type when it is requested.
+     */
+    static class LazyTypeDescription extends TypeDescription.AbstractTypeDescription {
+
+        /**
+         * The type pool that describes any types that are referenced by this type.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The modifiers of this type.
+         */
+        private final int modifiers;
+
+        /**
+         * The binary name of this type.
+         */
+        private final String name;
+
+        /**
+         * The binary name of this type's super class or {@code null} if this type does not define a super class.
+         * Interfaces do not define a super class even though their class files name {@link Object} as their super class.
+         */
+        private final String superTypeName;
+
+        /**
+         * The internal names of this type's interfaces.
+         */
+        private final String[] interfaceName;
+
+        /**
+         * The declaration context of this type.
+         */
+        private final DeclarationContext declarationContext;
+
+        /**
+         * The descriptions of this type's declared fields.
+         */
+        private final List<FieldDescription> declaredFields;
+
+        /**
+         * The descriptions of this type's declared methods and constructors.
+         */
+        private final List<MethodDescription> declaredMethods;
+
+        /**
+         * Creates a new lazy type description.
+         *
+         * @param typePool           The type pool that describes any types that are referenced by this type.
+         * @param modifiers          The modifiers of this type.
+         * @param internalName       The internal name of this type.
+         * @param superTypeName      The internal name of this type's super class or {@code null}.
+         * @param interfaceName      The internal names of this type's interfaces.
+         * @param declarationContext The declaration context of this type.
+         * @param fieldTokens        Tokens that represent the fields of this type.
+         * @param methodTokens       Tokens that represent the methods and constructors of this type.
+         */
+        protected LazyTypeDescription(TypePool typePool,
+                                      int modifiers,
+                                      String internalName,
+                                      String superTypeName,
+                                      String[] interfaceName,
+                                      DeclarationContext declarationContext,
+                                      List<FieldToken> fieldTokens,
+                                      List<MethodToken> methodTokens) {
+            this.typePool = typePool;
+            this.modifiers = modifiers & ~(Opcodes.ACC_SUPER | Opcodes.ACC_DEPRECATED);
+            name = internalName.replace('/', '.');
+            this.superTypeName = superTypeName == null || (modifiers & Opcodes.ACC_INTERFACE) != 0
+                    ? null
+                    : superTypeName.replace('/', '.');
+            this.interfaceName = interfaceName == null ? new String[0] : interfaceName;
+            this.declarationContext = declarationContext;
+            declaredFields = new ArrayList<FieldDescription>(fieldTokens.size());
+            for (FieldToken fieldToken : fieldTokens) {
+                declaredFields.add(new LazyFieldDescription(fieldToken));
+            }
+            declaredMethods = new ArrayList<MethodDescription>(methodTokens.size());
+            for (MethodToken methodToken : methodTokens) {
+                declaredMethods.add(new LazyMethodDescription(methodToken));
+            }
+        }
+
+        /**
+         * Checks if a target type can be assigned to a source type. Any non-primitive type, including interfaces and
+         * arrays, can be assigned to {@link java.lang.Object}.
+         *
+         * @param sourceType The type that is assigned to.
+         * @param targetType The type that is assigned.
+         * @return {@code true} if the target type can be assigned to the source type.
+         */
+        private static boolean isAssignable(TypeDescription sourceType, TypeDescription targetType) {
+            if (sourceType.equals(targetType) || sourceType.represents(Object.class)) {
+                return true;
+            }
+            TypeDescription targetTypeSuperType = targetType.getSupertype();
+            if (targetTypeSuperType != null && targetTypeSuperType.isAssignableTo(sourceType)) {
+                return true;
+            }
+            if (sourceType.isInterface()) {
+                for (TypeDescription interfaceType : targetType.getInterfaces()) {
+                    if (interfaceType.isAssignableTo(sourceType)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isAssignableFrom(Class<?> type) {
+            return isAssignableFrom(TypeDescription.ForLoadedType.of(type));
+        }
+
+        @Override
+        public boolean isAssignableFrom(TypeDescription typeDescription) {
+            return !typeDescription.isPrimitive() && isAssignable(this, typeDescription);
+        }
+
+        @Override
+        public boolean isAssignableTo(Class<?> type) {
+            return isAssignableTo(TypeDescription.ForLoadedType.of(type));
+        }
+
+        @Override
+        public boolean isAssignableTo(TypeDescription typeDescription) {
+            return !typeDescription.isPrimitive() && !typeDescription.isArray() && isAssignable(typeDescription, this);
+        }
+
+        @Override
+        public boolean represents(Class<?> type) {
+            return type.getName().equals(name);
+        }
+
+        @Override
+        public boolean isArray() {
+            return false;
+        }
+
+        @Override
+        public TypeDescription getComponentType() {
+            return null;
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return false;
+        }
+
+        @Override
+        public TypeDescription getSupertype() {
+            return superTypeName == null ? null : typePool.describe(superTypeName);
+        }
+
+        @Override
+        public TypeList getInterfaces() {
+            return LazyTypeList.ofInternalNames(typePool, interfaceName);
+        }
+
+        @Override
+        public MethodDescription getEnclosingMethod() {
+            return declarationContext.getEnclosingMethod(typePool);
+        }
+
+        @Override
+        public TypeDescription getEnclosingClass() {
+            String enclosingTypeName = declarationContext.getEnclosingTypeName();
+            return enclosingTypeName == null ? null : typePool.describe(enclosingTypeName.replace('/', '.'));
+        }
+
+        @Override
+        public TypeDescription getDeclaringType() {
+            String declaringTypeName = declarationContext.getDeclaringTypeName();
+            return declaringTypeName == null ? null : typePool.describe(declaringTypeName.replace('/', '.'));
+        }
+
+        @Override
+        public String getSimpleName() {
+            String simpleName = declarationContext.getSimpleName();
+            return simpleName == null
+                    ? name.substring(name.lastIndexOf('.') + 1)
+                    : simpleName;
+        }
+
+        @Override
+        public String getCanonicalName() {
+            if (isAnonymousClass() || isLocalClass()) {
+                return null;
+            } else if (isMemberClass()) {
+                String declaringCanonicalName = getDeclaringType().getCanonicalName();
+                return declaringCanonicalName == null ? null : declaringCanonicalName + "." + getSimpleName();
+            } else {
+                return name;
+            }
+        }
+
+        @Override
+        public boolean isAnonymousClass() {
+            return declarationContext.getSimpleName() != null
+                    && declarationContext.getSimpleName().length() == 0;
+        }
+
+        @Override
+        public boolean isLocalClass() {
+            return declarationContext.getDeclaringTypeName() == null
+                    && declarationContext.getSimpleName() != null
+                    && declarationContext.getSimpleName().length() > 0;
+        }
+
+        @Override
+        public boolean isMemberClass() {
+            return declarationContext.getDeclaringTypeName() != null;
+        }
+
+        @Override
+        public FieldList getDeclaredFields() {
+            return new FieldList.Explicit(declaredFields);
+        }
+
+        @Override
+        public MethodList getDeclaredMethods() {
+            return new MethodList.Explicit(declaredMethods);
+        }
+
+        @Override
+        public String getPackageName() {
+            int packageIndex = name.lastIndexOf('.');
+            return packageIndex == -1 ? "" : name.substring(0, packageIndex);
+        }
+
+        @Override
+        public StackSize getStackSize() {
+            return StackSize.SINGLE;
+        }
+
+        @Override
+        public boolean isSealed() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescriptor() {
+            return "L" + getInternalName() + ";";
+        }
+
+        @Override
+        public int getModifiers() {
+            return modifiers;
+        }
+
+        @Override
+        public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+            return false;
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            return null;
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return new Annotation[0];
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return new Annotation[0];
+        }
+
+        @Override
+        public String toString() {
+            return "TypePool.LazyTypeDescription{name=" + name + '}';
+        }
+
+        /**
+         * A field description of a field that was parsed from a class file.
+         */
+        protected class LazyFieldDescription extends FieldDescription.AbstractFieldDescription {
+
+            /**
+             * The modifiers of this field.
+             */
+            private final int modifiers;
+
+            /**
+             * The name of this field.
+             */
+            private final String name;
+
+            /**
+             * The descriptor of this field's type.
+             */
+            private final String descriptor;
+
+            /**
+             * Creates a new lazy field description.
+             *
+             * @param fieldToken The token that represents this field.
+             */
+            protected LazyFieldDescription(FieldToken fieldToken) {
+                modifiers = fieldToken.modifiers;
+                name = fieldToken.name;
+                descriptor = fieldToken.descriptor;
+            }
+
+            @Override
+            public TypeDescription getFieldType() {
+                return typePool.describe(AbstractBase.toTypeName(Type.getType(descriptor)));
+            }
+
+            @Override
+            public String getDescriptor() {
+                return descriptor;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public TypeDescription getDeclaringType() {
+                return LazyTypeDescription.this;
+            }
+
+            @Override
+            public int getModifiers() {
+                return modifiers;
+            }
+
+            @Override
+            public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+                return false;
+            }
+
+            @Override
+            public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+                return null;
+            }
+
+            @Override
+            public Annotation[] getAnnotations() {
+                return new Annotation[0];
+            }
+
+            @Override
+            public Annotation[] getDeclaredAnnotations() {
+                return new Annotation[0];
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.LazyTypeDescription.LazyFieldDescription{" +
+                        "declaringType=" + LazyTypeDescription.this.name +
+                        ", name='" + name + '\'' +
+                        ", descriptor='" + descriptor + '\'' +
+                        '}';
+            }
+        }
+
+        /**
+         * A method description of a method or a constructor that was parsed from a class file.
+         */
+        protected class LazyMethodDescription extends MethodDescription.AbstractMethodDescription {
+
+            /**
+             * The modifiers of this method.
+             */
+            private final int modifiers;
+
+            /**
+             * The internal name of this method.
+             */
+            private final String internalName;
+
+            /**
+             * The descriptor of this method.
+             */
+            private final String descriptor;
+
+            /**
+             * The internal names of this method's declared exception types.
+             */
+            private final String[] exceptionName;
+
+            /**
+             * Creates a new lazy method description.
+             *
+             * @param methodToken The token that represents this method.
+             */
+            protected LazyMethodDescription(MethodToken methodToken) {
+                modifiers = methodToken.modifiers;
+                internalName = methodToken.internalName;
+                descriptor = methodToken.descriptor;
+                exceptionName = methodToken.exceptionName;
+            }
+
+            @Override
+            public TypeDescription getReturnType() {
+                return typePool.describe(AbstractBase.toTypeName(Type.getReturnType(descriptor)));
+            }
+
+            @Override
+            public TypeList getParameterTypes() {
+                return new LazyTypeList(typePool, Type.getArgumentTypes(descriptor));
+            }
+
+            @Override
+            public Annotation[][] getParameterAnnotations() {
+                return new Annotation[Type.getArgumentTypes(descriptor).length][0];
+            }
+
+            @Override
+            public TypeList getExceptionTypes() {
+                return LazyTypeList.ofInternalNames(typePool, exceptionName);
+            }
+
+            @Override
+            public boolean isConstructor() {
+                return internalName.equals(CONSTRUCTOR_INTERNAL_NAME);
+            }
+
+            @Override
+            public boolean isTypeInitializer() {
+                return internalName.equals(TYPE_INITIALIZER_INTERNAL_NAME);
+            }
+
+            @Override
+            public boolean represents(Method method) {
+                return internalName.equals(method.getName())
+                        && LazyTypeDescription.this.represents(method.getDeclaringClass())
+                        && descriptor.equals(Type.getMethodDescriptor(method));
+            }
+
+            @Override
+            public boolean represents(Constructor<?> constructor) {
+                return isConstructor()
+                        && LazyTypeDescription.this.represents(constructor.getDeclaringClass())
+                        && descriptor.equals(Type.getConstructorDescriptor(constructor));
+            }
+
+            @Override
+            public String getName() {
+                return isConstructor() ? LazyTypeDescription.this.name : internalName;
+            }
+
+            @Override
+            public String getInternalName() {
+                return internalName;
+            }
+
+            @Override
+            public String getDescriptor() {
+                return descriptor;
+            }
+
+            @Override
+            public TypeDescription getDeclaringType() {
+                return LazyTypeDescription.this;
+            }
+
+            @Override
+            public int getModifiers() {
+                return modifiers;
+            }
+
+            @Override
+            public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+                return false;
+            }
+
+            @Override
+            public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+                return null;
+            }
+
+            @Override
+            public Annotation[] getAnnotations() {
+                return new Annotation[0];
+            }
+
+            @Override
+            public Annotation[] getDeclaredAnnotations() {
+                return new Annotation[0];
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.LazyTypeDescription.LazyMethodDescription{" +
+                        "declaringType=" + LazyTypeDescription.this.name +
+                        ", internalName='" + internalName + '\'' +
+                        ", descriptor='" + descriptor + '\'' +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A description of an array type of a given component type and arity.
+     */
+    static class ArrayTypeDescription extends TypeDescription.AbstractTypeDescription {
+
+        /**
+         * The modifiers that are set for any array type in addition to the visibility of its component type.
+         */
+        private static final int ARRAY_MODIFIERS = Opcodes.ACC_ABSTRACT | Opcodes.ACC_FINAL;
+
+        /**
+         * The modifiers of a component type that are inherited by an array type.
+         */
+        private static final int VISIBILITY_MODIFIERS = Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED | Opcodes.ACC_PRIVATE;
+
+        /**
+         * The prefix of an array's descriptor for each of its dimensions.
+         */
+        private static final String ARRAY_DIMENSION = "[";
+
+        /**
+         * The suffix of the source code representation of an array for each of its dimensions.
+         */
+        private static final String SOURCE_DIMENSION = "[]";
+
+        /**
+         * The non-array component type of this array.
+         */
+        private final TypeDescription componentType;
+
+        /**
+         * The number of dimensions of this array.
+         */
+        private final int arity;
+
+        /**
+         * Creates a new array type description.
+         *
+         * @param componentType The non-array component type of this array.
+         * @param arity         The number of dimensions of this array.
+         */
+        protected ArrayTypeDescription(TypeDescription componentType, int arity) {
+            this.componentType = componentType;
+            this.arity = arity;
+        }
+
+        /**
+         * Repeats a string for each dimension of this array.
+         *
+         * @param value The value to repeat.
+         * @return The value repeated for each dimension of this array.
+         */
+        private String repeat(String value) {
+            StringBuilder stringBuilder = new StringBuilder();
+            for (int dimension = 0; dimension < arity; dimension++) {
+                stringBuilder.append(value);
+            }
+            return stringBuilder.toString();
+        }
+
+        @Override
+        public boolean isAssignableFrom(Class<?> type) {
+            return isAssignableFrom(TypeDescription.ForLoadedType.of(type));
+        }
+
+        @Override
+        public boolean isAssignableFrom(TypeDescription typeDescription) {
+            if (!typeDescription.isArray()) {
+                return false;
+            }
+            TypeDescription componentType = getComponentType(), otherComponentType = typeDescription.getComponentType();
+            return componentType.isPrimitive() || otherComponentType.isPrimitive()
+                    ? componentType.equals(otherComponentType)
+                    : componentType.isAssignableFrom(otherComponentType);
+        }
+
+        @Override
+        public boolean isAssignableTo(Class<?> type) {
+            return isAssignableTo(TypeDescription.ForLoadedType.of(type));
+        }
+
+        @Override
+        public boolean isAssignableTo(TypeDescription typeDescription) {
+            if (!typeDescription.isArray()) {
+                return typeDescription.represents(Object.class)
+                        || typeDescription.represents(Cloneable.class)
+                        || typeDescription.represents(Serializable.class);
+            }
+            TypeDescription componentType = getComponentType(), otherComponentType = typeDescription.getComponentType();
+            return componentType.isPrimitive() || otherComponentType.isPrimitive()
+                    ? componentType.equals(otherComponentType)
+                    : componentType.isAssignableTo(otherComponentType);
+        }
+
+        @Override
+        public boolean represents(Class<?> type) {
+            return type.getName().equals(getName());
+        }
+
+        @Override
+        public boolean isArray() {
+            return true;
+        }
+
+        @Override
+        public TypeDescription getComponentType() {
+            return arity == 1 ? componentType : new ArrayTypeDescription(componentType, arity - 1);
+        }
+
+        @Override
+        public boolean isPrimitive() {
+            return false;
+        }
+
+        @Override
+        public TypeDescription getSupertype() {
+            return TypeDescription.ForLoadedType.of(Object.class);
+        }
+
+        @Override
+        public TypeList getInterfaces() {
+            return new TypeList.ForLoadedType(new Class<?>[]{Cloneable.class, Serializable.class});
+        }
+
+        @Override
+        public MethodDescription getEnclosingMethod() {
+            return null;
+        }
+
+        @Override
+        public TypeDescription getEnclosingClass() {
+            return null;
+        }
+
+        @Override
+        public TypeDescription getDeclaringType() {
+            return null;
+        }
+
+        @Override
+        public String getSimpleName() {
+            return componentType.getSimpleName() + repeat(SOURCE_DIMENSION);
+        }
+
+        @Override
+        public String getCanonicalName() {
+            String canonicalName = componentType.getCanonicalName();
+            return canonicalName == null ? null : canonicalName + repeat(SOURCE_DIMENSION);
+        }
+
+        @Override
+        public boolean isAnonymousClass() {
+            return false;
+        }
+
+        @Override
+        public boolean isLocalClass() {
+            return false;
+        }
+
+        @Override
+        public boolean isMemberClass() {
+            return false;
+        }
+
+        @Override
+        public FieldList getDeclaredFields() {
+            return new FieldList.Empty();
+        }
+
+        @Override
+        public MethodList getDeclaredMethods() {
+            return new MethodList.Empty();
+        }
+
+        @Override
+        public String getPackageName() {
+            return componentType.getPackageName();
+        }
+
+        @Override
+        public StackSize getStackSize() {
+            return StackSize.SINGLE;
+        }
+
+        @Override
+        public boolean isSealed() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return repeat(ARRAY_DIMENSION) + (componentType.isPrimitive()
+                    ? componentType.getDescriptor()
+                    : "L" + componentType.getName() + ";");
+        }
+
+        @Override
+        public String getDescriptor() {
+            return repeat(ARRAY_DIMENSION) + componentType.getDescriptor();
+        }
+
+        @Override
+        public int getModifiers() {
+            return (componentType.getModifiers() & VISIBILITY_MODIFIERS) | ARRAY_MODIFIERS;
+        }
+
+        @Override
+        public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+            return false;
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            return null;
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return new Annotation[0];
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return new Annotation[0];
+        }
+
+        @Override
+        public String toString() {
+            return "TypePool.ArrayTypeDescription{" +
+                    "componentType=" + componentType +
+                    ", arity=" + arity +
+                    '}';
+        }
+    }
+}
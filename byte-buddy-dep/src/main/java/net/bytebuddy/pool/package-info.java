@@ -0,0 +1,4 @@
+/**
+ * This package contains a type pool that describes types by parsing their class files without loading them.
+ */
+package net.bytebuddy.pool;
@@ -0,0 +1,114 @@
+package net.bytebuddy.utility;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Attaches a value to a loaded type such that the value is released together with this type. On a VM that supports
+ * {@code java.lang.ClassValue}, values are attached by a class value which is implemented by
+ * {@link net.bytebuddy.utility.ClassValueAttachment}. This class is compiled separately as Byte Buddy is compiled for
+ * Java 6 and is loaded reflectively. On any other VM, values are held by a {@link java.util.WeakHashMap}.
+ * <p>&nbsp;</p>
+ * As a weak hash map holds its values strongly, a value must never strongly reference the type it is attached to.
+ * Otherwise, the type can never be unloaded on a VM that does not support class values.
+ *
+ * @param <T> The type of the attached values.
+ */
+public abstract class ClassAttachment<T> {
+
+    /**
+     * The name of the class value attachment which is only available for a VM that supports class values.
+     */
+    private static final String CLASS_VALUE_ATTACHMENT = "net.bytebuddy.utility.ClassValueAttachment";
+
+    /**
+     * Creates a class attachment that is backed by a class value if possible or by a weak hash map otherwise.
+     *
+     * @param initializer The initializer for creating the value of a type that is not yet attached.
+     * @param <S>         The type of the attached values.
+     * @return A class attachment for the given initializer.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> ClassAttachment<S> of(Initializer<S> initializer) {
+        try {
+            return (ClassAttachment<S>) Class.forName(CLASS_VALUE_ATTACHMENT)
+                    .getConstructor(Initializer.class)
+                    .newInstance(initializer);
+        } catch (Exception ignored) {
+            return new ForWeakHashMap<S>(initializer);
+        } catch (LinkageError ignored) {
+            return new ForWeakHashMap<S>(initializer);
+        }
+    }
+
+    /**
+     * Returns the value that is attached to the given type. If no value is attached, a value is initialized and
+     * attached before it is returned.
+     *
+     * @param type The type for which to look up the attached value.
+     * @return The value that is attached to the given type.
+     */
+    public abstract T get(Class<?> type);
+
+    /**
+     * An initializer for the value of a type that does not yet have an attached value.
+     *
+     * @param <S> The type of the attached values.
+     */
+    public static interface Initializer<S> {
+
+        /**
+         * Creates the value that is attached to the given type. This method might be invoked several times for the
+         * same type if the type is looked up concurrently where only one of the created values is attached.
+         *
+         * @param type The type to which the value is attached.
+         * @return The value to attach to the given type.
+         */
+        S initialize(Class<?> type);
+    }
+
+    /**
+     * A class attachment that holds its values in a synchronized weak hash map.
+     *
+     * @param <S> The type of the attached values.
+     */
+    public static class ForWeakHashMap<S> extends ClassAttachment<S> {
+
+        /**
+         * The initializer for creating the value of a type that is not yet attached.
+         */
+        private final Initializer<S> initializer;
+
+        /**
+         * The attached values by their types which must only be accessed while holding the map's monitor.
+         */
+        private final Map<Class<?>, S> values;
+
+        /**
+         * Creates a new class attachment for a weak hash map.
+         *
+         * @param initializer The initializer for creating the value of a type that is not yet attached.
+         */
+        public ForWeakHashMap(Initializer<S> initializer) {
+            this.initializer = initializer;
+            values = new WeakHashMap<Class<?>, S>();
+        }
+
+        @Override
+        public S get(Class<?> type) {
+            synchronized (values) {
+                S value = values.get(type);
+                if (value == null) {
+                    value = initializer.initialize(type);
+                    values.put(type, value);
+                }
+                return value;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ClassAttachment.ForWeakHashMap{initializer=" + initializer + '}';
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package net.bytebuddy.utility;
+
+/**
+ * A class attachment that is backed by a {@link java.lang.ClassValue}. This class is compiled separately for Java 7
+ * and must only be loaded on a VM that supports class values what is asserted by
+ * {@link net.bytebuddy.utility.ClassAttachment#of(net.bytebuddy.utility.ClassAttachment.Initializer)}.
+ *
+ * @param <T> The type of the attached values.
+ */
+public class ClassValueAttachment<T> extends ClassAttachment<T> {
+
+    /**
+     * The initializer for creating the value of a type that is not yet attached.
+     */
+    private final Initializer<T> initializer;
+
+    /**
+     * The class value that holds the attached values.
+     */
+    private final ClassValue<T> classValue;
+
+    /**
+     * Creates a new class attachment for a class value.
+     *
+     * @param initializer The initializer for creating the value of a type that is not yet attached.
+     */
+    public ClassValueAttachment(final Initializer<T> initializer) {
+        this.initializer = initializer;
+        classValue = new ClassValue<T>() {
+            @Override
+            protected T computeValue(Class<?> type) {
+                return initializer.initialize(type);
+            }
+        };
+    }
+
+    @Override
+    public T get(Class<?> type) {
+        return classValue.get(type);
+    }
+
+    @Override
+    public String toString() {
+        return "ClassValueAttachment{initializer=" + initializer + '}';
+    }
+}
@@ -0,0 +1,246 @@
+package net.bytebuddy.utility;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares its structure with the lists it was derived from. Appending or prepending an element
+ * creates a new list in constant time without copying the elements of the original list, which remains unchanged.
+ * This allows immutable configurations that are extended step by step to avoid copying their state for every step.
+ * Elements are stored in two linked chains of prepended and appended elements which are only flattened into an array
+ * once the list's elements are accessed, what is done at most once per instance.
+ * <p>&nbsp;</p>
+ * This list is thread-safe. Any mutating method of the {@link java.util.List} interface throws an
+ * {@link java.lang.UnsupportedOperationException}.
+ *
+ * @param <T> The type of the list's elements.
+ */
+public class PersistentList<T> extends AbstractList<T> {
+
+    /**
+     * The empty list.
+     */
+    private static final PersistentList<?> EMPTY = new PersistentList<Object>(null, null, 0);
+
+    /**
+     * The chain of prepended elements where the first element of this list is the head of the chain or {@code null}
+     * if no element was prepended.
+     */
+    private final Link<T> prepended;
+
+    /**
+     * The chain of appended elements where the last element of this list is the head of the chain or {@code null}
+     * if no element was appended.
+     */
+    private final Link<T> appended;
+
+    /**
+     * The number of elements of this list.
+     */
+    private final int size;
+
+    /**
+     * The elements of this list in their order or {@code null} if the elements were not yet flattened. This field
+     * is written racily what is safe as the array is not mutated after its assignment.
+     */
+    private volatile Object[] elements;
+
+    /**
+     * Creates a new persistent list.
+     *
+     * @param prepended The chain of prepended elements.
+     * @param appended  The chain of appended elements.
+     * @param size      The number of elements of this list.
+     */
+    private PersistentList(Link<T> prepended, Link<T> appended, int size) {
+        this.prepended = prepended;
+        this.appended = appended;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty persistent list.
+     *
+     * @param <S> The type of the list's elements.
+     * @return An empty persistent list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> PersistentList<S> empty() {
+        return (PersistentList<S>) EMPTY;
+    }
+
+    /**
+     * Returns a persistent list of the given list's elements. If the given list is a persistent list, it is returned
+     * without copying it.
+     *
+     * @param list The list of elements.
+     * @param <S>  The type of the list's elements.
+     * @return A persistent list of the given list's elements.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> PersistentList<S> of(List<? extends S> list) {
+        if (list instanceof PersistentList) {
+            return (PersistentList<S>) list;
+        }
+        return PersistentList.<S>empty().appendAll(list);
+    }
+
+    /**
+     * Creates a new list with the given element appended to the elements of this list.
+     *
+     * @param element The element to append.
+     * @return A new list with the given element appended.
+     */
+    public PersistentList<T> append(T element) {
+        return new PersistentList<T>(prepended, new Link<T>(element, appended), size + 1);
+    }
+
+    /**
+     * Creates a new list with the given elements appended to the elements of this list.
+     *
+     * @param elements The elements to append.
+     * @return A new list with the given elements appended.
+     */
+    public PersistentList<T> appendAll(List<? extends T> elements) {
+        Link<T> appended = this.appended;
+        for (T element : elements) {
+            appended = new Link<T>(element, appended);
+        }
+        return appended == this.appended
+                ? this
+                : new PersistentList<T>(prepended, appended, size + elements.size());
+    }
+
+    /**
+     * Creates a new list with the given element prepended to the elements of this list.
+     *
+     * @param element The element to prepend.
+     * @return A new list with the given element prepended.
+     */
+    public PersistentList<T> prepend(T element) {
+        return new PersistentList<T>(new Link<T>(element, prepended), appended, size + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) flatten()[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator<T>(flatten());
+    }
+
+    /**
+     * Returns the elements of this list in their order. The elements are only flattened once.
+     *
+     * @return An array of the elements of this list which must not be mutated.
+     */
+    private Object[] flatten() {
+        Object[] elements = this.elements;
+        if (elements == null) {
+            elements = new Object[size];
+            int index = 0;
+            for (Link<T> link = prepended; link != null; link = link.next) {
+                elements[index++] = link.element;
+            }
+            index = size;
+            for (Link<T> link = appended; link != null; link = link.next) {
+                elements[--index] = link.element;
+            }
+            this.elements = elements;
+        }
+        return elements;
+    }
+
+    /**
+     * A link of a chain of elements.
+     *
+     * @param <S> The type of the element.
+     */
+    private static class Link<S> {
+
+        /**
+         * The element of this link.
+         */
+        private final S element;
+
+        /**
+         * The next link of the chain or {@code null} if this link is the end of the chain.
+         */
+        private final Link<S> next;
+
+        /**
+         * Creates a new link.
+         *
+         * @param element The element of this link.
+         * @param next    The next link of the chain or {@code null} if this link is the end of the chain.
+         */
+        private Link(S element, Link<S> next) {
+            this.element = element;
+            this.next = next;
+        }
+    }
+
+    /**
+     * An iterator over an array of elements that does not support the removal of elements.
+     *
+     * @param <S> The type of the elements.
+     */
+    private static class ArrayIterator<S> implements Iterator<S> {
+
+        /**
+         * The elements to iterate over.
+         */
+        private final Object[] elements;
+
+        /**
+         * The index of the next element.
+         */
+        private int index;
+
+        /**
+         * Creates a new array iterator.
+         *
+         * @param elements The elements to iterate over.
+         */
+        private ArrayIterator(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < elements.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public S next() {
+            if (index >= elements.length) {
+                throw new NoSuchElementException();
+            }
+            return (S) elements[index++];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("A persistent list is immutable");
+        }
+
+        @Override
+        public String toString() {
+            return "PersistentList.ArrayIterator{index=" + index + '}';
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package net.bytebuddy.utility;
+
+import java.util.*;
+
+/**
+ * An immutable map that shares its structure with the maps it was derived from. The map is implemented as a hash array
+ * mapped trie where adding a mapping copies at most one node per level of the trie such that a new map is created in
+ * logarithmic time without copying all mappings of the original map, which remains unchanged. Neither keys nor values
+ * must be {@code null}.
+ * <p>&nbsp;</p>
+ * This map is thread-safe. Any mutating method of the {@link java.util.Map} interface throws an
+ * {@link java.lang.UnsupportedOperationException}.
+ *
+ * @param <K> The type of the map's keys.
+ * @param <V> The type of the map's values.
+ */
+public class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * The number of hash code bits that are consumed by each level of the trie.
+     */
+    private static final int BITS_PER_LEVEL = 5;
+
+    /**
+     * A mask for extracting the hash code bits of a level of the trie.
+     */
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    /**
+     * The empty map.
+     */
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<Object, Object>(null, 0);
+
+    /**
+     * The root node of the trie or {@code null} if this map is empty.
+     */
+    private final Node root;
+
+    /**
+     * The number of mappings of this map.
+     */
+    private final int size;
+
+    /**
+     * Creates a new persistent map.
+     *
+     * @param root The root node of the trie or {@code null} if this map is empty.
+     * @param size The number of mappings of this map.
+     */
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty persistent map.
+     *
+     * @param <S> The type of the map's keys.
+     * @param <T> The type of the map's values.
+     * @return An empty persistent map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> PersistentMap<S, T> empty() {
+        return (PersistentMap<S, T>) EMPTY;
+    }
+
+    /**
+     * Returns the bit that represents a hash code on a given level of the trie.
+     *
+     * @param hash  The hash code.
+     * @param shift The number of hash code bits that are consumed by the levels above.
+     * @return The bit that represents the hash code on the given level.
+     */
+    private static int bitOf(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Creates a new map with the given mapping added to the mappings of this map. If this map already contains a
+     * mapping for the given key, this mapping is replaced.
+     *
+     * @param key   The key of the mapping.
+     * @param value The value of the mapping.
+     * @return A new map with the given mapping.
+     */
+    public PersistentMap<K, V> with(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("A persistent map does not support null keys or values");
+        }
+        boolean[] added = new boolean[1];
+        Node root = (this.root == null ? BitmapNode.EMPTY : this.root).with(key.hashCode(), key, value, 0, added);
+        return root == this.root
+                ? this
+                : new PersistentMap<K, V>(root, added[0] ? size + 1 : size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return key == null || root == null
+                ? null
+                : (V) root.find(key.hashCode(), key, 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private abstract static class Node {
+
+        /**
+         * Finds the value of a mapping.
+         *
+         * @param hash  The hash code of the key.
+         * @param key   The key of the mapping.
+         * @param shift The number of hash code bits that are consumed by the levels above.
+         * @return The value of the mapping or {@code null} if no mapping exists.
+         */
+        protected abstract Object find(int hash, Object key, int shift);
+
+        /**
+         * Returns a node that contains the mappings of this node and the given mapping.
+         *
+         * @param hash  The hash code of the key.
+         * @param key   The key of the mapping.
+         * @param value The value of the mapping.
+         * @param shift The number of hash code bits that are consumed by the levels above.
+         * @param added An array whose only element is set to {@code true} if a new mapping was added.
+         * @return A node that contains the given mapping which is this node if the mapping already exists.
+         */
+        protected abstract Node with(int hash, Object key, Object value, int shift, boolean[] added);
+
+        /**
+         * Adds all mappings of this node to the given list.
+         *
+         * @param entries The list to which all mappings are added.
+         */
+        protected abstract void collect(List<Map.Entry<Object, Object>> entries);
+
+        /**
+         * Creates a node for two mappings of different keys.
+         *
+         * @param shift      The number of hash code bits that are consumed by the levels above.
+         * @param key        The key of the first mapping.
+         * @param value      The value of the first mapping.
+         * @param hash       The hash code of the key of the second mapping.
+         * @param otherKey   The key of the second mapping.
+         * @param otherValue The value of the second mapping.
+         * @return A node that contains both mappings.
+         */
+        protected static Node of(int shift, Object key, Object value, int hash, Object otherKey, Object otherValue) {
+            int keyHash = key.hashCode();
+            if (keyHash == hash) {
+                return new CollisionNode(hash, new Object[]{key, value, otherKey, otherValue});
+            }
+            boolean[] added = new boolean[1];
+            return BitmapNode.EMPTY
+                    .with(keyHash, key, value, shift, added)
+                    .with(hash, otherKey, otherValue, shift, added);
+        }
+    }
+
+    /**
+     * A node that stores up to one mapping or sub node per hash code fragment of its level. Any slot of the node's
+     * array is represented by a pair of elements where the first element is the key and the second element is the
+     * value of a mapping. If the key is {@code null}, the value is a sub node.
+     */
+    private static class BitmapNode extends Node {
+
+        /**
+         * An empty node.
+         */
+        private static final Node EMPTY = new BitmapNode(0, new Object[0]);
+
+        /**
+         * A bitmap of the occupied slots of this node.
+         */
+        private final int bitmap;
+
+        /**
+         * The pairs of keys and values or sub nodes of the occupied slots.
+         */
+        private final Object[] array;
+
+        /**
+         * Creates a new bitmap node.
+         *
+         * @param bitmap A bitmap of the occupied slots of this node.
+         * @param array  The pairs of keys and values or sub nodes of the occupied slots.
+         */
+        private BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        /**
+         * Returns the index of the pair of a slot in this node's array.
+         *
+         * @param bit The bit of the slot.
+         * @return The index of the pair of the slot.
+         */
+        private int indexOf(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        protected Object find(int hash, Object key, int shift) {
+            int bit = bitOf(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = indexOf(bit);
+            Object slotKey = array[index];
+            if (slotKey == null) {
+                return ((Node) array[index + 1]).find(hash, key, shift + BITS_PER_LEVEL);
+            }
+            return key.equals(slotKey) ? array[index + 1] : null;
+        }
+
+        @Override
+        protected Node with(int hash, Object key, Object value, int shift, boolean[] added) {
+            int bit = bitOf(hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] array = new Object[this.array.length + 2];
+                System.arraycopy(this.array, 0, array, 0, index);
+                array[index] = key;
+                array[index + 1] = value;
+                System.arraycopy(this.array, index, array, index + 2, this.array.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, array);
+            }
+            Object slotKey = this.array[index], slotValue = this.array[index + 1], replacement;
+            if (slotKey == null) {
+                replacement = ((Node) slotValue).with(hash, key, value, shift + BITS_PER_LEVEL, added);
+            } else if (key.equals(slotKey)) {
+                replacement = value;
+            } else {
+                replacement = of(shift + BITS_PER_LEVEL, slotKey, slotValue, hash, key, value);
+                slotKey = null;
+                added[0] = true;
+            }
+            if (replacement == slotValue) {
+                return this;
+            }
+            Object[] array = this.array.clone();
+            array[index] = slotKey;
+            array[index + 1] = replacement;
+            return new BitmapNode(bitmap, array);
+        }
+
+        @Override
+        protected void collect(List<Map.Entry<Object, Object>> entries) {
+            for (int index = 0; index < array.length; index += 2) {
+                if (array[index] == null) {
+                    ((Node) array[index + 1]).collect(entries);
+                } else {
+                    entries.add(new SimpleImmutableEntry<Object, Object>(array[index], array[index + 1]));
+                }
+            }
+        }
+    }
+
+    /**
+     * A node that stores several mappings of keys with an identical hash code.
+     */
+    private static class CollisionNode extends Node {
+
+        /**
+         * The hash code of all keys of this node.
+         */
+        private final int hash;
+
+        /**
+         * The pairs of keys and values of this node.
+         */
+        private final Object[] array;
+
+        /**
+         * Creates a new collision node.
+         *
+         * @param hash  The hash code of all keys of this node.
+         * @param array The pairs of keys and values of this node.
+         */
+        private CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        @Override
+        protected Object find(int hash, Object key, int shift) {
+            for (int index = 0; index < array.length; index += 2) {
+                if (key.equals(array[index])) {
+                    return array[index + 1];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected Node with(int hash, Object key, Object value, int shift, boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(bitOf(this.hash, shift), new Object[]{null, this}).with(hash, key, value, shift, added);
+            }
+            for (int index = 0; index < array.length; index += 2) {
+                if (key.equals(array[index])) {
+                    if (value == array[index + 1]) {
+                        return this;
+                    }
+                    Object[] array = this.array.clone();
+                    array[index + 1] = value;
+                    return new CollisionNode(hash, array);
+                }
+            }
+            Object[] array = new Object[this.array.length + 2];
+            System.arraycopy(this.array, 0, array, 0, this.array.length);
+            array[this.array.length] = key;
+            array[this.array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, array);
+        }
+
+        @Override
+        protected void collect(List<Map.Entry<Object, Object>> entries) {
+            for (int index = 0; index < array.length; index += 2) {
+                entries.add(new SimpleImmutableEntry<Object, Object>(array[index], array[index + 1]));
+            }
+        }
+    }
+
+    /**
+     * A view of the mappings of this map.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<Map.Entry<K, V>> iterator() {
+            List<Map.Entry<Object, Object>> entries = new ArrayList<Map.Entry<Object, Object>>(size);
+            if (root != null) {
+                root.collect(entries);
+            }
+            return Collections.unmodifiableList((List<Map.Entry<K, V>>) (List<?>) entries).iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
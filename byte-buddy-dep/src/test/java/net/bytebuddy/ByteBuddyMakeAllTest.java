@@ -0,0 +1,143 @@
+package net.bytebuddy;
+
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.FixedValue;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
+import net.bytebuddy.utility.MockitoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class ByteBuddyMakeAllTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final int TYPES = 64, THREADS = 8;
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType.Builder<?> builder;
+
+    @Test
+    public void testMakeAllConcurrently() throws Exception {
+        ByteBuddy byteBuddy = new ByteBuddy();
+        List<DynamicType.Builder<?>> builders = new ArrayList<DynamicType.Builder<?>>(TYPES);
+        for (int index = 0; index < TYPES; index++) {
+            builders.add(byteBuddy.subclass(Foo.class)
+                    .method(named(FOO)).intercept(index % 2 == 0
+                            ? MethodDelegation.to(Interceptor.class)
+                            : FixedValue.value(BAR + index)));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<DynamicType.Unloaded<?>> dynamicTypes = byteBuddy.makeAll(builders, executorService);
+            assertThat(dynamicTypes.size(), is(TYPES));
+            List<DynamicType.Loaded<?>> loaded = byteBuddy.loadAll(dynamicTypes,
+                    getClass().getClassLoader(),
+                    ClassLoadingStrategy.Default.WRAPPER);
+            assertThat(loaded.size(), is(TYPES));
+            ClassLoader classLoader = loaded.get(0).getLoaded().getClassLoader();
+            for (int index = 0; index < TYPES; index++) {
+                assertThat(loaded.get(index).getDescription(), is(dynamicTypes.get(index).getDescription()));
+                assertThat(loaded.get(index).getLoaded().getClassLoader(), is(classLoader));
+                Foo instance = (Foo) loaded.get(index).getLoaded().newInstance();
+                assertThat(instance.foo(), is(index % 2 == 0 ? FOO + BAR : BAR + index));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testMakeAllWithDefaultExecutor() throws Exception {
+        ByteBuddy byteBuddy = new ByteBuddy();
+        List<DynamicType.Unloaded<?>> dynamicTypes = byteBuddy.makeAll(Collections.nCopies(THREADS,
+                byteBuddy.subclass(Foo.class).method(named(FOO)).intercept(FixedValue.value(BAR))));
+        assertThat(dynamicTypes.size(), is(THREADS));
+        for (DynamicType.Loaded<?> dynamicType : byteBuddy.loadAll(dynamicTypes,
+                getClass().getClassLoader(),
+                ClassLoadingStrategy.Default.WRAPPER)) {
+            assertThat(((Foo) dynamicType.getLoaded().newInstance()).foo(), is(BAR));
+        }
+    }
+
+    @Test
+    public void testSharedExecutorRunsDaemonThreadsAndCreatesNestedTypesSequentially() throws Exception {
+        final Thread[] creatingThread = new Thread[1];
+        when(builder.make()).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                creatingThread[0] = Thread.currentThread();
+                return null;
+            }
+        });
+        Thread workerThread = ByteBuddy.SharedExecutor.INSTANCE.submit(new Callable<Thread>() {
+            @Override
+            public Thread call() throws Exception {
+                assertThat(new ByteBuddy().makeAll(Arrays.<DynamicType.Builder<?>>asList(builder, builder)).size(), is(2));
+                return Thread.currentThread();
+            }
+        }).get();
+        assertThat(workerThread.isDaemon(), is(true));
+        assertThat(workerThread, instanceOf(ByteBuddy.SharedExecutor.Worker.class));
+        assertThat(creatingThread[0], sameInstance(workerThread));
+    }
+
+    @Test
+    public void testMakeAllEmpty() throws Exception {
+        assertThat(new ByteBuddy().makeAll(Collections.<DynamicType.Builder<?>>emptyList()).size(), is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMakeAllPropagatesException() throws Exception {
+        when(builder.make()).thenThrow(new IllegalArgumentException());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            new ByteBuddy().makeAll(Collections.singleton(builder), executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testTypeCreationEqualsHashCode() throws Exception {
+        Callable<?> typeCreation = new ByteBuddy.TypeCreation(builder);
+        assertThat(typeCreation.hashCode(), is(new ByteBuddy.TypeCreation(builder).hashCode()));
+        assertThat(typeCreation, is((Object) new ByteBuddy.TypeCreation(builder)));
+        assertThat(typeCreation, not(is((Object) new ByteBuddy.TypeCreation(new ByteBuddy().subclass(Object.class)))));
+    }
+
+    public static class Foo {
+
+        public String foo() {
+            return FOO;
+        }
+    }
+
+    public static class Interceptor {
+
+        public static String intercept(@SuperCall Callable<String> zuper) throws Exception {
+            return zuper.call() + BAR;
+        }
+    }
+}
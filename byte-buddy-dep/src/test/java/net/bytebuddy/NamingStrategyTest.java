@@ -8,6 +8,10 @@ import org.junit.rules.TestRule;
 import org.mockito.Mock;
 import org.objectweb.asm.MethodVisitor;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -17,7 +21,9 @@ import static org.mockito.Mockito.*;
 
 public class NamingStrategyTest {
 
-    private static final String FOO = "foo", BAR = "bar";
+    private static final String FOO = "foo", BAR = "bar", EXISTING = "existing";
+
+    private static final int THREADS = 4, NAMES = 1000;
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -51,6 +57,72 @@ public class NamingStrategyTest {
         assertThat(new NamingStrategy.SuffixingRandom(FOO, BAR), not(equalTo(new NamingStrategy.SuffixingRandom(BAR, FOO))));
     }
 
+    @Test
+    public void testSuffixingSequentialNonConflictingPackage() throws Exception {
+        when(unnamedType.getSuperClass()).thenReturn(new TypeDescription.ForLoadedType(MethodVisitor.class));
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingSequential(FOO);
+        assertThat(namingStrategy.name(unnamedType), is(MethodVisitor.class.getName() + "$" + FOO + "$0"));
+        assertThat(namingStrategy.name(unnamedType), is(MethodVisitor.class.getName() + "$" + FOO + "$1"));
+        verify(unnamedType, atLeast(1)).getSuperClass();
+        verifyNoMoreInteractions(unnamedType);
+    }
+
+    @Test
+    public void testSuffixingSequentialConflictingPackage() throws Exception {
+        when(unnamedType.getSuperClass()).thenReturn(new TypeDescription.ForLoadedType(Object.class));
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingSequential(FOO, BAR);
+        assertThat(namingStrategy.name(unnamedType), is(BAR + "." + Object.class.getName() + "$" + FOO + "$0"));
+        verify(unnamedType, atLeast(1)).getSuperClass();
+        verifyNoMoreInteractions(unnamedType);
+    }
+
+    @Test
+    public void testSuffixingSequentialCountsPerSuperClass() throws Exception {
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingSequential(FOO);
+        when(unnamedType.getSuperClass()).thenReturn(new TypeDescription.ForLoadedType(MethodVisitor.class));
+        assertThat(namingStrategy.name(unnamedType), is(MethodVisitor.class.getName() + "$" + FOO + "$0"));
+        when(unnamedType.getSuperClass()).thenReturn(new TypeDescription.ForLoadedType(NamingStrategyTest.class));
+        assertThat(namingStrategy.name(unnamedType), is(NamingStrategyTest.class.getName() + "$" + FOO + "$0"));
+    }
+
+    @Test
+    public void testSuffixingSequentialSkipsExistingTypes() throws Exception {
+        when(unnamedType.getSuperClass()).thenReturn(new TypeDescription.ForLoadedType(NamingStrategyTest.class));
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingSequential(EXISTING, BAR, getClass().getClassLoader());
+        assertThat(namingStrategy.name(unnamedType), is(NamingStrategyTest.class.getName() + "$" + EXISTING + "$1"));
+    }
+
+    @Test
+    public void testSuffixingSequentialEqualsHashCode() throws Exception {
+        assertThat(new NamingStrategy.SuffixingSequential(FOO, BAR).hashCode(), is(new NamingStrategy.SuffixingSequential(FOO, BAR).hashCode()));
+        assertThat(new NamingStrategy.SuffixingSequential(FOO, BAR), equalTo(new NamingStrategy.SuffixingSequential(FOO, BAR)));
+        assertThat(new NamingStrategy.SuffixingSequential(FOO, BAR).hashCode(), not(is(new NamingStrategy.SuffixingSequential(BAR, FOO).hashCode())));
+        assertThat(new NamingStrategy.SuffixingSequential(FOO, BAR), not(equalTo(new NamingStrategy.SuffixingSequential(BAR, FOO))));
+    }
+
+    @Test
+    public void testSequenceIsThreadSafe() throws Exception {
+        final NamingStrategy.Sequence sequence = new NamingStrategy.Sequence();
+        final Set<String> names = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        Thread[] thread = new Thread[THREADS];
+        for (int index = 0; index < thread.length; index++) {
+            thread[index] = new Thread() {
+                @Override
+                public void run() {
+                    for (int index = 0; index < NAMES; index++) {
+                        names.add(sequence.next(FOO));
+                    }
+                }
+            };
+            thread[index].start();
+        }
+        for (Thread aThread : thread) {
+            aThread.join();
+        }
+        assertThat(names.size(), is(THREADS * NAMES));
+        assertThat(sequence.next(FOO), is(FOO + "$" + THREADS * NAMES));
+    }
+
     @Test
     public void testFixed() throws Exception {
         NamingStrategy namingStrategy = new NamingStrategy.Fixed(FOO);
@@ -82,4 +154,9 @@ public class NamingStrategyTest {
         assertThat(new NamingStrategy.PrefixingRandom(FOO).hashCode(), not(is(new NamingStrategy.PrefixingRandom(BAR).hashCode())));
         assertThat(new NamingStrategy.PrefixingRandom(FOO), not(equalTo(new NamingStrategy.PrefixingRandom(BAR))));
     }
+
+    @SuppressWarnings("unused")
+    private static class existing$0 {
+        /* empty */
+    }
 }
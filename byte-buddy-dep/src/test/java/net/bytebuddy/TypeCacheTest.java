@@ -0,0 +1,207 @@
+package net.bytebuddy;
+
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.FixedValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final int THREADS = 8;
+
+    private TypeCache<Object> typeCache;
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        typeCache = new TypeCache<Object>(TypeCache.Sort.SOFT);
+        classLoader = new StubClassLoader();
+    }
+
+    @Test
+    public void testFindOnEmptyCache() throws Exception {
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+        assertThat(typeCache.find(null, FOO), nullValue(Class.class));
+    }
+
+    @Test
+    public void testInsertAndFind() throws Exception {
+        assertThat(typeCache.insert(classLoader, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, FOO), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, BAR), nullValue(Class.class));
+        assertThat(typeCache.find(new StubClassLoader(), FOO), nullValue(Class.class));
+        assertThat(typeCache.find(null, FOO), nullValue(Class.class));
+    }
+
+    @Test
+    public void testInsertRetainsPreviousType() throws Exception {
+        assertThat(typeCache.insert(classLoader, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.insert(classLoader, FOO, String.class), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, FOO), is((Object) Object.class));
+    }
+
+    @Test
+    public void testBootstrapClassLoader() throws Exception {
+        assertThat(typeCache.insert(null, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.find(null, FOO), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+    }
+
+    @Test
+    public void testFindOrInsertCreatesOnlyOnce() throws Exception {
+        CountingCallable callable = new CountingCallable(Object.class);
+        assertThat(typeCache.findOrInsert(classLoader, FOO, callable), is((Object) Object.class));
+        assertThat(typeCache.findOrInsert(classLoader, FOO, callable), is((Object) Object.class));
+        assertThat(callable.counter.get(), is(1));
+    }
+
+    @Test
+    public void testFindOrInsertFailureIsNotCached() throws Exception {
+        try {
+            typeCache.findOrInsert(classLoader, FOO, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    throw new Exception();
+                }
+            });
+            throw new AssertionError();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+        assertThat(typeCache.findOrInsert(classLoader, FOO, new CountingCallable(Object.class)), is((Object) Object.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFindOrInsertNullType() throws Exception {
+        typeCache.findOrInsert(classLoader, FOO, new CountingCallable(null));
+    }
+
+    @Test
+    public void testFindOrInsertConcurrentSingleFlight() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger counter = new AtomicInteger();
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                counter.incrementAndGet();
+                Thread.sleep(50L);
+                return Object.class;
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<Future<Class<?>>>();
+            for (int index = 0; index < THREADS; index++) {
+                futures.add(executorService.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        latch.await();
+                        return typeCache.findOrInsert(classLoader, FOO, callable);
+                    }
+                }));
+            }
+            latch.countDown();
+            for (Future<Class<?>> future : futures) {
+                assertThat(future.get(), is((Object) Object.class));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(counter.get(), is(1));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        typeCache.insert(classLoader, FOO, Object.class);
+        typeCache.insert(null, FOO, Object.class);
+        typeCache.clear();
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+        assertThat(typeCache.find(null, FOO), nullValue(Class.class));
+    }
+
+    @Test
+    public void testBuilderAsKey() throws Exception {
+        TypeCache<DynamicType.Builder<?>> typeCache = new TypeCache<DynamicType.Builder<?>>(TypeCache.Sort.SOFT);
+        DynamicType.Builder<?> first = new ByteBuddy()
+                .subclass(Object.class)
+                .method(named("toString")).intercept(FixedValue.value(FOO));
+        DynamicType.Builder<?> second = new ByteBuddy()
+                .subclass(Object.class)
+                .method(named("toString")).intercept(FixedValue.value(FOO));
+        DynamicType.Builder<?> third = new ByteBuddy()
+                .subclass(Object.class)
+                .method(named("toString")).intercept(FixedValue.value(BAR));
+        Callable<Class<?>> creation = new BuilderCallable(first, classLoader);
+        Class<?> type = typeCache.findOrInsert(classLoader, first, creation);
+        assertThat(typeCache.findOrInsert(classLoader, second, new BuilderCallable(second, classLoader)), is((Object) type));
+        assertThat(typeCache.findOrInsert(classLoader, third, new BuilderCallable(third, classLoader)), not(is((Object) type)));
+        assertThat(type.newInstance().toString(), is(FOO));
+    }
+
+    @Test
+    public void testSimpleKeyEqualsHashCode() throws Exception {
+        assertThat(new TypeCache.SimpleKey(Object.class, Serializable.class).hashCode(),
+                is(new TypeCache.SimpleKey(Object.class, Serializable.class).hashCode()));
+        assertThat(new TypeCache.SimpleKey(Object.class, Serializable.class),
+                is(new TypeCache.SimpleKey(Object.class, Serializable.class)));
+        assertThat(new TypeCache.SimpleKey(Object.class, Serializable.class),
+                not(is(new TypeCache.SimpleKey(Object.class))));
+    }
+
+    private static class CountingCallable implements Callable<Class<?>> {
+
+        private final Class<?> type;
+
+        private final AtomicInteger counter;
+
+        private CountingCallable(Class<?> type) {
+            this.type = type;
+            counter = new AtomicInteger();
+        }
+
+        @Override
+        public Class<?> call() throws Exception {
+            counter.incrementAndGet();
+            return type;
+        }
+    }
+
+    private static class BuilderCallable implements Callable<Class<?>> {
+
+        private final DynamicType.Builder<?> builder;
+
+        private final ClassLoader classLoader;
+
+        private BuilderCallable(DynamicType.Builder<?> builder, ClassLoader classLoader) {
+            this.builder = builder;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Class<?> call() throws Exception {
+            return builder.make().load(classLoader, ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        }
+    }
+
+    private static class StubClassLoader extends ClassLoader {
+
+        private StubClassLoader() {
+            super(TypeCacheTest.class.getClassLoader());
+        }
+    }
+}
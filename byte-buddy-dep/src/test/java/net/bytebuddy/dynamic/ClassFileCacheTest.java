@@ -0,0 +1,208 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.instrumentation.FixedValue;
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.MockitoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClassFileCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar", CONFIGURATION = "configuration";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType.Builder<Object> builder;
+
+    @Mock
+    private DynamicType.Unloaded<Object> unloaded;
+
+    private File folder;
+
+    private ClassFileCache classFileCache;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = temporaryFolder.newFolder();
+        classFileCache = new ClassFileCache(folder);
+    }
+
+    @Test
+    public void testCacheMissCreatesAndStoresType() throws Exception {
+        DynamicType.Unloaded<?> dynamicType = classFileCache.make(key(CONFIGURATION), fixedValue(FOO));
+        assertThat(folder.listFiles().length, is(1));
+        assertThat(dynamicType.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded().newInstance().toString(), is(FOO));
+    }
+
+    @Test
+    public void testCacheHitDoesNotUseBuilder() throws Exception {
+        DynamicType.Unloaded<?> created = classFileCache.make(key(CONFIGURATION), fixedValue(FOO));
+        DynamicType.Unloaded<?> cached = classFileCache.make(key(CONFIGURATION), fixedValue(BAR));
+        assertThat(cached.getDescription().getName(), is(created.getDescription().getName()));
+        assertThat(cached.getBytes(), is(created.getBytes()));
+        assertThat(cached.getDescription().getSupertype().represents(Object.class), is(true));
+        Class<?> type = cached.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(type.getName(), is(created.getDescription().getName()));
+        assertThat(type.newInstance().toString(), is(FOO));
+    }
+
+    @Test
+    public void testDifferentConfigurationIsNotShared() throws Exception {
+        classFileCache.make(key(FOO), fixedValue(FOO));
+        DynamicType.Unloaded<?> dynamicType = classFileCache.make(key(BAR), fixedValue(BAR));
+        assertThat(folder.listFiles().length, is(2));
+        assertThat(dynamicType.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded().newInstance().toString(), is(BAR));
+    }
+
+    @Test
+    public void testAuxiliaryTypesAreCached() throws Exception {
+        ClassFileCache.Key key = new ClassFileCache.Key(CONFIGURATION, ClassFileVersion.JAVA_V6, Foo.class);
+        DynamicType.Unloaded<?> created = classFileCache.make(key, superCall());
+        DynamicType.Unloaded<?> cached = classFileCache.make(key, superCall());
+        assertThat(created.getRawAuxiliaryTypes().size(), not(is(0)));
+        assertThat(cached.getRawAuxiliaryTypes().size(), is(created.getRawAuxiliaryTypes().size()));
+        Class<?> type = cached.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(type.getMethod(FOO).invoke(type.newInstance()), is((Object) (BAR + FOO)));
+    }
+
+    @Test
+    public void testAuxiliaryTypeExtendingDynamicTypeIsCached() throws Exception {
+        DynamicType.Unloaded<?> mainType = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Object.class).make();
+        DynamicType.Unloaded<?> auxiliaryType = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(mainType.getDescription()).make();
+        when(builder.make()).thenReturn(new DynamicType.Default.Unloaded<Object>(mainType.getDescription(),
+                mainType.getBytes(),
+                LoadedTypeInitializer.NoOp.INSTANCE,
+                Collections.singletonList(auxiliaryType)));
+        classFileCache.make(key(CONFIGURATION), builder);
+        DynamicType.Unloaded<?> cached = classFileCache.make(key(CONFIGURATION), builder);
+        verify(builder).make();
+        assertThat(cached.getRawAuxiliaryTypes().size(), is(1));
+        TypeDescription cachedAuxiliaryType = cached.getRawAuxiliaryTypes().keySet().iterator().next();
+        assertThat(cachedAuxiliaryType.getName(), is(auxiliaryType.getDescription().getName()));
+        assertThat(cachedAuxiliaryType.getSupertype(), sameInstance(cached.getDescription()));
+        Class<?> type = cached.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(Class.forName(auxiliaryType.getDescription().getName(), false, type.getClassLoader()).getSuperclass(), is((Object) type));
+    }
+
+    @Test
+    public void testAliveTypeInitializerIsNotCached() throws Exception {
+        DynamicType.Unloaded<?> dynamicType = classFileCache.make(key(CONFIGURATION), new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Object.class)
+                .method(named("toString")).intercept(MethodDelegation.to(new InstanceInterceptor())));
+        assertThat(folder.listFiles().length, is(0));
+        assertThat(dynamicType.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded().newInstance().toString(), is(FOO));
+    }
+
+    @Test
+    public void testTemporaryFileIsRemovedIfEntryCannotBeWritten() throws Exception {
+        when(builder.make()).thenReturn(unloaded);
+        when(unloaded.getRawAuxiliaryTypes()).thenReturn(Collections.<TypeDescription, byte[]>emptyMap());
+        when(unloaded.getBytes()).thenThrow(new IllegalStateException());
+        try {
+            classFileCache.make(key(CONFIGURATION), builder);
+        } catch (IllegalStateException ignored) {
+            assertThat(folder.listFiles().length, is(0));
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test
+    public void testCorruptEntryIsRegenerated() throws Exception {
+        classFileCache.make(key(CONFIGURATION), fixedValue(FOO));
+        File[] file = folder.listFiles();
+        assertThat(file.length, is(1));
+        assertThat(file[0].delete() && file[0].createNewFile(), is(true));
+        DynamicType.Unloaded<?> dynamicType = classFileCache.make(key(CONFIGURATION), fixedValue(BAR));
+        assertThat(dynamicType.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded().newInstance().toString(), is(BAR));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        classFileCache.make(key(CONFIGURATION), fixedValue(FOO));
+        assertThat(classFileCache.clear(), is(true));
+        assertThat(folder.listFiles().length, is(0));
+    }
+
+    @Test
+    public void testKeyEqualsHashCode() throws Exception {
+        assertThat(key(FOO).hashCode(), is(key(FOO).hashCode()));
+        assertThat(key(FOO), is(key(FOO)));
+        assertThat(key(FOO), not(is(key(BAR))));
+        assertThat(key(FOO).digest(), is(key(FOO).digest()));
+        assertThat(key(FOO).digest(), not(is(key(BAR).digest())));
+        assertThat(new ClassFileCache.Key(FOO, ClassFileVersion.JAVA_V6, Object.class).digest(),
+                not(is(new ClassFileCache.Key(FOO, ClassFileVersion.JAVA_V7, Object.class).digest())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyWithoutTypes() throws Exception {
+        new ClassFileCache.Key(FOO, ClassFileVersion.JAVA_V6);
+    }
+
+    private static ClassFileCache.Key key(String configuration) {
+        return new ClassFileCache.Key(configuration, ClassFileVersion.JAVA_V6, Object.class);
+    }
+
+    private static DynamicType.Builder<Object> fixedValue(String value) {
+        return new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Object.class)
+                .method(named("toString")).intercept(FixedValue.value(value));
+    }
+
+    private static DynamicType.Builder<Foo> superCall() {
+        return new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Foo.class)
+                .method(named(FOO)).intercept(MethodDelegation.to(Interceptor.class));
+    }
+
+    public static class Foo {
+
+        public String foo() {
+            return FOO;
+        }
+    }
+
+    public static class InstanceInterceptor {
+
+        @Override
+        public String toString() {
+            return FOO;
+        }
+    }
+
+    public static class Interceptor {
+
+        public static String intercept(@SuperCall Callable<String> zuper) throws Exception {
+            return BAR + zuper.call();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.pool.TypePool;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassReader;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ClassFileLocatorTest {
+
+    private static final String FOO = "foo.Bar";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static byte[] classFile(Class<?> type) throws IOException {
+        return new ClassFileLocator.ForClassLoader(type.getClassLoader()).locate(type.getName());
+    }
+
+    private static void write(File file, byte[] binaryRepresentation) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(binaryRepresentation);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static byte[] read(File file) throws IOException {
+        byte[] binaryRepresentation = new byte[(int) file.length()];
+        DataInputStream inputStream = new DataInputStream(new FileInputStream(file));
+        try {
+            inputStream.readFully(binaryRepresentation);
+        } finally {
+            inputStream.close();
+        }
+        return binaryRepresentation;
+    }
+
+    private static int classFileHeaderOf(byte[] jarFile) {
+        int endOfCentralDirectory = jarFile.length - 22 - FOO.length();
+        int centralDirectory = (jarFile[endOfCentralDirectory + 16] & 0xFF)
+                | (jarFile[endOfCentralDirectory + 17] & 0xFF) << 8
+                | (jarFile[endOfCentralDirectory + 18] & 0xFF) << 16;
+        return centralDirectory + 46
+                + (jarFile[centralDirectory + 28] & 0xFF)
+                + (jarFile[centralDirectory + 30] & 0xFF)
+                + (jarFile[centralDirectory + 32] & 0xFF);
+    }
+
+    private File jarFile(Class<?>... type) throws IOException {
+        File file = temporaryFolder.newFile();
+        JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            outputStream.setComment(FOO);
+            outputStream.putNextEntry(new JarEntry("META-INF/"));
+            outputStream.closeEntry();
+            boolean stored = false;
+            for (Class<?> aType : type) {
+                byte[] binaryRepresentation = classFile(aType);
+                JarEntry jarEntry = new JarEntry(aType.getName().replace('.', '/') + ClassFileLocator.CLASS_FILE_EXTENSION);
+                if (stored) {
+                    CRC32 crc32 = new CRC32();
+                    crc32.update(binaryRepresentation);
+                    jarEntry.setMethod(ZipEntry.STORED);
+                    jarEntry.setSize(binaryRepresentation.length);
+                    jarEntry.setCrc(crc32.getValue());
+                }
+                stored = !stored;
+                outputStream.putNextEntry(jarEntry);
+                outputStream.write(binaryRepresentation);
+                outputStream.closeEntry();
+            }
+        } finally {
+            outputStream.close();
+        }
+        return file;
+    }
+
+    @Test
+    public void testClassLoaderLocatesClassFile() throws Exception {
+        byte[] binaryRepresentation = new ClassFileLocator.ForClassLoader(getClass().getClassLoader()).locate(getClass().getName());
+        assertThat(binaryRepresentation, notNullValue());
+        assertThat(new ClassReader(binaryRepresentation).getClassName(), is(getClass().getName().replace('.', '/')));
+    }
+
+    @Test
+    public void testClassLoaderUnknownType() throws Exception {
+        assertThat(ClassFileLocator.ForClassLoader.ofClassPath().locate(FOO), nullValue(byte[].class));
+    }
+
+    @Test
+    public void testCompoundLocatesInOrder() throws Exception {
+        ClassFileLocator first = mock(ClassFileLocator.class), second = mock(ClassFileLocator.class);
+        byte[] binaryRepresentation = new byte[]{1, 2, 3};
+        when(second.locate(FOO)).thenReturn(binaryRepresentation);
+        assertThat(new ClassFileLocator.Compound(first, second).locate(FOO), is(binaryRepresentation));
+        verify(first).locate(FOO);
+        verify(second).locate(FOO);
+        assertThat(new ClassFileLocator.Compound(first).locate(FOO), nullValue(byte[].class));
+    }
+
+    @Test
+    public void testHashCodeEquals() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        assertThat(new ClassFileLocator.ForClassLoader(classLoader).hashCode(), is(new ClassFileLocator.ForClassLoader(classLoader).hashCode()));
+        assertThat(new ClassFileLocator.ForClassLoader(classLoader), is((Object) new ClassFileLocator.ForClassLoader(classLoader)));
+        ClassFileLocator classFileLocator = mock(ClassFileLocator.class);
+        assertThat(new ClassFileLocator.Compound(classFileLocator).hashCode(), is(new ClassFileLocator.Compound(classFileLocator).hashCode()));
+        assertThat(new ClassFileLocator.Compound(classFileLocator), is((Object) new ClassFileLocator.Compound(classFileLocator)));
+    }
+
+    @Test
+    public void testJarFileLocatesStoredAndDeflatedEntries() throws Exception {
+        ClassFileLocator.ForJarFile classFileLocator = new ClassFileLocator.ForJarFile(jarFile(Object.class, String.class, getClass()));
+        assertThat(classFileLocator.getTypeNames().size(), is(3));
+        assertThat(classFileLocator.locate(Object.class.getName()), is(classFile(Object.class)));
+        assertThat(classFileLocator.locate(String.class.getName()), is(classFile(String.class)));
+        assertThat(classFileLocator.locate(getClass().getName()), is(classFile(getClass())));
+        assertThat(classFileLocator.locate(FOO), nullValue(byte[].class));
+    }
+
+    @Test
+    public void testJarFileOfClassPath() throws Exception {
+        File file = new File(Test.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ClassFileLocator.ForJarFile classFileLocator = new ClassFileLocator.ForJarFile(file);
+        assertThat(classFileLocator.getTypeNames().contains(Test.class.getName()), is(true));
+        for (String typeName : classFileLocator.getTypeNames()) {
+            assertThat(new ClassReader(classFileLocator.locate(typeName)).getClassName(), is(typeName.replace('.', '/')));
+        }
+        assertThat(classFileLocator.locate(Rule.class.getName()), is(classFile(Rule.class)));
+    }
+
+    @Test
+    public void testJarFileForTypePool() throws Exception {
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), new ClassFileLocator.Compound(
+                new ClassFileLocator.ForJarFile(jarFile(getClass())),
+                ClassFileLocator.ForClassLoader.ofClassPath()));
+        assertThat(typePool.describe(getClass().getName()).getSupertype().represents(Object.class), is(true));
+    }
+
+    @Test
+    public void testJarFileWithPrependedData() throws Exception {
+        File jarFile = jarFile(Object.class, getClass()), file = temporaryFolder.newFile();
+        byte[] prefix = "#!/bin/sh\n".getBytes("UTF-8"), archive = read(jarFile);
+        byte[] binaryRepresentation = new byte[prefix.length + archive.length];
+        System.arraycopy(prefix, 0, binaryRepresentation, 0, prefix.length);
+        System.arraycopy(archive, 0, binaryRepresentation, prefix.length, archive.length);
+        write(file, binaryRepresentation);
+        ClassFileLocator.ForJarFile classFileLocator = new ClassFileLocator.ForJarFile(file);
+        assertThat(classFileLocator.locate(Object.class.getName()), is(classFile(Object.class)));
+        assertThat(classFileLocator.locate(getClass().getName()), is(classFile(getClass())));
+    }
+
+    @Test(expected = IOException.class)
+    public void testJarFileWithIllegalCentralDirectoryOffset() throws Exception {
+        File file = jarFile(getClass());
+        byte[] binaryRepresentation = read(file);
+        int endOfCentralDirectory = binaryRepresentation.length - 22 - FOO.length();
+        binaryRepresentation[endOfCentralDirectory + 19] = 0x7F;
+        write(file, binaryRepresentation);
+        new ClassFileLocator.ForJarFile(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testJarFileWithIllegalLocalHeaderOffset() throws Exception {
+        File file = jarFile(getClass());
+        byte[] binaryRepresentation = read(file);
+        binaryRepresentation[classFileHeaderOf(binaryRepresentation) + 45] = 0x7F;
+        write(file, binaryRepresentation);
+        new ClassFileLocator.ForJarFile(file).locate(getClass().getName());
+    }
+
+    @Test(expected = IOException.class)
+    public void testJarFileWithTruncatedEntry() throws Exception {
+        File file = jarFile(getClass());
+        byte[] binaryRepresentation = read(file);
+        binaryRepresentation[classFileHeaderOf(binaryRepresentation) + 23] = 0x7F;
+        write(file, binaryRepresentation);
+        new ClassFileLocator.ForJarFile(file).locate(getClass().getName());
+    }
+
+    @Test
+    public void testJarFileHashCodeEquals() throws Exception {
+        File file = jarFile(getClass());
+        assertThat(new ClassFileLocator.ForJarFile(file).hashCode(), is(new ClassFileLocator.ForJarFile(file).hashCode()));
+        assertThat(new ClassFileLocator.ForJarFile(file), is(new ClassFileLocator.ForJarFile(file)));
+        assertThat(new ClassFileLocator.ForJarFile(file), not(is(new ClassFileLocator.ForJarFile(jarFile(getClass())))));
+    }
+
+    @Test(expected = IOException.class)
+    public void testIllegalJarFile() throws Exception {
+        File file = temporaryFolder.newFile();
+        write(file, new byte[]{1, 2, 3});
+        new ClassFileLocator.ForJarFile(file);
+    }
+
+    @Test
+    public void testFolderLocatesClassFile() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        File packageFolder = new File(folder, getClass().getPackage().getName().replace('.', File.separatorChar));
+        assertThat(packageFolder.mkdirs(), is(true));
+        write(new File(packageFolder, getClass().getSimpleName() + ClassFileLocator.CLASS_FILE_EXTENSION), classFile(getClass()));
+        ClassFileLocator classFileLocator = new ClassFileLocator.ForFolder(folder);
+        assertThat(classFileLocator.locate(getClass().getName()), is(classFile(getClass())));
+        assertThat(classFileLocator.locate(FOO), nullValue(byte[].class));
+        assertThat(classFileLocator, is((ClassFileLocator) new ClassFileLocator.ForFolder(folder)));
+        assertThat(classFileLocator.hashCode(), is(new ClassFileLocator.ForFolder(folder).hashCode()));
+    }
+}
@@ -0,0 +1,153 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.MockitoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Collections;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+
+public class ClassFileSinkTest {
+
+    private static final String FOO = "foo/Foo", BAR = "foo/Bar", CLASS_FILE_EXTENSION = ".class", JAR = ".jar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private TypeDescription typeDescription, auxiliaryTypeDescription;
+    @Mock
+    private LoadedTypeInitializer loadedTypeInitializer;
+
+    private byte[] binaryRepresentation, auxiliaryTypeBinaryRepresentation;
+
+    private DynamicType dynamicType;
+
+    private static byte[] read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        binaryRepresentation = new byte[]{0, 1, 2};
+        auxiliaryTypeBinaryRepresentation = new byte[]{4, 5, 6, 7};
+        when(typeDescription.getInternalName()).thenReturn(FOO);
+        when(auxiliaryTypeDescription.getInternalName()).thenReturn(BAR);
+        dynamicType = new DynamicType.Default(typeDescription,
+                binaryRepresentation,
+                loadedTypeInitializer,
+                Collections.singletonList(new DynamicType.Default(auxiliaryTypeDescription,
+                        auxiliaryTypeBinaryRepresentation,
+                        loadedTypeInitializer,
+                        Collections.<DynamicType>emptyList())));
+    }
+
+    @Test
+    public void testJarOutputStream() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+        ClassFileSink.ForJarOutputStream classFileSink = new ClassFileSink.ForJarOutputStream(jarOutputStream);
+        dynamicType.writeTo(classFileSink);
+        classFileSink.finish();
+        JarInputStream jarInputStream = new JarInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+        try {
+            JarEntry jarEntry = jarInputStream.getNextJarEntry();
+            assertThat(jarEntry.getName(), is(FOO + CLASS_FILE_EXTENSION));
+            assertThat(read(jarInputStream), is(binaryRepresentation));
+            jarEntry = jarInputStream.getNextJarEntry();
+            assertThat(jarEntry.getName(), is(BAR + CLASS_FILE_EXTENSION));
+            assertThat(read(jarInputStream), is(auxiliaryTypeBinaryRepresentation));
+            assertThat(jarInputStream.getNextJarEntry() == null, is(true));
+        } finally {
+            jarInputStream.close();
+        }
+    }
+
+    @Test
+    public void testChannel() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ClassFileSink.ForJarOutputStream classFileSink = ClassFileSink.ForJarOutputStream.of(Channels.newChannel(outputStream));
+        dynamicType.writeTo(classFileSink);
+        classFileSink.finish();
+        JarInputStream jarInputStream = new JarInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+        try {
+            assertThat(jarInputStream.getManifest(), notNullValue());
+            assertThat(jarInputStream.getNextJarEntry().getName(), is(FOO + CLASS_FILE_EXTENSION));
+            assertThat(read(jarInputStream), is(binaryRepresentation));
+            assertThat(jarInputStream.getNextJarEntry().getName(), is(BAR + CLASS_FILE_EXTENSION));
+        } finally {
+            jarInputStream.close();
+        }
+    }
+
+    @Test
+    public void testSaveAll() throws Exception {
+        File jar = File.createTempFile(FOO.replace('/', '_'), JAR);
+        try {
+            ClassFileSink.ForJarOutputStream.saveAll(jar, Collections.singletonList(dynamicType));
+            JarFile jarFile = new JarFile(jar);
+            try {
+                assertThat(jarFile.getManifest(), notNullValue());
+                assertThat(read(jarFile.getInputStream(jarFile.getEntry(FOO + CLASS_FILE_EXTENSION))), is(binaryRepresentation));
+                assertThat(read(jarFile.getInputStream(jarFile.getEntry(BAR + CLASS_FILE_EXTENSION))), is(auxiliaryTypeBinaryRepresentation));
+            } finally {
+                jarFile.close();
+            }
+        } finally {
+            assertThat(jar.delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testByteBuffer() throws Exception {
+        ClassFileSink.ForByteBuffer classFileSink = new ClassFileSink.ForByteBuffer(ByteBuffer.allocate(binaryRepresentation.length
+                + auxiliaryTypeBinaryRepresentation.length));
+        dynamicType.writeTo(classFileSink);
+        Map<TypeDescription, ByteBuffer> classFiles = classFileSink.getClassFiles();
+        assertThat(classFiles.size(), is(2));
+        assertThat(toArray(classFiles.get(typeDescription)), is(binaryRepresentation));
+        assertThat(toArray(classFiles.get(auxiliaryTypeDescription)), is(auxiliaryTypeBinaryRepresentation));
+        classFileSink.reset();
+        assertThat(classFileSink.getClassFiles().size(), is(0));
+        classFileSink.write(auxiliaryTypeDescription, auxiliaryTypeBinaryRepresentation);
+        assertThat(toArray(classFileSink.getClassFiles().get(auxiliaryTypeDescription)), is(auxiliaryTypeBinaryRepresentation));
+    }
+
+    @Test(expected = IOException.class)
+    public void testByteBufferOverflow() throws Exception {
+        dynamicType.writeTo(new ClassFileSink.ForByteBuffer(ByteBuffer.allocate(binaryRepresentation.length)));
+    }
+
+    private static byte[] toArray(ByteBuffer byteBuffer) {
+        byte[] array = new byte[byteBuffer.remaining()];
+        byteBuffer.get(array);
+        return array;
+    }
+}
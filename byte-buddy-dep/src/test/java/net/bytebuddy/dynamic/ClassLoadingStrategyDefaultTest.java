@@ -1,20 +1,36 @@
 package net.bytebuddy.dynamic;
 
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.instrumentation.FixedValue;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.utility.ClassFileExtraction;
+import net.bytebuddy.utility.JavaVersionRule;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.MethodRule;
 
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
 public class ClassLoadingStrategyDefaultTest {
 
+    private static final String BAR = "bar", QUX = "qux";
+
+    @Rule
+    public MethodRule java8Rule = new JavaVersionRule(8);
+
     private ClassLoader classLoader;
     private TypeDescription typeDescription;
     private Map<TypeDescription, byte[]> binaryRepresentations;
@@ -36,6 +52,16 @@ public class ClassLoadingStrategyDefaultTest {
         assertThat(type.getName(), is(Foo.class.getName()));
     }
 
+    @Test
+    public void testChildFirst() throws Exception {
+        Map<TypeDescription, Class<?>> loaded = ClassLoadingStrategy.Default.CHILD_FIRST.load(getClass().getClassLoader(), binaryRepresentations);
+        assertThat(loaded.size(), is(1));
+        Class<?> type = loaded.get(typeDescription);
+        assertThat(type.getClassLoader().getParent(), is(getClass().getClassLoader()));
+        assertThat(type.getName(), is(Foo.class.getName()));
+        assertThat(type == Foo.class, is(false));
+    }
+
     @Test
     public void testInjection() throws Exception {
         Map<TypeDescription, Class<?>> loaded = ClassLoadingStrategy.Default.INJECTION.load(classLoader, binaryRepresentations);
@@ -45,7 +71,81 @@ public class ClassLoadingStrategyDefaultTest {
         assertThat(type.getName(), is(Foo.class.getName()));
     }
 
+    @Test
+    public void testAnonymous() throws Exception {
+        Map<TypeDescription, Class<?>> loaded = loadAnonymous();
+        assertThat(loaded.size(), is(1));
+        Class<?> type = loaded.values().iterator().next();
+        assertThat(type.getClassLoader(), is(Bar.class.getClassLoader()));
+        assertThat(type.getSuperclass(), is((Object) Bar.class));
+        assertThat(((Bar) type.newInstance()).bar(), is(QUX));
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void testAnonymousIsNotRegistered() throws Exception {
+        loadAnonymous();
+        Bar.class.getClassLoader().loadClass(Bar.class.getName() + "$" + QUX);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAnonymousBootstrapSuperClassThrowsException() throws Exception {
+        ClassLoadingStrategy.Default.ANONYMOUS.load(classLoader, binaryRepresentations);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAnonymousAuxiliaryTypesThrowsException() throws Exception {
+        binaryRepresentations.put(new TypeDescription.ForLoadedType(Bar.class), ClassFileExtraction.extract(Bar.class));
+        ClassLoadingStrategy.Default.ANONYMOUS.load(classLoader, binaryRepresentations);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAnonymousSuperCallThrowsException() throws Exception {
+        new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Bar.class)
+                .name(Bar.class.getName() + "$" + QUX)
+                .method(named(BAR)).intercept(MethodDelegation.to(SuperCallInterceptor.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.ANONYMOUS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @JavaVersionRule.Enforce
+    public void testAnonymousInvokeDynamicSuperCallThrowsException() throws Exception {
+        DynamicType.Unloaded<Bar> dynamicType = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Bar.class)
+                .name(Bar.class.getName() + "$" + QUX)
+                .method(named(BAR)).intercept(MethodDelegation.to(SuperCallInterceptor.class)
+                        .defineParameterBinder(SuperCall.Binder.INVOKE_DYNAMIC))
+                .make();
+        assertThat(dynamicType.getRawAuxiliaryTypes().size(), is(0));
+        dynamicType.load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.ANONYMOUS);
+    }
+
+    private static Map<TypeDescription, Class<?>> loadAnonymous() {
+        DynamicType.Unloaded<Bar> dynamicType = new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Bar.class)
+                .name(Bar.class.getName() + "$" + QUX)
+                .method(named(BAR)).intercept(FixedValue.value(QUX))
+                .make();
+        return ClassLoadingStrategy.Default.ANONYMOUS.load(Bar.class.getClassLoader(),
+                Collections.singletonMap(dynamicType.getDescription(), dynamicType.getBytes()));
+    }
+
     private static class Foo {
         /* empty */
     }
+
+    public static class Bar {
+
+        public String bar() {
+            return BAR;
+        }
+    }
+
+    public static class SuperCallInterceptor {
+
+        public static String bar(@SuperCall Callable<String> zuper) throws Exception {
+            return zuper.call() + QUX;
+        }
+    }
 }
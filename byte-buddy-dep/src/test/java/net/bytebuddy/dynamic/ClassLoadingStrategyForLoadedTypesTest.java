@@ -0,0 +1,53 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.MockitoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassLoadingStrategyForLoadedTypesTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private TypeDescription typeDescription, otherTypeDescription;
+
+    private ClassLoadingStrategy classLoadingStrategy;
+
+    @Before
+    public void setUp() throws Exception {
+        classLoadingStrategy = new ClassLoadingStrategy.ForLoadedTypes(Collections.<TypeDescription, Class<?>>singletonMap(typeDescription, Object.class));
+    }
+
+    @Test
+    public void testLoadedType() throws Exception {
+        Map<TypeDescription, Class<?>> loaded = classLoadingStrategy.load(null, Collections.singletonMap(typeDescription, new byte[0]));
+        assertThat(loaded.size(), is(1));
+        assertThat(loaded.get(typeDescription), is((Object) Object.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownType() throws Exception {
+        classLoadingStrategy.load(null, Collections.singletonMap(otherTypeDescription, new byte[0]));
+    }
+
+    @Test
+    public void testEqualsHashCode() throws Exception {
+        assertThat(classLoadingStrategy.hashCode(),
+                is(new ClassLoadingStrategy.ForLoadedTypes(Collections.<TypeDescription, Class<?>>singletonMap(typeDescription, Object.class)).hashCode()));
+        assertThat(classLoadingStrategy,
+                is((ClassLoadingStrategy) new ClassLoadingStrategy.ForLoadedTypes(Collections.<TypeDescription, Class<?>>singletonMap(typeDescription, Object.class))));
+        assertThat(classLoadingStrategy,
+                not(is((ClassLoadingStrategy) new ClassLoadingStrategy.ForLoadedTypes(Collections.<TypeDescription, Class<?>>emptyMap()))));
+    }
+}
@@ -0,0 +1,83 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.LookupClassInjector;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.ClassFileExtraction;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class ClassLoadingStrategyUsingLookupTest {
+
+    private static final String BAR = "Bar", QUX = "Qux";
+
+    @Test
+    public void testLoadBySuperClass() throws Exception {
+        assumeTrue(LookupClassInjector.isAvailable());
+        DynamicType.Unloaded<?> dynamicType = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Foo.class).name(Foo.class.getName() + BAR).make();
+        Map<TypeDescription, Class<?>> loaded = new ClassLoadingStrategy.UsingLookup()
+                .load(Foo.class.getClassLoader(), Collections.singletonMap(dynamicType.getDescription(), dynamicType.getBytes()));
+        Class<?> type = loaded.get(dynamicType.getDescription());
+        assertThat(type.getSuperclass(), is((Object) Foo.class));
+        assertThat(type.getClassLoader(), is(Foo.class.getClassLoader()));
+    }
+
+    @Test
+    public void testLoadByExplicitLookupType() throws Exception {
+        assumeTrue(LookupClassInjector.isAvailable());
+        DynamicType.Unloaded<?> dynamicType = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Object.class).name(Foo.class.getName() + QUX).make();
+        Map<TypeDescription, Class<?>> loaded = new ClassLoadingStrategy.UsingLookup(Foo.class)
+                .load(Foo.class.getClassLoader(), Collections.singletonMap(dynamicType.getDescription(), dynamicType.getBytes()));
+        assertThat(loaded.get(dynamicType.getDescription()).getClassLoader(), is(Foo.class.getClassLoader()));
+    }
+
+    @Test
+    public void testLocatedLookupTypeDoesNotReplaceExplicitLookupType() throws Exception {
+        assumeTrue(LookupClassInjector.isAvailable());
+        ClassLoadingStrategy classLoadingStrategy = new ClassLoadingStrategy.UsingLookup(Foo.class);
+        ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(Foo.class.getClassLoader(),
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)));
+        DynamicType.Unloaded<?> located = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Foo.class).name(Foo.class.getName() + BAR + BAR).make();
+        Map<TypeDescription, Class<?>> loaded = classLoadingStrategy.load(classLoader, Collections.singletonMap(located.getDescription(), located.getBytes()));
+        assertThat(loaded.get(located.getDescription()).getClassLoader(), is(classLoader));
+        DynamicType.Unloaded<?> explicit = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Object.class).name(Foo.class.getName() + QUX + QUX).make();
+        loaded = classLoadingStrategy.load(Foo.class.getClassLoader(), Collections.singletonMap(explicit.getDescription(), explicit.getBytes()));
+        assertThat(loaded.get(explicit.getDescription()).getClassLoader(), is(Foo.class.getClassLoader()));
+    }
+
+    @Test
+    public void testLocatedLookupTypesAreCachedPerClassLoader() throws Exception {
+        assumeTrue(LookupClassInjector.isAvailable());
+        ClassLoadingStrategy classLoadingStrategy = new ClassLoadingStrategy.UsingLookup();
+        ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(Foo.class.getClassLoader(),
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)));
+        for (ClassLoader target : new ClassLoader[]{classLoader, Foo.class.getClassLoader(), classLoader}) {
+            DynamicType.Unloaded<?> dynamicType = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Foo.class).make();
+            Map<TypeDescription, Class<?>> loaded = classLoadingStrategy.load(target, Collections.singletonMap(dynamicType.getDescription(), dynamicType.getBytes()));
+            assertThat(loaded.get(dynamicType.getDescription()).getClassLoader(), is(target));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoLookupTypeThrowsException() throws Exception {
+        DynamicType.Unloaded<?> dynamicType = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Object.class).name(Foo.class.getName() + BAR + QUX).make();
+        new ClassLoadingStrategy.UsingLookup().load(Foo.class.getClassLoader(), Collections.singletonMap(dynamicType.getDescription(), dynamicType.getBytes()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateLookupTypeThrowsException() throws Exception {
+        new ClassLoadingStrategy.UsingLookup(Foo.class, ClassLoadingStrategyUsingLookupTest.class);
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+}
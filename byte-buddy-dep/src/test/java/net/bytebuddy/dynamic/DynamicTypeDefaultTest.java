@@ -20,8 +20,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class DynamicTypeDefaultTest {
 
@@ -137,6 +136,15 @@ public class DynamicTypeDefaultTest {
         verify(auxiliaryType).saveIn(folder);
     }
 
+    @Test
+    public void testWriteTo() throws Exception {
+        ClassFileSink classFileSink = mock(ClassFileSink.class);
+        dynamicType.writeTo(classFileSink);
+        verify(classFileSink).write(typeDescription, binaryRepresentation);
+        verifyNoMoreInteractions(classFileSink);
+        verify(auxiliaryType).writeTo(classFileSink);
+    }
+
     @Test
     public void testHashCodeEquals() throws Exception {
         assertThat(dynamicType.hashCode(), is(dynamicType.hashCode()));
@@ -0,0 +1,151 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.instrumentation.FixedValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class PrebuiltTypeIndexTest {
+
+    private static final String FOO = "foo", BAR = "bar", TEMP = "tmp";
+
+    private File folder;
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(TEMP, TEMP);
+        assertThat(folder.delete(), is(true));
+        assertThat(folder.mkdir(), is(true));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delete(folder);
+    }
+
+    @Test
+    public void testPrebuiltTypeIsLoadedWithInitializers() throws Exception {
+        PrebuiltTypeIndex.Writer writer = new PrebuiltTypeIndex.Writer(folder);
+        DynamicType dynamicType = writer.write(new Definition());
+        assertThat(writer.finish().isFile(), is(true));
+        ClassLoader classLoader = new URLClassLoader(new URL[]{folder.toURI().toURL()}, getClass().getClassLoader());
+        PrebuiltTypeIndex prebuiltTypeIndex = PrebuiltTypeIndex.of(classLoader);
+        assertThat(prebuiltTypeIndex.isPrebuilt(FOO), is(true));
+        assertThat(prebuiltTypeIndex.isPrebuilt(BAR), is(false));
+        Class<?> type = prebuiltTypeIndex.locate(new Definition(), ClassLoadingStrategy.Default.INJECTION);
+        assertThat(type.getName(), is(dynamicType.getDescription().getName()));
+        assertThat(type.getClassLoader(), is(classLoader));
+        assertThat(((Foo) type.newInstance()).foo(), is((Object) Definition.VALUE));
+        assertThat(prebuiltTypeIndex.locate(new Definition(), ClassLoadingStrategy.Default.INJECTION), sameInstance((Object) type));
+    }
+
+    @Test
+    public void testMissingTypeIsCreated() throws Exception {
+        PrebuiltTypeIndex prebuiltTypeIndex = new PrebuiltTypeIndex(getClass().getClassLoader(), Collections.<String, String>emptyMap());
+        assertThat(prebuiltTypeIndex.isPrebuilt(FOO), is(false));
+        Class<?> type = prebuiltTypeIndex.locate(new Definition(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(type.getClassLoader(), not(getClass().getClassLoader()));
+        assertThat(((Foo) type.newInstance()).foo(), is((Object) Definition.VALUE));
+        assertThat(prebuiltTypeIndex.locate(new Definition(), ClassLoadingStrategy.Default.WRAPPER), sameInstance((Object) type));
+    }
+
+    @Test
+    public void testConcurrentLocationCreatesTypeOnce() throws Exception {
+        final PrebuiltTypeIndex prebuiltTypeIndex = new PrebuiltTypeIndex(getClass().getClassLoader(), Collections.<String, String>emptyMap());
+        final BlockingDefinition definition = new BlockingDefinition();
+        Callable<Class<?>> locate = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                return prebuiltTypeIndex.locate(definition, ClassLoadingStrategy.Default.WRAPPER);
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Class<?>> first = executorService.submit(locate);
+            assertThat(definition.entered.await(10, TimeUnit.SECONDS), is(true));
+            Future<Class<?>> second = executorService.submit(locate);
+            Thread.sleep(100L);
+            definition.release.countDown();
+            assertThat(first.get(), sameInstance((Object) second.get()));
+            assertThat(definition.calls.get(), is(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateKeyThrowsException() throws Exception {
+        PrebuiltTypeIndex.Writer writer = new PrebuiltTypeIndex.Writer(folder);
+        writer.write(new Definition());
+        writer.write(new Definition());
+    }
+
+    public static class Foo {
+
+        public Object foo() {
+            return null;
+        }
+    }
+
+    public static class Definition implements PrebuiltTypeIndex.Definition {
+
+        private static final List<String> VALUE = Arrays.asList(FOO, BAR);
+
+        @Override
+        public String getKey() {
+            return FOO;
+        }
+
+        @Override
+        public DynamicType.Builder<?> builder() {
+            return new ByteBuddy()
+                    .subclass(Foo.class)
+                    .method(named(FOO)).intercept(FixedValue.value(VALUE));
+        }
+    }
+
+    private static class BlockingDefinition extends Definition {
+
+        private final CountDownLatch entered = new CountDownLatch(1), release = new CountDownLatch(1);
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public DynamicType.Builder<?> builder() {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return super.builder();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AnonymousClassInjectorTest {
+
+    @Test
+    public void testInjection() throws Exception {
+        assertThat(AnonymousClassInjector.isAvailable(), is(true));
+        byte[] binaryRepresentation = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Foo.class).name(Foo.class.getName() + "$Bar").make().getBytes();
+        Class<?> first = new AnonymousClassInjector(Foo.class).inject(binaryRepresentation);
+        Class<?> second = new AnonymousClassInjector(Foo.class).inject(binaryRepresentation);
+        assertThat(first.getSuperclass(), is((Object) Foo.class));
+        assertThat(first.getClassLoader(), is(Foo.class.getClassLoader()));
+        assertThat(first == second, is(false));
+        assertThat(first.newInstance() instanceof Foo, is(true));
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+}
@@ -4,15 +4,25 @@ import net.bytebuddy.utility.ClassFileExtraction;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
 
 public class ByteArrayClassLoaderTest {
 
     private static final String BAR = "bar";
+
+    private static final int THREADS = 4;
+
     private ClassLoader classLoader;
 
     @Before
@@ -32,6 +42,91 @@ public class ByteArrayClassLoaderTest {
         classLoader.loadClass(BAR);
     }
 
+    @Test
+    public void testPackageIsDefined() throws Exception {
+        Package definedPackage = classLoader.loadClass(Foo.class.getName()).getPackage();
+        assertThat(definedPackage, not(nullValue(Package.class)));
+        assertThat(definedPackage.getName(), is(Foo.class.getPackage().getName()));
+    }
+
+    @Test
+    public void testFailedDefinitionRetainsBinaryRepresentation() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(null, Collections.singletonMap(BAR, new byte[]{1, 2, 3}));
+        for (int index = 0; index < 2; index++) {
+            try {
+                classLoader.loadClass(BAR);
+                fail();
+            } catch (ClassFormatError ignored) {
+                /* expected */
+            }
+        }
+    }
+
+    @Test
+    public void testRegistration() throws Exception {
+        ByteArrayClassLoader classLoader = new ByteArrayClassLoader(null, Collections.<String, byte[]>emptyMap());
+        assertThat(classLoader.register(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)), is(true));
+        assertThat(classLoader.register(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)), is(false));
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is((ClassLoader) classLoader));
+        assertThat(classLoader.register(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)), is(false));
+    }
+
+    @Test
+    public void testChildFirst() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(getClass().getClassLoader(),
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)));
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
+        assertThat(classLoader.loadClass(Object.class.getName()), is((Object) Object.class));
+    }
+
+    @Test
+    public void testParentFirst() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(getClass().getClassLoader(),
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)));
+        assertThat(classLoader.loadClass(Foo.class.getName()), is((Object) Foo.class));
+    }
+
+    @Test
+    public void testConcurrentLoading() throws Exception {
+        final ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(null,
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)));
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch latch = new CountDownLatch(1);
+            List<Future<Class<?>>> futures = new ArrayList<Future<Class<?>>>(THREADS);
+            for (int index = 0; index < THREADS; index++) {
+                futures.add(executorService.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        latch.await();
+                        return classLoader.loadClass(Foo.class.getName());
+                    }
+                }));
+            }
+            latch.countDown();
+            Class<?> type = futures.get(0).get();
+            assertThat(type.getClassLoader(), is(classLoader));
+            for (Future<Class<?>> future : futures) {
+                assertThat(future.get(), is((Object) type));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCapable() throws Exception {
+        assertParallelCapable(new ByteArrayClassLoader(null, Collections.<String, byte[]>emptyMap()));
+        assertParallelCapable(new ByteArrayClassLoader.ChildFirst(null, Collections.<String, byte[]>emptyMap()));
+    }
+
+    private static void assertParallelCapable(ByteArrayClassLoader classLoader) {
+        assertThat(classLoader.lockFor(Foo.class.getName()), not((Object) classLoader));
+        assertThat(classLoader.lockFor(Foo.class.getName()), sameInstance(classLoader.lockFor(Foo.class.getName())));
+        assertThat(classLoader.lockFor(Foo.class.getName()), not(sameInstance(classLoader.lockFor(BAR))));
+    }
+
     private static class Foo {
         /* Note: Foo is know to the system class loader but not to the bootstrap class loader */
     }
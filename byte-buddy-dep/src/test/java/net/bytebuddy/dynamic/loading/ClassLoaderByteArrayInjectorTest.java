@@ -6,6 +6,8 @@ import org.junit.Test;
 
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -27,7 +29,29 @@ public class ClassLoaderByteArrayInjectorTest {
         assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
     }
 
+    @Test
+    public void testBatchInjection() throws Exception {
+        Map<String, byte[]> types = new LinkedHashMap<String, byte[]>();
+        types.put(Bar.class.getName(), ClassFileExtraction.extract(Bar.class));
+        types.put(Foo.class.getName(), ClassFileExtraction.extract(Foo.class));
+        types.put(Qux.class.getName(), ClassFileExtraction.extract(Qux.class));
+        Map<String, Class<?>> loaded = classLoaderByteArrayInjector.injectAll(types);
+        assertThat(loaded.size(), is(3));
+        assertThat(loaded.get(Bar.class.getName()).getClassLoader(), is(classLoader));
+        assertThat(loaded.get(Bar.class.getName()).getSuperclass(), is((Object) loaded.get(Foo.class.getName())));
+        assertThat(loaded.get(Bar.class.getName()).getInterfaces()[0], is((Object) loaded.get(Qux.class.getName())));
+        assertThat(classLoaderByteArrayInjector.injectAll(types), is(loaded));
+    }
+
     private static class Foo {
         /* Note: Foo is know to the system class loader but not to the bootstrap class loader */
     }
+
+    private static interface Qux {
+        /* empty */
+    }
+
+    private static class Bar extends Foo implements Qux {
+        /* empty */
+    }
 }
@@ -0,0 +1,63 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class LookupClassInjectorTest {
+
+    private static final String BAR = "Bar", QUX = "Qux";
+
+    @Test
+    public void testInjection() throws Exception {
+        assumeTrue(LookupClassInjector.isAvailable());
+        byte[] binaryRepresentation = new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Foo.class).name(Foo.class.getName() + BAR).make().getBytes();
+        Class<?> type = new LookupClassInjector(Foo.class).inject(binaryRepresentation);
+        assertThat(type.getName(), is(Foo.class.getName() + BAR));
+        assertThat(type.getSuperclass(), is((Object) Foo.class));
+        assertThat(type.getClassLoader(), is(Foo.class.getClassLoader()));
+        assertThat(Class.forName(type.getName(), false, Foo.class.getClassLoader()), is((Object) type));
+    }
+
+    @Test
+    public void testInjectionOfSeveralTypes() throws Exception {
+        assumeTrue(LookupClassInjector.isAvailable());
+        Map<String, byte[]> types = new LinkedHashMap<String, byte[]>();
+        types.put(Foo.class.getName() + QUX + BAR, new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Object.class)
+                .name(Foo.class.getName() + QUX + BAR)
+                .make()
+                .getBytes());
+        types.put(Foo.class.getName() + QUX, new ByteBuddy(ClassFileVersion.JAVA_V6).subclass(Object.class)
+                .name(Foo.class.getName() + QUX)
+                .make()
+                .getBytes());
+        Map<String, Class<?>> loaded = new LookupClassInjector(Foo.class).injectAll(types);
+        assertThat(loaded.size(), is(2));
+        assertThat(loaded.get(Foo.class.getName() + QUX).getClassLoader(), is(Foo.class.getClassLoader()));
+        assertThat(loaded.get(Foo.class.getName() + QUX + BAR).getClassLoader(), is(Foo.class.getClassLoader()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnavailableThrowsException() throws Exception {
+        assumeTrue(!LookupClassInjector.isAvailable());
+        new LookupClassInjector(Foo.class).inject(new byte[0]);
+    }
+
+    @Test
+    public void testEqualsHashCode() throws Exception {
+        assertThat(new LookupClassInjector(Foo.class).hashCode(), is(new LookupClassInjector(Foo.class).hashCode()));
+        assertThat(new LookupClassInjector(Foo.class), is(new LookupClassInjector(Foo.class)));
+        assertThat(new LookupClassInjector(Foo.class).equals(new LookupClassInjector(Object.class)), is(false));
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+}
@@ -0,0 +1,64 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.utility.ClassFileExtraction;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TypeDefinitionOrderTest {
+
+    @Test
+    public void testDependencyOrder() throws Exception {
+        Map<String, byte[]> types = new LinkedHashMap<String, byte[]>();
+        types.put(Bar.class.getName(), ClassFileExtraction.extract(Bar.class));
+        types.put(Qux.class.getName(), ClassFileExtraction.extract(Qux.class));
+        types.put(Foo.class.getName(), ClassFileExtraction.extract(Foo.class));
+        assertThat(TypeDefinitionOrder.orderByDependency(types),
+                is(Arrays.asList(Foo.class.getName(), Qux.class.getName(), Bar.class.getName())));
+    }
+
+    @Test
+    public void testUnrelatedTypesRetainOrder() throws Exception {
+        Map<String, byte[]> types = new LinkedHashMap<String, byte[]>();
+        types.put(Qux.class.getName(), ClassFileExtraction.extract(Qux.class));
+        types.put(Foo.class.getName(), ClassFileExtraction.extract(Foo.class));
+        assertThat(TypeDefinitionOrder.orderByDependency(types),
+                is(Arrays.asList(Qux.class.getName(), Foo.class.getName())));
+    }
+
+    @Test
+    public void testConstructorIsHidden() throws Exception {
+        assertThat(TypeDefinitionOrder.class.getDeclaredConstructors().length, is(1));
+        Constructor<?> constructor = TypeDefinitionOrder.class.getDeclaredConstructor();
+        assertThat(Modifier.isPrivate(constructor.getModifiers()), is(true));
+        constructor.setAccessible(true);
+        try {
+            constructor.newInstance();
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals(UnsupportedOperationException.class, e.getCause().getClass());
+        }
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static interface Qux {
+        /* empty */
+    }
+
+    private static class Bar extends Foo implements Qux {
+        /* empty */
+    }
+}
@@ -20,6 +20,8 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -31,6 +33,8 @@ public class MethodRegistryDefaultTest {
 
     private static final int BASIC_SIZE = 1, EXTENDED_SIZE = 2;
 
+    private static final String FOO = "foo", BAR = "bar";
+
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
 
@@ -102,6 +106,8 @@ public class MethodRegistryDefaultTest {
         when(extendedInstrumentedType.detach()).thenReturn(extendedInstrumentedType);
         when(basicInstrumentedType.getLoadedTypeInitializer()).thenReturn(loadedTypeInitializer);
         when(extendedInstrumentedType.getLoadedTypeInitializer()).thenReturn(loadedTypeInitializer);
+        when(basicFinding.getInvokableMethods()).thenReturn(new MethodList.Empty());
+        when(extendedFinding.getInvokableMethods()).thenReturn(new MethodList.Empty());
     }
 
     @Test
@@ -212,6 +218,39 @@ public class MethodRegistryDefaultTest {
         verify(croppedMethodList, times(7) /* for 7 calls to compiled.target */).filter(any(MethodMatcher.class));
     }
 
+    @Test
+    public void testInvokableMethodsAreResolvedOnCompilation() throws Exception {
+        when(knownMethod.getUniqueSignature()).thenReturn(FOO);
+        when(unknownMethod.getUniqueSignature()).thenReturn(BAR);
+        when(basicFinding.getInvokableMethods()).thenReturn(new MethodList.Explicit(Arrays.asList(knownMethod, unknownMethod)));
+        MethodRegistry.Compiled compiled = new MethodRegistry.Default()
+                .append(latentMatchesKnownMethod, simpleInstrumentation, simpleAttributeAppenderFactory)
+                .compile(basicInstrumentedType, methodLookupEngine, instrumentationTargetFactory, fallback);
+        verify(matchesKnownMethod).matches(knownMethod);
+        verify(matchesKnownMethod).matches(unknownMethod);
+        assertThat(compiled.target(knownMethod).getByteCodeAppender(), is(simpleByteCodeAppender));
+        assertThat(compiled.target(knownMethod).getAttributeAppender(), is(simpleAttributeAppender));
+        assertThat(compiled.target(unknownMethod), is(fallback));
+        verifyNoMoreInteractions(matchesKnownMethod);
+        assertThat(compiled.getResolvedEntries().size(), is(2));
+        assertThat(compiled.getResolvedEntries().get(knownMethod).getByteCodeAppender(), is(simpleByteCodeAppender));
+        assertThat(compiled.getResolvedEntries().get(unknownMethod), is(fallback));
+    }
+
+    @Test
+    public void testMethodWithIndexedSignatureIsMatchedIfNotRepresented() throws Exception {
+        when(knownMethod.getUniqueSignature()).thenReturn(FOO);
+        when(unknownMethod.getUniqueSignature()).thenReturn(FOO);
+        when(basicFinding.getInvokableMethods()).thenReturn(new MethodList.Explicit(Collections.singletonList(unknownMethod)));
+        MethodRegistry.Compiled compiled = new MethodRegistry.Default()
+                .append(latentMatchesKnownMethod, simpleInstrumentation, simpleAttributeAppenderFactory)
+                .compile(basicInstrumentedType, methodLookupEngine, instrumentationTargetFactory, fallback);
+        assertThat(compiled.target(unknownMethod), is(fallback));
+        assertThat(compiled.target(knownMethod).getByteCodeAppender(), is(simpleByteCodeAppender));
+        verify(matchesKnownMethod).matches(unknownMethod);
+        verify(matchesKnownMethod).matches(knownMethod);
+        verifyNoMoreInteractions(matchesKnownMethod);
+    }
 
     @Test
     public void testHashCodeEquals() throws Exception {
@@ -21,6 +21,7 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -168,6 +169,19 @@ public class TypeExtensionDelegateTest {
         assertThat(typeExtensionDelegate.getRegisteredAuxiliaryTypes(), hasItem(dynamicType));
     }
 
+    @Test
+    public void testAuxiliaryTypeNamedSequentially() throws Exception {
+        when(instrumentedType.getName()).thenReturn(BAR);
+        typeExtensionDelegate.register(this.auxiliaryType);
+        verify(auxiliaryType).make(BAR + "$accessor$0", classFileVersion, typeExtensionDelegate);
+    }
+
+    @Test
+    public void testAccessorMethodNamesAreReproducible() throws Exception {
+        assertThat(typeExtensionDelegate.registerAccessorFor(specialMethodInvocation).getInternalName(),
+                is(new TypeExtensionDelegate(instrumentedType, classFileVersion).registerAccessorFor(specialMethodInvocation).getInternalName()));
+    }
+
     @Test
     public void testAuxiliaryTypeRegistrationDoesNotRegisterDuplicates() throws Exception {
         assertThat(typeExtensionDelegate.register(this.auxiliaryType), is(auxiliaryTypeDescription));
@@ -243,6 +257,65 @@ public class TypeExtensionDelegateTest {
         verifyZeroInteractions(instrumentationContext);
     }
 
+    @Test
+    public void testLazyCacheFields() throws Exception {
+        when(typeDescription.getInternalName()).thenReturn(FOO);
+        MethodDescription accessorMethod = typeExtensionDelegate.cacheLazily(stackManipulation, typeDescription);
+        assertThat(accessorMethod.getDeclaringType(), is(instrumentedType));
+        assertThat(accessorMethod.getReturnType(), is(typeDescription));
+        assertThat(accessorMethod.getParameterTypes().size(), is(0));
+        assertThat(accessorMethod.getInternalName(), startsWith(CACHED_VALUE));
+        assertThat(accessorMethod.getModifiers(), is(Opcodes.ACC_STATIC | Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC));
+        assertThat(typeExtensionDelegate.cacheLazily(stackManipulation, typeDescription), is(accessorMethod));
+        assertThat(typeExtensionDelegate.getRegisteredFieldCaches().size(), is(1));
+        assertThat(typeExtensionDelegate.getRegisteredFieldCaches().get(0).getFieldType(), is(typeDescription));
+        assertThat(typeExtensionDelegate.getRegisteredFieldCaches().get(0).getDeclaringType(), is(instrumentedType));
+        assertThat(typeExtensionDelegate.getRegisteredFieldCaches().get(0).getModifiers(),
+                is(Opcodes.ACC_STATIC | Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC));
+        Iterator<MethodDescription> iterator = typeExtensionDelegate.getRegisteredAccessors().iterator();
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(accessorMethod));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void testLazyCacheAccessorImplementation() throws Exception {
+        when(typeDescription.getInternalName()).thenReturn(FOO);
+        when(typeDescription.getStackSize()).thenReturn(StackSize.SINGLE);
+        when(stackManipulation.apply(Matchers.any(MethodVisitor.class), Matchers.any(Instrumentation.Context.class)))
+                .thenReturn(new StackManipulation.Size(1, 3));
+        MethodDescription accessorMethod = typeExtensionDelegate.cacheLazily(stackManipulation, typeDescription);
+        TypeWriter.MethodPool.Entry entry = typeExtensionDelegate.target(accessorMethod);
+        assertThat(entry.isDefineMethod(), is(true));
+        assertThat(entry.getByteCodeAppender().appendsCode(), is(true));
+        ByteCodeAppender.Size size = entry.getByteCodeAppender().apply(methodVisitor, instrumentationContext, accessorMethod);
+        assertThat(size.getOperandStackSize(), is(3));
+        assertThat(size.getLocalVariableSize(), is(0));
+        verify(methodVisitor).visitFieldInsn(eq(Opcodes.GETSTATIC), eq(BAR), Matchers.startsWith(CACHED_VALUE), eq(QUX));
+        verify(methodVisitor, times(2)).visitInsn(Opcodes.DUP);
+        verify(methodVisitor).visitJumpInsn(eq(Opcodes.IFNONNULL), Matchers.any(Label.class));
+        verify(methodVisitor).visitInsn(Opcodes.POP);
+        verify(stackManipulation).apply(methodVisitor, instrumentationContext);
+        verify(methodVisitor).visitFieldInsn(eq(Opcodes.PUTSTATIC), eq(BAR), Matchers.startsWith(CACHED_VALUE), eq(QUX));
+        verify(methodVisitor).visitLabel(Matchers.any(Label.class));
+        verify(methodVisitor).visitFrame(Opcodes.F_SAME1, 0, null, 1, new Object[]{FOO});
+        verify(methodVisitor).visitInsn(Opcodes.ARETURN);
+        verifyNoMoreInteractions(methodVisitor);
+    }
+
+    @Test
+    public void testLazyCacheFieldAfterWrap() throws Exception {
+        typeExtensionDelegate.wrapForTypeInitializerInterception(methodPool);
+        typeExtensionDelegate.cacheLazily(stackManipulation, typeDescription);
+        assertThat(typeExtensionDelegate.getRegisteredFieldCaches().size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLazyCachePrimitiveThrowsException() throws Exception {
+        when(typeDescription.isPrimitive()).thenReturn(true);
+        typeExtensionDelegate.cacheLazily(stackManipulation, typeDescription);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testCacheFieldAfterWrapThrowsException() throws Exception {
         typeExtensionDelegate.wrapForTypeInitializerInterception(methodPool);
@@ -0,0 +1,357 @@
+package net.bytebuddy.instrumentation;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.primitive.PrimitiveTypeAwareAssigner;
+import net.bytebuddy.instrumentation.method.bytecode.stack.assign.reference.ReferenceTypeAwareAssigner;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+public class BeanCopierTest extends AbstractInstrumentationTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @SuppressWarnings("unchecked")
+    private static <S, T> Copier<S, T> copier(BeanCopier beanCopier) throws Exception {
+        return (Copier<S, T>) new ByteBuddy()
+                .subclass(Copier.class)
+                .method(named("copy")).intercept(beanCopier)
+                .make()
+                .load(BeanCopierTest.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+    }
+
+    @Test
+    public void testCopyWithConversions() throws Exception {
+        Copier<Source, Target> copier = copier(BeanCopier.from(Source.class).to(Target.class));
+        Source source = new Source();
+        source.setName(FOO);
+        source.setCount(42);
+        source.setSize(7);
+        source.setBoxed(3);
+        source.setActive(true);
+        source.setInherited(QUX);
+        Target target = new Target();
+        copier.copy(source, target);
+        assertThat(target.getName(), is(FOO));
+        assertThat(target.getCount(), is(42L));
+        assertThat(target.getSize(), is((Object) 7));
+        assertThat(target.getBoxed(), is(3));
+        assertThat(target.isActive(), is(true));
+        assertThat(target.getInherited(), is(QUX));
+        assertThat(target.getUnmatched(), is(BAR));
+    }
+
+    @Test
+    public void testCopyOfPropertiesInheritedFromPackagePrivateType() throws Exception {
+        Copier<VisibleSource, VisibleTarget> copier = copier(BeanCopier.from(VisibleSource.class).to(VisibleTarget.class));
+        VisibleSource source = new VisibleSource();
+        source.setHidden(FOO);
+        VisibleTarget target = new VisibleTarget();
+        copier.copy(source, target);
+        assertThat(target.getHidden(), is(FOO));
+    }
+
+    @Test
+    public void testNullIsCopied() throws Exception {
+        Copier<Source, Target> copier = copier(BeanCopier.from(Source.class).to(Target.class));
+        Source source = new Source();
+        source.setBoxed(1);
+        Target target = new Target();
+        target.setName(BAR);
+        copier.copy(source, target);
+        assertThat(target.getName(), nullValue());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullIsUnboxed() throws Exception {
+        Copier<Source, Target> copier = copier(BeanCopier.from(Source.class).to(Target.class));
+        copier.copy(new Source(), new Target());
+    }
+
+    @Test
+    public void testNullIsSkipped() throws Exception {
+        Copier<Source, Target> copier = copier(BeanCopier.from(Source.class).to(Target.class)
+                .nullHandling(BeanCopier.NullHandling.SKIP));
+        Source source = new Source();
+        source.setCount(1);
+        Target target = new Target();
+        target.setName(BAR);
+        target.setBoxed(2);
+        copier.copy(source, target);
+        assertThat(target.getName(), is(BAR));
+        assertThat(target.getBoxed(), is(2));
+        assertThat(target.getCount(), is(1L));
+    }
+
+    @Test
+    public void testIgnoreCaseMatching() throws Exception {
+        Copier<Source, Renamed> copier = copier(BeanCopier.from(Source.class).to(Renamed.class)
+                .matching(BeanCopier.PropertyMatcher.Default.IGNORE_CASE));
+        Source source = new Source();
+        source.setName(FOO);
+        Renamed target = new Renamed();
+        copier.copy(source, target);
+        assertThat(target.getNAME(), is(FOO));
+        assertThat(target.getAlias(), nullValue());
+    }
+
+    @Test
+    public void testMappedMatching() throws Exception {
+        Copier<Source, Renamed> copier = copier(BeanCopier.from(Source.class).to(Renamed.class)
+                .matching(new BeanCopier.PropertyMatcher.ForMapping(Collections.singletonMap("inherited", "alias"),
+                        BeanCopier.PropertyMatcher.Default.IGNORE_CASE)));
+        Source source = new Source();
+        source.setName(FOO);
+        source.setInherited(QUX);
+        Renamed target = new Renamed();
+        copier.copy(source, target);
+        assertThat(target.getNAME(), is(FOO));
+        assertThat(target.getAlias(), is(QUX));
+    }
+
+    @Test
+    public void testMethodReturningTarget() throws Exception {
+        Returning returning = instrument(Returning.class, BeanCopier.from(Source.class).to(Target.class)
+                .nullHandling(BeanCopier.NullHandling.SKIP)).getLoaded().newInstance();
+        Source source = new Source();
+        source.setName(FOO);
+        Target target = new Target();
+        assertThat(returning.copy(source, target), is(target));
+        assertThat(target.getName(), is(FOO));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testIllegalSource() throws Exception {
+        Copier<Object, Target> copier = copier(BeanCopier.from(Source.class).to(Target.class));
+        copier.copy(new Object(), new Target());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIncompatiblePropertyThrowsException() throws Exception {
+        copier(BeanCopier.from(Source.class).to(Incompatible.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIllegalMethodThrowsException() throws Exception {
+        instrument(Illegal.class, BeanCopier.from(Source.class).to(Target.class));
+    }
+
+    @Test
+    public void testEqualsHashCode() throws Exception {
+        assertThat(BeanCopier.from(Source.class).to(Target.class).hashCode(),
+                is(BeanCopier.from(Source.class).to(Target.class).hashCode()));
+        assertThat(BeanCopier.from(Source.class).to(Target.class), is(BeanCopier.from(Source.class).to(Target.class)));
+        assertThat(BeanCopier.from(Source.class).to(Target.class),
+                is(BeanCopier.from(Source.class).to(Target.class)
+                        .assigner(new PrimitiveTypeAwareAssigner(ReferenceTypeAwareAssigner.INSTANCE), false)));
+        assertThat(BeanCopier.from(Source.class).to(Target.class),
+                not(is(BeanCopier.from(Source.class).to(Renamed.class))));
+        assertThat(BeanCopier.from(Source.class).to(Target.class),
+                not(is(BeanCopier.from(Source.class).to(Target.class).nullHandling(BeanCopier.NullHandling.SKIP))));
+        assertThat(BeanCopier.from(Source.class).to(Target.class),
+                not(is(BeanCopier.from(Source.class).to(Target.class).matching(BeanCopier.PropertyMatcher.Default.IGNORE_CASE))));
+    }
+
+    public static class Base {
+
+        private String inherited;
+
+        public String getInherited() {
+            return inherited;
+        }
+
+        public void setInherited(String inherited) {
+            this.inherited = inherited;
+        }
+    }
+
+    public static class Source extends Base {
+
+        private String name;
+
+        private int count;
+
+        private int size;
+
+        private Integer boxed;
+
+        private boolean active;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public Integer getBoxed() {
+            return boxed;
+        }
+
+        public void setBoxed(Integer boxed) {
+            this.boxed = boxed;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public static String getIgnored() {
+            return FOO;
+        }
+    }
+
+    public static class Target extends Base {
+
+        private String name;
+
+        private long count;
+
+        private Object size;
+
+        private int boxed;
+
+        private boolean active;
+
+        private String unmatched = BAR;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public Object getSize() {
+            return size;
+        }
+
+        public void setSize(Object size) {
+            this.size = size;
+        }
+
+        public int getBoxed() {
+            return boxed;
+        }
+
+        public void setBoxed(int boxed) {
+            this.boxed = boxed;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String getUnmatched() {
+            return unmatched;
+        }
+
+        public void setUnmatched(String unmatched) {
+            this.unmatched = unmatched;
+        }
+    }
+
+    static class PackagePrivateBase {
+
+        private String hidden;
+
+        public String getHidden() {
+            return hidden;
+        }
+
+        public void setHidden(String hidden) {
+            this.hidden = hidden;
+        }
+    }
+
+    public static class VisibleSource extends PackagePrivateBase {
+        /* empty */
+    }
+
+    public static class VisibleTarget extends PackagePrivateBase {
+        /* empty */
+    }
+
+    public static class Renamed {
+
+        private String name;
+
+        private String alias;
+
+        public String getNAME() {
+            return name;
+        }
+
+        public void setNAME(String name) {
+            this.name = name;
+        }
+
+        public String getAlias() {
+            return alias;
+        }
+
+        public void setAlias(String alias) {
+            this.alias = alias;
+        }
+    }
+
+    public static class Incompatible {
+
+        public void setName(int name) {
+            /* do nothing */
+        }
+    }
+
+    public abstract static class Returning {
+
+        public abstract Target copy(Source source, Target target);
+    }
+
+    public abstract static class Illegal {
+
+        public abstract void copy(Source source);
+    }
+}
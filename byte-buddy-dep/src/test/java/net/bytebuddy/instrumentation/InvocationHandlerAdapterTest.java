@@ -2,6 +2,7 @@ package net.bytebuddy.instrumentation;
 
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.utility.CallTraceable;
+import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
@@ -91,6 +92,14 @@ public class InvocationHandlerAdapterTest extends AbstractInstrumentationTest {
         instance.assertZeroCalls();
     }
 
+    @Test
+    public void testStaticAdapterBoxesPrimitiveArguments() throws Exception {
+        DynamicType.Loaded<Corge> loaded = instrument(Corge.class, InvocationHandlerAdapter.of(new Grault()));
+        Corge instance = loaded.getLoaded().newInstance();
+        assertThat(instance.sum(1000, 2L), is(1002));
+        instance.assertZeroCalls();
+    }
+
     @Test
     public void testEqualsHashCodeStaticAdapter() throws Exception {
         assertThat(InvocationHandlerAdapter.of(new Foo(FOO)).hashCode(), is(InvocationHandlerAdapter.of(new Foo(FOO)).hashCode()));
@@ -113,6 +122,101 @@ public class InvocationHandlerAdapterTest extends AbstractInstrumentationTest {
         assertThat(InvocationHandlerAdapter.toInstanceField(QUX), not(is(InvocationHandlerAdapter.of(new Foo(BAR), QUX))));
     }
 
+    @Test
+    public void testStaticPrimitiveAdapterCachesMethods() throws Exception {
+        Qux qux = new Qux();
+        DynamicType.Loaded<Baz> loaded = instrument(Baz.class, InvocationHandlerAdapter.ofPrimitive(qux));
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1 + Baz.class.getDeclaredMethods().length));
+        Baz instance = loaded.getLoaded().newInstance();
+        assertPrimitiveInterception(instance, qux);
+        assertThat(qux.methods.get(0), sameInstance(qux.methods.get(1)));
+    }
+
+    @Test
+    public void testInstancePrimitiveAdapterCachesMethods() throws Exception {
+        DynamicType.Loaded<Baz> loaded = instrument(Baz.class, InvocationHandlerAdapter.toPrimitiveInstanceField(QUX));
+        Field field = loaded.getLoaded().getDeclaredField(QUX);
+        assertThat(field.getModifiers(), is(Modifier.PUBLIC));
+        assertThat(field.getType(), CoreMatchers.<Class<?>>is(PrimitiveInvocationHandler.class));
+        Baz instance = loaded.getLoaded().newInstance();
+        Qux qux = new Qux();
+        field.set(instance, qux);
+        assertPrimitiveInterception(instance, qux);
+        assertThat(qux.methods.get(0), sameInstance(qux.methods.get(1)));
+    }
+
+    private static void assertPrimitiveInterception(Baz instance, Qux qux) {
+        assertThat(instance.sum(40, 2), is(42));
+        assertThat(instance.sum(-40, -2), is(-42));
+        assertThat(instance.scale(1.5d, 2f), is(3d));
+        assertThat(instance.half(3f), is(1.5f));
+        assertThat(instance.next('a'), is('b'));
+        assertThat(instance.negate(true), is(false));
+        assertThat(instance.negate(false), is(true));
+        assertThat(instance.narrow(Byte.MIN_VALUE, Short.MIN_VALUE), is(Byte.MIN_VALUE));
+        assertThat(instance.widen(Short.MIN_VALUE), is((short) (Short.MIN_VALUE + 1)));
+        instance.set(Long.MIN_VALUE, 1, 2);
+        assertThat(qux.value, is(Long.MIN_VALUE + 3));
+        assertThat(instance.get(), is(Long.MIN_VALUE + 3));
+        assertThat(qux.methods.size(), is(11));
+        instance.assertZeroCalls();
+    }
+
+    @Test
+    public void testPrimitiveAdapterNarrowsByte() throws Exception {
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(300L))).getLoaded().newInstance().toByte(),
+                is((byte) 300));
+    }
+
+    @Test
+    public void testPrimitiveAdapterNarrowsShort() throws Exception {
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(70000L))).getLoaded().newInstance().toShort(),
+                is((short) 70000));
+    }
+
+    @Test
+    public void testPrimitiveAdapterNarrowsCharacter() throws Exception {
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(0x10041L))).getLoaded().newInstance().toCharacter(),
+                is('A'));
+    }
+
+    @Test
+    public void testPrimitiveAdapterNormalizesBoolean() throws Exception {
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(2L))).getLoaded().newInstance().toBoolean(),
+                is(true));
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(1L << 32))).getLoaded().newInstance().toBoolean(),
+                is(true));
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(-1L))).getLoaded().newInstance().toBoolean(),
+                is(true));
+        assertThat(instrument(Fred.class, InvocationHandlerAdapter.ofPrimitive(new Waldo(0L))).getLoaded().newInstance().toBoolean(),
+                is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPrimitiveAdapterReferenceParameter() throws Exception {
+        instrument(Bar.class, InvocationHandlerAdapter.ofPrimitive(new Qux()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPrimitiveAdapterTooManyParameters() throws Exception {
+        instrument(Quux.class, InvocationHandlerAdapter.ofPrimitive(new Qux()));
+    }
+
+    @Test
+    public void testEqualsHashCodePrimitiveAdapter() throws Exception {
+        Qux qux = new Qux();
+        assertThat(InvocationHandlerAdapter.ofPrimitive(qux, QUX).hashCode(), is(InvocationHandlerAdapter.ofPrimitive(qux, QUX).hashCode()));
+        assertThat(InvocationHandlerAdapter.ofPrimitive(qux, QUX), is(InvocationHandlerAdapter.ofPrimitive(qux, QUX)));
+        assertThat(InvocationHandlerAdapter.ofPrimitive(qux, QUX), not(is(InvocationHandlerAdapter.ofPrimitive(new Qux(), QUX))));
+        assertThat(InvocationHandlerAdapter.ofPrimitive(qux, QUX), is(InvocationHandlerAdapter.ofPrimitive(qux, QUX).withMethodCache()));
+        assertThat(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX), is(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX).withMethodCache()));
+        assertThat(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX).hashCode(), is(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX).hashCode()));
+        assertThat(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX), is(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX)));
+        assertThat(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX).hashCode(), not(is(InvocationHandlerAdapter.toInstanceField(QUX).hashCode())));
+        assertThat(InvocationHandlerAdapter.toPrimitiveInstanceField(QUX), not(is(InvocationHandlerAdapter.toInstanceField(QUX))));
+    }
+
     private static class Foo implements InvocationHandler {
 
         private final String marker;
@@ -157,4 +261,173 @@ public class InvocationHandlerAdapterTest extends AbstractInstrumentationTest {
             return o;
         }
     }
+
+    private static class Qux implements PrimitiveInvocationHandler {
+
+        public final List<Method> methods = new LinkedList<Method>();
+
+        public long value;
+
+        @Override
+        public long invoke(Object proxy, Method method) throws Throwable {
+            methods.add(method);
+            assertThat(method.getName(), is("get"));
+            return value;
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument) throws Throwable {
+            methods.add(method);
+            if (method.getName().equals("half")) {
+                return Float.floatToRawIntBits(Float.intBitsToFloat((int) argument) / 2);
+            } else if (method.getName().equals("next")) {
+                return argument + 1;
+            } else if (method.getName().equals("negate")) {
+                return 1 - argument;
+            } else if (method.getName().equals("widen")) {
+                return argument + 1;
+            }
+            throw new AssertionError();
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument, long secondArgument) throws Throwable {
+            methods.add(method);
+            if (method.getName().equals("sum")) {
+                return argument + secondArgument;
+            } else if (method.getName().equals("scale")) {
+                return Double.doubleToRawLongBits(Double.longBitsToDouble(argument) * Float.intBitsToFloat((int) secondArgument));
+            } else if (method.getName().equals("narrow")) {
+                return argument + secondArgument + 0x8100;
+            }
+            throw new AssertionError();
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument, long secondArgument, long thirdArgument) throws Throwable {
+            methods.add(method);
+            assertThat(method.getName(), is("set"));
+            value = argument + secondArgument + thirdArgument;
+            return 0L;
+        }
+    }
+
+    public static class Baz extends CallTraceable {
+
+        public int sum(int first, int second) {
+            register("sum");
+            return 0;
+        }
+
+        public double scale(double value, float factor) {
+            register("scale");
+            return 0d;
+        }
+
+        public float half(float value) {
+            register("half");
+            return 0f;
+        }
+
+        public char next(char value) {
+            register("next");
+            return value;
+        }
+
+        public boolean negate(boolean value) {
+            register("negate");
+            return value;
+        }
+
+        public byte narrow(byte first, short second) {
+            register("narrow");
+            return first;
+        }
+
+        public short widen(short value) {
+            register("widen");
+            return value;
+        }
+
+        public void set(long first, int second, int third) {
+            register("set");
+        }
+
+        public long get() {
+            register("get");
+            return 0L;
+        }
+    }
+
+    private static class Grault implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            assertThat(args.length, is(2));
+            return (Integer) args[0] + ((Long) args[1]).intValue();
+        }
+    }
+
+    public static class Corge extends CallTraceable {
+
+        public int sum(int first, long second) {
+            register("sum");
+            return 0;
+        }
+    }
+
+    private static class Waldo implements PrimitiveInvocationHandler {
+
+        private final long value;
+
+        private Waldo(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method) throws Throwable {
+            return value;
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument) throws Throwable {
+            throw new AssertionError();
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument, long secondArgument) throws Throwable {
+            throw new AssertionError();
+        }
+
+        @Override
+        public long invoke(Object proxy, Method method, long argument, long secondArgument, long thirdArgument) throws Throwable {
+            throw new AssertionError();
+        }
+    }
+
+    public static class Fred {
+
+        public boolean toBoolean() {
+            return false;
+        }
+
+        public byte toByte() {
+            return 0;
+        }
+
+        public short toShort() {
+            return 0;
+        }
+
+        public char toCharacter() {
+            return 0;
+        }
+    }
+
+    public static class Quux {
+
+        public void quux(int first, int second, int third, int fourth) {
+            /* empty */
+        }
+    }
 }
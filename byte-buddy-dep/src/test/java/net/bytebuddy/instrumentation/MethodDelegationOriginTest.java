@@ -10,6 +10,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -60,6 +61,22 @@ public class MethodDelegationOriginTest extends AbstractInstrumentationTest {
         assertThat(method, sameInstance(instance.foo()));
     }
 
+    @Test
+    public void testOriginMethodWithLazyCache() throws Exception {
+        DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(OriginMethodWithLazyCache.class));
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+        Field field = loaded.getLoaded().getDeclaredFields()[0];
+        field.setAccessible(true);
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(field.get(null), nullValue());
+        Object method = instance.foo();
+        assertThat(field.get(null), is(method));
+        assertThat(method, instanceOf(Method.class));
+        assertThat(method, is((Object) Foo.class.getDeclaredMethod(FOO)));
+        assertThat(method, sameInstance(instance.foo()));
+    }
+
     @Test
     public void testOriginString() throws Exception {
         DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(OriginString.class));
@@ -120,6 +137,13 @@ public class MethodDelegationOriginTest extends AbstractInstrumentationTest {
         }
     }
 
+    public static class OriginMethodWithLazyCache {
+
+        public static Object foo(@Origin(cacheMethodLazily = true) Method method) {
+            return method;
+        }
+    }
+
     public static class OriginString {
 
         public static Object foo(@Origin String string) {
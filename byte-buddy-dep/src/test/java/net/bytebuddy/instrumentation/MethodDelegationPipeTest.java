@@ -1,12 +1,18 @@
 package net.bytebuddy.instrumentation;
 
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.AuxiliaryTypeRegistry;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.concurrent.Callable;
 
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -38,6 +44,40 @@ public class MethodDelegationPipeTest extends AbstractInstrumentationTest {
         assertThat(instance.foo(QUX), is(FOO + QUX));
     }
 
+    @Test
+    public void testPipeSharedAmongInstrumentedTypes() throws Exception {
+        ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        ByteBuddy byteBuddy = new ByteBuddy().withAuxiliaryTypeRegistry(new AuxiliaryTypeRegistry.ForClassLoader(classLoader));
+        DynamicType.Unloaded<Foo> first = byteBuddy.subclass(Foo.class)
+                .method(named(FOO)).intercept(MethodDelegation.to(new ForwardingInterceptor(new Foo(FOO)))
+                        .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)))
+                .make();
+        assertThat(first.getRawAuxiliaryTypes().size(), is(1));
+        Class<? extends Foo> firstType = first.load(classLoader, ClassLoadingStrategy.Default.INJECTION).getLoaded();
+        DynamicType.Unloaded<Foo> second = byteBuddy.subclass(Foo.class)
+                .method(named(FOO)).intercept(MethodDelegation.to(new ForwardingInterceptor(new Foo(BAR)))
+                        .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)))
+                .make();
+        assertThat(second.getRawAuxiliaryTypes().size(), is(0));
+        Class<? extends Foo> secondType = second.load(classLoader, ClassLoadingStrategy.Default.INJECTION).getLoaded();
+        assertThat(firstType.newInstance().foo(QUX), is(FOO + QUX));
+        assertThat(secondType.newInstance().foo(QUX), is(BAR + QUX));
+    }
+
+    @Test
+    public void testPipeNotSharedIfNotLoaded() throws Exception {
+        ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        ByteBuddy byteBuddy = new ByteBuddy().withAuxiliaryTypeRegistry(new AuxiliaryTypeRegistry.ForClassLoader(classLoader));
+        for (int index = 0; index < 2; index++) {
+            assertThat(byteBuddy.subclass(Foo.class)
+                    .method(named(FOO)).intercept(MethodDelegation.to(new ForwardingInterceptor(new Foo(FOO)))
+                            .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)))
+                    .make()
+                    .getRawAuxiliaryTypes()
+                    .size(), is(1));
+        }
+    }
+
     @Test(expected = ClassCastException.class)
     public void testPipeToIncompatibleTypeThrowsException() throws Exception {
         DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(new ForwardingInterceptor(new Object()))
@@ -4,8 +4,11 @@ import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.RuntimeType;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
 import net.bytebuddy.utility.CallTraceable;
+import net.bytebuddy.utility.JavaVersionRule;
 import org.hamcrest.CoreMatchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.MethodRule;
 
 import java.io.Serializable;
 import java.util.concurrent.Callable;
@@ -18,6 +21,9 @@ public class MethodDelegationSuperCallTest extends AbstractInstrumentationTest {
 
     private static final String FOO = "foo", BAR = "bar";
 
+    @Rule
+    public MethodRule java8Rule = new JavaVersionRule(8);
+
     @Test
     public void testRunnableSuperCall() throws Exception {
         DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(RunnableClass.class));
@@ -56,6 +62,45 @@ public class MethodDelegationSuperCallTest extends AbstractInstrumentationTest {
         assertThat(instance.bar(), is(FOO));
     }
 
+    @Test
+    @JavaVersionRule.Enforce
+    public void testInvokeDynamicRunnableSuperCall() throws Exception {
+        DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(RunnableClass.class)
+                .defineParameterBinder(SuperCall.Binder.INVOKE_DYNAMIC));
+        assertThat(loaded.getRawAuxiliaryTypes().size(), is(0));
+        Foo instance = loaded.getLoaded().newInstance();
+        instance.foo();
+        assertThat(instance.value, is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce
+    public void testInvokeDynamicCallableSuperCall() throws Exception {
+        DynamicType.Loaded<Bar> loaded = instrument(Bar.class, MethodDelegation.to(CallableClass.class)
+                .defineParameterBinder(SuperCall.Binder.INVOKE_DYNAMIC));
+        assertThat(loaded.getRawAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().newInstance().bar(), is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce
+    public void testInvokeDynamicPrimitiveSuperCall() throws Exception {
+        DynamicType.Loaded<Baz> loaded = instrument(Baz.class, MethodDelegation.to(PrimitiveCallableClass.class)
+                .defineParameterBinder(SuperCall.Binder.INVOKE_DYNAMIC));
+        assertThat(loaded.getRawAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().newInstance().baz(21L, 21), is(42L));
+    }
+
+    @Test
+    public void testInvokeDynamicFallsBackToProxy() throws Exception {
+        DynamicType.Loaded<VoidTest> loaded = instrument(VoidTest.class, MethodDelegation.to(NonVoidTarget.class)
+                .defineParameterBinder(SuperCall.Binder.INVOKE_DYNAMIC));
+        assertThat(loaded.getRawAuxiliaryTypes().size(), is(1));
+        VoidTest instance = loaded.getLoaded().newInstance();
+        instance.foo();
+        instance.assertOnlyCall(FOO);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testAbstractMethodNonBindable() throws Exception {
         instrument(Qux.class, MethodDelegation.to(CallableClass.class));
@@ -98,6 +143,20 @@ public class MethodDelegationSuperCallTest extends AbstractInstrumentationTest {
         }
     }
 
+    public static class Baz {
+
+        public long baz(long first, int second) {
+            return first + second;
+        }
+    }
+
+    public static class PrimitiveCallableClass {
+
+        public static long baz(@SuperCall Callable<Long> callable) throws Exception {
+            return callable.call();
+        }
+    }
+
     public static abstract class Qux {
 
         public abstract String bar();
@@ -10,6 +10,7 @@ import java.lang.reflect.Method;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.mockito.Mockito.*;
 
 public class MethodDescriptionForLoadedMethodTest {
@@ -72,6 +73,15 @@ public class MethodDescriptionForLoadedMethodTest {
         assertThat(doubleDoubleValue.represents(Object.class.getDeclaredConstructor()), is(false));
     }
 
+    @Test
+    public void testCachedSignatureTypes() throws Exception {
+        assertThat(objectWait.getParameterTypes(), sameInstance(objectWait.getParameterTypes()));
+        assertThat(objectWait.getExceptionTypes(), sameInstance(objectWait.getExceptionTypes()));
+        assertThat(objectWait.getParameterTypes().get(0), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(long.class)));
+        assertThat(objectWait.getReturnType(), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(void.class)));
+        assertThat(objectWait.getDeclaringType(), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(Object.class)));
+    }
+
     @Test
     public void testGetInternalName() throws Exception {
         assertThat(objectHashCode.getInternalName(), is(HASH_CODE));
@@ -0,0 +1,157 @@
+package net.bytebuddy.instrumentation.method;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.scaffold.subclass.SubclassInstrumentedType;
+import net.bytebuddy.instrumentation.ModifierContributor;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.ClassFileExtraction;
+import net.bytebuddy.utility.JavaVersionRule;
+import net.bytebuddy.utility.PrecompiledTypeClassLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodLookupEngineDefaultMemoizingTest {
+
+    private static final String FOO = "foo", QUX = "qux.Baz", PREFIX = "net.bytebuddy.test.precompiled.";
+
+    @Rule
+    public MethodRule java8Rule = new JavaVersionRule(8);
+
+    private MethodLookupEngine.Default.MemoizingFactory memoizingFactory;
+
+    private MethodLookupEngine methodLookupEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        memoizingFactory = new MethodLookupEngine.Default.MemoizingFactory();
+        methodLookupEngine = MethodLookupEngine.Default.Factory.INSTANCE.make(ClassFileVersion.JAVA_V8);
+    }
+
+    private void assertEquivalentFinding(TypeDescription typeDescription) {
+        MethodLookupEngine.Finding expected = methodLookupEngine.process(typeDescription);
+        for (int index = 0; index < 2; index++) {
+            MethodLookupEngine.Finding finding = memoizingFactory.make(ClassFileVersion.JAVA_V8).process(typeDescription);
+            assertThat(finding.getTypeDescription(), is(expected.getTypeDescription()));
+            assertThat(asSet(finding.getInvokableMethods()), is(asSet(expected.getInvokableMethods())));
+            assertThat(finding.getInvokableDefaultMethods(), is(expected.getInvokableDefaultMethods()));
+        }
+    }
+
+    private static Set<MethodDescription> asSet(MethodList methodList) {
+        return new HashSet<MethodDescription>(methodList);
+    }
+
+    private static Class<?> loadInNewClassLoader(Class<?> type, Class<?>... dependencies) throws Exception {
+        Map<String, byte[]> typeDefinitions = new HashMap<String, byte[]>();
+        typeDefinitions.put(type.getName(), ClassFileExtraction.extract(type));
+        for (Class<?> dependency : dependencies) {
+            typeDefinitions.put(dependency.getName(), ClassFileExtraction.extract(dependency));
+        }
+        return Class.forName(type.getName(), false, new ByteArrayClassLoader.ChildFirst(MethodLookupEngineDefaultMemoizingTest.class.getClassLoader(), typeDefinitions));
+    }
+
+    private static TypeDescription subclass(Class<?> superClass, String name) {
+        return new SubclassInstrumentedType(ClassFileVersion.JAVA_V6,
+                new TypeDescription.ForLoadedType(superClass),
+                Collections.<TypeDescription>emptyList(),
+                ModifierContributor.EMPTY_MASK,
+                new NamingStrategy.Fixed(name));
+    }
+
+    @Test
+    public void testLoadedTypes() throws Exception {
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(Object.class));
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(String.class));
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(FooInterface.class));
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(Bar.class));
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(Qux.class));
+    }
+
+    @Test
+    public void testPackagePrivateVisibility() throws Exception {
+        TypeDescription samePackage = subclass(Bar.class, Bar.class.getPackage().getName() + "." + FOO);
+        TypeDescription otherPackage = subclass(Bar.class, QUX);
+        assertEquivalentFinding(samePackage);
+        assertEquivalentFinding(otherPackage);
+        MethodLookupEngine methodLookupEngine = memoizingFactory.make(ClassFileVersion.JAVA_V8);
+        assertThat(methodLookupEngine.process(samePackage).getInvokableMethods().size(),
+                is(methodLookupEngine.process(otherPackage).getInvokableMethods().size() + 1));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce
+    public void testDefaultMethods() throws Exception {
+        ClassLoader classLoader = new PrecompiledTypeClassLoader(getClass().getClassLoader());
+        for (String name : new String[]{"SingleDefaultMethodClass",
+                "SingleDefaultMethodOverridingClass",
+                "SingleDefaultMethodConflictingClass",
+                "SingleDefaultMethodAmbiguousInheritanceClass",
+                "SingleDefaultMethodAmbiguousManifestOverridingClass"}) {
+            assertEquivalentFinding(new TypeDescription.ForLoadedType(Class.forName(PREFIX + name, true, classLoader)));
+        }
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(Qux.class));
+        memoizingFactory.clear();
+        assertEquivalentFinding(new TypeDescription.ForLoadedType(Qux.class));
+    }
+
+    @Test
+    public void testMemoizedTypeCanBeUnloaded() throws Exception {
+        Reference<ClassLoader> classLoader = processInNewClassLoader();
+        for (int attempt = 0; attempt < 20 && classLoader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(classLoader.get(), nullValue());
+    }
+
+    private Reference<ClassLoader> processInNewClassLoader() throws Exception {
+        Class<?> type = loadInNewClassLoader(Bar.class, FooInterface.class);
+        assertEquivalentFinding(subclass(type, Bar.class.getPackage().getName() + "." + FOO));
+        return new WeakReference<ClassLoader>(type.getClassLoader());
+    }
+
+    public static interface FooInterface {
+
+        void foo();
+    }
+
+    public static class Bar implements FooInterface {
+
+        @Override
+        public void foo() {
+            /* empty */
+        }
+
+        void bar() {
+            /* empty */
+        }
+    }
+
+    public static class Qux extends Bar {
+
+        @Override
+        public String toString() {
+            return FOO;
+        }
+    }
+}
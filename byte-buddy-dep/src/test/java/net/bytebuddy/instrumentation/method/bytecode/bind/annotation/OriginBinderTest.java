@@ -61,6 +61,16 @@ public class OriginBinderTest extends AbstractAnnotationBinderTest<Origin> {
         assertThat(parameterBinding.isValid(), is(true));
     }
 
+    @Test
+    public void testMethodBindingWithLazyCache() throws Exception {
+        when(targetType.getInternalName()).thenReturn(FOO);
+        when(targetType.represents(Method.class)).thenReturn(true);
+        when(annotation.cacheMethodLazily()).thenReturn(true);
+        MethodDelegationBinder.ParameterBinding<?> parameterBinding = Origin.Binder.INSTANCE
+                .bind(annotation, INDEX, source, target, instrumentationTarget, assigner);
+        assertThat(parameterBinding.isValid(), is(true));
+    }
+
     @Test
     public void testStringBinding() throws Exception {
         when(targetType.getInternalName()).thenReturn(FOO);
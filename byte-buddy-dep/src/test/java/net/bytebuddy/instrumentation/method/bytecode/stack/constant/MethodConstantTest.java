@@ -17,6 +17,7 @@ import org.mockito.asm.Opcodes;
 import org.mockito.asm.Type;
 import org.objectweb.asm.MethodVisitor;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 
@@ -44,6 +45,8 @@ public class MethodConstantTest {
     private Instrumentation.Context instrumentationContext;
     @Mock
     private FieldDescription fieldDescription;
+    @Mock
+    private MethodDescription accessorMethod;
 
     @Before
     public void setUp() throws Exception {
@@ -60,6 +63,12 @@ public class MethodConstantTest {
         when(declaringType.getInternalName()).thenReturn(BAZ);
         when(fieldDescription.getInternalName()).thenReturn(FOO);
         when(fieldDescription.getDescriptor()).thenReturn(QUX);
+        when(accessorMethod.isStatic()).thenReturn(true);
+        when(accessorMethod.getDeclaringType()).thenReturn(declaringType);
+        when(accessorMethod.getInternalName()).thenReturn(QUX);
+        when(accessorMethod.getDescriptor()).thenReturn(FOO);
+        when(accessorMethod.getReturnType()).thenReturn(fieldType);
+        when(accessorMethod.getParameterTypes()).thenReturn(new TypeList.Empty());
     }
 
     @Test
@@ -87,6 +96,18 @@ public class MethodConstantTest {
         verifyNoMoreInteractions(instrumentationContext);
     }
 
+    @Test
+    public void testMethodCachedLazily() throws Exception {
+        when(instrumentationContext.cacheLazily(any(StackManipulation.class), any(TypeDescription.class))).thenReturn(accessorMethod);
+        StackManipulation.Size size = MethodConstant.forMethod(methodDescription).cachedLazily().apply(methodVisitor, instrumentationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitMethodInsn(Opcodes.INVOKESTATIC, BAZ, QUX, FOO, false);
+        verifyNoMoreInteractions(methodVisitor);
+        verify(instrumentationContext).cacheLazily(MethodConstant.forMethod(methodDescription), new TypeDescription.ForLoadedType(Method.class));
+        verifyNoMoreInteractions(instrumentationContext);
+    }
+
     @Test
     public void testConstructor() throws Exception {
         when(methodDescription.isConstructor()).thenReturn(true);
@@ -114,6 +135,18 @@ public class MethodConstantTest {
         verifyNoMoreInteractions(instrumentationContext);
     }
 
+    @Test
+    public void testConstructorCachedLazily() throws Exception {
+        when(methodDescription.isConstructor()).thenReturn(true);
+        when(instrumentationContext.cacheLazily(any(StackManipulation.class), any(TypeDescription.class))).thenReturn(accessorMethod);
+        StackManipulation.Size size = MethodConstant.forMethod(methodDescription).cachedLazily().apply(methodVisitor, instrumentationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        verify(methodVisitor).visitMethodInsn(Opcodes.INVOKESTATIC, BAZ, QUX, FOO, false);
+        verifyNoMoreInteractions(methodVisitor);
+        verify(instrumentationContext).cacheLazily(MethodConstant.forMethod(methodDescription), new TypeDescription.ForLoadedType(Constructor.class));
+        verifyNoMoreInteractions(instrumentationContext);
+    }
+
     @Test
     public void testHashCodeEquals() throws Exception {
         assertThat(MethodConstant.forMethod(methodDescription).hashCode(), is(MethodConstant.forMethod(methodDescription).hashCode()));
@@ -128,5 +161,9 @@ public class MethodConstantTest {
         assertThat(MethodConstant.forMethod(methodDescription).cached(), not(is(MethodConstant.forMethod(mock(MethodDescription.class)).cached())));
         assertThat(MethodConstant.forMethod(methodDescription).cached().hashCode(), not(is(MethodConstant.forMethod(methodDescription).hashCode())));
         assertThat(MethodConstant.forMethod(methodDescription).cached(), not(is((StackManipulation) MethodConstant.forMethod(methodDescription))));
+        assertThat(MethodConstant.forMethod(methodDescription).cachedLazily().hashCode(), is(MethodConstant.forMethod(methodDescription).cachedLazily().hashCode()));
+        assertThat(MethodConstant.forMethod(methodDescription).cachedLazily(), is(MethodConstant.forMethod(methodDescription).cachedLazily()));
+        assertThat(MethodConstant.forMethod(methodDescription).cachedLazily(), not(is(MethodConstant.forMethod(methodDescription).cached())));
+        assertThat(MethodConstant.forMethod(methodDescription).cachedLazily(), not(is(MethodConstant.forMethod(mock(MethodDescription.class)).cachedLazily())));
     }
 }
@@ -0,0 +1,124 @@
+package net.bytebuddy.instrumentation.method.matcher;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompiledMethodMatcherTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static List<MethodDescription> methods() {
+        List<MethodDescription> methodDescriptions = new ArrayList<MethodDescription>();
+        for (Class<?> type : new Class<?>[]{Object.class, String.class, Foo.class}) {
+            methodDescriptions.addAll(new MethodList.ForLoadedType(type));
+        }
+        return methodDescriptions;
+    }
+
+    private static List<MethodMatcher> matchers() {
+        return Arrays.<MethodMatcher>asList(named(FOO),
+                named(FOO).and(takesArguments(1)),
+                named(FOO).and(takesArguments(String.class)),
+                named(FOO).or(named(BAR)),
+                named(FOO).or(named(BAR).and(isPublic())),
+                named(FOO).or(isStatic()),
+                named(FOO).and(named(BAR)),
+                takesArguments(0).and(takesArguments(1)),
+                isPublic().and(isStatic()).and(takesArguments(1)),
+                isPublic().and(not(isStatic())),
+                named(QUX).and(any()),
+                named(QUX).and(none()),
+                isConstructor().and(takesArguments(0)),
+                nameStartsWith("to").and(takesArguments(0)),
+                any(),
+                none());
+    }
+
+    @Test
+    public void testCompiledMatcherIsEquivalent() throws Exception {
+        for (MethodMatcher methodMatcher : matchers()) {
+            CompiledMethodMatcher compiledMethodMatcher = MethodMatchers.compile(methodMatcher);
+            for (MethodDescription methodDescription : methods()) {
+                assertThat(methodMatcher + " for " + methodDescription,
+                        compiledMethodMatcher.matches(methodDescription),
+                        is(methodMatcher.matches(methodDescription)));
+            }
+        }
+    }
+
+    @Test
+    public void testNamesAreHoisted() throws Exception {
+        assertThat(MethodMatchers.compile(named(FOO)).getNames(), is(Collections.singleton(FOO)));
+        assertThat(MethodMatchers.compile(named(FOO)).isNameOnly(), is(true));
+        assertThat(MethodMatchers.compile(named(FOO).or(named(BAR))).getNames().size(), is(2));
+        assertThat(MethodMatchers.compile(named(FOO).or(named(BAR))).isNameOnly(), is(true));
+        assertThat(MethodMatchers.compile(named(FOO).or(named(BAR).and(isPublic()))).getNames().size(), is(2));
+        assertThat(MethodMatchers.compile(named(FOO).or(named(BAR).and(isPublic()))).isNameOnly(), is(false));
+        assertThat(MethodMatchers.compile(named(FOO).or(isStatic())).getNames(), nullValue());
+        assertThat(MethodMatchers.compile(named(FOO).and(named(BAR))).getNames().size(), is(0));
+        assertThat(MethodMatchers.compile(named(FOO).and(none())).getNames().size(), is(0));
+    }
+
+    @Test
+    public void testCompiledMatcherIsNotRecompiled() throws Exception {
+        CompiledMethodMatcher compiledMethodMatcher = MethodMatchers.compile(named(FOO));
+        assertThat(MethodMatchers.compile(compiledMethodMatcher), sameInstance(compiledMethodMatcher));
+    }
+
+    @Test
+    public void testHashCodeEquals() throws Exception {
+        assertThat(MethodMatchers.compile(named(FOO).and(takesArguments(1))).hashCode(),
+                is(MethodMatchers.compile(named(FOO).and(takesArguments(1))).hashCode()));
+        assertThat(MethodMatchers.compile(named(FOO).and(takesArguments(1))),
+                is(MethodMatchers.compile(named(FOO).and(takesArguments(1)))));
+        assertThat(MethodMatchers.compile(named(FOO).and(takesArguments(1))),
+                not(is(MethodMatchers.compile(named(FOO).and(takesArguments(2))))));
+        assertThat(MethodMatchers.compile(named(FOO)), not(is(MethodMatchers.compile(named(BAR)))));
+    }
+
+    @SuppressWarnings("unused")
+    public static class Foo {
+
+        public Foo() {
+            /* empty */
+        }
+
+        public Foo(String value) {
+            /* empty */
+        }
+
+        public void foo() {
+            /* empty */
+        }
+
+        public void foo(String value) {
+            /* empty */
+        }
+
+        public static void foo(Object value) {
+            /* empty */
+        }
+
+        public void bar() {
+            /* empty */
+        }
+
+        protected void bar(int value) {
+            /* empty */
+        }
+
+        private static void qux() {
+            /* empty */
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package net.bytebuddy.instrumentation.method.matcher;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodMatcherIndexTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private List<MethodMatcher> methodMatchers;
+
+    private MethodMatcherIndex methodMatcherIndex;
+
+    private MethodList methodList;
+
+    @Before
+    public void setUp() throws Exception {
+        methodMatchers = new ArrayList<MethodMatcher>();
+        methodMatchers.add(named(FOO).and(takesArguments(1)));
+        methodMatchers.add(isStatic());
+        methodMatchers.add(named(BAR).or(named(FOO)));
+        methodMatchers.add(isConstructor());
+        methodMatchers.add(named(QUX).and(none()));
+        methodMatcherIndex = new MethodMatcherIndex(methodMatchers);
+        methodList = new MethodList.ForLoadedType(CompiledMethodMatcherTest.Foo.class);
+    }
+
+    @Test
+    public void testIndexOfIsFirstMatch() throws Exception {
+        for (MethodDescription methodDescription : methodList) {
+            int expected = MethodMatcherIndex.NO_MATCH;
+            for (int index = 0; index < methodMatchers.size(); index++) {
+                if (methodMatchers.get(index).matches(methodDescription)) {
+                    expected = index;
+                    break;
+                }
+            }
+            assertThat(methodDescription.toString(), methodMatcherIndex.indexOf(methodDescription), is(expected));
+        }
+    }
+
+    @Test
+    public void testMatchingContainsAllMatches() throws Exception {
+        for (MethodDescription methodDescription : methodList) {
+            for (int index = 0; index < methodMatchers.size(); index++) {
+                assertThat(methodDescription.toString(),
+                        methodMatcherIndex.matching(methodDescription).get(index),
+                        is(methodMatchers.get(index).matches(methodDescription)));
+            }
+        }
+    }
+
+    @Test
+    public void testFilter() throws Exception {
+        List<MethodDescription> filteredMethods = new ArrayList<MethodDescription>();
+        for (MethodDescription methodDescription : methodList) {
+            for (MethodMatcher methodMatcher : methodMatchers) {
+                if (methodMatcher.matches(methodDescription)) {
+                    filteredMethods.add(methodDescription);
+                    break;
+                }
+            }
+        }
+        assertThat(methodMatcherIndex.filter(methodList), is((MethodList) new MethodList.Explicit(filteredMethods)));
+    }
+
+    @Test
+    public void testEmptyIndex() throws Exception {
+        for (MethodDescription methodDescription : methodList) {
+            assertThat(new MethodMatcherIndex().indexOf(methodDescription), is(MethodMatcherIndex.NO_MATCH));
+        }
+    }
+
+    @Test
+    public void testHashCodeEquals() throws Exception {
+        assertThat(new MethodMatcherIndex(methodMatchers).hashCode(), is(methodMatcherIndex.hashCode()));
+        assertThat(new MethodMatcherIndex(methodMatchers), is(methodMatcherIndex));
+        assertThat(new MethodMatcherIndex(named(FOO)), not(is(methodMatcherIndex)));
+    }
+}
@@ -1,16 +1,22 @@
 package net.bytebuddy.instrumentation.type;
 
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.instrumentation.method.MethodDescription;
 import net.bytebuddy.instrumentation.method.bytecode.stack.StackSize;
 import net.bytebuddy.test.packaging.PackagePrivateType;
+import net.bytebuddy.utility.ClassFileExtraction;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.asm.Type;
 
 import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
@@ -430,6 +436,42 @@ public class TypeDescriptionForLoadedTypeTest {
         assertThat(objectArrayType.hashCode(), is(Object[].class.getName().hashCode()));
     }
 
+    @Test
+    public void testCanonicalDescription() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.of(Object.class), sameInstance(TypeDescription.ForLoadedType.of(Object.class)));
+        assertThat(TypeDescription.ForLoadedType.of(int.class), sameInstance(TypeDescription.ForLoadedType.of(int.class)));
+        assertThat(TypeDescription.ForLoadedType.of(getClass()), sameInstance(TypeDescription.ForLoadedType.of(getClass())));
+        assertThat(TypeDescription.ForLoadedType.of(getClass()), is((TypeDescription) new TypeDescription.ForLoadedType(getClass())));
+        assertThat(TypeDescription.ForLoadedType.of(getClass()).represents(getClass()), is(true));
+    }
+
+    @Test
+    public void testCanonicalDescriptionDoesNotPreventUnloading() throws Exception {
+        Reference<ClassLoader> classLoader = describeInNewClassLoader();
+        for (int attempt = 0; attempt < 20 && classLoader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(classLoader.get(), nullValue());
+    }
+
+    private static Reference<ClassLoader> describeInNewClassLoader() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(TypeDescriptionForLoadedTypeTest.class.getClassLoader(),
+                Collections.singletonMap(Unloadable.class.getName(), ClassFileExtraction.extract(Unloadable.class)));
+        Class<?> type = Class.forName(Unloadable.class.getName(), false, classLoader);
+        assertThat(type.getClassLoader(), is(classLoader));
+        assertThat(TypeDescription.ForLoadedType.of(type), sameInstance(TypeDescription.ForLoadedType.of(type)));
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+    @Test
+    public void testCanonicalRelatives() throws Exception {
+        assertThat(integerType.getSupertype(), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(Number.class)));
+        assertThat(objectArrayType.getComponentType(), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(Object.class)));
+        assertThat(numberType.getInterfaces(), sameInstance(numberType.getInterfaces()));
+        assertThat(numberType.getInterfaces().get(0), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(Serializable.class)));
+    }
+
     @Test
     public void testEquals() throws Exception {
         assertTypeEquality(objectType, Object.class);
@@ -440,4 +482,8 @@ public class TypeDescriptionForLoadedTypeTest {
         assertTypeEquality(serializableType, Serializable.class);
         assertTypeEquality(objectArrayType, Object[].class);
     }
+
+    public static class Unloadable {
+        /* empty */
+    }
 }
@@ -8,6 +8,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class TypeListForLoadedTypeTest {
 
@@ -27,6 +28,13 @@ public class TypeListForLoadedTypeTest {
         assertThat(typeList.getStackSize(), is(4));
     }
 
+    @Test
+    public void testCanonicalRetrieval() throws Exception {
+        assertThat(typeList.get(0), sameInstance(typeList.get(0)));
+        assertThat(typeList.get(0), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(Object.class)));
+        assertThat(typeList.get(2), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(long.class)));
+    }
+
     @Test
     public void testInternalNames() throws Exception {
         String[] internalName = typeList.toInternalNames();
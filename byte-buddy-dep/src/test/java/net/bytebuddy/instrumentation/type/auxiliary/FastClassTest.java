@@ -0,0 +1,252 @@
+package net.bytebuddy.instrumentation.type.auxiliary;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.utility.JavaVersionRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+public class FastClassTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Rule
+    public MethodRule java8Rule = new JavaVersionRule(8);
+
+    private FastClass fastClass;
+
+    @Before
+    public void setUp() throws Throwable {
+        fastClass = FastClass.of(Foo.class);
+    }
+
+    @Test
+    public void testType() throws Throwable {
+        assertThat(fastClass.getType(), is((Object) Foo.class));
+        assertThat(fastClass.getClass().getName(), is(Foo.class.getName() + "$ByteBuddy$FastClass"));
+    }
+
+    @Test
+    public void testConstructors() throws Throwable {
+        Foo foo = (Foo) fastClass.newInstance(fastClass.getConstructorIndex(), new Object[0]);
+        assertThat(foo.value, is(0L));
+        foo = (Foo) fastClass.newInstance(fastClass.getConstructorIndex(long.class), new Object[]{42L});
+        assertThat(foo.value, is(42L));
+        foo = (Foo) fastClass.newInstance(fastClass.getConstructorIndex(String.class, int.class), new Object[]{FOO, 1});
+        assertThat(foo.value, is(4L));
+        assertThat(fastClass.getConstructorIndex(Object.class), is(FastClass.NO_INDEX));
+    }
+
+    @Test
+    public void testInstanceMethods() throws Throwable {
+        Foo foo = new Foo(40L);
+        assertThat(fastClass.invoke(fastClass.getIndex(BAR, int.class, double.class), foo, new Object[]{1, 1d}), is((Object) 42d));
+        assertThat(fastClass.invoke(fastClass.getIndex(BAR, String.class), foo, new Object[]{FOO}), is((Object) (FOO + 40L)));
+        assertThat(fastClass.invoke(fastClass.getIndex(BAR), foo, new Object[0]), is((Object) 40L));
+        assertThat(fastClass.invoke(fastClass.getIndex(Foo.class.getMethod(QUX, boolean.class, char.class)), foo, new Object[]{true, 'a'}),
+                is((Object) 'b'));
+        assertThat(fastClass.invoke(fastClass.getIndex("set", long.class), foo, new Object[]{1L}), nullValue());
+        assertThat(foo.value, is(1L));
+        assertThat(fastClass.invoke(fastClass.getIndex("toString"), foo, new Object[0]), is((Object) foo.toString()));
+        assertThat(fastClass.invoke(fastClass.getIndex("equals", Object.class), foo, new Object[]{foo}), is((Object) true));
+    }
+
+    @Test
+    public void testStaticMethod() throws Throwable {
+        assertThat(fastClass.invoke(fastClass.getIndex(FOO, int.class), null, new Object[]{1}), is((Object) 2));
+    }
+
+    @Test
+    public void testInheritedMethod() throws Throwable {
+        Foo foo = new Foo(1L);
+        assertThat(fastClass.invoke(fastClass.getIndex("inherited"), foo, new Object[0]), is((Object) QUX));
+    }
+
+    @Test
+    public void testNonRepresentedMethods() throws Throwable {
+        assertThat(fastClass.getIndex("hidden"), is(FastClass.NO_INDEX));
+        assertThat(fastClass.getIndex(BAR, Object.class), is(FastClass.NO_INDEX));
+    }
+
+    @Test
+    public void testMethodsInheritedFromNonPublicType() throws Throwable {
+        FastClass fastClass = FastClass.of(Exposed.class);
+        assertThat(fastClass.invoke(fastClass.getIndex("visible"), new Exposed(), new Object[0]), is((Object) FOO));
+        assertThat(fastClass.getIndex("hidden"), is(FastClass.NO_INDEX));
+    }
+
+    @Test
+    public void testJavaVisibilityBridge() throws Throwable {
+        FastClass fastClass = FastClass.of(StringBuilder.class);
+        assertThat(fastClass.invoke(fastClass.getIndex("length"), new StringBuilder(FOO), new Object[0]), is((Object) 3));
+    }
+
+    @Test(expected = IOException.class)
+    public void testExceptionIsNotWrapped() throws Throwable {
+        fastClass.invoke(fastClass.getIndex("fail"), new Foo(), new Object[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalMethodIndex() throws Throwable {
+        fastClass.invoke(FastClass.NO_INDEX, new Foo(), new Object[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalConstructorIndex() throws Throwable {
+        fastClass.newInstance(Integer.MAX_VALUE, new Object[0]);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testIllegalArgument() throws Throwable {
+        fastClass.invoke(fastClass.getIndex(BAR, String.class), new Foo(), new Object[]{1});
+    }
+
+    @Test
+    public void testJavaType() throws Throwable {
+        FastClass fastClass = FastClass.of(ArrayList.class);
+        assertThat(fastClass.getClass().getName(), is("net.bytebuddy.renamed." + ArrayList.class.getName() + "$ByteBuddy$FastClass"));
+        @SuppressWarnings("unchecked")
+        List<Object> list = (List<Object>) fastClass.newInstance(fastClass.getConstructorIndex(), new Object[0]);
+        fastClass.invoke(fastClass.getIndex("add", Object.class), list, new Object[]{FOO});
+        assertThat(list, is(Arrays.<Object>asList(FOO)));
+    }
+
+    @Test
+    public void testInterface() throws Throwable {
+        FastClass fastClass = FastClass.of(Runnable.class);
+        assertThat(fastClass.getConstructorIndex(), is(FastClass.NO_INDEX));
+        Bar bar = new Bar();
+        assertThat(fastClass.invoke(fastClass.getIndex("run"), bar, new Object[0]), nullValue());
+        assertThat(bar.run, is(true));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce
+    public void testInterfaceStaticMethodExcluded() throws Throwable {
+        FastClass fastClass = FastClass.of(Comparator.class);
+        assertThat(fastClass.getIndex("naturalOrder"), is(FastClass.NO_INDEX));
+        assertThat(fastClass.getIndex("compare", Object.class, Object.class), not(FastClass.NO_INDEX));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPublicType() throws Throwable {
+        FastClass.of(Bar.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrimitiveType() throws Throwable {
+        FastClass.of(int.class);
+    }
+
+    @Test
+    public void testGeneratorEqualsHashCode() throws Throwable {
+        assertThat(new FastClass.Generator(new TypeDescription.ForLoadedType(Foo.class)).hashCode(),
+                is(new FastClass.Generator(new TypeDescription.ForLoadedType(Foo.class)).hashCode()));
+        assertThat(new FastClass.Generator(new TypeDescription.ForLoadedType(Foo.class)),
+                is(new FastClass.Generator(new TypeDescription.ForLoadedType(Foo.class))));
+        assertThat(new FastClass.Generator(new TypeDescription.ForLoadedType(Foo.class)).hashCode(),
+                not(is(new FastClass.Generator(new TypeDescription.ForLoadedType(Object.class)).hashCode())));
+        assertThat(new FastClass.Generator(new TypeDescription.ForLoadedType(Foo.class)),
+                not(is(new FastClass.Generator(new TypeDescription.ForLoadedType(Object.class)))));
+    }
+
+    @Test
+    public void testToString() throws Throwable {
+        assertThat(fastClass.toString(), is("FastClass{type=" + Foo.class + "}"));
+        assertThat(fastClass, instanceOf(FastClass.class));
+    }
+
+    public static class Qux {
+
+        public String inherited() {
+            return QUX;
+        }
+    }
+
+    public static class Foo extends Qux {
+
+        private long value;
+
+        public Foo() {
+            /* empty */
+        }
+
+        public Foo(long value) {
+            this.value = value;
+        }
+
+        public Foo(String value, int offset) {
+            this.value = value.length() + offset;
+        }
+
+        public static int foo(int value) {
+            return value + 1;
+        }
+
+        public double bar(int first, double second) {
+            return value + first + second;
+        }
+
+        public String bar(String prefix) {
+            return prefix + value;
+        }
+
+        public long bar() {
+            return value;
+        }
+
+        public char qux(boolean increment, char value) {
+            return increment ? (char) (value + 1) : value;
+        }
+
+        public void set(long value) {
+            this.value = value;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException();
+        }
+
+        void hidden() {
+            /* empty */
+        }
+    }
+
+    static class Hidden {
+
+        public static String hidden() {
+            return BAR;
+        }
+
+        public String visible() {
+            return FOO;
+        }
+    }
+
+    public static class Exposed extends Hidden {
+        /* empty */
+    }
+
+    static class Bar implements Runnable {
+
+        private boolean run;
+
+        @Override
+        public void run() {
+            run = true;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package net.bytebuddy.instrumentation.type.auxiliary;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Point;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+public class FastFieldAccessorTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private FastFieldAccessor fastFieldAccessor;
+
+    @Before
+    public void setUp() throws Exception {
+        fastFieldAccessor = FastFieldAccessor.of(Foo.class);
+    }
+
+    @Test
+    public void testType() throws Exception {
+        assertThat(fastFieldAccessor.getType(), is((Object) Foo.class));
+        assertThat(fastFieldAccessor.getClass().getName(), is(Foo.class.getName() + "$ByteBuddy$FastFieldAccessor"));
+    }
+
+    @Test
+    public void testIndices() throws Exception {
+        assertThat(fastFieldAccessor.getIndex(BAR), is(0));
+        assertThat(fastFieldAccessor.getIndex("booleanValue"), is(1));
+        assertThat(fastFieldAccessor.getIndex("stringValue"), is(11));
+        assertThat(fastFieldAccessor.getIndex(QUX), is(13));
+        assertThat(fastFieldAccessor.getIndex("hidden"), is(FastFieldAccessor.NO_INDEX));
+        assertThat(fastFieldAccessor.getIndex("constant"), is(FastFieldAccessor.NO_INDEX));
+    }
+
+    @Test
+    public void testTypedAccess() throws Exception {
+        Foo foo = new Foo();
+        fastFieldAccessor.setBoolean(foo, fastFieldAccessor.getIndex("booleanValue"), true);
+        fastFieldAccessor.setByte(foo, fastFieldAccessor.getIndex("byteValue"), (byte) 1);
+        fastFieldAccessor.setShort(foo, fastFieldAccessor.getIndex("shortValue"), (short) 2);
+        fastFieldAccessor.setChar(foo, fastFieldAccessor.getIndex("charValue"), 'a');
+        fastFieldAccessor.setInt(foo, fastFieldAccessor.getIndex("intValue"), 3);
+        fastFieldAccessor.setLong(foo, fastFieldAccessor.getIndex("longValue"), 4L);
+        fastFieldAccessor.setFloat(foo, fastFieldAccessor.getIndex("floatValue"), 5f);
+        fastFieldAccessor.setDouble(foo, fastFieldAccessor.getIndex("doubleValue"), 6d);
+        assertThat(foo.booleanValue, is(true));
+        assertThat(foo.byteValue, is((byte) 1));
+        assertThat(foo.shortValue, is((short) 2));
+        assertThat(foo.charValue, is('a'));
+        assertThat(foo.intValue, is(3));
+        assertThat(foo.longValue, is(4L));
+        assertThat(foo.floatValue, is(5f));
+        assertThat(foo.doubleValue, is(6d));
+        assertThat(fastFieldAccessor.getBoolean(foo, fastFieldAccessor.getIndex("booleanValue")), is(true));
+        assertThat(fastFieldAccessor.getByte(foo, fastFieldAccessor.getIndex("byteValue")), is((byte) 1));
+        assertThat(fastFieldAccessor.getShort(foo, fastFieldAccessor.getIndex("shortValue")), is((short) 2));
+        assertThat(fastFieldAccessor.getChar(foo, fastFieldAccessor.getIndex("charValue")), is('a'));
+        assertThat(fastFieldAccessor.getInt(foo, fastFieldAccessor.getIndex("intValue")), is(3));
+        assertThat(fastFieldAccessor.getLong(foo, fastFieldAccessor.getIndex("longValue")), is(4L));
+        assertThat(fastFieldAccessor.getFloat(foo, fastFieldAccessor.getIndex("floatValue")), is(5f));
+        assertThat(fastFieldAccessor.getDouble(foo, fastFieldAccessor.getIndex("doubleValue")), is(6d));
+    }
+
+    @Test
+    public void testObjectAccess() throws Exception {
+        Foo foo = new Foo();
+        fastFieldAccessor.setObject(foo, fastFieldAccessor.getIndex("stringValue"), FOO);
+        fastFieldAccessor.setObject(foo, fastFieldAccessor.getIndex("longValue"), 42L);
+        assertThat(foo.stringValue, is(FOO));
+        assertThat(foo.longValue, is(42L));
+        assertThat(fastFieldAccessor.getObject(foo, fastFieldAccessor.getIndex("stringValue")), is((Object) FOO));
+        assertThat(fastFieldAccessor.getObject(foo, fastFieldAccessor.getIndex("longValue")), is((Object) 42L));
+        assertThat(fastFieldAccessor.getObject(foo, fastFieldAccessor.getIndex("finalValue")), is((Object) BAR));
+        assertThat(fastFieldAccessor.getObject(foo, fastFieldAccessor.getIndex("objectValue")), nullValue());
+    }
+
+    @Test
+    public void testInheritedAndHiddenFields() throws Exception {
+        Foo foo = new Foo();
+        fastFieldAccessor.setObject(foo, fastFieldAccessor.getIndex(QUX), FOO);
+        fastFieldAccessor.setInt(foo, fastFieldAccessor.getIndex(BAR), 1);
+        assertThat(((Qux) foo).qux, is(FOO));
+        assertThat(((Qux) foo).bar, nullValue());
+        assertThat(fastFieldAccessor.getInt(foo, fastFieldAccessor.getIndex(BAR)), is(1));
+        fastFieldAccessor.setObject(foo, 12, QUX);
+        assertThat(((Qux) foo).bar, is(QUX));
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        Foo from = new Foo(), to = new Foo();
+        from.intValue = 42;
+        from.stringValue = FOO;
+        from.objectValue = from;
+        ((Qux) from).bar = BAR;
+        from.qux = QUX;
+        fastFieldAccessor.copy(from, to);
+        assertThat(to.intValue, is(42));
+        assertThat(to.stringValue, is(FOO));
+        assertThat(to.objectValue, is((Object) from));
+        assertThat(((Qux) to).bar, is(BAR));
+        assertThat(to.qux, is(QUX));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalIndex() throws Exception {
+        fastFieldAccessor.getObject(new Foo(), FastFieldAccessor.NO_INDEX);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalFieldType() throws Exception {
+        fastFieldAccessor.getLong(new Foo(), fastFieldAccessor.getIndex("intValue"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFinalFieldCannotBeWritten() throws Exception {
+        fastFieldAccessor.setObject(new Foo(), fastFieldAccessor.getIndex("finalValue"), FOO);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testIllegalTarget() throws Exception {
+        fastFieldAccessor.getInt(new Object(), fastFieldAccessor.getIndex("intValue"));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testIllegalValue() throws Exception {
+        fastFieldAccessor.setObject(new Foo(), fastFieldAccessor.getIndex("intValue"), FOO);
+    }
+
+    @Test
+    public void testTypeWithoutTypedFields() throws Exception {
+        FastFieldAccessor fastFieldAccessor = FastFieldAccessor.of(Object.class);
+        assertThat(fastFieldAccessor.getIndex(FOO), is(FastFieldAccessor.NO_INDEX));
+        fastFieldAccessor.copy(new Object(), new Object());
+    }
+
+    @Test
+    public void testJavaType() throws Exception {
+        FastFieldAccessor fastFieldAccessor = FastFieldAccessor.of(Point.class);
+        assertThat(fastFieldAccessor.getClass().getName(), is("net.bytebuddy.renamed." + Point.class.getName() + "$ByteBuddy$FastFieldAccessor"));
+        Point point = new Point(1, 2);
+        assertThat(fastFieldAccessor.getInt(point, fastFieldAccessor.getIndex("y")), is(2));
+    }
+
+    @Test
+    public void testFieldsInheritedFromNonPublicType() throws Exception {
+        FastFieldAccessor fastFieldAccessor = FastFieldAccessor.of(Visible.class);
+        Visible visible = new Visible();
+        fastFieldAccessor.setObject(visible, fastFieldAccessor.getIndex("inherited"), FOO);
+        assertThat(visible.inherited, is(FOO));
+        assertThat(fastFieldAccessor.getObject(visible, fastFieldAccessor.getIndex("inherited")), is((Object) FOO));
+        Visible target = new Visible();
+        fastFieldAccessor.copy(visible, target);
+        assertThat(target.inherited, is(FOO));
+        assertThat(fastFieldAccessor.getIndex("shadowed"), is(FastFieldAccessor.NO_INDEX));
+    }
+
+    @Test
+    public void testFieldOfNonPublicTypeCanBeRead() throws Exception {
+        FastFieldAccessor fastFieldAccessor = FastFieldAccessor.of(Pub.class);
+        Pub pub = new Pub();
+        pub.hid = new Hid();
+        assertThat(fastFieldAccessor.getObject(pub, fastFieldAccessor.getIndex("hid")), is((Object) pub.hid));
+        Pub target = new Pub();
+        fastFieldAccessor.copy(pub, target);
+        assertThat(target.hid, is(pub.hid));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFieldOfNonPublicTypeCannotBeWritten() throws Exception {
+        FastFieldAccessor fastFieldAccessor = FastFieldAccessor.of(Pub.class);
+        fastFieldAccessor.setObject(new Pub(), fastFieldAccessor.getIndex("hid"), new Hid());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFieldOfNonPublicArrayTypeCannotBeWritten() throws Exception {
+        FastFieldAccessor fastFieldAccessor = FastFieldAccessor.of(Pub.class);
+        fastFieldAccessor.setObject(new Pub(), fastFieldAccessor.getIndex("hids"), new Hid[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPublicType() throws Exception {
+        FastFieldAccessor.of(Bar.class);
+    }
+
+    @Test
+    public void testGeneratorEqualsHashCode() throws Exception {
+        assertThat(new FastFieldAccessor.Generator(new TypeDescription.ForLoadedType(Foo.class)).hashCode(),
+                is(new FastFieldAccessor.Generator(new TypeDescription.ForLoadedType(Foo.class)).hashCode()));
+        assertThat(new FastFieldAccessor.Generator(new TypeDescription.ForLoadedType(Foo.class)),
+                is(new FastFieldAccessor.Generator(new TypeDescription.ForLoadedType(Foo.class))));
+        assertThat(new FastFieldAccessor.Generator(new TypeDescription.ForLoadedType(Foo.class)),
+                not(is(new FastFieldAccessor.Generator(new TypeDescription.ForLoadedType(Object.class)))));
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        assertThat(fastFieldAccessor.toString(), is("FastFieldAccessor{type=" + Foo.class + "}"));
+    }
+
+    public static class Qux {
+
+        public String qux;
+
+        public String bar;
+    }
+
+    public static class Foo extends Qux {
+
+        public static final String constant = FOO;
+
+        public boolean booleanValue;
+
+        public byte byteValue;
+
+        public char charValue;
+
+        public double doubleValue;
+
+        public final String finalValue = BAR;
+
+        public float floatValue;
+
+        public int intValue;
+
+        public long longValue;
+
+        public Object objectValue;
+
+        public short shortValue;
+
+        public String stringValue;
+
+        public int bar;
+
+        int hidden;
+    }
+
+    static class Bar {
+
+        public int foo;
+    }
+
+    static class HiddenBase {
+
+        public String inherited;
+
+        public String shadowed;
+    }
+
+    static class Shadowing extends HiddenBase {
+
+        String shadowed;
+    }
+
+    public static class Visible extends Shadowing {
+        /* empty */
+    }
+
+    static class Hid {
+        /* empty */
+    }
+
+    public static class Pub {
+
+        public Hid hid;
+
+        public Hid[] hids;
+    }
+}
@@ -1,6 +1,7 @@
 package net.bytebuddy.instrumentation.type.auxiliary;
 
 import net.bytebuddy.instrumentation.Instrumentation;
+import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.utility.MockitoRule;
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +20,9 @@ public class MethodCallProxyEqualsHashCodeTest {
     @Mock
     private Instrumentation.SpecialMethodInvocation first, second;
 
+    @Mock
+    private TypeDescription proxyType;
+
     @Test
     public void testEqualsHashCode() throws Exception {
         assertThat(new MethodCallProxy(first, false).hashCode(), is(new MethodCallProxy(first, false).hashCode()));
@@ -38,4 +42,16 @@ public class MethodCallProxyEqualsHashCodeTest {
         assertThat(new MethodCallProxy.AssignableSignatureCall(first, false),
                 not(is(new MethodCallProxy.AssignableSignatureCall(second, false))));
     }
+
+    @Test
+    public void testInvokeDynamicCallEqualsHashCode() throws Exception {
+        assertThat(new MethodCallProxy.InvokeDynamicCall(first, proxyType, false).hashCode(),
+                is(new MethodCallProxy.InvokeDynamicCall(first, proxyType, false).hashCode()));
+        assertThat(new MethodCallProxy.InvokeDynamicCall(first, proxyType, false),
+                is(new MethodCallProxy.InvokeDynamicCall(first, proxyType, false)));
+        assertThat(new MethodCallProxy.InvokeDynamicCall(first, proxyType, false).hashCode(),
+                not(is(new MethodCallProxy.InvokeDynamicCall(second, proxyType, false).hashCode())));
+        assertThat(new MethodCallProxy.InvokeDynamicCall(first, proxyType, false),
+                not(is(new MethodCallProxy.InvokeDynamicCall(first, proxyType, true))));
+    }
 }
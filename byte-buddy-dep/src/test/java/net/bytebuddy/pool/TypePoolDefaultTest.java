@@ -0,0 +1,305 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.FixedValue;
+import net.bytebuddy.instrumentation.field.FieldDescription;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodLookupEngine;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolDefaultTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private List<String> locatedTypes;
+
+    private TypePool typePool;
+
+    @Before
+    public void setUp() throws Exception {
+        locatedTypes = new ArrayList<String>();
+        typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), new RecordingClassFileLocator());
+    }
+
+    private void assertEquivalent(Class<?> type) {
+        TypeDescription loaded = new TypeDescription.ForLoadedType(type);
+        TypeDescription pooled = typePool.describe(type.getName());
+        assertThat(pooled, is(loaded));
+        assertThat(pooled.getName(), is(loaded.getName()));
+        assertThat(pooled.getInternalName(), is(loaded.getInternalName()));
+        assertThat(pooled.getDescriptor(), is(loaded.getDescriptor()));
+        assertThat(pooled.getModifiers(), is(loaded.getModifiers()));
+        assertThat(pooled.getSupertype(), is(loaded.getSupertype()));
+        assertThat(pooled.getInterfaces(), is((List<TypeDescription>) loaded.getInterfaces()));
+        assertThat(pooled.getSimpleName(), is(loaded.getSimpleName()));
+        assertThat(pooled.getCanonicalName(), is(loaded.getCanonicalName()));
+        assertThat(pooled.getPackageName(), is(loaded.getPackageName()));
+        assertThat(pooled.isMemberClass(), is(loaded.isMemberClass()));
+        assertThat(pooled.isLocalClass(), is(loaded.isLocalClass()));
+        assertThat(pooled.isAnonymousClass(), is(loaded.isAnonymousClass()));
+        assertThat(pooled.getDeclaringType(), is(loaded.getDeclaringType()));
+        assertThat(pooled.getEnclosingClass(), is(loaded.getEnclosingClass()));
+        assertThat(pooled.getEnclosingMethod(), is(loaded.getEnclosingMethod()));
+        assertThat(pooled.getDeclaredFields().size(), is(loaded.getDeclaredFields().size()));
+        for (FieldDescription fieldDescription : loaded.getDeclaredFields()) {
+            FieldDescription pooledField = pooled.getDeclaredFields().named(fieldDescription.getName());
+            assertThat(pooledField.getModifiers(), is(fieldDescription.getModifiers()));
+            assertThat(pooledField.getFieldType(), is(fieldDescription.getFieldType()));
+            assertThat(pooledField.getDeclaringType(), is(pooled));
+        }
+        assertThat(pooled.getDeclaredMethods().size(), is(loaded.getDeclaredMethods().size()));
+        Map<String, MethodDescription> pooledMethods = new HashMap<String, MethodDescription>();
+        for (MethodDescription methodDescription : pooled.getDeclaredMethods()) {
+            pooledMethods.put(methodDescription.getUniqueSignature(), methodDescription);
+        }
+        for (MethodDescription methodDescription : loaded.getDeclaredMethods()) {
+            MethodDescription pooledMethod = pooledMethods.get(methodDescription.getUniqueSignature());
+            assertThat(pooledMethod, is(methodDescription));
+            assertThat(pooledMethod.getName(), is(methodDescription.getName()));
+            assertThat(pooledMethod.getModifiers(), is(methodDescription.getModifiers()));
+            assertThat(pooledMethod.getReturnType(), is(methodDescription.getReturnType()));
+            assertThat(pooledMethod.getParameterTypes(), is((List<TypeDescription>) methodDescription.getParameterTypes()));
+            assertThat(pooledMethod.getParameterTypes().getStackSize(), is(methodDescription.getParameterTypes().getStackSize()));
+            assertThat(pooledMethod.getExceptionTypes(), is((List<TypeDescription>) methodDescription.getExceptionTypes()));
+            assertThat(pooledMethod.getStackSize(), is(methodDescription.getStackSize()));
+        }
+    }
+
+    @Test
+    public void testTopLevelTypes() throws Exception {
+        assertEquivalent(Object.class);
+        assertEquivalent(String.class);
+        assertEquivalent(ArrayList.class);
+        assertEquivalent(Runnable.class);
+        assertEquivalent(Thread.State.class);
+    }
+
+    @Test
+    public void testMemberTypes() throws Exception {
+        assertEquivalent(Sample.class);
+        assertEquivalent(Sample.Member.class);
+        assertEquivalent(SampleInterface.class);
+    }
+
+    @Test
+    public void testLocalAndAnonymousTypes() throws Exception {
+        class Local {
+            /* empty */
+        }
+        Runnable anonymous = new Runnable() {
+            @Override
+            public void run() {
+                /* empty */
+            }
+        };
+        assertEquivalent(Local.class);
+        assertEquivalent(anonymous.getClass());
+    }
+
+    @Test
+    public void testPrimitiveTypes() throws Exception {
+        assertThat(typePool.describe(int.class.getName()), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(int.class)));
+        assertThat(typePool.describe(void.class.getName()), sameInstance((TypeDescription) TypeDescription.ForLoadedType.of(void.class)));
+        assertThat(locatedTypes.size(), is(0));
+    }
+
+    @Test
+    public void testArrayTypes() throws Exception {
+        for (Class<?> type : Arrays.<Class<?>>asList(int[].class, String[][].class, Sample[].class)) {
+            TypeDescription loaded = new TypeDescription.ForLoadedType(type);
+            TypeDescription pooled = typePool.describe(type.getName());
+            assertThat(pooled, is(loaded));
+            assertThat(pooled.isArray(), is(true));
+            assertThat(pooled.getDescriptor(), is(loaded.getDescriptor()));
+            assertThat(pooled.getInternalName(), is(loaded.getInternalName()));
+            assertThat(pooled.getModifiers(), is(loaded.getModifiers()));
+            assertThat(pooled.getComponentType(), is(loaded.getComponentType()));
+            assertThat(pooled.getSimpleName(), is(loaded.getSimpleName()));
+            assertThat(pooled.getCanonicalName(), is(loaded.getCanonicalName()));
+            assertThat(pooled.getSupertype(), is(loaded.getSupertype()));
+            assertThat(pooled.getInterfaces(), is((List<TypeDescription>) loaded.getInterfaces()));
+            assertThat(pooled.represents(type), is(true));
+        }
+        assertThat(typePool.describe(String[].class.getName()).isAssignableTo(Object[].class), is(true));
+        assertThat(typePool.describe(String[].class.getName()).isAssignableTo(Serializable.class), is(true));
+        assertThat(typePool.describe(String[].class.getName()).isAssignableFrom(Object[].class), is(false));
+        assertThat(typePool.describe(int[].class.getName()).isAssignableTo(long[].class), is(false));
+    }
+
+    @Test
+    public void testAssignability() throws Exception {
+        TypeDescription arrayList = typePool.describe(ArrayList.class.getName());
+        assertThat(arrayList.isAssignableTo(List.class), is(true));
+        assertThat(arrayList.isAssignableTo(Object.class), is(true));
+        assertThat(arrayList.isAssignableTo(Map.class), is(false));
+        assertThat(arrayList.isAssignableFrom(ArrayList.class), is(true));
+        assertThat(arrayList.isAssignableFrom(AbstractList.class), is(false));
+        assertThat(typePool.describe(Collection.class.getName()).isAssignableFrom(arrayList), is(true));
+        assertThat(new TypeDescription.ForLoadedType(Collection.class).isAssignableFrom(arrayList), is(true));
+        assertThat(arrayList.isInstance(new ArrayList<Object>()), is(true));
+        assertThat(arrayList.isInstance(new Object()), is(false));
+    }
+
+    @Test
+    public void testAssignabilityToObject() throws Exception {
+        TypeDescription object = typePool.describe(Object.class.getName());
+        assertThat(typePool.describe(List.class.getName()).isAssignableTo(Object.class), is(true));
+        assertThat(typePool.describe(List.class.getName()).isAssignableTo(object), is(true));
+        assertThat(object.isAssignableFrom(List.class), is(true));
+        assertThat(object.isAssignableFrom(typePool.describe(List.class.getName())), is(true));
+        assertThat(object.isAssignableFrom(String[].class), is(true));
+        assertThat(object.isAssignableFrom(typePool.describe(int[].class.getName())), is(true));
+        assertThat(typePool.describe(String[].class.getName()).isAssignableTo(object), is(true));
+        assertThat(object.isAssignableFrom(int.class), is(false));
+    }
+
+    @Test
+    public void testLazyResolution() throws Exception {
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName());
+        assertThat(locatedTypes, is(Collections.singletonList(Sample.class.getName())));
+        assertThat(typeDescription.getDeclaredMethods().size(), is(new TypeDescription.ForLoadedType(Sample.class).getDeclaredMethods().size()));
+        for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+            methodDescription.getUniqueSignature();
+            methodDescription.getExceptionTypes().toInternalNames();
+            methodDescription.getStackSize();
+        }
+        assertThat(locatedTypes, is(Collections.singletonList(Sample.class.getName())));
+        typeDescription.getSupertype();
+        assertThat(locatedTypes, is(Arrays.asList(Sample.class.getName(), Object.class.getName())));
+    }
+
+    @Test
+    public void testCaching() throws Exception {
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName());
+        assertThat(typePool.describe(Sample.class.getName()), sameInstance(typeDescription));
+        assertThat(locatedTypes.size(), is(1));
+        typePool.clear();
+        assertThat(typePool.describe(Sample.class.getName()), not(sameInstance(typeDescription)));
+        assertThat(locatedTypes.size(), is(2));
+    }
+
+    @Test
+    public void testBoundedCache() throws Exception {
+        typePool = new TypePool.Default(new TypePool.CacheProvider.Bounded(1), new RecordingClassFileLocator());
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName());
+        assertThat(typePool.describe(Sample.class.getName()), sameInstance(typeDescription));
+        typePool.describe(Object.class.getName());
+        assertThat(typePool.describe(Sample.class.getName()), not(sameInstance(typeDescription)));
+        assertThat(locatedTypes, is(Arrays.asList(Sample.class.getName(), Object.class.getName(), Sample.class.getName())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalBoundedCache() throws Exception {
+        new TypePool.CacheProvider.Bounded(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownType() throws Exception {
+        typePool.describe(FOO + "." + BAR);
+    }
+
+    @Test
+    public void testMethodLookup() throws Exception {
+        MethodLookupEngine methodLookupEngine = MethodLookupEngine.Default.Factory.INSTANCE.make(ClassFileVersion.JAVA_V6);
+        for (Class<?> type : Arrays.<Class<?>>asList(ArrayList.class, Sample.class, SampleInterface.class)) {
+            Set<String> pooled = new HashSet<String>(), loaded = new HashSet<String>();
+            for (MethodDescription methodDescription : methodLookupEngine.process(typePool.describe(type.getName())).getInvokableMethods()) {
+                pooled.add(methodDescription.getDeclaringType().getName() + "#" + methodDescription.getUniqueSignature());
+            }
+            for (MethodDescription methodDescription : methodLookupEngine.process(new TypeDescription.ForLoadedType(type)).getInvokableMethods()) {
+                loaded.add(methodDescription.getDeclaringType().getName() + "#" + methodDescription.getUniqueSignature());
+            }
+            assertThat(pooled, is(loaded));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSubclassOfPooledType() throws Exception {
+        Class<?> type = new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(typePool.describe(Sample.class.getName()))
+                .implement(typePool.describe(Callable.class.getName()))
+                .method(named("call").or(named(FOO))).intercept(FixedValue.value(BAR))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(type.getSuperclass(), is((Object) Sample.class));
+        Object instance = type.newInstance();
+        assertThat(((Sample) instance).foo(), is(BAR));
+        assertThat(((Callable<Object>) instance).call(), is((Object) BAR));
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        assertThat(typePool.describe(Sample.class.getName()).toString(), containsString(Sample.class.getName()));
+        assertThat(typePool.toString(), containsString("TypePool.Default"));
+    }
+
+    public static interface SampleInterface extends Runnable {
+
+        String baz(int value, long other) throws IOException;
+    }
+
+    public static class Sample implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected static final long CONSTANT = 42L;
+
+        private transient volatile String field;
+
+        int[][] array;
+
+        public Sample() {
+            /* empty */
+        }
+
+        protected Sample(String field, int[][] array) throws IOException, InterruptedException {
+            this.field = field;
+            this.array = array;
+        }
+
+        public String foo() {
+            return FOO;
+        }
+
+        protected static synchronized long bar(long value, double other, Object... rest) {
+            return value;
+        }
+
+        @Deprecated
+        private void qux() throws Exception {
+            /* empty */
+        }
+
+        protected static class Member {
+
+            final Sample[] samples = null;
+        }
+    }
+
+    private class RecordingClassFileLocator implements ClassFileLocator {
+
+        private final ClassFileLocator classFileLocator = new ClassFileLocator.ForClassLoader(getClass().getClassLoader());
+
+        @Override
+        public byte[] locate(String typeName) throws IOException {
+            locatedTypes.add(typeName);
+            return classFileLocator.locate(typeName);
+        }
+    }
+}
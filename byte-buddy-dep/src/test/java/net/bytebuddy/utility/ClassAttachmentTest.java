@@ -0,0 +1,78 @@
+package net.bytebuddy.utility;
+
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import org.junit.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassAttachmentTest {
+
+    @Test
+    public void testAttachedValueIsReused() throws Exception {
+        ClassAttachment<Object> classAttachment = ClassAttachment.of(new ObjectInitializer());
+        Object value = classAttachment.get(Foo.class);
+        assertThat(value, not(nullValue()));
+        assertThat(classAttachment.get(Foo.class), sameInstance(value));
+        assertThat(classAttachment.get(Bar.class), not(sameInstance(value)));
+    }
+
+    @Test
+    public void testWeakHashMapValueIsReused() throws Exception {
+        ClassAttachment<Object> classAttachment = new ClassAttachment.ForWeakHashMap<Object>(new ObjectInitializer());
+        Object value = classAttachment.get(Foo.class);
+        assertThat(value, not(nullValue()));
+        assertThat(classAttachment.get(Foo.class), sameInstance(value));
+        assertThat(classAttachment.get(Bar.class), not(sameInstance(value)));
+    }
+
+    @Test
+    public void testAttachedTypeCanBeUnloaded() throws Exception {
+        assertUnloadable(ClassAttachment.of(new ObjectInitializer()));
+    }
+
+    @Test
+    public void testWeakHashMapAttachedTypeCanBeUnloaded() throws Exception {
+        assertUnloadable(new ClassAttachment.ForWeakHashMap<Object>(new ObjectInitializer()));
+    }
+
+    private static void assertUnloadable(ClassAttachment<Object> classAttachment) throws Exception {
+        Reference<ClassLoader> classLoader = attachInNewClassLoader(classAttachment);
+        for (int attempt = 0; attempt < 20 && classLoader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(classLoader.get(), nullValue());
+    }
+
+    private static Reference<ClassLoader> attachInNewClassLoader(ClassAttachment<Object> classAttachment) throws Exception {
+        Class<?> type = Class.forName(Foo.class.getName(), false, new ByteArrayClassLoader.ChildFirst(ClassAttachmentTest.class.getClassLoader(),
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class))));
+        assertThat(type, not(sameInstance((Object) Foo.class)));
+        assertThat(classAttachment.get(type), is(classAttachment.get(type)));
+        return new WeakReference<ClassLoader>(type.getClassLoader());
+    }
+
+    private static class ObjectInitializer implements ClassAttachment.Initializer<Object> {
+
+        @Override
+        public Object initialize(Class<?> type) {
+            return new Object();
+        }
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+
+    public static class Bar {
+        /* empty */
+    }
+}
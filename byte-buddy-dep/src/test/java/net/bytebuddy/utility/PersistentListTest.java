@@ -0,0 +1,102 @@
+package net.bytebuddy.utility;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class PersistentListTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz";
+
+    @Test
+    public void testEmpty() throws Exception {
+        PersistentList<String> list = PersistentList.empty();
+        assertThat(list.size(), is(0));
+        assertThat(list.isEmpty(), is(true));
+        assertThat(list.iterator().hasNext(), is(false));
+        assertThat(list, is(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().append(FOO).append(BAR);
+        assertThat(list.size(), is(2));
+        assertThat(list.get(0), is(FOO));
+        assertThat(list.get(1), is(BAR));
+        assertThat(list, is(Arrays.asList(FOO, BAR)));
+    }
+
+    @Test
+    public void testPrepend() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().prepend(FOO).prepend(BAR);
+        assertThat(list, is(Arrays.asList(BAR, FOO)));
+    }
+
+    @Test
+    public void testAppendAndPrepend() throws Exception {
+        PersistentList<String> list = PersistentList.of(Arrays.asList(FOO, BAR)).prepend(QUX).append(BAZ);
+        assertThat(list, is(Arrays.asList(QUX, FOO, BAR, BAZ)));
+        assertThat(list.hashCode(), is(Arrays.asList(QUX, FOO, BAR, BAZ).hashCode()));
+    }
+
+    @Test
+    public void testAppendAll() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().append(FOO).appendAll(Arrays.asList(BAR, QUX));
+        assertThat(list, is(Arrays.asList(FOO, BAR, QUX)));
+    }
+
+    @Test
+    public void testAppendAllEmptyReturnsSameInstance() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().append(FOO);
+        assertThat(list.appendAll(Collections.<String>emptyList()), sameInstance(list));
+    }
+
+    @Test
+    public void testOfPersistentListReturnsSameInstance() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().append(FOO);
+        assertThat(PersistentList.of(list), sameInstance(list));
+    }
+
+    @Test
+    public void testStructuralSharingDoesNotAlterOriginal() throws Exception {
+        PersistentList<String> original = PersistentList.<String>empty().append(FOO);
+        assertThat(original.get(0), is(FOO));
+        PersistentList<String> first = original.append(BAR), second = original.append(QUX).prepend(BAZ);
+        assertThat(original, is(Collections.singletonList(FOO)));
+        assertThat(first, is(Arrays.asList(FOO, BAR)));
+        assertThat(second, is(Arrays.asList(BAZ, FOO, QUX)));
+    }
+
+    @Test
+    public void testOfDoesNotReflectChangesOfSource() throws Exception {
+        List<String> source = new ArrayList<String>(Arrays.asList(FOO, BAR));
+        PersistentList<String> list = PersistentList.of(source);
+        source.add(QUX);
+        assertThat(list, is(Arrays.asList(FOO, BAR)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() throws Exception {
+        PersistentList.<String>empty().append(FOO).get(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAddThrowsException() throws Exception {
+        PersistentList.<String>empty().add(FOO);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIteratorRemoveThrowsException() throws Exception {
+        Iterator<String> iterator = PersistentList.<String>empty().append(FOO).iterator();
+        iterator.next();
+        iterator.remove();
+    }
+}
@@ -0,0 +1,134 @@
+package net.bytebuddy.utility;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class PersistentMapTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static final int SIZE = 1000, SEED = 42;
+
+    @Test
+    public void testEmpty() throws Exception {
+        PersistentMap<String, String> map = PersistentMap.empty();
+        assertThat(map.size(), is(0));
+        assertThat(map.get(FOO), nullValue(String.class));
+        assertThat(map.containsKey(FOO), is(false));
+        assertThat(map, is(Collections.<String, String>emptyMap()));
+    }
+
+    @Test
+    public void testWith() throws Exception {
+        PersistentMap<String, String> map = PersistentMap.<String, String>empty().with(FOO, BAR).with(BAR, QUX);
+        assertThat(map.size(), is(2));
+        assertThat(map.get(FOO), is(BAR));
+        assertThat(map.get(BAR), is(QUX));
+        assertThat(map.containsKey(QUX), is(false));
+        Map<String, String> expected = new HashMap<String, String>();
+        expected.put(FOO, BAR);
+        expected.put(BAR, QUX);
+        assertThat(map, is(expected));
+        assertThat(map.hashCode(), is(expected.hashCode()));
+    }
+
+    @Test
+    public void testReplacement() throws Exception {
+        PersistentMap<String, String> original = PersistentMap.<String, String>empty().with(FOO, BAR);
+        PersistentMap<String, String> replaced = original.with(FOO, QUX);
+        assertThat(replaced.size(), is(1));
+        assertThat(replaced.get(FOO), is(QUX));
+        assertThat(original.get(FOO), is(BAR));
+    }
+
+    @Test
+    public void testIdenticalMappingReturnsSameInstance() throws Exception {
+        PersistentMap<String, String> map = PersistentMap.<String, String>empty().with(FOO, BAR);
+        assertThat(map.with(FOO, BAR), sameInstance(map));
+    }
+
+    @Test
+    public void testStructuralSharingDoesNotAlterOriginal() throws Exception {
+        PersistentMap<String, String> original = PersistentMap.<String, String>empty().with(FOO, BAR);
+        PersistentMap<String, String> derived = original.with(BAR, QUX);
+        assertThat(original.size(), is(1));
+        assertThat(original.containsKey(BAR), is(false));
+        assertThat(derived.size(), is(2));
+    }
+
+    @Test
+    public void testHashCollisions() throws Exception {
+        PersistentMap<Object, Integer> map = PersistentMap.empty();
+        Map<Object, Integer> expected = new HashMap<Object, Integer>();
+        for (int index = 0; index < 10; index++) {
+            map = map.with(new Colliding(index), index);
+            expected.put(new Colliding(index), index);
+        }
+        map = map.with(new Colliding(3), 42).with(FOO, 0);
+        expected.put(new Colliding(3), 42);
+        expected.put(FOO, 0);
+        assertThat(map.size(), is(11));
+        assertThat(map.get(new Colliding(3)), is(42));
+        assertThat(map, is(expected));
+    }
+
+    @Test
+    public void testManyMappingsEqualHashMap() throws Exception {
+        Random random = new Random(SEED);
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        for (int index = 0; index < SIZE; index++) {
+            int key = random.nextInt(), value = random.nextInt(SIZE);
+            map = map.with(key, value);
+            expected.put(key, value);
+        }
+        assertThat(map.size(), is(expected.size()));
+        assertThat(map, is(expected));
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(map.get(entry.getKey()), is(entry.getValue()));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullKeyThrowsException() throws Exception {
+        PersistentMap.<String, String>empty().with(null, FOO);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValueThrowsException() throws Exception {
+        PersistentMap.<String, String>empty().with(FOO, null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPutThrowsException() throws Exception {
+        PersistentMap.<String, String>empty().put(FOO, BAR);
+    }
+
+    private static class Colliding {
+
+        private final int value;
+
+        private Colliding(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Colliding && ((Colliding) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.PrebuiltTypeIndex;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+/**
+ * Creates the dynamic types of user-supplied {@link net.bytebuddy.dynamic.PrebuiltTypeIndex.Definition}s at build
+ * time. The class files of the created types and of their auxiliary types are stored in the build's output folder
+ * together with an index that allows a {@link net.bytebuddy.dynamic.PrebuiltTypeIndex} to locate the prebuilt types
+ * at runtime. The definitions are loaded from the build's output folder and its compile class path where Byte Buddy
+ * itself is always resolved from this plugin.
+ */
+@Mojo(name = "prebuild", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE)
+public class PrebuildMojo extends AbstractMojo {
+
+    /**
+     * The output folder of the build in which the prebuilt types are stored.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    protected File outputDirectory;
+
+    /**
+     * The compile class path elements of the build.
+     */
+    @Parameter(defaultValue = "${project.compileClasspathElements}", required = true, readonly = true)
+    protected List<String> classPathElements;
+
+    /**
+     * The fully qualified names of the definition classes whose types are created. Every definition class must
+     * declare a public default constructor.
+     */
+    @Parameter(required = true)
+    protected List<String> definitions;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        ClassLoader classLoader = makeClassLoader();
+        PrebuiltTypeIndex.Writer writer = new PrebuiltTypeIndex.Writer(outputDirectory);
+        for (String definition : definitions) {
+            try {
+                DynamicType dynamicType = writer.write((PrebuiltTypeIndex.Definition) Class.forName(definition, true, classLoader).newInstance());
+                getLog().info("Prebuilt " + dynamicType.getDescription() + " for " + definition);
+            } catch (ClassNotFoundException e) {
+                throw new MojoExecutionException("Cannot find definition " + definition, e);
+            } catch (InstantiationException e) {
+                throw new MojoExecutionException("Cannot instantiate definition " + definition, e);
+            } catch (IllegalAccessException e) {
+                throw new MojoExecutionException("Cannot access default constructor of definition " + definition, e);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot store type of definition " + definition, e);
+            } catch (RuntimeException e) {
+                throw new MojoExecutionException("Cannot create type of definition " + definition, e);
+            }
+        }
+        try {
+            writer.finish();
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot store index of prebuilt types", e);
+        }
+    }
+
+    /**
+     * Creates a class loader for the output folder and the compile class path of the build. This plugin's class
+     * loader is the parent of the created class loader such that definitions implement this plugin's definition
+     * interface.
+     *
+     * @return A class loader for loading definitions.
+     * @throws MojoExecutionException If a class path element cannot be represented as a URL.
+     */
+    private ClassLoader makeClassLoader() throws MojoExecutionException {
+        URL[] urls = new URL[classPathElements.size() + 1];
+        try {
+            urls[0] = outputDirectory.toURI().toURL();
+            int index = 1;
+            for (String classPathElement : classPathElements) {
+                urls[index++] = new File(classPathElement).toURI().toURL();
+            }
+        } catch (MalformedURLException e) {
+            throw new MojoExecutionException("Cannot resolve class path of build", e);
+        }
+        return new URLClassLoader(urls, PrebuildMojo.class.getClassLoader());
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains a Maven plugin for creating dynamic types at build time.
+ */
+package net.bytebuddy.build;
@@ -0,0 +1,89 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.PrebuiltTypeIndex;
+import net.bytebuddy.instrumentation.FixedValue;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.instrumentation.method.matcher.MethodMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PrebuildMojoTest {
+
+    private static final String FOO = "foo", TEMP = "tmp";
+
+    private File folder;
+
+    private PrebuildMojo prebuildMojo;
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(TEMP, TEMP);
+        assertThat(folder.delete(), is(true));
+        assertThat(folder.mkdir(), is(true));
+        prebuildMojo = new PrebuildMojo();
+        prebuildMojo.outputDirectory = folder;
+        prebuildMojo.classPathElements = Collections.emptyList();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delete(folder);
+    }
+
+    @Test
+    public void testPrebuild() throws Exception {
+        prebuildMojo.definitions = Collections.singletonList(Definition.class.getName());
+        prebuildMojo.execute();
+        assertThat(new File(folder, PrebuiltTypeIndex.INDEX_RESOURCE).isFile(), is(true));
+        ClassLoader classLoader = new URLClassLoader(new URL[]{folder.toURI().toURL()}, getClass().getClassLoader());
+        PrebuiltTypeIndex prebuiltTypeIndex = PrebuiltTypeIndex.of(classLoader);
+        assertThat(prebuiltTypeIndex.isPrebuilt(FOO), is(true));
+        Class<?> type = prebuiltTypeIndex.locate(new Definition(), null);
+        assertThat(type.getClassLoader(), is(classLoader));
+        assertThat(((Callable<?>) type.newInstance()).call(), is((Object) FOO));
+    }
+
+    @Test(expected = MojoExecutionException.class)
+    public void testUnknownDefinition() throws Exception {
+        prebuildMojo.definitions = Collections.singletonList(FOO);
+        prebuildMojo.execute();
+    }
+
+    public static class Definition implements PrebuiltTypeIndex.Definition {
+
+        @Override
+        public String getKey() {
+            return FOO;
+        }
+
+        @Override
+        public DynamicType.Builder<?> builder() {
+            return new ByteBuddy()
+                    .subclass(Object.class)
+                    .implement(Callable.class)
+                    .method(named("call")).intercept(FixedValue.value(FOO));
+        }
+    }
+}